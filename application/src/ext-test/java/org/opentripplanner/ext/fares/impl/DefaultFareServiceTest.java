@@ -105,6 +105,37 @@ class DefaultFareServiceTest implements PlanTestConstants {
     );
   }
 
+  @Test
+  void requestScopedServiceReusesFares() {
+    var service = new DefaultFareService();
+    service.addFareRules(
+      FareType.regular,
+      List.of(AIRPORT_TO_CITY_CENTER_SET, FREE_TRANSFERS_IN_CITY_SET)
+    );
+    var requestService = service.forRequest();
+
+    var itineraries = List.of(
+      newItinerary(Place.forStop(CITY_CENTER_A_STOP), T11_00)
+        .bus(1, T11_00, T11_12, Place.forStop(CITY_CENTER_B_STOP))
+        .bus(1, T11_16, T11_20, Place.forStop(CITY_CENTER_C_STOP))
+        .build(),
+      // The same rides, later the same day
+      newItinerary(Place.forStop(CITY_CENTER_A_STOP), T11_10)
+        .bus(1, T11_10, T11_16, Place.forStop(CITY_CENTER_B_STOP))
+        .bus(1, T11_20, T11_30, Place.forStop(CITY_CENTER_C_STOP))
+        .build(),
+      newItinerary(Place.forStop(AIRPORT_STOP), T11_00)
+        .bus(1, T11_00, T11_12, Place.forStop(CITY_CENTER_A_STOP))
+        .bus(1, T11_16, T11_20, Place.forStop(CITY_CENTER_B_STOP))
+        .build()
+    );
+
+    for (var itinerary : itineraries) {
+      assertEquals(service.calculateFares(itinerary), requestService.calculateFares(itinerary));
+      assertEquals(service.calculateFares(itinerary), requestService.calculateFares(itinerary));
+    }
+  }
+
   @Test
   void shouldNotCombineInterlinedLegs() {
     var service = new DefaultFareService();
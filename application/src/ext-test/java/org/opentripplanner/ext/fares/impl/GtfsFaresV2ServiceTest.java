@@ -150,6 +150,20 @@ class GtfsFaresV2ServiceTest implements PlanTestConstants {
     assertEquals(Set.of(expressPass), result.itineraryProducts());
   }
 
+  @Test
+  void requestScopedServiceReusesMatchingRules() {
+    var requestService = service.forRequest();
+    Itinerary i1 = newItinerary(A, 0).walk(20, B).bus(ID, 0, 50, C).build();
+    Itinerary i2 = newItinerary(A, 0).walk(20, B).bus(ID, 0, 50, C).bus(ID, 55, 70, D).build();
+    Itinerary i3 = newItinerary(A, 0).walk(20, B).faresV2Rail(ID, 0, 50, C, expressNetwork).build();
+
+    for (int i = 0; i < 2; i++) {
+      assertEquals(Set.of(dayPass, single), requestService.getProducts(i1).itineraryProducts());
+      assertEquals(Set.of(dayPass), requestService.getProducts(i2).itineraryProducts());
+      assertEquals(Set.of(expressPass), requestService.getProducts(i3).itineraryProducts());
+    }
+  }
+
   /**
    * Because we use both the local and the express network, there is no product covering both.
    */
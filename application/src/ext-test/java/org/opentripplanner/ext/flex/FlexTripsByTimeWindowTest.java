@@ -0,0 +1,51 @@
+package org.opentripplanner.ext.flex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opentripplanner.ext.flex.FlexStopTimesForTest.area;
+import static org.opentripplanner.transit.model._data.TimetableRepositoryForTest.id;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.ext.flex.trip.FlexTrip;
+import org.opentripplanner.ext.flex.trip.UnscheduledTrip;
+import org.opentripplanner.utils.time.TimeUtils;
+
+class FlexTripsByTimeWindowTest {
+
+  private static final FlexTrip<?, ?> MORNING = trip("morning", "06:00", "10:00");
+  private static final FlexTrip<?, ?> DAY = trip("day", "08:00", "18:00");
+  private static final FlexTrip<?, ?> NOON = trip("noon", "11:00", "13:00");
+  private static final FlexTrip<?, ?> EVENING = trip("evening", "17:00", "23:00");
+
+  private final FlexTripsByTimeWindow subject = new FlexTripsByTimeWindow(
+    List.of(EVENING, NOON, DAY, MORNING)
+  );
+
+  @Test
+  void findTripsOperatingInPeriod() {
+    assertEquals(List.of(MORNING, DAY), findTrips("07:00", "09:00"));
+    assertEquals(List.of(DAY, NOON), findTrips("10:30", "12:00"));
+    assertEquals(List.of(DAY, EVENING), findTrips("14:00", "17:30"));
+    assertEquals(List.of(MORNING, DAY, NOON, EVENING), findTrips("00:00", "23:59"));
+  }
+
+  @Test
+  void periodBoundsAreInclusive() {
+    assertEquals(List.of(MORNING, DAY), findTrips("10:00", "10:00"));
+    assertEquals(List.of(DAY, EVENING), findTrips("17:00", "17:00"));
+  }
+
+  @Test
+  void noTripsOutsideWindows() {
+    assertEquals(List.of(), findTrips("03:00", "05:59"));
+    assertEquals(List.of(), findTrips("23:01", "26:00"));
+  }
+
+  private List<FlexTrip<?, ?>> findTrips(String from, String to) {
+    return subject.findTrips(TimeUtils.time(from), TimeUtils.time(to));
+  }
+
+  private static FlexTrip<?, ?> trip(String id, String start, String end) {
+    return UnscheduledTrip.of(id(id)).withStopTimes(List.of(area(start, end))).build();
+  }
+}
@@ -0,0 +1,105 @@
+package org.opentripplanner.ext.flex.flexpathcalculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.street.model._data.StreetModelForTest.intersectionVertex;
+import static org.opentripplanner.street.model._data.StreetModelForTest.streetEdge;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.opentripplanner.framework.i18n.I18NString;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.street.model.vertex.IntersectionVertex;
+import org.opentripplanner.street.model.vertex.TemporaryStreetLocation;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+
+class StreetFlexPathCalculatorTest {
+
+  private static final Duration MAX_FLEX_TRIP_DURATION = Duration.ofHours(1);
+
+  private static final IntersectionVertex A = intersectionVertex("A", 60.0, 10.0);
+  private static final IntersectionVertex B = intersectionVertex("B", 60.01, 10.0);
+  private static final IntersectionVertex C = intersectionVertex("C", 60.02, 10.0);
+  private static final IntersectionVertex D = intersectionVertex("D", 61.0, 10.0);
+
+  static {
+    streetEdge(A, B);
+    streetEdge(B, C);
+  }
+
+  @Test
+  void reusePathsBetweenRequests() {
+    var cache = new FlexPathCache(10, Duration.ofHours(1));
+
+    var path = newCalculator(cache).calculateFlexPath(A, C, 0, 1);
+    assertNotNull(path);
+    assertEquals(1, cache.size());
+
+    // A new request finds the same path in the cache
+    assertSame(path, newCalculator(cache).calculateFlexPath(A, C, 0, 1));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void cacheThatNoPathExist() {
+    var cache = new FlexPathCache(10, Duration.ofHours(1));
+
+    assertNull(newCalculator(cache).calculateFlexPath(A, D, 0, 1));
+    assertNull(newCalculator(cache).calculateFlexPath(A, D, 0, 1));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void doNotCachePathFoundByAbortedSearch() {
+    var shortestPathTree = StreetSearchBuilder
+      .of()
+      .setRequest(new RouteRequest())
+      .setStreetRequest(new StreetRequest(StreetMode.CAR))
+      .setFrom(A)
+      .getShortestPathTree();
+    var path = shortestPathTree.getPath(C);
+    assertNotNull(path);
+    assertTrue(StreetFlexPathCalculator.isCacheable(shortestPathTree, path));
+
+    // The path may not be the best path if the search was aborted before it completed
+    shortestPathTree.setAborted();
+    assertFalse(StreetFlexPathCalculator.isCacheable(shortestPathTree, path));
+    assertFalse(StreetFlexPathCalculator.isCacheable(shortestPathTree, null));
+  }
+
+  @Test
+  void disabledCache() {
+    var cache = FlexPathCache.disabled();
+
+    var path = newCalculator(cache).calculateFlexPath(A, C, 0, 1);
+    assertNotNull(path);
+    assertNotSame(path, newCalculator(cache).calculateFlexPath(A, C, 0, 1));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void doNotCacheTemporaryVertices() {
+    var cache = new FlexPathCache(10, Duration.ofHours(1));
+    var temporaryVertex = new TemporaryStreetLocation(
+      "T",
+      new Coordinate(10.0, 60.0),
+      I18NString.of("T"),
+      false
+    );
+
+    assertFalse(cache.isCacheable(temporaryVertex, C));
+    assertFalse(cache.isCacheable(A, temporaryVertex));
+  }
+
+  private static StreetFlexPathCalculator newCalculator(FlexPathCache cache) {
+    return new StreetFlexPathCalculator(false, MAX_FLEX_TRIP_DURATION, cache, null);
+  }
+}
@@ -21,6 +21,7 @@ import org.opentripplanner.ext.fares.DecorateWithFare;
 import org.opentripplanner.ext.flex.FlexIntegrationTestData;
 import org.opentripplanner.ext.flex.FlexParameters;
 import org.opentripplanner.ext.flex.FlexRouter;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.framework.geometry.EncodedPolyline;
 import org.opentripplanner.framework.i18n.I18NString;
@@ -100,14 +101,16 @@ class ScheduledDeviatedTripIntegrationTest {
     var from = getNearbyStop(trip, "from-stop");
     var to = getNearbyStop(trip, "to-stop");
 
+    var dateTime = OffsetDateTime.parse("2021-11-12T10:15:24-05:00").toZonedDateTime();
     var router = new FlexRouter(
       graph,
       new DefaultTransitService(timetableRepository),
       FlexParameters.defaultValues(),
-      OffsetDateTime.parse("2021-11-12T10:15:24-05:00").toInstant(),
+      FlexPathCache.disabled(),
+      dateTime.toInstant(),
       null,
-      1,
-      1,
+      null,
+      AdditionalSearchDays.defaults(dateTime),
       List.of(from),
       List.of(to)
     );
@@ -217,6 +220,7 @@ class ScheduledDeviatedTripIntegrationTest {
       TransitGroupPriorityService.empty(),
       transitStartOfTime,
       additionalSearchDays,
+      null,
       new DebugTimingAggregator()
     );
 
@@ -10,10 +10,12 @@ import java.util.Collection;
 import java.util.Currency;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.opentripplanner.ext.fares.model.FareAttribute;
@@ -70,14 +72,23 @@ record FareAndId(Money fare, FeedScopedId fareId) {}
  * See this thread on gtfs-changes explaining the proper interpretation of
  * fares.txt:
  * http://groups.google.com/group/gtfs-changes/browse_thread/thread/8a4a48ae1e742517/4f81b826cb732f3b
+ * <p>
+ * The itineraries of a request often share the same ride sequences, and the fare search looks up
+ * the best fare for every sub-sequence of rides. A request scoped copy of the service, see
+ * {@link #forRequest()}, caches the fare rules for each feed and the best fare found for each ride
+ * sequence, and reuse them across the itineraries and fare types of the request.
  */
-public class DefaultFareService implements FareService {
+public class DefaultFareService implements FareService, Cloneable {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultFareService.class);
 
   /** For each fare type (regular, student, etc...) the collection of rules that apply. */
   protected Map<FareType, Collection<FareRuleSet>> fareRulesPerType;
 
+  /** This is {@code null} for the shared instance, and only set in request scoped copies. */
+  @Nullable
+  private transient FareCache fareCache;
+
   public DefaultFareService() {
     fareRulesPerType = new HashMap<>();
   }
@@ -90,6 +101,22 @@ public class DefaultFareService implements FareService {
     return fareRulesPerType;
   }
 
+  /**
+   * Return a copy of this service with a cache for the itineraries of one request. The fare rules
+   * are shared with this instance. The copy is not thread-safe.
+   */
+  @Override
+  public DefaultFareService forRequest() {
+    try {
+      var copy = (DefaultFareService) super.clone();
+      copy.fareCache = new FareCache();
+      return copy;
+    } catch (CloneNotSupportedException e) {
+      /* this will never happen since our super is the cloneable object */
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Takes a legs and returns a map of their agency's feed id and all corresponding legs.
    */
@@ -119,7 +146,9 @@ public class DefaultFareService implements FareService {
     ItineraryFares fare = ItineraryFares.empty();
     for (FareType fareType : fareRulesPerType.keySet()) {
       for (String feedId : fareLegsByFeed.keySet()) {
-        var fareRules = fareRulesForFeed(fareType, feedId);
+        var fareRules = fareCache == null
+          ? fareRulesForFeed(fareType, feedId)
+          : fareCache.fareRulesForFeed(fareType, feedId, () -> fareRulesForFeed(fareType, feedId));
 
         // Get the currency from the first fareAttribute, assuming that all tickets use the same currency.
         if (fareRules != null && !fareRules.isEmpty()) {
@@ -143,20 +172,12 @@ public class DefaultFareService implements FareService {
    */
   @Nullable
   protected Collection<FareRuleSet> fareRulesForFeed(FareType fareType, String feedId) {
-    var fareRulesByTypeAndFeed = fareRulesPerType
-      .entrySet()
+    var fareRulesForFeed = fareRulesPerType
+      .get(fareType)
       .stream()
-      .collect(
-        Collectors.toMap(
-          Map.Entry::getKey,
-          rules ->
-            rules
-              .getValue()
-              .stream()
-              .collect(Collectors.groupingBy(rule -> rule.getFareAttribute().getId().getFeedId()))
-        )
-      );
-    return fareRulesByTypeAndFeed.get(fareType).get(feedId);
+      .filter(rule -> rule.getFareAttribute().getId().getFeedId().equals(feedId))
+      .toList();
+    return fareRulesForFeed.isEmpty() ? null : fareRulesForFeed;
   }
 
   /**
@@ -278,30 +299,54 @@ public class DefaultFareService implements FareService {
       transfersUsed += 1;
     }
 
+    var rides = new RideSequence(
+      feedId,
+      startZone,
+      endZone,
+      zones,
+      routes,
+      transfersUsed,
+      Duration.between(startTime, lastRideStartTime),
+      Duration.between(startTime, lastRideEndTime)
+    );
+    if (fareCache == null) {
+      return findBestFareAndId(rides, trips, legs, fareRules);
+    }
+    return fareCache.bestFareAndId(
+      fareRules,
+      rides,
+      () -> findBestFareAndId(rides, trips, legs, fareRules)
+    );
+  }
+
+  private static Optional<FareAndId> findBestFareAndId(
+    RideSequence rides,
+    Set<FeedScopedId> trips,
+    List<Leg> legs,
+    Collection<FareRuleSet> fareRules
+  ) {
     @Nullable
     FareAttribute bestAttribute = null;
     @Nullable
     Money bestFare = null;
-    Duration tripTime = Duration.between(startTime, lastRideStartTime);
-    Duration journeyTime = Duration.between(startTime, lastRideEndTime);
 
     // find the best fare that matches this set of rides
     for (FareRuleSet ruleSet : fareRules) {
       FareAttribute attribute = ruleSet.getFareAttribute();
       // fares also don't really have an agency id, they will have the per-feed default id
       // check only if the fare is not mapped to an agency
-      if (!attribute.getId().getFeedId().equals(feedId)) continue;
+      if (!attribute.getId().getFeedId().equals(rides.feedId())) continue;
 
       if (
         ruleSet.matches(
-          startZone,
-          endZone,
-          zones,
-          routes,
+          rides.startZone(),
+          rides.endZone(),
+          rides.zones(),
+          rides.routes(),
           trips,
-          transfersUsed,
-          tripTime,
-          journeyTime
+          rides.transfersUsed(),
+          rides.tripTime(),
+          rides.journeyTime()
         )
       ) {
         Money newFare = attribute.getPrice();
@@ -404,4 +449,57 @@ public class DefaultFareService implements FareService {
     }
     return r;
   }
+
+  /**
+   * The properties of a sequence of rides used to find the best fare for it. The trips are not
+   * part of the key, since they are not used to match the fare rules. The times are relative to
+   * the start of the first ride, so the same rides at another time of day match the same fares.
+   */
+  private record RideSequence(
+    String feedId,
+    @Nullable String startZone,
+    @Nullable String endZone,
+    Set<String> zones,
+    Set<FeedScopedId> routes,
+    int transfersUsed,
+    Duration tripTime,
+    Duration journeyTime
+  ) {}
+
+  private record FareTypeAndFeed(FareType fareType, String feedId) {}
+
+  /**
+   * The cache of a request scoped fare service. The best fares are cached for each collection of
+   * fare rules by identity, the fare rules for a feed are cached so the same collection is used
+   * for all itineraries.
+   */
+  private static final class FareCache {
+
+    private final Map<FareTypeAndFeed, Collection<FareRuleSet>> fareRulesForFeed = new HashMap<>();
+    private final Map<Collection<FareRuleSet>, Map<RideSequence, Optional<FareAndId>>> bestFares =
+      new IdentityHashMap<>();
+
+    @Nullable
+    Collection<FareRuleSet> fareRulesForFeed(
+      FareType fareType,
+      String feedId,
+      Supplier<Collection<FareRuleSet>> body
+    ) {
+      var key = new FareTypeAndFeed(fareType, feedId);
+      if (!fareRulesForFeed.containsKey(key)) {
+        fareRulesForFeed.put(key, body.get());
+      }
+      return fareRulesForFeed.get(key);
+    }
+
+    Optional<FareAndId> bestFareAndId(
+      Collection<FareRuleSet> fareRules,
+      RideSequence rides,
+      Supplier<Optional<FareAndId>> body
+    ) {
+      return bestFares
+        .computeIfAbsent(fareRules, k -> new HashMap<>())
+        .computeIfAbsent(rides, k -> body.get());
+    }
+  }
 }
@@ -22,6 +22,12 @@ public record GtfsFaresService(DefaultFareService faresV1, GtfsFaresV2Service fa
     }
     return fare;
   }
+
+  @Override
+  public FareService forRequest() {
+    return new GtfsFaresService(faresV1.forRequest(), faresV2.forRequest());
+  }
+
   /**
    * Add a complex set of fare products for a specific leg;
    */
@@ -1,18 +1,22 @@
 package org.opentripplanner.ext.fares.impl;
 
-import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.opentripplanner.ext.fares.model.FareDistance;
 import org.opentripplanner.ext.fares.model.FareLegRule;
 import org.opentripplanner.ext.fares.model.FareTransferRule;
@@ -22,34 +26,78 @@ import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.model.plan.Leg;
 import org.opentripplanner.model.plan.ScheduledTransitLeg;
 import org.opentripplanner.transit.model.framework.FeedScopedId;
-import org.opentripplanner.transit.model.site.StopLocation;
+import org.opentripplanner.transit.model.network.Route;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Find the GTFS Fares V2 products for an itinerary.
+ * <p>
+ * The leg rules are indexed by feed, network and from/to area when the service is created. A rule
+ * without a network or area is put in a wildcard bucket, which is only used for a leg if no other
+ * rule references one of its networks or areas. This way the candidate rules for a leg are found
+ * with a few lookups instead of testing every rule.
+ * <p>
+ * The rules matching a leg are cached in a request scoped instance, see {@link #forRequest()}.
+ * The itineraries of a request often share the same legs.
+ */
 public final class GtfsFaresV2Service implements Serializable {
 
   private static final Logger LOG = LoggerFactory.getLogger(GtfsFaresV2Service.class);
-  private final List<FareLegRule> legRules;
-  private final List<FareTransferRule> transferRules;
+  private final Map<LegRuleKey, List<FareLegRule>> legRulesByKey;
+  private final Map<FeedScopedId, FareLegRule> legRulesByGroupId;
+  private final ListMultimap<FeedScopedId, FareTransferRule> transferRulesByFromLegGroup;
   private final Multimap<FeedScopedId, String> stopAreas;
   private final Set<String> networksWithRules;
   private final Set<String> fromAreasWithRules;
   private final Set<String> toAreasWithRules;
 
+  /**
+   * The leg rules matching each leg. This is {@code null} for the shared instance, and only set
+   * in request scoped instances.
+   */
+  @Nullable
+  private final transient Map<LegKey, Set<FareLegRule>> matchingLegRulesCache;
+
   public GtfsFaresV2Service(
     List<FareLegRule> legRules,
     List<FareTransferRule> fareTransferRules,
     Multimap<FeedScopedId, String> stopAreas
   ) {
-    this.legRules = legRules;
-    this.transferRules = fareTransferRules;
+    this.legRulesByKey = indexLegRules(legRules);
+    this.legRulesByGroupId = indexLegRulesByGroupId(legRules);
+    this.transferRulesByFromLegGroup = indexTransferRules(fareTransferRules);
     this.networksWithRules = findNetworksWithRules(legRules);
     this.fromAreasWithRules = findAreasWithRules(legRules, FareLegRule::fromAreaId);
     this.toAreasWithRules = findAreasWithRules(legRules, FareLegRule::toAreaId);
     this.stopAreas = stopAreas;
+    this.matchingLegRulesCache = null;
+  }
+
+  private GtfsFaresV2Service(GtfsFaresV2Service original) {
+    this.legRulesByKey = original.legRulesByKey;
+    this.legRulesByGroupId = original.legRulesByGroupId;
+    this.transferRulesByFromLegGroup = original.transferRulesByFromLegGroup;
+    this.networksWithRules = original.networksWithRules;
+    this.fromAreasWithRules = original.fromAreasWithRules;
+    this.toAreasWithRules = original.toAreasWithRules;
+    this.stopAreas = original.stopAreas;
+    this.matchingLegRulesCache = new HashMap<>();
+  }
+
+  /**
+   * Create a service to use for the itineraries of one request. The rules matching each leg are
+   * cached and reused across the itineraries. The returned instance is not thread-safe.
+   */
+  public GtfsFaresV2Service forRequest() {
+    return new GtfsFaresV2Service(this);
   }
 
   public ProductResult getProducts(Itinerary itinerary) {
+    if (matchingLegRulesCache == null) {
+      // The legs are matched against the rules many times, cache them at least for this itinerary
+      return forRequest().getProducts(itinerary);
+    }
     var transitLegs = itinerary.getScheduledTransitLegs();
 
     var allLegProducts = new HashSet<LegProducts>();
@@ -71,6 +119,36 @@ public final class GtfsFaresV2Service implements Serializable {
     return new ProductResult(coveringItinerary, allLegProducts);
   }
 
+  private static Map<LegRuleKey, List<FareLegRule>> indexLegRules(List<FareLegRule> legRules) {
+    var index = new HashMap<LegRuleKey, List<FareLegRule>>();
+    for (var rule : legRules) {
+      index.computeIfAbsent(LegRuleKey.of(rule), k -> new ArrayList<>()).add(rule);
+    }
+    return index;
+  }
+
+  private static Map<FeedScopedId, FareLegRule> indexLegRulesByGroupId(List<FareLegRule> legRules) {
+    var index = new HashMap<FeedScopedId, FareLegRule>();
+    for (var rule : legRules) {
+      if (rule.legGroupId() != null) {
+        index.putIfAbsent(rule.legGroupId(), rule);
+      }
+    }
+    return index;
+  }
+
+  private static ListMultimap<FeedScopedId, FareTransferRule> indexTransferRules(
+    List<FareTransferRule> transferRules
+  ) {
+    ListMultimap<FeedScopedId, FareTransferRule> index = ArrayListMultimap.create();
+    for (var rule : transferRules) {
+      if (checkForWildcards(rule)) {
+        index.put(rule.fromLegGroup(), rule);
+      }
+    }
+    return index;
+  }
+
   private static Set<String> findAreasWithRules(
     List<FareLegRule> legRules,
     Function<FareLegRule, String> getArea
@@ -123,7 +201,7 @@ public final class GtfsFaresV2Service implements Serializable {
   }
 
   private boolean appliesToAllLegs(FareLegRule legRule, List<ScheduledTransitLeg> transitLegs) {
-    return transitLegs.stream().allMatch(leg -> legMatchesRule(leg, legRule));
+    return transitLegs.stream().allMatch(leg -> matchingLegRules(leg).contains(legRule));
   }
 
   private boolean coversItineraryWithFreeTransfers(
@@ -145,39 +223,50 @@ public final class GtfsFaresV2Service implements Serializable {
     );
   }
 
-  private boolean legMatchesRule(ScheduledTransitLeg leg, FareLegRule rule) {
-    // make sure that you only get rules for the correct feed
-    return (
-      leg.getAgency().getId().getFeedId().equals(rule.feedId()) &&
-      matchesNetworkId(leg, rule) &&
-      // apply only those fare leg rules which have the correct area ids
-      // if area id is null, the rule applies to all legs UNLESS there is another rule that
-      // covers this area
-      matchesArea(leg.getFrom().stop, rule.fromAreaId(), fromAreasWithRules) &&
-      matchesArea(leg.getTo().stop, rule.toAreaId(), toAreasWithRules) &&
-      matchesDistance(leg, rule)
-    );
+  private Set<FareLegRule> matchingLegRules(ScheduledTransitLeg leg) {
+    return matchingLegRulesCache.computeIfAbsent(LegKey.of(leg), k -> findMatchingLegRules(leg));
+  }
+
+  /**
+   * Look up the candidate rules for the network and areas of the leg. The wildcard ({@code null})
+   * bucket is used if no rule references any of the networks or areas, since a rule with a wildcard
+   * applies to all legs UNLESS there is another rule that covers the network or area.
+   */
+  private Set<FareLegRule> findMatchingLegRules(ScheduledTransitLeg leg) {
+    var feedId = leg.getAgency().getId().getFeedId();
+    var networkIds = idsWithRules(routeNetworkIds(leg), networksWithRules);
+    var fromAreaIds = idsWithRules(stopAreas.get(leg.getFrom().stop.getId()), fromAreasWithRules);
+    var toAreaIds = idsWithRules(stopAreas.get(leg.getTo().stop.getId()), toAreasWithRules);
+
+    var result = new HashSet<FareLegRule>();
+    for (var networkId : networkIds) {
+      for (var fromAreaId : fromAreaIds) {
+        for (var toAreaId : toAreaIds) {
+          var key = new LegRuleKey(feedId, networkId, fromAreaId, toAreaId);
+          for (var rule : legRulesByKey.getOrDefault(key, List.of())) {
+            if (matchesDistance(leg, rule)) {
+              result.add(rule);
+            }
+          }
+        }
+      }
+    }
+    return result;
   }
 
   private LegProducts getLegProduct(
     ScheduledTransitLeg leg,
     Optional<ScheduledTransitLeg> nextLeg
   ) {
-    var legRules =
-      this.legRules.stream().filter(r -> legMatchesRule(leg, r)).collect(Collectors.toSet());
-
-    var transferRulesForLeg = transferRules
-      .stream()
-      .filter(t -> t.feedId().equals(leg.getAgency().getId().getFeedId()))
-      .toList();
+    var legRules = matchingLegRules(leg);
+    var feedId = leg.getAgency().getId().getFeedId();
 
     var products = legRules
       .stream()
       .map(rule -> {
-        var transferRulesToNextLeg = transferRulesForLeg
+        var transferRulesToNextLeg = transferRulesFrom(rule.legGroupId())
           .stream()
-          .filter(GtfsFaresV2Service::checkForWildcards)
-          .filter(t -> t.fromLegGroup().equals(rule.legGroupId()))
+          .filter(t -> t.feedId().equals(feedId))
           .filter(t -> transferRuleMatchesNextLeg(nextLeg, t))
           .toList();
         return new LegProducts.ProductWithTransfer(rule, transferRulesToNextLeg);
@@ -187,6 +276,10 @@ public final class GtfsFaresV2Service implements Serializable {
     return new LegProducts(leg, nextLeg, products);
   }
 
+  private List<FareTransferRule> transferRulesFrom(@Nullable FeedScopedId legGroupId) {
+    return legGroupId == null ? List.of() : transferRulesByFromLegGroup.get(legGroupId);
+  }
+
   private static boolean checkForWildcards(FareTransferRule t) {
     if (Objects.isNull(t.fromLegGroup()) || Objects.isNull(t.toLegGroup())) {
       LOG.error(
@@ -203,43 +296,29 @@ public final class GtfsFaresV2Service implements Serializable {
   ) {
     return nextLeg
       .map(nLeg -> {
-        var maybeFareRule = getFareLegRuleByGroupId(t.toLegGroup());
-        return maybeFareRule.map(rule -> legMatchesRule(nLeg, rule)).orElse(false);
+        var rule = legRulesByGroupId.get(t.toLegGroup());
+        return rule != null && matchingLegRules(nLeg).contains(rule);
       })
       .orElse(false);
   }
 
-  private Optional<FareLegRule> getFareLegRuleByGroupId(FeedScopedId groupId) {
-    return legRules.stream().filter(lr -> groupId.equals(lr.legGroupId())).findAny();
-  }
-
-  private boolean matchesArea(StopLocation stop, String areaId, Set<String> areasWithRules) {
-    var stopAreas = this.stopAreas.get(stop.getId());
-    return (
-      (isNull(areaId) && stopAreas.stream().noneMatch(areasWithRules::contains)) ||
-      (nonNull(areaId) && stopAreas.contains(areaId))
-    );
-  }
-
   /**
-   * Get the fare products that match the network_id. If the network id of the product is null it
-   * depends on the presence/absence of other rules with that network id.
+   * Return the ids referenced by a rule, or a list with only {@code null} (the wildcard) if none
+   * of them are.
    */
-  private boolean matchesNetworkId(ScheduledTransitLeg leg, FareLegRule rule) {
-    var routesNetworkIds = leg
+  private static List<String> idsWithRules(Collection<String> ids, Set<String> idsWithRules) {
+    var result = ids.stream().filter(idsWithRules::contains).distinct().toList();
+    return result.isEmpty() ? Collections.singletonList(null) : result;
+  }
+
+  private static List<String> routeNetworkIds(ScheduledTransitLeg leg) {
+    return leg
       .getRoute()
       .getGroupsOfRoutes()
       .stream()
       .map(group -> group.getId().getId())
       .filter(Objects::nonNull)
       .toList();
-
-    return (
-      (
-        isNull(rule.networkId()) && networksWithRules.stream().noneMatch(routesNetworkIds::contains)
-      ) ||
-      routesNetworkIds.contains(rule.networkId())
-    );
   }
 
   private boolean matchesDistance(ScheduledTransitLeg leg, FareLegRule rule) {
@@ -247,7 +326,7 @@ public final class GtfsFaresV2Service implements Serializable {
 
     FareDistance distance = rule.fareDistance();
     if (distance instanceof FareDistance.Stops ruleDistance) {
-      var numStops = leg.getIntermediateStops().size();
+      var numStops = numIntermediateStops(leg);
       return numStops >= ruleDistance.min() && ruleDistance.max() >= numStops;
     } else if (rule.fareDistance() instanceof FareDistance.LinearDistance ruleDistance) {
       var ruleMax = ruleDistance.max();
@@ -258,6 +337,46 @@ public final class GtfsFaresV2Service implements Serializable {
     } else return true;
   }
 
+  private static int numIntermediateStops(ScheduledTransitLeg leg) {
+    return leg.getAlightStopPosInPattern() - leg.getBoardStopPosInPattern() - 1;
+  }
+
+  /**
+   * The leg rules are indexed by these fields, a {@code null} value is a wildcard.
+   */
+  private record LegRuleKey(
+    String feedId,
+    @Nullable String networkId,
+    @Nullable String fromAreaId,
+    @Nullable String toAreaId
+  ) {
+    static LegRuleKey of(FareLegRule rule) {
+      return new LegRuleKey(rule.feedId(), rule.networkId(), rule.fromAreaId(), rule.toAreaId());
+    }
+  }
+
+  /**
+   * The fields of a leg used to match it against the leg rules, legs with the same key match the
+   * same rules.
+   */
+  private record LegKey(
+    Route route,
+    FeedScopedId fromStopId,
+    FeedScopedId toStopId,
+    int numIntermediateStops,
+    double directDistanceMeters
+  ) {
+    static LegKey of(ScheduledTransitLeg leg) {
+      return new LegKey(
+        leg.getRoute(),
+        leg.getFrom().stop.getId(),
+        leg.getTo().stop.getId(),
+        GtfsFaresV2Service.numIntermediateStops(leg),
+        leg.getDirectDistanceMeters()
+      );
+    }
+  }
+
   /**
    * @param itineraryProducts The fare products that cover the entire itinerary, like a daily pass.
    * @param legProducts       The fare products that cover only individual legs.
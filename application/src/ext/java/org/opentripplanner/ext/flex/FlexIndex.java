@@ -5,6 +5,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.opentripplanner.ext.flex.trip.FlexTrip;
 import org.opentripplanner.model.PathTransfer;
@@ -23,6 +24,9 @@ public class FlexIndex {
 
   private final Multimap<StopLocation, FlexTrip<?, ?>> flexTripsByStop = HashMultimap.create();
 
+  private final Map<StopLocation, FlexTripsByTimeWindow> flexTripsByStopAndTimeWindow =
+    new HashMap<>();
+
   private final Map<FeedScopedId, Route> routeById = new HashMap<>();
 
   private final Map<FeedScopedId, FlexTrip<?, ?>> tripById = new HashMap<>();
@@ -46,6 +50,9 @@ public class FlexIndex {
         }
       }
     }
+    for (var e : flexTripsByStop.asMap().entrySet()) {
+      flexTripsByStopAndTimeWindow.put(e.getKey(), new FlexTripsByTimeWindow(e.getValue()));
+    }
   }
 
   public Collection<PathTransfer> getTransfersToStop(StopLocation stopLocation) {
@@ -60,6 +67,20 @@ public class FlexIndex {
     return flexTripsByStop.get(stopLocation);
   }
 
+  /**
+   * Return the flex trips visiting the given stop, which operate in the given period. A trip
+   * operates from the earliest departure to the latest arrival of its stops. The times are
+   * seconds since midnight of the service date, both inclusive.
+   */
+  public List<FlexTrip<?, ?>> getFlexTripsByStop(
+    StopLocation stopLocation,
+    int fromTime,
+    int toTime
+  ) {
+    var trips = flexTripsByStopAndTimeWindow.get(stopLocation);
+    return trips == null ? List.of() : trips.findTrips(fromTime, toTime);
+  }
+
   public Route getRouteById(FeedScopedId id) {
     return routeById.get(id);
   }
@@ -26,6 +26,14 @@ public interface FlexParameters {
    * See {@link org.opentripplanner.standalone.config.sandbox.FlexConfig}
    */
   Duration maxEgressWalkDuration();
+  /**
+   * See {@link org.opentripplanner.standalone.config.sandbox.FlexConfig}
+   */
+  int pathCacheMaxSize();
+  /**
+   * See {@link org.opentripplanner.standalone.config.sandbox.FlexConfig}
+   */
+  Duration pathCacheTimeToLive();
 
   /**
    * This defines the default values. This will be used by the OTP configuration and by tests,
@@ -52,6 +60,16 @@ public interface FlexParameters {
       public Duration maxEgressWalkDuration() {
         return Duration.ofMinutes(45);
       }
+
+      @Override
+      public int pathCacheMaxSize() {
+        return 0;
+      }
+
+      @Override
+      public Duration pathCacheTimeToLive() {
+        return Duration.ofHours(1);
+      }
     };
   }
 }
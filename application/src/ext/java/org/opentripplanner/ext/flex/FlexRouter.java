@@ -10,6 +10,7 @@ import java.util.List;
 import javax.annotation.Nullable;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.ext.flex.flexpathcalculator.DirectFlexPathCalculator;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCalculator;
 import org.opentripplanner.ext.flex.flexpathcalculator.StreetFlexPathCalculator;
 import org.opentripplanner.ext.flex.template.DirectFlexPath;
@@ -23,6 +24,7 @@ import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.model.PathTransfer;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.routing.algorithm.mapping.GraphPathToItineraryMapper;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.AdditionalSearchDays;
 import org.opentripplanner.routing.graph.Graph;
 import org.opentripplanner.routing.graphfinder.NearbyStop;
 import org.opentripplanner.street.model.vertex.TransitStopVertex;
@@ -57,10 +59,11 @@ public class FlexRouter {
     Graph graph,
     TransitService transitService,
     FlexParameters flexParameters,
+    FlexPathCache flexPathCache,
     Instant requestedTime,
     @Nullable Instant requestedBookingTime,
-    int additionalPastSearchDays,
-    int additionalFutureSearchDays,
+    @Nullable Instant searchDeadline,
+    AdditionalSearchDays searchDays,
     Collection<NearbyStop> streetAccesses,
     Collection<NearbyStop> egressTransfers
   ) {
@@ -79,10 +82,11 @@ public class FlexRouter {
       );
 
     if (graph.hasStreets) {
+      var maxFlexTripDuration = flexParameters.maxFlexTripDuration();
       this.accessFlexPathCalculator =
-        new StreetFlexPathCalculator(false, flexParameters.maxFlexTripDuration());
+        new StreetFlexPathCalculator(false, maxFlexTripDuration, flexPathCache, searchDeadline);
       this.egressFlexPathCalculator =
-        new StreetFlexPathCalculator(true, flexParameters.maxFlexTripDuration());
+        new StreetFlexPathCalculator(true, maxFlexTripDuration, flexPathCache, searchDeadline);
     } else {
       // this is only really useful in tests. in real world scenarios you're unlikely to get useful
       // results if you don't have streets
@@ -98,13 +102,7 @@ public class FlexRouter {
       requestedBookingTime == null
         ? RoutingBookingInfo.NOT_SET
         : ServiceDateUtils.secondsSinceStartOfTime(startOfTime, requestedBookingTime);
-    this.dates =
-      createFlexServiceDates(
-        transitService,
-        additionalPastSearchDays,
-        additionalFutureSearchDays,
-        searchDate
-      );
+    this.dates = createFlexServiceDates(transitService, searchDays, searchDate);
   }
 
   public List<Itinerary> createFlexOnlyItineraries(boolean arriveBy) {
@@ -156,21 +154,33 @@ public class FlexRouter {
 
   private List<FlexServiceDate> createFlexServiceDates(
     TransitService transitService,
-    int additionalPastSearchDays,
-    int additionalFutureSearchDays,
+    AdditionalSearchDays searchDays,
     LocalDate searchDate
   ) {
     final List<FlexServiceDate> dates = new ArrayList<>();
+    int searchPeriodStart = ServiceDateUtils.secondsSinceStartOfTime(
+      startOfTime,
+      searchDays.earliestSearchTime().toInstant()
+    );
+    int searchPeriodEnd = ServiceDateUtils.secondsSinceStartOfTime(
+      startOfTime,
+      searchDays.latestSearchTime().toInstant()
+    );
 
     // TODO - This code id not DRY, the same logic is in RaptorRoutingRequestTransitDataCreator
-    for (int d = -additionalPastSearchDays; d <= additionalFutureSearchDays; ++d) {
+    int pastDays = searchDays.additionalSearchDaysInPast();
+    int futureDays = searchDays.additionalSearchDaysInFuture();
+    for (int d = -pastDays; d <= futureDays; ++d) {
       LocalDate date = searchDate.plusDays(d);
+      int secondsFromStartOfTime = ServiceDateUtils.secondsSinceStartOfTime(startOfTime, date);
       dates.add(
         new FlexServiceDate(
           date,
-          ServiceDateUtils.secondsSinceStartOfTime(startOfTime, date),
+          secondsFromStartOfTime,
           requestedBookingTime,
-          transitService.getServiceCodesRunningForDate(date)
+          transitService.getServiceCodesRunningForDate(date),
+          searchPeriodStart - secondsFromStartOfTime,
+          searchPeriodEnd - secondsFromStartOfTime
         )
       );
     }
@@ -201,8 +211,15 @@ public class FlexRouter {
     }
 
     @Override
-    public Collection<FlexTrip<?, ?>> getFlexTripsByStop(StopLocation stopLocation) {
-      return flexIndex.getFlexTripsByStop(stopLocation);
+    public Collection<FlexTrip<?, ?>> getFlexTripsByStop(
+      StopLocation stopLocation,
+      FlexServiceDate date
+    ) {
+      return flexIndex.getFlexTripsByStop(
+        stopLocation,
+        date.searchPeriodStart(),
+        date.searchPeriodEnd()
+      );
     }
 
     @Override
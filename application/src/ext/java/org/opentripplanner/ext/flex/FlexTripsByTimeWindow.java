@@ -0,0 +1,126 @@
+package org.opentripplanner.ext.flex;
+
+import static org.opentripplanner.model.StopTime.MISSING_VALUE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import org.opentripplanner.ext.flex.trip.FlexTrip;
+
+/**
+ * The flex trips visiting a stop, indexed on the time window the trips operate in. The window of
+ * a trip starts at the earliest departure and ends at the latest arrival of all its stops, in
+ * seconds since midnight of the service date. The trips are sorted by the window start, so the
+ * trips operating in a given search period can be found without creating flex templates for all
+ * trips visiting the stop.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE.
+ */
+class FlexTripsByTimeWindow {
+
+  private final List<FlexTrip<?, ?>> trips;
+  private final int[] windowStart;
+  private final int[] windowEnd;
+
+  /**
+   * The max window end of the trips up to and including the index. It never decreases, so the
+   * trips which ended before the search period starts can be skipped using a binary search.
+   */
+  private final int[] maxWindowEnd;
+
+  FlexTripsByTimeWindow(Collection<FlexTrip<?, ?>> trips) {
+    this.trips =
+      trips
+        .stream()
+        .sorted(Comparator.comparingInt(FlexTripsByTimeWindow::windowStart))
+        .toList();
+    int size = this.trips.size();
+    this.windowStart = new int[size];
+    this.windowEnd = new int[size];
+    this.maxWindowEnd = new int[size];
+
+    int maxEnd = Integer.MIN_VALUE;
+    for (int i = 0; i < size; ++i) {
+      var trip = this.trips.get(i);
+      windowStart[i] = windowStart(trip);
+      windowEnd[i] = windowEnd(trip);
+      maxEnd = Math.max(maxEnd, windowEnd[i]);
+      maxWindowEnd[i] = maxEnd;
+    }
+  }
+
+  /**
+   * Find the trips with a time window overlapping the given period. The times are seconds since
+   * midnight of the service date, both inclusive.
+   */
+  List<FlexTrip<?, ?>> findTrips(int fromTime, int toTime) {
+    int first = firstIndexWithMaxWindowEndAtOrAfter(fromTime);
+    int end = firstIndexWithWindowStartAfter(toTime);
+
+    var result = new ArrayList<FlexTrip<?, ?>>(Math.max(end - first, 0));
+    for (int i = first; i < end; ++i) {
+      if (windowEnd[i] >= fromTime) {
+        result.add(trips.get(i));
+      }
+    }
+    return result;
+  }
+
+  private int firstIndexWithMaxWindowEndAtOrAfter(int time) {
+    int low = 0;
+    int high = maxWindowEnd.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (maxWindowEnd[mid] < time) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int firstIndexWithWindowStartAfter(int time) {
+    int low = 0;
+    int high = windowStart.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (windowStart[mid] <= time) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * The earliest departure of the trip, or {@link Integer#MIN_VALUE} if no stop has a departure
+   * time. A trip without times is never filtered away.
+   */
+  private static int windowStart(FlexTrip<?, ?> trip) {
+    int start = Integer.MAX_VALUE;
+    for (int i = 0; i < trip.numberOfStops(); ++i) {
+      int time = trip.earliestDepartureTime(i);
+      if (time != MISSING_VALUE) {
+        start = Math.min(start, time);
+      }
+    }
+    return start == Integer.MAX_VALUE ? Integer.MIN_VALUE : start;
+  }
+
+  /**
+   * The latest arrival of the trip, or {@link Integer#MAX_VALUE} if no stop has an arrival time.
+   */
+  private static int windowEnd(FlexTrip<?, ?> trip) {
+    int end = Integer.MIN_VALUE;
+    for (int i = 0; i < trip.numberOfStops(); ++i) {
+      int time = trip.latestArrivalTime(i);
+      if (time != MISSING_VALUE) {
+        end = Math.max(end, time);
+      }
+    }
+    return end == Integer.MIN_VALUE ? Integer.MAX_VALUE : end;
+  }
+}
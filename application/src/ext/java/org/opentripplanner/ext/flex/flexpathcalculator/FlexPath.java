@@ -16,7 +16,7 @@ public class FlexPath {
   private final Supplier<LineString> geometrySupplier;
   public final int distanceMeters;
   public final int durationSeconds;
-  private LineString geometry;
+  private volatile LineString geometry;
 
   /**
    * @param geometrySupplier Computing a linestring from a GraphPath is a surprisingly expensive
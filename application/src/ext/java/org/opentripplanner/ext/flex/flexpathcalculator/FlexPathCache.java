@@ -0,0 +1,70 @@
+package org.opentripplanner.ext.flex.flexpathcalculator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.opentripplanner.street.model.vertex.TemporaryVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * Cache the flex paths computed by the {@link StreetFlexPathCalculator} between requests. The
+ * flex templates pair the same stops and zones again and again, and each pair requires a car
+ * street search. The street search only depends on the street network, the search direction and
+ * the max flex trip duration, so the result can be reused by all requests.
+ * <p>
+ * Paths from or to a temporary vertex are not cached, since these vertices are only valid for
+ * one request. The cache is bounded, the least recently used paths are evicted first, and the
+ * entries expire after the configured time-to-live, so changes to the street network, like
+ * real-time updates of the street permissions, are eventually used.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ */
+public class FlexPathCache {
+
+  private static final FlexPathCache DISABLED = new FlexPathCache(0, Duration.ZERO);
+
+  @Nullable
+  private final Cache<Key, Optional<FlexPath>> cache;
+
+  public FlexPathCache(int maximumSize, Duration timeToLive) {
+    this.cache =
+      maximumSize > 0
+        ? CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build()
+        : null;
+  }
+
+  /** A cache which does not cache anything. */
+  public static FlexPathCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isCacheable(Vertex fromv, Vertex tov) {
+    return cache != null && !(fromv instanceof TemporaryVertex) && !(tov instanceof TemporaryVertex);
+  }
+
+  /**
+   * Return the cached path, {@code Optional.empty()} if it is cached that no path exists, or
+   * {@code null} if the path is not in the cache.
+   */
+  @Nullable
+  Optional<FlexPath> getIfPresent(Key key) {
+    return cache.getIfPresent(key);
+  }
+
+  void put(Key key, @Nullable FlexPath path) {
+    cache.put(key, Optional.ofNullable(path));
+  }
+
+  long size() {
+    return cache == null ? 0 : cache.size();
+  }
+
+  record Key(
+    Vertex fromv,
+    Vertex tov,
+    boolean reverseDirection,
+    Duration maxFlexTripDuration
+  ) {}
+}
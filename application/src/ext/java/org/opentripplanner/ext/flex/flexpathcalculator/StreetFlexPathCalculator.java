@@ -1,8 +1,11 @@
 package org.opentripplanner.ext.flex.flexpathcalculator;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.strategy.DurationSkipEdgeStrategy;
@@ -11,6 +14,7 @@ import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.StreetMode;
 import org.opentripplanner.routing.api.request.request.StreetRequest;
 import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.edge.TemporaryEdge;
 import org.opentripplanner.street.model.vertex.Vertex;
 import org.opentripplanner.street.search.StreetSearchBuilder;
 import org.opentripplanner.street.search.state.State;
@@ -29,16 +33,39 @@ import org.opentripplanner.street.search.strategy.DominanceFunctions;
  * configured so that the caching is done with either the origin or destination vertex as the key.
  * The one-to-many search will then either be done in the forward or the reverse direction depending
  * on this configuration.
+ * <p>
+ * The paths between permanent vertices are also cached between requests in the
+ * {@link FlexPathCache}, so the street search is only done for origins with at least one path
+ * which is not cached.
  */
 public class StreetFlexPathCalculator implements FlexPathCalculator {
 
   private final Map<Vertex, ShortestPathTree<State, Edge, Vertex>> cache = new HashMap<>();
   private final boolean reverseDirection;
   private final Duration maxFlexTripDuration;
+  private final FlexPathCache flexPathCache;
+
+  @Nullable
+  private final Instant searchDeadline;
 
   public StreetFlexPathCalculator(boolean reverseDirection, Duration maxFlexTripDuration) {
+    this(reverseDirection, maxFlexTripDuration, FlexPathCache.disabled(), null);
+  }
+
+  /**
+   * @param searchDeadline The street searches are limited to the time left until this deadline,
+   *                       see {@link RouteRequest#searchDeadline()}.
+   */
+  public StreetFlexPathCalculator(
+    boolean reverseDirection,
+    Duration maxFlexTripDuration,
+    FlexPathCache flexPathCache,
+    @Nullable Instant searchDeadline
+  ) {
     this.reverseDirection = reverseDirection;
     this.maxFlexTripDuration = maxFlexTripDuration;
+    this.flexPathCache = flexPathCache;
+    this.searchDeadline = searchDeadline;
   }
 
   @Override
@@ -48,26 +75,70 @@ public class StreetFlexPathCalculator implements FlexPathCalculator {
     int boardStopPosition,
     int alightStopPosition
   ) {
-    // These are the origin and destination vertices from the perspective of the one-to-many search,
-    // which may be reversed
-    Vertex originVertex = reverseDirection ? tov : fromv;
-    Vertex destinationVertex = reverseDirection ? fromv : tov;
-
-    ShortestPathTree<State, Edge, Vertex> shortestPathTree;
-    if (cache.containsKey(originVertex)) {
-      shortestPathTree = cache.get(originVertex);
-    } else {
-      shortestPathTree = routeToMany(originVertex);
-      cache.put(originVertex, shortestPathTree);
+    if (!flexPathCache.isCacheable(fromv, tov)) {
+      return findFlexPath(fromv, tov);
     }
+    var key = new FlexPathCache.Key(fromv, tov, reverseDirection, maxFlexTripDuration);
+    var cached = flexPathCache.getIfPresent(key);
+    if (cached != null) {
+      return cached.orElse(null);
+    }
+    var shortestPathTree = findShortestPathTree(fromv, tov);
+    var path = findGraphPath(shortestPathTree, fromv, tov);
+    var flexPath = mapToFlexPath(path);
+    if (isCacheable(shortestPathTree, path)) {
+      flexPathCache.put(key, flexPath);
+    }
+    return flexPath;
+  }
+
+  /**
+   * Nothing found by a search aborted by the timeout is cached. The search may not have reached
+   * the vertex, or the path found may not be the best path, because the search stopped before the
+   * best path was found. The path may pass through the temporary edges of another request, these
+   * are not cached.
+   */
+  static boolean isCacheable(
+    ShortestPathTree<State, Edge, Vertex> shortestPathTree,
+    @Nullable GraphPath<State, Edge, Vertex> path
+  ) {
+    return (
+      !shortestPathTree.isAborted() &&
+      (path == null || path.edges.stream().noneMatch(TemporaryEdge.class::isInstance))
+    );
+  }
+
+  @Nullable
+  private FlexPath findFlexPath(Vertex fromv, Vertex tov) {
+    return mapToFlexPath(findGraphPath(findShortestPathTree(fromv, tov), fromv, tov));
+  }
+
+  private ShortestPathTree<State, Edge, Vertex> findShortestPathTree(Vertex fromv, Vertex tov) {
+    // This is the origin vertex from the perspective of the one-to-many search, which may be
+    // reversed
+    Vertex originVertex = reverseDirection ? tov : fromv;
+    return cache.computeIfAbsent(originVertex, this::routeToMany);
+  }
+
+  @Nullable
+  private GraphPath<State, Edge, Vertex> findGraphPath(
+    ShortestPathTree<State, Edge, Vertex> shortestPathTree,
+    Vertex fromv,
+    Vertex tov
+  ) {
+    return shortestPathTree.getPath(reverseDirection ? fromv : tov);
+  }
 
-    GraphPath<State, Edge, Vertex> path = shortestPathTree.getPath(destinationVertex);
+  @Nullable
+  private static FlexPath mapToFlexPath(@Nullable GraphPath<State, Edge, Vertex> path) {
     if (path == null) {
       return null;
     }
 
     int distance = (int) path.edges.stream().mapToDouble(Edge::getDistanceMeters).sum();
     int duration = path.getDuration();
+    // Keep only the edges, not the states of the path, the flex path may be cached
+    List<Edge> edges = path.edges;
 
     // computing the linestring from the graph path is a surprisingly expensive operation
     // so we delay it until it's actually needed. since most flex paths are never shown to the user
@@ -75,12 +146,14 @@ public class StreetFlexPathCalculator implements FlexPathCalculator {
     return new FlexPath(
       distance,
       duration,
-      () -> GeometryUtils.concatenateLineStrings(path.edges, Edge::getGeometry)
+      () -> GeometryUtils.concatenateLineStrings(edges, Edge::getGeometry)
     );
   }
 
   private ShortestPathTree<State, Edge, Vertex> routeToMany(Vertex vertex) {
-    RouteRequest routingRequest = new RouteRequest();
+    RouteRequest routingRequest = searchDeadline == null
+      ? new RouteRequest()
+      : new RouteRequest().copyWithSearchDeadline(searchDeadline);
     routingRequest.setArriveBy(reverseDirection);
 
     return StreetSearchBuilder
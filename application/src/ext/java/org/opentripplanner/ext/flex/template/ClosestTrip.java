@@ -1,6 +1,7 @@
 package org.opentripplanner.ext.flex.template;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +48,7 @@ record ClosestTrip(
    * Create a set of the closest trips running on the dates provided. Only the
    * combination of the closest nearby-stop and trip is kept. For each combination,
    * the set of dates is checked, and an instance with each active date is returned.
+   * Trips not operating in the search period of a date are skipped for that date.
    */
   static Collection<ClosestTrip> of(
     FlexAccessEgressCallbackAdapter callbackService,
@@ -54,8 +56,21 @@ record ClosestTrip(
     List<FlexServiceDate> dates,
     boolean pickup
   ) {
-    var closestTrips = findAllTripsReachableFromNearbyStop(callbackService, nearbyStops, pickup);
-    return findActiveDatesForTripAndDecorateResult(callbackService, dates, closestTrips, true);
+    var datesInSearchPeriod = new HashMap<FlexTrip<?, ?>, BitSet>();
+    var closestTrips = findAllTripsReachableFromNearbyStop(
+      callbackService,
+      nearbyStops,
+      dates,
+      datesInSearchPeriod,
+      pickup
+    );
+    return findActiveDatesForTripAndDecorateResult(
+      callbackService,
+      dates,
+      closestTrips,
+      datesInSearchPeriod,
+      true
+    );
   }
 
   @Override
@@ -67,20 +82,29 @@ record ClosestTrip(
     return Objects.requireNonNull(activeDate);
   }
 
+  /**
+   * Find the closest nearby-stop for each trip operating in the search period of at least one
+   * date. The index of each date the trip operates in is added to {@code datesInSearchPeriod}.
+   */
   private static Map<FlexTrip<?, ?>, ClosestTrip> findAllTripsReachableFromNearbyStop(
     FlexAccessEgressCallbackAdapter callbackService,
     Collection<NearbyStop> nearbyStops,
+    List<FlexServiceDate> dates,
+    Map<FlexTrip<?, ?>, BitSet> datesInSearchPeriod,
     boolean pickup
   ) {
     var map = new HashMap<FlexTrip<?, ?>, ClosestTrip>();
     for (NearbyStop nearbyStop : nearbyStops) {
       var stop = nearbyStop.stop;
-      for (var trip : callbackService.getFlexTripsByStop(stop)) {
-        int stopPos = pickup ? trip.findBoardIndex(stop) : trip.findAlightIndex(stop);
-        if (stopPos != FlexTrip.STOP_INDEX_NOT_FOUND) {
-          var existing = map.get(trip);
-          if (existing == null || nearbyStop.isBetter(existing.nearbyStop())) {
-            map.put(trip, new ClosestTrip(nearbyStop, trip, stopPos));
+      for (int i = 0; i < dates.size(); ++i) {
+        for (var trip : callbackService.getFlexTripsByStop(stop, dates.get(i))) {
+          int stopPos = pickup ? trip.findBoardIndex(stop) : trip.findAlightIndex(stop);
+          if (stopPos != FlexTrip.STOP_INDEX_NOT_FOUND) {
+            var existing = map.get(trip);
+            if (existing == null || nearbyStop.isBetter(existing.nearbyStop())) {
+              map.put(trip, new ClosestTrip(nearbyStop, trip, stopPos));
+            }
+            datesInSearchPeriod.computeIfAbsent(trip, t -> new BitSet(dates.size())).set(i);
           }
         }
       }
@@ -92,6 +116,7 @@ record ClosestTrip(
     FlexAccessEgressCallbackAdapter callbackService,
     List<FlexServiceDate> dates,
     Map<FlexTrip<?, ?>, ClosestTrip> map,
+    Map<FlexTrip<?, ?>, BitSet> datesInSearchPeriod,
     boolean pickup
   ) {
     var result = new ArrayList<ClosestTrip>();
@@ -99,8 +124,10 @@ record ClosestTrip(
     for (Map.Entry<FlexTrip<?, ?>, ClosestTrip> e : map.entrySet()) {
       var trip = e.getKey();
       var closestTrip = e.getValue();
+      var tripDates = datesInSearchPeriod.get(trip);
       // Include dates where the service is running
-      for (FlexServiceDate date : dates) {
+      for (int i = tripDates.nextSetBit(0); i >= 0; i = tripDates.nextSetBit(i + 1)) {
+        var date = dates.get(i);
         // Filter away boardings early. This needs to be done for egress as well when the
         // board stop is known (not known here).
         if (pickup && exceedsLatestBookingTime(trip, date, closestTrip.stopPos())) {
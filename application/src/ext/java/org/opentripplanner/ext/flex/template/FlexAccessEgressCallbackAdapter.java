@@ -26,8 +26,12 @@ public interface FlexAccessEgressCallbackAdapter {
   /** Adapter, look at implementing service for documentation.  */
   Collection<PathTransfer> getTransfersToStop(StopLocation stop);
 
-  /** Adapter, look at implementing service for documentation.  */
-  Collection<FlexTrip<?, ?>> getFlexTripsByStop(StopLocation stopLocation);
+  /**
+   * Return the flex trips visiting the given stop, which operate in the search period of the
+   * given date. Trips outside the period can be skipped, but the implementation may return them
+   * as well.
+   */
+  Collection<FlexTrip<?, ?>> getFlexTripsByStop(StopLocation stopLocation, FlexServiceDate date);
 
   /**
    * Return true if date is an active service date for the given trip, and can be used for
@@ -23,16 +23,43 @@ public class FlexServiceDate {
 
   private final int requestedBookingTime;
 
+  /**
+   * The period searched, in seconds since this date's "midnight". Trips operating outside the
+   * period can not be part of the result.
+   */
+  private final int searchPeriodStart;
+  private final int searchPeriodEnd;
+
   public FlexServiceDate(
     LocalDate serviceDate,
     int secondsFromStartOfTime,
     int requestedBookingTime,
     TIntSet servicesRunning
+  ) {
+    this(
+      serviceDate,
+      secondsFromStartOfTime,
+      requestedBookingTime,
+      servicesRunning,
+      Integer.MIN_VALUE,
+      Integer.MAX_VALUE
+    );
+  }
+
+  public FlexServiceDate(
+    LocalDate serviceDate,
+    int secondsFromStartOfTime,
+    int requestedBookingTime,
+    TIntSet servicesRunning,
+    int searchPeriodStart,
+    int searchPeriodEnd
   ) {
     this.serviceDate = serviceDate;
     this.secondsFromStartOfTime = secondsFromStartOfTime;
     this.requestedBookingTime = requestedBookingTime;
     this.servicesRunning = servicesRunning;
+    this.searchPeriodStart = searchPeriodStart;
+    this.searchPeriodEnd = searchPeriodEnd;
   }
 
   LocalDate serviceDate() {
@@ -47,6 +74,14 @@ public class FlexServiceDate {
     return requestedBookingTime;
   }
 
+  public int searchPeriodStart() {
+    return searchPeriodStart;
+  }
+
+  public int searchPeriodEnd() {
+    return searchPeriodEnd;
+  }
+
   /**
    * Return true if the given {@code serviceCode} is active and running.
    */
@@ -0,0 +1,28 @@
+package org.opentripplanner.ext.restapi.model;
+
+import java.util.List;
+import org.opentripplanner.api.error.PlannerError;
+
+/**
+ * The travel times from one origin to a list of destinations, will be serialized into JSON by
+ * Jersey.
+ */
+public class ApiTravelTimes {
+
+  /**
+   * The departure time from the origin.
+   * <p>
+   * Unit : epoch milliseconds
+   */
+  public Long departureTime;
+
+  /**
+   * The travel time to each of the requested destinations, in the same order as the {@code
+   * toPlaces} request parameter. The value is {@code null} if the destination can not be reached.
+   * <p>
+   * Unit : seconds
+   */
+  public List<Integer> durations;
+
+  public PlannerError error;
+}
@@ -17,6 +17,7 @@ import org.opentripplanner.ext.restapi.mapping.TripPlanMapper;
 import org.opentripplanner.ext.restapi.mapping.TripSearchMetadataMapper;
 import org.opentripplanner.ext.restapi.model.ElevationMetadata;
 import org.opentripplanner.ext.restapi.model.TripPlannerResponse;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.response.RoutingResponse;
@@ -107,6 +108,9 @@ public class PlannerResource extends RoutingResource {
       }
     } catch (OTPRequestTimeoutException | ResponseTooLargeException e) {
       response.setError(new PlannerError(Message.UNPROCESSABLE_REQUEST));
+    } catch (OTPRequestRejectedException e) {
+      // Let the OTPExceptionMapper respond with "503 Service Unavailable"
+      throw e;
     } catch (Exception e) {
       LOG.error("System error", e);
       response.setError(new PlannerError(Message.SYSTEM_ERROR));
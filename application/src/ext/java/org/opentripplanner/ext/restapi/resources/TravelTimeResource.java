@@ -0,0 +1,100 @@
+package org.opentripplanner.ext.restapi.resources;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.util.ArrayList;
+import java.util.List;
+import org.opentripplanner.api.common.LocationStringParser;
+import org.opentripplanner.api.common.Message;
+import org.opentripplanner.api.error.PlannerError;
+import org.opentripplanner.apis.support.mapping.PlannerErrorMapper;
+import org.opentripplanner.ext.restapi.model.ApiTravelTimes;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
+import org.opentripplanner.framework.application.OTPRequestTimeoutException;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
+import org.opentripplanner.routing.error.RoutingValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Find the travel time from one origin to many destinations with one transit search, for example
+ * to compute a row of a travel time matrix. The request takes the same query parameters as the
+ * trip planner, see {@link RoutingResource}, the {@code toPlace} is replaced by the list of
+ * {@code toPlaces}. Arrive-by searches are not supported.
+ * <p>
+ * The number of destinations is limited by the {@code transit.maxOneToManyDestinations} router
+ * config parameter, the default is 500. A request with more destinations, or without any, is
+ * rejected with the {@code BOGUS_PARAMETER} error.
+ */
+@Path("routers/{ignoreRouterId}/travelTimes")
+public class TravelTimeResource extends RoutingResource {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TravelTimeResource.class);
+
+  /**
+   * @deprecated The support for multiple routers are removed from OTP2. See
+   * https://github.com/opentripplanner/OpenTripPlanner/issues/2760
+   */
+  @Deprecated
+  @PathParam("ignoreRouterId")
+  private String ignoreRouterId;
+
+  /**
+   * The destinations (see fromPlace for format). Parameter can be specified multiple times, the
+   * travel times are returned in the same order. The number of destinations is limited, see the
+   * class documentation.
+   */
+  @QueryParam("toPlaces")
+  protected List<String> toPlaces;
+
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response travelTimes(@Context UriInfo uriInfo) {
+    var response = new ApiTravelTimes();
+    try {
+      var request = super.buildRequest(uriInfo.getQueryParameters());
+      var res = serverContext.routingService().route(request, mapDestinations(toPlaces));
+      response.departureTime = res.departureTime().toEpochMilli();
+      response.durations = mapDurations(res);
+    } catch (RoutingValidationException e) {
+      response.error =
+        e.isFromLocationNotFound()
+          ? new PlannerError(Message.GEOCODE_FROM_NOT_FOUND)
+          : PlannerErrorMapper.mapMessage(e.getRoutingErrors().get(0));
+    } catch (IllegalArgumentException e) {
+      response.error = new PlannerError(Message.BOGUS_PARAMETER);
+    } catch (OTPRequestTimeoutException e) {
+      response.error = new PlannerError(Message.UNPROCESSABLE_REQUEST);
+    } catch (OTPRequestRejectedException e) {
+      // Let the OTPExceptionMapper respond with "503 Service Unavailable"
+      throw e;
+    } catch (Exception e) {
+      LOG.error("System error", e);
+      response.error = new PlannerError(Message.SYSTEM_ERROR);
+    }
+    return Response.ok().entity(response).build();
+  }
+
+  static List<GenericLocation> mapDestinations(List<String> toPlaces) {
+    if (toPlaces == null || toPlaces.isEmpty()) {
+      throw new IllegalArgumentException("At least one destination is required in 'toPlaces'.");
+    }
+    return toPlaces.stream().map(LocationStringParser::fromOldStyleString).toList();
+  }
+
+  static List<Integer> mapDurations(OneToManyResponse response) {
+    var durations = new ArrayList<Integer>(response.size());
+    for (int i = 0; i < response.size(); ++i) {
+      durations.add(response.isReachable(i) ? response.durationInSeconds(i) : null);
+    }
+    return durations;
+  }
+}
@@ -31,6 +31,7 @@ import org.opentripplanner.ext.restapi.resources.BikeRental;
 import org.opentripplanner.ext.restapi.resources.IndexAPI;
 import org.opentripplanner.ext.restapi.resources.PlannerResource;
 import org.opentripplanner.ext.restapi.resources.Routers;
+import org.opentripplanner.ext.restapi.resources.TravelTimeResource;
 import org.opentripplanner.ext.vectortiles.VectorTilesResource;
 import org.opentripplanner.framework.application.OTPFeature;
 
@@ -66,6 +67,7 @@ public class APIEndpoints {
     addIfEnabled(APIBikeRental, BikeRental.class);
     addIfEnabled(LegacyRestApi, Routers.class);
     addIfEnabled(LegacyRestApi, PlannerResource.class);
+    addIfEnabled(LegacyRestApi, TravelTimeResource.class);
     addIfEnabled(LegacyRestApi, IndexAPI.class);
   }
 
@@ -269,7 +269,7 @@ class GtfsGraphQLIndex {
 
     return Response
       .status(Response.Status.OK)
-      .entity(GraphQLResponseSerializer.serialize(executionResult))
+      .entity(GraphQLResponseSerializer.streamingOutput(executionResult))
       .build();
   }
 }
@@ -1,5 +1,8 @@
 package org.opentripplanner.apis.gtfs.datafetchers;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.locationtech.jts.geom.Geometry;
@@ -8,6 +11,18 @@ import org.opentripplanner.framework.geometry.EncodedPolyline;
 
 public class GeometryImpl implements GraphQLDataFetchers.GraphQLGeometry {
 
+  /**
+   * Each field of a geometry would otherwise encode the whole geometry again, and a plan response
+   * typically asks for both the points and the length of every leg geometry. The encoded polyline
+   * is cached by geometry identity, the weak keys let the entries of a request's legs be collected
+   * with the itineraries.
+   */
+  private static final LoadingCache<Geometry, EncodedPolyline> ENCODED_POLYLINES = CacheBuilder
+    .newBuilder()
+    .weakKeys()
+    .maximumSize(1_000)
+    .build(CacheLoader.from(EncodedPolyline::encode));
+
   @Override
   public DataFetcher<Integer> length() {
     return environment -> getSource(environment).length();
@@ -19,6 +34,6 @@ public class GeometryImpl implements GraphQLDataFetchers.GraphQLGeometry {
   }
 
   private EncodedPolyline getSource(DataFetchingEnvironment environment) {
-    return EncodedPolyline.encode((Geometry) environment.getSource());
+    return ENCODED_POLYLINES.getUnchecked(environment.getSource());
   }
 }
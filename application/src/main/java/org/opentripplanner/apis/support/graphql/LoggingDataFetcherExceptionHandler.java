@@ -2,6 +2,7 @@ package org.opentripplanner.apis.support.graphql;
 
 import graphql.ExceptionWhileDataFetching;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +17,11 @@ public class LoggingDataFetcherExceptionHandler extends SimpleDataFetcherExcepti
 
   @Override
   protected void logException(ExceptionWhileDataFetching error, Throwable exception) {
+    // Rejected requests are expected when the server is overloaded, and are reported as metrics
+    if (exception instanceof OTPRequestRejectedException) {
+      LOG.debug(error.getMessage());
+      return;
+    }
     LOG.warn(error.getMessage(), exception);
   }
 }
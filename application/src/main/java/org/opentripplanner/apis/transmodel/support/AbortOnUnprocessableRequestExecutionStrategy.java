@@ -7,6 +7,7 @@ import java.io.Closeable;
 import java.util.concurrent.CompletableFuture;
 import org.opentripplanner.apis.support.graphql.LoggingDataFetcherExceptionHandler;
 import org.opentripplanner.apis.transmodel.ResponseTooLargeException;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.utils.logging.ProgressTracker;
 import org.slf4j.Logger;
@@ -42,7 +43,11 @@ public class AbortOnUnprocessableRequestExecutionStrategy
     ExecutionStrategyParameters params,
     Throwable e
   ) {
-    if (e instanceof OTPRequestTimeoutException || e instanceof ResponseTooLargeException) {
+    if (
+      e instanceof OTPRequestTimeoutException ||
+      e instanceof OTPRequestRejectedException ||
+      e instanceof ResponseTooLargeException
+    ) {
       logCancellationProgress();
       throw (RuntimeException) e;
     }
@@ -4,6 +4,7 @@ import graphql.ErrorClassification;
 import graphql.ExecutionResult;
 import graphql.GraphQLError;
 import jakarta.ws.rs.core.Response;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.framework.graphql.GraphQLResponseSerializer;
 import org.opentripplanner.framework.http.OtpHttpStatus;
@@ -21,6 +22,10 @@ public class ExecutionResultMapper {
     "ResponseTooLarge"
   );
 
+  private static final ErrorClassification SERVICE_UNAVAILABLE = ErrorClassification.errorClassification(
+    "ServiceUnavailable"
+  );
+
   private static final ErrorClassification BAD_REQUEST_ERROR = ErrorClassification.errorClassification(
     "BadRequestError"
   );
@@ -30,7 +35,7 @@ public class ExecutionResultMapper {
   );
 
   public static Response okResponse(ExecutionResult result) {
-    return Response.ok(GraphQLResponseSerializer.serialize(result)).build();
+    return Response.ok(GraphQLResponseSerializer.streamingOutput(result)).build();
   }
 
   public static Response timeoutResponse() {
@@ -41,6 +46,16 @@ public class ExecutionResultMapper {
     return unprocessableResponse(RESPONSE_TOO_LARGE, message);
   }
 
+  public static Response serviceUnavailableResponse() {
+    var error = GraphQLError
+      .newError()
+      .errorType(SERVICE_UNAVAILABLE)
+      .message(OTPRequestRejectedException.MESSAGE)
+      .build();
+    var result = ExecutionResult.newExecutionResult().addError(error).build();
+    return response(result, Response.Status.SERVICE_UNAVAILABLE);
+  }
+
   public static Response badRequestResponse(String message) {
     var error = GraphQLError.newError().errorType(BAD_REQUEST_ERROR).message(message).build();
     var result = ExecutionResult.newExecutionResult().addError(error).build();
@@ -7,7 +7,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
-import org.opentripplanner.astar.model.BinHeap;
+import org.opentripplanner.astar.model.AStarQueue;
+import org.opentripplanner.astar.model.AStarQueueType;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.spi.AStarEdge;
@@ -47,11 +48,13 @@ public class AStar<
   private final Duration timeout;
 
   private final ShortestPathTree<State, Edge, Vertex> spt;
-  private final BinHeap<State> pq;
+  private final AStarQueue<State> pq;
   private final List<State> targetAcceptedStates;
 
   private State u;
   private int nVisited;
+  private int nInserted;
+  private int nExtracted;
 
   AStar(
     RemainingWeightHeuristic<State> heuristic,
@@ -63,7 +66,8 @@ public class AStar<
     SearchTerminationStrategy<State> terminationStrategy,
     DominanceFunction<State> dominanceFunction,
     Duration timeout,
-    Collection<State> initialStates
+    Collection<State> initialStates,
+    AStarQueueType queueType
   ) {
     this.heuristic = heuristic;
     this.skipEdgeStrategy = skipEdgeStrategy;
@@ -74,10 +78,11 @@ public class AStar<
     this.terminationStrategy = terminationStrategy;
     this.timeout = Objects.requireNonNull(timeout);
 
-    this.spt = new ShortestPathTree<>(dominanceFunction);
-
     // Initialized with a reasonable size, see #4445
-    this.pq = new BinHeap<>(1000);
+    this.pq = queueType.createQueue(1000);
+
+    // Dominated states are removed from the queue, if the queue supports it
+    this.spt = new ShortestPathTree<>(dominanceFunction, pq::remove);
     this.nVisited = 0;
     this.targetAcceptedStates = new ArrayList<>();
 
@@ -112,6 +117,7 @@ public class AStar<
 
     // get the lowest-weight state in the queue
     u = pq.extract_min();
+    nExtracted += 1;
 
     // check that this state has not been dominated
     // and mark vertex as visited
@@ -175,6 +181,7 @@ public class AStar<
             traverseVisitor.visitEnqueue();
           }
           pq.insert(v, estimate);
+          nInserted += 1;
         }
       }
     }
@@ -229,5 +236,11 @@ public class AStar<
         break;
       }
     }
+    LOG.debug(
+      "Search done, states inserted: {}, extracted: {}, visited: {}",
+      nInserted,
+      nExtracted,
+      nVisited
+    );
   }
 }
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.opentripplanner.astar.model.AStarQueueType;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.spi.AStarEdge;
@@ -35,6 +36,7 @@ public abstract class AStarBuilder<
   private DominanceFunction<State> dominanceFunction;
   private Edge originBackEdge;
   private Collection<State> initialStates;
+  private AStarQueueType queueType = AStarQueueType.BINARY_HEAP;
 
   protected AStarBuilder() {}
 
@@ -109,6 +111,16 @@ public abstract class AStarBuilder<
     return builder;
   }
 
+  /**
+   * The priority queue to use, the default is {@link AStarQueueType#BINARY_HEAP}. The street
+   * searches use the {@link AStarQueueType#INDEXED_HEAP} if the {@code IndexedHeapStreetSearch}
+   * feature is enabled.
+   */
+  public Builder setQueueType(AStarQueueType queueType) {
+    this.queueType = queueType;
+    return builder;
+  }
+
   public ShortestPathTree<State, Edge, Vertex> getShortestPathTree() {
     return build().getShortestPathTree();
   }
@@ -148,7 +160,8 @@ public abstract class AStarBuilder<
       terminationStrategy,
       Optional.ofNullable(dominanceFunction).orElseGet(this::createDefaultDominanceFunction),
       streetRoutingTimeout(),
-      initialStates
+      initialStates,
+      queueType
     );
   }
 
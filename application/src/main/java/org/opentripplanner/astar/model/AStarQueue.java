@@ -0,0 +1,23 @@
+package org.opentripplanner.astar.model;
+
+/**
+ * The priority queue used by the A* search to order the states to visit.
+ */
+public interface AStarQueue<T> {
+  void insert(T e, double p);
+
+  T extract_min();
+
+  double peek_min_key();
+
+  boolean empty();
+
+  int size();
+
+  /**
+   * Remove the given element from the queue, if the queue supports it. Queues which do not
+   * support removal leave the element in the queue, the search must then skip it when it is
+   * extracted.
+   */
+  default void remove(T e) {}
+}
@@ -0,0 +1,28 @@
+package org.opentripplanner.astar.model;
+
+import org.opentripplanner.astar.spi.AStarState;
+
+/**
+ * The type of priority queue to use in an A* search.
+ */
+public enum AStarQueueType {
+  /**
+   * A binary heap. States dominated after they are added are left in the queue and skipped when
+   * they are extracted, so the queue may grow large in searches with many improvements.
+   */
+  BINARY_HEAP,
+
+  /**
+   * An indexed 4-ary heap. States are removed from the queue when they are dominated by a new
+   * state at the same vertex, so the queue only contains states which are worth visiting.
+   */
+  INDEXED_HEAP;
+
+  /** Create a new queue, the initial capacity is the expected number of states in the queue. */
+  public <T extends AStarState<T, ?, ?>> AStarQueue<T> createQueue(int initialCapacity) {
+    return switch (this) {
+      case BINARY_HEAP -> new BinHeap<>(initialCapacity);
+      case INDEXED_HEAP -> new IndexedDaryHeap<>(initialCapacity);
+    };
+  }
+}
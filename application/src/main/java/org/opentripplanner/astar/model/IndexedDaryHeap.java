@@ -0,0 +1,140 @@
+package org.opentripplanner.astar.model;
+
+import java.util.Arrays;
+import org.opentripplanner.astar.spi.AStarState;
+
+/**
+ * A 4-ary min-heap which keeps track of the position of each state in the heap, so states can be
+ * removed when they are dominated. The position is stored in the state itself, see
+ * {@link AStarState#getQueueIndex()}, to avoid a lookup table. A state can only be in one indexed
+ * heap at the time.
+ * <p>
+ * Compared with the {@link BinHeap} the heap only contains states which are still worth visiting,
+ * so it is smaller and no dominated states are extracted. A 4-ary heap is shallower than a binary
+ * heap, and the children of a node are next to each other in memory.
+ */
+public class IndexedDaryHeap<T extends AStarState<T, ?, ?>> implements AStarQueue<T> {
+
+  private static final int D = 4;
+  private static final int NOT_IN_QUEUE = -1;
+
+  private T[] elem;
+  private double[] prio;
+  private int size = 0;
+
+  @SuppressWarnings("unchecked")
+  public IndexedDaryHeap(int capacity) {
+    capacity = Math.max(capacity, 10);
+    this.elem = (T[]) new AStarState<?, ?, ?>[capacity];
+    this.prio = new double[capacity];
+  }
+
+  @Override
+  public void insert(T e, double p) {
+    if (size == elem.length) {
+      elem = Arrays.copyOf(elem, size * 2);
+      prio = Arrays.copyOf(prio, size * 2);
+    }
+    siftUp(size++, e, p);
+  }
+
+  @Override
+  public T extract_min() {
+    if (size == 0) {
+      return null;
+    }
+    T min = elem[0];
+    min.setQueueIndex(NOT_IN_QUEUE);
+    removeAt(0);
+    return min;
+  }
+
+  @Override
+  public double peek_min_key() {
+    if (size == 0) {
+      throw new IllegalStateException("An empty queue does not have a minimum key.");
+    }
+    return prio[0];
+  }
+
+  @Override
+  public boolean empty() {
+    return size == 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Remove the state from the heap. Nothing happens if the state is not in the heap, for example
+   * if it is already extracted.
+   */
+  @Override
+  public void remove(T e) {
+    int i = e.getQueueIndex();
+    if (i < 0 || i >= size || elem[i] != e) {
+      return;
+    }
+    e.setQueueIndex(NOT_IN_QUEUE);
+    removeAt(i);
+  }
+
+  /** Fill the hole at index i with the last element, and restore the heap order. */
+  private void removeAt(int i) {
+    --size;
+    T last = elem[size];
+    double lastPrio = prio[size];
+    elem[size] = null;
+
+    if (i == size) {
+      return;
+    }
+    if (i > 0 && lastPrio < prio[(i - 1) / D]) {
+      siftUp(i, last, lastPrio);
+    } else {
+      siftDown(i, last, lastPrio);
+    }
+  }
+
+  private void siftUp(int i, T e, double p) {
+    while (i > 0) {
+      int parent = (i - 1) / D;
+      if (prio[parent] <= p) {
+        break;
+      }
+      set(i, elem[parent], prio[parent]);
+      i = parent;
+    }
+    set(i, e, p);
+  }
+
+  private void siftDown(int i, T e, double p) {
+    while (true) {
+      int first = i * D + 1;
+      if (first >= size) {
+        break;
+      }
+      int end = Math.min(first + D, size);
+      int min = first;
+      for (int c = first + 1; c < end; ++c) {
+        if (prio[c] < prio[min]) {
+          min = c;
+        }
+      }
+      if (p <= prio[min]) {
+        break;
+      }
+      set(i, elem[min], prio[min]);
+      i = min;
+    }
+    set(i, e, p);
+  }
+
+  private void set(int i, T e, double p) {
+    elem[i] = e;
+    prio[i] = p;
+    e.setQueueIndex(i);
+  }
+}
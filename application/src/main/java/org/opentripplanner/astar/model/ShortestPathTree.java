@@ -11,6 +11,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.opentripplanner.astar.spi.AStarEdge;
 import org.opentripplanner.astar.spi.AStarState;
 import org.opentripplanner.astar.spi.AStarVertex;
@@ -33,6 +35,11 @@ import org.slf4j.LoggerFactory;
  * when walking. The turn restriction handling is done in the base dominance function
  * implementation, and applies to all subclasses. It essentially splits each vertex into N vertices
  * depending on the incoming edge being taken.
+ * <p>
+ * Most vertices only have one state, so a single state is stored directly in the map, and a list
+ * is only created when a second co-dominant state is added to a vertex. This avoids allocating a
+ * list for each visited vertex, which adds up to millions of objects in long car and bicycle
+ * searches.
  */
 public class ShortestPathTree<
   State extends AStarState<State, Edge, Vertex>,
@@ -44,13 +51,30 @@ public class ShortestPathTree<
 
   public final DominanceFunction<State> dominanceFunction;
 
-  private final Map<Vertex, List<State>> stateSets;
+  /** The value is either a single {@code State} or a {@code List<State>}. */
+  private final Map<Vertex, Object> stateSets;
+
+  /** Notified when a state is dominated and removed from the tree, may be null. */
+  @Nullable
+  private final Consumer<State> removedStateListener;
 
   /** Indicates that the search timed out or was otherwise aborted. */
   private boolean aborted = false;
 
   public ShortestPathTree(DominanceFunction<State> dominanceFunction) {
+    this(dominanceFunction, null);
+  }
+
+  /**
+   * @param removedStateListener is called with each state that is dominated and removed from the
+   *                             tree, so it can be removed from the search queue as well.
+   */
+  public ShortestPathTree(
+    DominanceFunction<State> dominanceFunction,
+    @Nullable Consumer<State> removedStateListener
+  ) {
     this.dominanceFunction = dominanceFunction;
+    this.removedStateListener = removedStateListener;
     // Initialized with a reasonable size, see #4445
     stateSets = new IdentityHashMap<>(10_000);
   }
@@ -85,9 +109,8 @@ public class ShortestPathTree<
     Multiset<Integer> histogram = HashMultiset.create();
     int statesCount = 0;
     int maxSize = 0;
-    for (Map.Entry<Vertex, List<State>> kv : stateSets.entrySet()) {
-      List<State> states = kv.getValue();
-      int size = states.size();
+    for (Object value : stateSets.values()) {
+      int size = value instanceof List<?> list ? list.size() : 1;
       histogram.add(size);
       statesCount += size;
       if (size > maxSize) {
@@ -125,18 +148,37 @@ public class ShortestPathTree<
    * @return a boolean value indicating whether the state was added to the tree and should therefore
    * be enqueued
    */
+  @SuppressWarnings("unchecked")
   public boolean add(State newState) {
     Vertex vertex = newState.getVertex();
-    List<State> states = stateSets.get(vertex);
+    Object value = stateSets.get(vertex);
 
     // if the vertex has no states, add one and return
-    if (states == null) {
-      states = new ArrayList<>();
-      stateSets.put(vertex, states);
+    if (value == null) {
+      stateSets.put(vertex, newState);
+      return true;
+    }
+
+    if (!(value instanceof List)) {
+      State oldState = (State) value;
+      if (dominanceFunction.betterOrEqualAndComparable(oldState, newState)) {
+        return false;
+      }
+      if (dominanceFunction.betterOrEqualAndComparable(newState, oldState)) {
+        stateSets.put(vertex, newState);
+        notifyRemoved(oldState);
+        return true;
+      }
+      // the old and the new state are co-dominant, keep both
+      List<State> states = new ArrayList<>(2);
+      states.add(oldState);
       states.add(newState);
+      stateSets.put(vertex, states);
       return true;
     }
 
+    List<State> states = (List<State>) value;
+
     // if the vertex has any states that dominate the new state, don't add the state
     // if the new state dominates any old states, remove them
     Iterator<State> it = states.iterator();
@@ -149,6 +191,7 @@ public class ShortestPathTree<
       }
       if (dominanceFunction.betterOrEqualAndComparable(newState, oldState)) {
         it.remove();
+        notifyRemoved(oldState);
       }
     }
 
@@ -164,7 +207,7 @@ public class ShortestPathTree<
    * @return a 'best' state at that vertex
    */
   public State getState(Vertex dest) {
-    Collection<State> states = stateSets.get(dest);
+    List<State> states = getStates(dest);
     if (states == null) {
       return null;
     }
@@ -188,7 +231,7 @@ public class ShortestPathTree<
    * @return a collection of 'interesting' states at that vertex
    */
   public List<State> getStates(Vertex dest) {
-    return stateSets.get(dest);
+    return toList(stateSets.get(dest));
   }
 
   /** @return number of vertices referenced in this SPT */
@@ -221,21 +264,30 @@ public class ShortestPathTree<
    * @return - whether this state is still considered worth visiting.
    */
   public boolean visit(State state) {
-    boolean ret = false;
-    for (State s : stateSets.get(state.getVertex())) {
-      if (s == state) {
-        ret = true;
-        break;
+    Object value = stateSets.get(state.getVertex());
+    if (value == state) {
+      return true;
+    }
+    if (value instanceof List<?> states) {
+      for (Object s : states) {
+        if (s == state) {
+          return true;
+        }
       }
     }
-    return ret;
+    return false;
   }
 
   /** @return every state in this tree */
+  @SuppressWarnings("unchecked")
   public Collection<State> getAllStates() {
-    ArrayList<State> allStates = new ArrayList<>();
-    for (List<State> stateSet : stateSets.values()) {
-      allStates.addAll(stateSet);
+    ArrayList<State> allStates = new ArrayList<>(stateSets.size());
+    for (Object value : stateSets.values()) {
+      if (value instanceof List) {
+        allStates.addAll((List<State>) value);
+      } else {
+        allStates.add((State) value);
+      }
     }
     return allStates;
   }
@@ -244,7 +296,28 @@ public class ShortestPathTree<
     aborted = true;
   }
 
+  /**
+   * Return true if the search timed out or was otherwise aborted, the tree is then incomplete.
+   */
+  public boolean isAborted() {
+    return aborted;
+  }
+
   public String toString() {
     return "ShortestPathTree(" + this.stateSets.size() + " vertices)";
   }
+
+  private void notifyRemoved(State state) {
+    if (removedStateListener != null) {
+      removedStateListener.accept(state);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<State> toList(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return value instanceof List ? (List<State>) value : List.of((State) value);
+  }
 }
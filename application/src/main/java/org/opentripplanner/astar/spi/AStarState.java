@@ -28,4 +28,13 @@ public interface AStarState<
   void initBackEdge(Edge originBackEdge);
 
   AStarRequest getRequest();
+
+  /**
+   * The position of this state in the search queue, or {@code -1} if the state is not in the
+   * queue. This is only used by queues which support removing states, see
+   * {@link org.opentripplanner.astar.model.IndexedDaryHeap}.
+   */
+  int getQueueIndex();
+
+  void setQueueIndex(int queueIndex);
 }
@@ -50,6 +50,13 @@ public enum OTPFeature {
   ),
   FloatingBike(true, false, "Enable floating bike routing."),
   GtfsGraphQlApi(true, false, "Enable the [GTFS GraphQL API](apis/GTFS-GraphQL-API.md)."),
+  IndexedHeapStreetSearch(
+    false,
+    false,
+    "Use an indexed heap as the priority queue in the street searches. Dominated states are " +
+    "removed from the queue instead of being skipped when they are extracted, this reduces the " +
+    "memory used by long car and bicycle searches."
+  ),
   /**
    * If this feature flag is switched on, then the minimum transfer time is not the minimum transfer
    * time, but the definitive transfer time. Use this to override what we think the transfer will
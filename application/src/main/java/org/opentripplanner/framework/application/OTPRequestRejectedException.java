@@ -0,0 +1,16 @@
+package org.opentripplanner.framework.application;
+
+/**
+ * This Exception is used to signal that the current (HTTP) request is rejected because the server
+ * is overloaded. The request is rejected before any significant work is done, so the client can
+ * safely retry the request later.
+ */
+public class OTPRequestRejectedException extends RuntimeException {
+
+  public static final String MESSAGE = "The server is overloaded, please try again later.";
+
+  @Override
+  public String getMessage() {
+    return MESSAGE;
+  }
+}
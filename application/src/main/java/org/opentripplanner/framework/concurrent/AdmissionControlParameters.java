@@ -0,0 +1,76 @@
+package org.opentripplanner.framework.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+
+/**
+ * Parameters for the {@link AdmissionController}.
+ *
+ * @param maxConcurrentRequests The upper bound of the concurrency limit, this is also the initial
+ *                              limit. If 0, admission control is disabled.
+ * @param minConcurrentRequests The lower bound of the concurrency limit.
+ * @param maxQueueTime          The maximum time a request waits to be admitted, before it is
+ *                              rejected.
+ * @param targetLatency         The limit is reduced when requests take longer than this, and
+ *                              increased slowly when they are faster. If zero, the limit is fixed.
+ */
+public record AdmissionControlParameters(
+  int maxConcurrentRequests,
+  int minConcurrentRequests,
+  Duration maxQueueTime,
+  Duration targetLatency
+) {
+  public static final AdmissionControlParameters DEFAULT = new AdmissionControlParameters(
+    0,
+    1,
+    Duration.ofSeconds(1),
+    Duration.ZERO
+  );
+
+  public AdmissionControlParameters {
+    if (maxConcurrentRequests < 0) {
+      throw new IllegalArgumentException(
+        "maxConcurrentRequests must be zero or positive: " + maxConcurrentRequests
+      );
+    }
+    if (minConcurrentRequests < 1) {
+      throw new IllegalArgumentException(
+        "minConcurrentRequests must be positive: " + minConcurrentRequests
+      );
+    }
+    if (maxConcurrentRequests > 0 && minConcurrentRequests > maxConcurrentRequests) {
+      throw new IllegalArgumentException(
+        "minConcurrentRequests(" +
+        minConcurrentRequests +
+        ") must not be greater than maxConcurrentRequests(" +
+        maxConcurrentRequests +
+        ")"
+      );
+    }
+    Objects.requireNonNull(maxQueueTime);
+    Objects.requireNonNull(targetLatency);
+    if (maxQueueTime.isNegative() || targetLatency.isNegative()) {
+      throw new IllegalArgumentException("Negative durations are not allowed.");
+    }
+  }
+
+  public boolean isEnabled() {
+    return maxConcurrentRequests > 0;
+  }
+
+  public boolean isAdaptive() {
+    return targetLatency.isPositive();
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder
+      .of(AdmissionControlParameters.class)
+      .addNum("maxConcurrentRequests", maxConcurrentRequests, DEFAULT.maxConcurrentRequests)
+      .addNum("minConcurrentRequests", minConcurrentRequests, DEFAULT.minConcurrentRequests)
+      .addDuration("maxQueueTime", maxQueueTime, DEFAULT.maxQueueTime)
+      .addDuration("targetLatency", targetLatency, DEFAULT.targetLatency)
+      .toString();
+  }
+}
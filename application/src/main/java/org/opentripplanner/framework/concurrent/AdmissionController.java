@@ -0,0 +1,209 @@
+package org.opentripplanner.framework.concurrent;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
+import org.opentripplanner.framework.application.OTPRequestTimeoutException;
+
+/**
+ * Limit the number of requests processed at the same time, and reject requests early when the
+ * server is overloaded. Without this, requests queue up until they time out, and the CPU is spent
+ * on requests the clients have already given up on.
+ * <p>
+ * A request must {@link #acquire()} a permit before it is processed, and close the permit when
+ * done. If the limit is reached, the request waits for a permit, but not longer than the max
+ * queue time. A request is rejected at once, without waiting, if there are already as many
+ * requests waiting as the current limit - these would most likely time out in the queue anyway.
+ * <p>
+ * If a target latency is set, the limit is adjusted with an AIMD (additive increase,
+ * multiplicative decrease) algorithm: each request completed within the target latency increases
+ * the limit by {@code 1/limit}, so the limit grows by one when a full "limit" of requests is done
+ * in time. Each request slower than the target reduces the limit by 10%. The limit is kept within
+ * the min and max concurrent requests.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ */
+public class AdmissionController {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private static final AdmissionController UNLIMITED = new AdmissionController(
+    AdmissionControlParameters.DEFAULT
+  );
+
+  private static final Permit NOOP_PERMIT = () -> {};
+
+  private final AdmissionControlParameters parameters;
+  private final long maxQueueTimeNanos;
+  private final long targetLatencyNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+
+  /* All fields below are guarded by the lock */
+  private double limit;
+  private int inFlight = 0;
+  private int waiting = 0;
+  private long admitted = 0;
+  private long rejected = 0;
+
+  public AdmissionController(AdmissionControlParameters parameters) {
+    this.parameters = parameters;
+    this.maxQueueTimeNanos = parameters.maxQueueTime().toNanos();
+    this.targetLatencyNanos = parameters.targetLatency().toNanos();
+    this.limit = parameters.maxConcurrentRequests();
+  }
+
+  /** An admission controller which admits all requests at once. */
+  public static AdmissionController unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Wait for a permit to process a request. The permit must be closed when the request is done.
+   *
+   * @throws OTPRequestRejectedException if the server is overloaded.
+   * @throws OTPRequestTimeoutException if the request is interrupted while waiting.
+   */
+  public Permit acquire() {
+    if (!parameters.isEnabled()) {
+      return NOOP_PERMIT;
+    }
+    lock.lock();
+    try {
+      if (inFlight >= currentLimit()) {
+        if (waiting >= currentLimit()) {
+          ++rejected;
+          throw new OTPRequestRejectedException();
+        }
+        awaitPermit();
+      }
+      ++inFlight;
+      ++admitted;
+    } finally {
+      lock.unlock();
+    }
+    long startTime = System.nanoTime();
+    return () -> release(System.nanoTime() - startTime);
+  }
+
+  /** The current concurrency limit. */
+  public int limit() {
+    lock.lock();
+    try {
+      return parameters.isEnabled() ? currentLimit() : Integer.MAX_VALUE;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** The number of requests being processed. */
+  public int inFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** The number of requests waiting for a permit. */
+  public int waiting() {
+    lock.lock();
+    try {
+      return waiting;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** The total number of admitted requests. Requests are not counted if disabled. */
+  public long admittedCount() {
+    lock.lock();
+    try {
+      return admitted;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** The total number of rejected requests. */
+  public long rejectedCount() {
+    lock.lock();
+    try {
+      return rejected;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public AdmissionControlParameters parameters() {
+    return parameters;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "AdmissionController{limit: %d, inFlight: %d, waiting: %d, %s}",
+      limit(),
+      inFlight(),
+      waiting(),
+      parameters
+    );
+  }
+
+  /** Must be called while holding the lock. */
+  private void awaitPermit() {
+    ++waiting;
+    try {
+      long remaining = maxQueueTimeNanos;
+      while (inFlight >= currentLimit()) {
+        if (remaining <= 0) {
+          ++rejected;
+          throw new OTPRequestRejectedException();
+        }
+        remaining = permitReleased.awaitNanos(remaining);
+      }
+    } catch (InterruptedException e) {
+      throw new OTPRequestTimeoutException();
+    } finally {
+      --waiting;
+    }
+  }
+
+  private void release(long latencyNanos) {
+    lock.lock();
+    try {
+      --inFlight;
+      if (parameters.isAdaptive()) {
+        int oldLimit = currentLimit();
+        if (latencyNanos <= targetLatencyNanos) {
+          limit = Math.min(parameters.maxConcurrentRequests(), limit + 1.0 / limit);
+        } else {
+          limit = Math.max(parameters.minConcurrentRequests(), limit * BACKOFF_RATIO);
+        }
+        if (currentLimit() > oldLimit) {
+          permitReleased.signalAll();
+          return;
+        }
+      }
+      permitReleased.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int currentLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * A permit to process one request, close it once when the request is done. The processing time
+   * is used to adjust the limit.
+   */
+  @FunctionalInterface
+  public interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
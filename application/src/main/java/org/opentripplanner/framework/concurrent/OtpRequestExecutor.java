@@ -0,0 +1,134 @@
+package org.opentripplanner.framework.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import javax.annotation.Nullable;
+import org.opentripplanner.framework.application.LogMDCSupport;
+import org.opentripplanner.framework.application.OTPRequestTimeoutException;
+
+/**
+ * Run the independent parts of a user request in parallel, like the direct street, direct flex
+ * and transit searches of a trip search. The work is CPU-bound, so it is done in a bounded pool of
+ * platform threads, not in the common {@link java.util.concurrent.ForkJoinPool} shared with
+ * unrelated parallel streams.
+ * <p>
+ * The calling thread takes part in the work: the tasks are submitted to the pool, and then the
+ * caller runs all tasks not yet started by the pool itself. The caller only waits for tasks which
+ * are already running in another thread. This keeps the pool small, and nested calls (a task
+ * calling {@link #runAll(Runnable...)}) can not dead-lock when all threads in the pool are busy.
+ * <p>
+ * Like the {@link OtpRequestThreadFactory}, the log context of the caller is propagated to the
+ * tasks run in the pool. If the caller is interrupted (the request timed out) while waiting, the
+ * tasks still running are interrupted, and an {@link OTPRequestTimeoutException} is thrown.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ */
+public class OtpRequestExecutor {
+
+  @Nullable
+  private final ExecutorService threadPool;
+
+  private OtpRequestExecutor(@Nullable ExecutorService threadPool) {
+    this.threadPool = threadPool;
+  }
+
+  /**
+   * Create an executor with a fixed number of threads. If the size is zero, the number of
+   * available processors is used.
+   */
+  public static OtpRequestExecutor of(String nameFormat, int threadPoolSize) {
+    if (threadPoolSize < 0) {
+      throw new IllegalArgumentException("Negative thread pool size: " + threadPoolSize);
+    }
+    int nThreads = threadPoolSize == 0
+      ? Runtime.getRuntime().availableProcessors()
+      : threadPoolSize;
+    return new OtpRequestExecutor(
+      Executors.newFixedThreadPool(nThreads, OtpRequestThreadFactory.of(nameFormat))
+    );
+  }
+
+  /** Create an executor which runs all tasks in the calling thread, one after the other. */
+  public static OtpRequestExecutor sequential() {
+    return new OtpRequestExecutor(null);
+  }
+
+  /**
+   * Run the given tasks and wait for all of them to complete. If a task fails, the tasks still
+   * running are interrupted, and the exception is rethrown in the calling thread.
+   */
+  public void runAll(Runnable... tasks) {
+    if (threadPool == null || tasks.length < 2) {
+      for (Runnable task : tasks) {
+        task.run();
+      }
+      return;
+    }
+
+    var caller = Thread.currentThread();
+    List<FutureTask<Void>> futures = new ArrayList<>(tasks.length);
+    for (Runnable task : tasks) {
+      Runnable decorated = LogMDCSupport.isRequestTracingInLoggingEnabled()
+        ? new LogMDCRunnableDecorator(task)
+        : task;
+      // The MDC decorator clears the log context when done, so it must not be used in the caller
+      var future = new FutureTask<Void>(
+        () -> {
+          if (Thread.currentThread() == caller) {
+            task.run();
+          } else {
+            decorated.run();
+          }
+        },
+        null
+      );
+      futures.add(future);
+      threadPool.execute(future);
+    }
+
+    // Run the tasks not started by the pool, this is a no-op for tasks already started
+    for (FutureTask<Void> future : futures) {
+      future.run();
+    }
+
+    try {
+      for (FutureTask<Void> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      cancelAll(futures);
+      throw new OTPRequestTimeoutException();
+    } catch (ExecutionException e) {
+      cancelAll(futures);
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /** The thread pool, or {@code null} if the tasks are run in the calling thread. */
+  @Nullable
+  public ExecutorService threadPool() {
+    return threadPool;
+  }
+
+  public void shutdown() {
+    if (threadPool != null) {
+      threadPool.shutdown();
+    }
+  }
+
+  private static void cancelAll(List<FutureTask<Void>> futures) {
+    for (FutureTask<Void> future : futures) {
+      future.cancel(true);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package org.opentripplanner.framework.geometry;
+
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * A variant of the {@link HashGridSpatialIndex} for indexes which are updated while other threads
+ * query them, like the index of the edges added by realtime updaters. It uses the same grid.
+ * <p>
+ * Each bin is an immutable array, an update never modifies a bin, but replaces it with a copy
+ * (copy-on-write). The bins are kept in a {@link ConcurrentHashMap}, so queries never take a lock
+ * and always see a complete bin, and the cost of an update is proportional to the size of the
+ * bins it changes, not to the size of the index.
+ * <p>
+ * An update touching several bins is published one bin at a time. A concurrent query may find a
+ * new item in some bins but not in others, this does not matter since clients filter the result
+ * by location anyway.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ *
+ * @param <T> Type of objects to be spatial indexed.
+ */
+public class ConcurrentHashGridSpatialIndex<T> {
+
+  private static final Object[] EMPTY = new Object[0];
+
+  /* Size of bin in X and Y direction, in coordinates units. */
+  private final double xBinSize, yBinSize;
+
+  /* The bins, see HashGridSpatialIndex#forEachKey() for details on the key. */
+  private final ConcurrentHashMap<Long, Object[]> bins = new ConcurrentHashMap<>();
+
+  public ConcurrentHashGridSpatialIndex(double xBinSize, double yBinSize) {
+    if (xBinSize <= 0 || yBinSize <= 0) {
+      throw new IllegalStateException("bin size must be positive.");
+    }
+    this.xBinSize = xBinSize;
+    this.yBinSize = yBinSize;
+  }
+
+  /** Create a grid with the same dimensions as the default {@link HashGridSpatialIndex}. */
+  public ConcurrentHashGridSpatialIndex() {
+    this(HashGridSpatialIndex.DEFAULT_X_BIN_SIZE, HashGridSpatialIndex.DEFAULT_Y_BIN_SIZE);
+  }
+
+  public void insert(LineString geom, Object item) {
+    Coordinate[] coord = geom.getCoordinates();
+    final TLongSet keys = new TLongHashSet(coord.length * 8);
+    for (int i = 0; i < coord.length - 1; i++) {
+      Envelope env = new Envelope(coord[i], coord[i + 1]);
+      HashGridSpatialIndex.forEachKey(env, xBinSize, yBinSize, keys::add);
+    }
+    keys.forEach(key -> {
+      bins.merge(key, new Object[] { item }, ConcurrentHashGridSpatialIndex::append);
+      return true;
+    });
+  }
+
+  public boolean remove(Envelope envelope, Object item) {
+    final boolean[] removed = { false };
+    HashGridSpatialIndex.forEachKey(envelope, xBinSize, yBinSize, key -> {
+      bins.computeIfPresent(key, (k, bin) -> {
+        Object[] result = remove(bin, item);
+        if (result.length < bin.length) {
+          removed[0] = true;
+        }
+        return result.length == 0 ? null : result;
+      });
+    });
+    return removed[0];
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<T> query(Envelope envelope) {
+    final Set<T> ret = new HashSet<>();
+    HashGridSpatialIndex.forEachKey(envelope, xBinSize, yBinSize, key -> {
+      Object[] bin = bins.get(key);
+      if (bin != null) {
+        for (Object it : bin) {
+          ret.add((T) it);
+        }
+      }
+    });
+    return new ArrayList<>(ret);
+  }
+
+  /** The number of bins with at least one item. */
+  public int numberOfBins() {
+    return bins.size();
+  }
+
+  private static Object[] append(Object[] bin, Object[] items) {
+    Object[] result = Arrays.copyOf(bin, bin.length + items.length);
+    System.arraycopy(items, 0, result, bin.length, items.length);
+    return result;
+  }
+
+  /** Return a copy of the bin without the first occurrence of the item. */
+  private static Object[] remove(Object[] bin, Object item) {
+    for (int i = 0; i < bin.length; ++i) {
+      if (bin[i].equals(item)) {
+        if (bin.length == 1) {
+          return EMPTY;
+        }
+        Object[] result = new Object[bin.length - 1];
+        System.arraycopy(bin, 0, result, 0, i);
+        System.arraycopy(bin, i + 1, result, i, bin.length - i - 1);
+        return result;
+      }
+    }
+    return bin;
+  }
+}
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.function.LongConsumer;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.LineString;
@@ -39,11 +40,11 @@ public class HashGridSpatialIndex<T> implements SpatialIndex, Serializable {
 
   /* Computation done based on geographical coordinates. */
   // private static final double DEFAULT_Y_BIN_SIZE = 0.010; // ~1km
-  private static final double DEFAULT_Y_BIN_SIZE = 0.005; // ~500m
+  static final double DEFAULT_Y_BIN_SIZE = 0.005; // ~500m
 
   /* Computation done based on geographical coordinates at ~45 degree lat */
   // private static final double DEFAULT_X_BIN_SIZE = 0.007; // ~1km
-  private static final double DEFAULT_X_BIN_SIZE = 0.0035; // ~500m
+  static final double DEFAULT_X_BIN_SIZE = 0.0035; // ~500m
 
   /* Size of bin in X and Y direction, in coordinates units. */
   private final double xBinSize, yBinSize;
@@ -194,7 +195,7 @@ public class HashGridSpatialIndex<T> implements SpatialIndex, Serializable {
   }
 
   /** Clamp a coordinate to allowable lat/lon values */
-  private static Coordinate clamp(Coordinate coord) {
+  static Coordinate clamp(Coordinate coord) {
     if (Math.abs(coord.x) > 180 || Math.abs(coord.y) > 90) {
       LOG.warn(
         "Corner of envelope {} was invalid, clamping to valid range. Perhaps you're buffering something near a pole?",
@@ -229,6 +230,28 @@ public class HashGridSpatialIndex<T> implements SpatialIndex, Serializable {
    * @param binVisitor    The callback to call for each visited bin.
    */
   private void visit(Envelope envelope, boolean createIfEmpty, final BinVisitor<T> binVisitor) {
+    forEachKey(envelope, xBinSize, yBinSize, mapKey -> {
+      ArrayList<T> bin = bins.get(mapKey);
+      if (createIfEmpty && bin == null) {
+        bin = new ArrayList<>();
+        bins.put(mapKey, bin);
+        nBins++;
+      }
+      if (bin != null) {
+        boolean modified = binVisitor.visit(bin, mapKey);
+        if (modified && bin.isEmpty()) {
+          bins.remove(mapKey);
+          nBins--;
+        }
+      }
+    });
+  }
+
+  /**
+   * Call the action with the map key of each bin touching the envelope. This is shared with the
+   * {@link ConcurrentHashGridSpatialIndex}, so both use the same grid.
+   */
+  static void forEachKey(Envelope envelope, double xBinSize, double yBinSize, LongConsumer action) {
     Coordinate min = new Coordinate(envelope.getMinX(), envelope.getMinY());
     Coordinate max = new Coordinate(envelope.getMaxX(), envelope.getMaxY());
 
@@ -242,30 +265,21 @@ public class HashGridSpatialIndex<T> implements SpatialIndex, Serializable {
     long maxYKey = Math.round(max.y / yBinSize);
     for (long xKey = minXKey; xKey <= maxXKey; xKey++) {
       for (long yKey = minYKey; yKey <= maxYKey; yKey++) {
-        /*
-         * For all known use, the average absolute value of x/y keys will be rather small
-         * compared to Integer.MAX_VALUE. We need to swap the two words (MSB and LSB) of
-         * xKey in order to have a well-behaving long hash, fitting in an int, because the
-         * default implementation is: hashInt = (int)(value ^ (value >>> 32));
-         */
-        long mapKey = (yKey << 32) | ((xKey & 0xFFFF) << 16) | ((xKey >> 16) & 0xFFFF);
-        ArrayList<T> bin = bins.get(mapKey);
-        if (createIfEmpty && bin == null) {
-          bin = new ArrayList<>();
-          bins.put(mapKey, bin);
-          nBins++;
-        }
-        if (bin != null) {
-          boolean modified = binVisitor.visit(bin, mapKey);
-          if (modified && bin.isEmpty()) {
-            bins.remove(mapKey);
-            nBins--;
-          }
-        }
+        action.accept(mapKey(xKey, yKey));
       }
     }
   }
 
+  /**
+   * For all known use, the average absolute value of x/y keys will be rather small compared to
+   * Integer.MAX_VALUE. We need to swap the two words (MSB and LSB) of xKey in order to have a
+   * well-behaving long hash, fitting in an int, because the default implementation is:
+   * hashInt = (int)(value ^ (value >>> 32));
+   */
+  static long mapKey(long xKey, long yKey) {
+    return (yKey << 32) | ((xKey & 0xFFFF) << 16) | ((xKey >> 16) & 0xFFFF);
+  }
+
   private interface BinVisitor<T> {
     /**
      * Bin visitor callback.
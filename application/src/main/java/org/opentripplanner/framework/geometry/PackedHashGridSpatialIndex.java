@@ -0,0 +1,215 @@
+package org.opentripplanner.framework.geometry;
+
+import gnu.trove.list.array.TFloatArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntConsumer;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A read-only variant of the {@link HashGridSpatialIndex} for indexes which are built once and
+ * then only queried, like the index of street vertices and stops. It uses the same grid, but the
+ * bins are packed into primitive arrays:
+ * <ul>
+ *   <li>The keys of the non-empty bins are stored in a sorted {@code long[]}, the directory, and
+ *   a bin is found with a binary search.</li>
+ *   <li>The item ids of all bins are stored in one {@code int[]}, with one consecutive range for
+ *   each bin.</li>
+ *   <li>The envelope of each item is stored in a {@code float[]}, rounded outwards, so the
+ *   envelope is checked before the item is returned without touching the item itself.</li>
+ * </ul>
+ * An item is added to all bins touching its envelope. An item is reported only in the first bin
+ * the query and the item have in common, so each item is returned once without collecting the
+ * result in a set.
+ * <p>
+ * Use {@link #query(Envelope, IntConsumer)} to visit the ids of the matching items without
+ * allocating a result list.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE.
+ *
+ * @param <T> Type of objects to be spatial indexed.
+ */
+public class PackedHashGridSpatialIndex<T> {
+
+  private final double xBinSize, yBinSize;
+
+  /** The sorted keys of all non-empty bins, see {@link HashGridSpatialIndex#mapKey(long, long)}. */
+  private final long[] binKeys;
+
+  /** The items of bin {@code i} are in the range [binStart[i], binStart[i+1]) of {@link #ids}. */
+  private final int[] binStart;
+
+  private final int[] ids;
+
+  /** The envelope of item {@code id} is at [4 * id, 4 * id + 4): minX, minY, maxX, maxY. */
+  private final float[] envelopes;
+
+  /** The x and y key of the first bin of item {@code id} is at [2 * id, 2 * id + 2). */
+  private final int[] firstBin;
+
+  private final Object[] items;
+
+  private PackedHashGridSpatialIndex(Builder<T> builder) {
+    this.xBinSize = builder.xBinSize;
+    this.yBinSize = builder.yBinSize;
+    this.items = builder.items.toArray();
+    this.envelopes = builder.envelopes.toArray();
+    this.firstBin = builder.firstBin.toArray();
+
+    this.binKeys = builder.bins.keys();
+    Arrays.sort(binKeys);
+    this.binStart = new int[binKeys.length + 1];
+    var ids = new TIntArrayList(builder.nEntries);
+    for (int i = 0; i < binKeys.length; ++i) {
+      binStart[i] = ids.size();
+      ids.addAll(builder.bins.get(binKeys[i]));
+    }
+    binStart[binKeys.length] = ids.size();
+    this.ids = ids.toArray();
+  }
+
+  /** Create a builder with the same grid dimensions as the default {@link HashGridSpatialIndex}. */
+  public static <T> Builder<T> of() {
+    return new Builder<>(
+      HashGridSpatialIndex.DEFAULT_X_BIN_SIZE,
+      HashGridSpatialIndex.DEFAULT_Y_BIN_SIZE
+    );
+  }
+
+  public static <T> Builder<T> of(double xBinSize, double yBinSize) {
+    return new Builder<>(xBinSize, yBinSize);
+  }
+
+  /**
+   * Call the visitor with the id of each item whose envelope intersects the given envelope. Each
+   * id is visited once. Use {@link #item(int)} to get the item.
+   */
+  public void query(Envelope envelope, IntConsumer visitor) {
+    Coordinate min = HashGridSpatialIndex.clamp(
+      new Coordinate(envelope.getMinX(), envelope.getMinY())
+    );
+    Coordinate max = HashGridSpatialIndex.clamp(
+      new Coordinate(envelope.getMaxX(), envelope.getMaxY())
+    );
+    long minXKey = Math.round(min.x / xBinSize);
+    long maxXKey = Math.round(max.x / xBinSize);
+    long minYKey = Math.round(min.y / yBinSize);
+    long maxYKey = Math.round(max.y / yBinSize);
+
+    for (long xKey = minXKey; xKey <= maxXKey; xKey++) {
+      for (long yKey = minYKey; yKey <= maxYKey; yKey++) {
+        int bin = Arrays.binarySearch(binKeys, HashGridSpatialIndex.mapKey(xKey, yKey));
+        if (bin < 0) {
+          continue;
+        }
+        for (int i = binStart[bin]; i < binStart[bin + 1]; ++i) {
+          int id = ids[i];
+          // Skip the item if it is also in an earlier bin of this query
+          if (
+            xKey != Math.max(minXKey, firstBin[2 * id]) ||
+            yKey != Math.max(minYKey, firstBin[2 * id + 1])
+          ) {
+            continue;
+          }
+          if (intersects(id, envelope)) {
+            visitor.accept(id);
+          }
+        }
+      }
+    }
+  }
+
+  /** Return the items whose envelope intersects the given envelope. */
+  public List<T> query(Envelope envelope) {
+    List<T> result = new ArrayList<>();
+    query(envelope, id -> result.add(item(id)));
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T item(int id) {
+    return (T) items[id];
+  }
+
+  /** The number of items in the index. */
+  public int size() {
+    return items.length;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      Locale.ROOT,
+      "PackedHashGridSpatialIndex %f x %f, %d bins, %d objs, %d entries",
+      xBinSize,
+      yBinSize,
+      binKeys.length,
+      items.length,
+      ids.length
+    );
+  }
+
+  private boolean intersects(int id, Envelope envelope) {
+    int i = 4 * id;
+    return (
+      envelopes[i] <= envelope.getMaxX() &&
+      envelopes[i + 1] <= envelope.getMaxY() &&
+      envelopes[i + 2] >= envelope.getMinX() &&
+      envelopes[i + 3] >= envelope.getMinY()
+    );
+  }
+
+  public static class Builder<T> {
+
+    private final double xBinSize, yBinSize;
+    private final List<T> items = new ArrayList<>();
+    private final TFloatArrayList envelopes = new TFloatArrayList();
+    private final TIntArrayList firstBin = new TIntArrayList();
+    private final TLongObjectHashMap<TIntArrayList> bins = new TLongObjectHashMap<>();
+    private int nEntries = 0;
+
+    private Builder(double xBinSize, double yBinSize) {
+      if (xBinSize <= 0 || yBinSize <= 0) {
+        throw new IllegalStateException("bin size must be positive.");
+      }
+      this.xBinSize = xBinSize;
+      this.yBinSize = yBinSize;
+    }
+
+    public Builder<T> insert(Envelope envelope, T item) {
+      int id = items.size();
+      items.add(item);
+      // Round outwards, so the float envelope always contains the original envelope
+      envelopes.add(Math.nextDown((float) envelope.getMinX()));
+      envelopes.add(Math.nextDown((float) envelope.getMinY()));
+      envelopes.add(Math.nextUp((float) envelope.getMaxX()));
+      envelopes.add(Math.nextUp((float) envelope.getMaxY()));
+
+      Coordinate min = HashGridSpatialIndex.clamp(
+        new Coordinate(envelope.getMinX(), envelope.getMinY())
+      );
+      firstBin.add((int) Math.round(min.x / xBinSize));
+      firstBin.add((int) Math.round(min.y / yBinSize));
+
+      HashGridSpatialIndex.forEachKey(envelope, xBinSize, yBinSize, key -> {
+        var bin = bins.get(key);
+        if (bin == null) {
+          bin = new TIntArrayList(4);
+          bins.put(key, bin);
+        }
+        bin.add(id);
+        nEntries++;
+      });
+      return this;
+    }
+
+    public PackedHashGridSpatialIndex<T> build() {
+      return new PackedHashGridSpatialIndex<>(this);
+    }
+  }
+}
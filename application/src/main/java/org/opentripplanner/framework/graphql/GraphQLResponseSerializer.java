@@ -1,9 +1,12 @@
 package org.opentripplanner.framework.graphql;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import graphql.ExecutionResult;
 import graphql.execution.AbortExecutionException;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -18,6 +21,10 @@ import org.slf4j.LoggerFactory;
  * This class is responsible for serializing a GraphQL {@link ExecutionResult} into a String, which
  * can be returned as the body of the HTTP response. This differs from the mapper provided by {@link
  * JSONObjectMapperProvider}, by serializing all fields in the objects, including null fields.
+ * <p>
+ * Large results, like trip plans with many itineraries, should be written with
+ * {@link #streamingOutput(ExecutionResult)}. This writes the JSON directly to the HTTP output
+ * stream, without building the whole response as a String and then copying it into bytes.
  */
 public class GraphQLResponseSerializer {
 
@@ -25,6 +32,11 @@ public class GraphQLResponseSerializer {
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
 
+  /** The servlet container is responsible for closing the output stream, not the JSON writer. */
+  private static final ObjectWriter streamingWriter = objectMapper
+    .writer()
+    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
   public static String serialize(ExecutionResult executionResult) {
     try {
       return objectMapper.writeValueAsString(executionResult.toSpecification());
@@ -33,4 +45,14 @@ public class GraphQLResponseSerializer {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Return a response entity writing the result to the output stream, field by field. The
+   * specification map is created up front, so the execution result can be released before the
+   * response is written.
+   */
+  public static StreamingOutput streamingOutput(ExecutionResult executionResult) {
+    var specification = executionResult.toSpecification();
+    return output -> streamingWriter.writeValue(output, specification);
+  }
 }
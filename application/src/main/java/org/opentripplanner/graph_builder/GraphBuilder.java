@@ -163,6 +163,11 @@ public class GraphBuilder implements Runnable {
 
     if (loadStreetGraph || hasOsm) {
       graphBuilder.addModule(factory.graphCoherencyCheckerModule());
+      // The landmarks must be computed after all modules changing the street network
+      graphBuilder.addModuleOptional(factory.streetLandmarkModule());
+      if (hasTransitData) {
+        graphBuilder.addModuleOptional(factory.stopReachabilityModule());
+      }
     }
 
     if (OTPFeature.Co2Emissions.isOn()) {
@@ -1,7 +1,9 @@
 package org.opentripplanner.graph_builder.issues;
 
+import java.time.Duration;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssue;
 import org.opentripplanner.street.search.TraverseMode;
+import org.opentripplanner.utils.time.DurationUtils;
 
 public record GraphConnectivity(
   TraverseMode traverseMode,
@@ -10,11 +12,12 @@ public record GraphConnectivity(
   long stopIslandsChanged,
   long removed,
   long restricted,
-  long nothru
+  long nothru,
+  Duration duration
 )
   implements DataImportIssue {
   private static final String FMT =
-    "%s graph connectivity: found %d islands, %d islands with stops, modified %d islands with stops, removed %d isolated edges, removed traverse mode from %d edges, converted %d edges to no through traffic";
+    "%s graph connectivity: found %d islands, %d islands with stops, modified %d islands with stops, removed %d isolated edges, removed traverse mode from %d edges, converted %d edges to no through traffic in %s";
 
   @Override
   public String getMessage() {
@@ -26,7 +29,8 @@ public record GraphConnectivity(
       this.stopIslandsChanged,
       this.removed,
       this.restricted,
-      this.nothru
+      this.nothru,
+      DurationUtils.durationToStr(this.duration)
     );
   }
 }
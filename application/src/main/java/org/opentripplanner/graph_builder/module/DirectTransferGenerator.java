@@ -1,15 +1,15 @@
 package org.opentripplanner.graph_builder.module;
 
 import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimaps;
+import com.google.common.collect.Multimap;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueStore;
 import org.opentripplanner.graph_builder.issues.StopNotLinkedForTransfers;
@@ -82,14 +82,6 @@ public class DirectTransferGenerator implements GraphBuilderModule {
       stops.size()
     );
 
-    AtomicInteger nTransfersTotal = new AtomicInteger();
-    AtomicInteger nLinkedStops = new AtomicInteger();
-
-    // This is a synchronizedMultimap so that a parallel stream may be used to insert elements.
-    var transfersByStop = Multimaps.<StopLocation, PathTransfer>synchronizedMultimap(
-      HashMultimap.create()
-    );
-
     List<RouteRequest> flexTransferRequests = new ArrayList<>();
     // Flex transfer requests only use the WALK mode.
     if (OTPFeature.FlexRouting.isOn()) {
@@ -101,105 +93,34 @@ public class DirectTransferGenerator implements GraphBuilderModule {
       );
     }
 
-    stops
-      .stream()
-      .parallel()
-      .forEach(ts0 -> {
-        /* Make transfers to each nearby stop that has lowest weight on some trip pattern.
-         * Use map based on the list of edges, so that only distinct transfers are stored. */
-        Map<TransferKey, PathTransfer> distinctTransfers = new HashMap<>();
-        RegularStop stop = ts0.getStop();
-
-        if (stop.transfersNotAllowed()) {
-          return;
-        }
-
-        LOG.debug("Linking stop '{}' {}", stop, ts0);
-
-        // Calculate default transfers.
-        for (RouteRequest transferProfile : transferRequests) {
-          StreetMode mode = transferProfile.journey().transfer().mode();
-          for (NearbyStop sd : nearbyStopFinder.findNearbyStops(
-            ts0,
-            transferProfile,
-            transferProfile.journey().transfer(),
-            false
-          )) {
-            // Skip the origin stop, loop transfers are not needed.
-            if (sd.stop == stop) {
-              continue;
-            }
-            if (sd.stop.transfersNotAllowed()) {
-              continue;
-            }
-            TransferKey transferKey = new TransferKey(stop, sd.stop, sd.edges);
-            PathTransfer pathTransfer = distinctTransfers.get(transferKey);
-            if (pathTransfer == null) {
-              // If the PathTransfer can't be found, it is created.
-              distinctTransfers.put(
-                transferKey,
-                new PathTransfer(stop, sd.stop, sd.distance, sd.edges, EnumSet.of(mode))
-              );
-            } else {
-              // If the PathTransfer is found, a new PathTransfer with the added mode is created.
-              distinctTransfers.put(transferKey, pathTransfer.withAddedMode(mode));
-            }
-          }
-        }
-        // Calculate flex transfers if flex routing is enabled.
-        for (RouteRequest transferProfile : flexTransferRequests) {
-          // Flex transfer requests only use the WALK mode.
-          StreetMode mode = StreetMode.WALK;
-          // This code is for finding transfers from AreaStops to Stops, transfers
-          // from Stops to AreaStops and between Stops are already covered above.
-          for (NearbyStop sd : nearbyStopFinder.findNearbyStops(
-            ts0,
-            transferProfile,
-            transferProfile.journey().transfer(),
-            true
-          )) {
-            // Skip the origin stop, loop transfers are not needed.
-            if (sd.stop == stop) {
-              continue;
-            }
-            if (sd.stop instanceof RegularStop) {
-              continue;
-            }
-            // The TransferKey and PathTransfer are created differently for flex routing.
-            TransferKey transferKey = new TransferKey(sd.stop, stop, sd.edges);
-            PathTransfer pathTransfer = distinctTransfers.get(transferKey);
-            if (pathTransfer == null) {
-              // If the PathTransfer can't be found, it is created.
-              distinctTransfers.put(
-                transferKey,
-                new PathTransfer(sd.stop, stop, sd.distance, sd.edges, EnumSet.of(mode))
-              );
-            } else {
-              // If the PathTransfer is found, a new PathTransfer with the added mode is created.
-              distinctTransfers.put(transferKey, pathTransfer.withAddedMode(mode));
-            }
-          }
-        }
-
-        LOG.debug(
-          "Linked stop {} with {} transfers to stops with different patterns.",
-          stop,
-          distinctTransfers.size()
-        );
-        if (distinctTransfers.isEmpty()) {
-          issueStore.add(new StopNotLinkedForTransfers(ts0));
-        } else {
-          distinctTransfers
-            .values()
-            .forEach(transfer -> transfersByStop.put(transfer.from, transfer));
-          nLinkedStops.incrementAndGet();
-          nTransfersTotal.addAndGet(distinctTransfers.size());
-        }
-
+    // Each stop is processed independently and the transfers are returned, instead of inserted
+    // into a shared collection, so the parallel stream does not need any locking. The results are
+    // merged in the calling thread, the issue store is not thread-safe.
+    List<StopTransfers> transfersForStops = stops
+      .parallelStream()
+      .map(ts0 -> {
+        var result = findTransfers(ts0, nearbyStopFinder, flexTransferRequests);
         //Keep lambda! A method-ref would causes incorrect class and line number to be logged
         //noinspection Convert2MethodRef
         progress.step(m -> LOG.info(m));
-      });
+        return result;
+      })
+      .filter(Objects::nonNull)
+      .toList();
+
+    Multimap<StopLocation, PathTransfer> transfersByStop = HashMultimap.create();
+    int nTransfersTotal = 0;
+    int nLinkedStops = 0;
+
+    for (StopTransfers it : transfersForStops) {
+      if (it.transfers().isEmpty()) {
+        issueStore.add(new StopNotLinkedForTransfers(it.stop()));
+      } else {
+        it.transfers().forEach(transfer -> transfersByStop.put(transfer.from, transfer));
+        nLinkedStops++;
+        nTransfersTotal += it.transfers().size();
+      }
+    }
 
     timetableRepository.addAllTransfersByStops(transfersByStop);
 
@@ -222,6 +143,100 @@ public class DirectTransferGenerator implements GraphBuilderModule {
       );
   }
 
+  /**
+   * Find the transfers from the given stop, and the flex transfers to it. Returns {@code null} if
+   * transfers are not allowed from the stop. This is called from a parallel stream, so it must not
+   * modify any shared state.
+   */
+  private StopTransfers findTransfers(
+    TransitStopVertex ts0,
+    NearbyStopFinder nearbyStopFinder,
+    List<RouteRequest> flexTransferRequests
+  ) {
+    /* Make transfers to each nearby stop that has lowest weight on some trip pattern.
+     * Use map based on the list of edges, so that only distinct transfers are stored. */
+    Map<TransferKey, PathTransfer> distinctTransfers = new HashMap<>();
+    RegularStop stop = ts0.getStop();
+
+    if (stop.transfersNotAllowed()) {
+      return null;
+    }
+
+    LOG.debug("Linking stop '{}' {}", stop, ts0);
+
+    // Calculate default transfers.
+    for (RouteRequest transferProfile : transferRequests) {
+      StreetMode mode = transferProfile.journey().transfer().mode();
+      for (NearbyStop sd : nearbyStopFinder.findNearbyStops(
+        ts0,
+        transferProfile,
+        transferProfile.journey().transfer(),
+        false
+      )) {
+        // Skip the origin stop, loop transfers are not needed.
+        if (sd.stop == stop) {
+          continue;
+        }
+        if (sd.stop.transfersNotAllowed()) {
+          continue;
+        }
+        TransferKey transferKey = new TransferKey(stop, sd.stop, sd.edges);
+        PathTransfer pathTransfer = distinctTransfers.get(transferKey);
+        if (pathTransfer == null) {
+          // If the PathTransfer can't be found, it is created.
+          distinctTransfers.put(
+            transferKey,
+            new PathTransfer(stop, sd.stop, sd.distance, sd.edges, EnumSet.of(mode))
+          );
+        } else {
+          // If the PathTransfer is found, a new PathTransfer with the added mode is created.
+          distinctTransfers.put(transferKey, pathTransfer.withAddedMode(mode));
+        }
+      }
+    }
+    // Calculate flex transfers if flex routing is enabled.
+    for (RouteRequest transferProfile : flexTransferRequests) {
+      // Flex transfer requests only use the WALK mode.
+      StreetMode mode = StreetMode.WALK;
+      // This code is for finding transfers from AreaStops to Stops, transfers
+      // from Stops to AreaStops and between Stops are already covered above.
+      for (NearbyStop sd : nearbyStopFinder.findNearbyStops(
+        ts0,
+        transferProfile,
+        transferProfile.journey().transfer(),
+        true
+      )) {
+        // Skip the origin stop, loop transfers are not needed.
+        if (sd.stop == stop) {
+          continue;
+        }
+        if (sd.stop instanceof RegularStop) {
+          continue;
+        }
+        // The TransferKey and PathTransfer are created differently for flex routing.
+        TransferKey transferKey = new TransferKey(sd.stop, stop, sd.edges);
+        PathTransfer pathTransfer = distinctTransfers.get(transferKey);
+        if (pathTransfer == null) {
+          // If the PathTransfer can't be found, it is created.
+          distinctTransfers.put(
+            transferKey,
+            new PathTransfer(sd.stop, stop, sd.distance, sd.edges, EnumSet.of(mode))
+          );
+        } else {
+          // If the PathTransfer is found, a new PathTransfer with the added mode is created.
+          distinctTransfers.put(transferKey, pathTransfer.withAddedMode(mode));
+        }
+      }
+    }
+
+    LOG.debug(
+      "Linked stop {} with {} transfers to stops with different patterns.",
+      stop,
+      distinctTransfers.size()
+    );
+    return new StopTransfers(ts0, distinctTransfers.values());
+  }
+
   /**
    * Factory method for creating a NearbyStopFinder. Will create different finders depending on
    * whether the graph has a street network and if ConsiderPatternsForDirectTransfers feature is
@@ -248,4 +263,6 @@ public class DirectTransferGenerator implements GraphBuilderModule {
   }
 
   private record TransferKey(StopLocation source, StopLocation target, List<Edge> edges) {}
+
+  private record StopTransfers(TransitStopVertex stop, Collection<PathTransfer> transfers) {}
 }
@@ -0,0 +1,37 @@
+package org.opentripplanner.graph_builder.module;
+
+import org.opentripplanner.graph_builder.model.GraphBuilderModule;
+import org.opentripplanner.routing.graph.Graph;
+import org.opentripplanner.street.model.StopReachabilityIndex;
+import org.opentripplanner.street.model.StopReachabilityIndexBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compute the walk distance from each street vertex to the stops nearby, used to speed up the
+ * access/egress street search. See {@link StopReachabilityIndex}.
+ */
+public class StopReachabilityModule implements GraphBuilderModule {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StopReachabilityModule.class);
+
+  private final Graph graph;
+  private final int maxDistance;
+
+  public StopReachabilityModule(Graph graph, int maxDistance) {
+    this.graph = graph;
+    this.maxDistance = maxDistance;
+  }
+
+  @Override
+  public void buildGraph() {
+    LOG.info("Computing stop reachability index...");
+    var index = new StopReachabilityIndexBuilder(graph.getVertices(), maxDistance).build();
+    graph.setStopReachabilityIndex(index);
+    LOG.info(
+      "Done computing stop reachability index. {} stops for {} vertices.",
+      index.size(),
+      index.numberOfVertices()
+    );
+  }
+}
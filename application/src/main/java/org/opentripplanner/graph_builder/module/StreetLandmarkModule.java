@@ -0,0 +1,37 @@
+package org.opentripplanner.graph_builder.module;
+
+import org.opentripplanner.graph_builder.model.GraphBuilderModule;
+import org.opentripplanner.routing.graph.Graph;
+import org.opentripplanner.street.model.StreetLandmarks;
+import org.opentripplanner.street.model.StreetLandmarksBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compute the car travel times to and from a set of landmarks, used to speed up direct car
+ * searches. See {@link StreetLandmarks}.
+ */
+public class StreetLandmarkModule implements GraphBuilderModule {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StreetLandmarkModule.class);
+
+  private final Graph graph;
+  private final int nLandmarks;
+
+  public StreetLandmarkModule(Graph graph, int nLandmarks) {
+    this.graph = graph;
+    this.nLandmarks = nLandmarks;
+  }
+
+  @Override
+  public void buildGraph() {
+    LOG.info("Computing street landmarks...");
+    var landmarks = new StreetLandmarksBuilder(graph.getVertices(), nLandmarks).build();
+    graph.setStreetLandmarks(landmarks);
+    LOG.info(
+      "Done computing street landmarks. {} landmarks for {} vertices.",
+      landmarks.numberOfLandmarks(),
+      landmarks.numberOfVertices()
+    );
+  }
+}
@@ -56,43 +56,63 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
     this.issueStore = issueStore;
   }
 
+  /**
+   * Trips are validated and interpolated in parallel. Each trip only touches its own stop times, and
+   * the issues found are collected per trip and added to the issue store in the original trip order
+   * after all trips are processed, so the result is the same as running the trips one by one.
+   */
   public void run() {
     final int tripSize = stopTimesByTrip.size();
     var progress = ProgressTracker.track("Validate StopTimes", 100_000, tripSize);
     LOG.info(progress.startMessage());
 
-    for (Trip trip : stopTimesByTrip.keys()) {
-      // Fetch the stop times for this trip. Copy the list since it's immutable.
-      List<StopTime> stopTimes = new ArrayList<>(stopTimesByTrip.get(trip));
+    List<Trip> trips = new ArrayList<>(tripSize);
+    stopTimesByTrip.keys().forEach(trips::add);
 
-      // if we don't have flex routing enabled then remove all the flex locations and location
-      // groups
-      if (OTPFeature.FlexRouting.isOff()) {
-        stopTimes.removeIf(st -> !(st.getStop() instanceof RegularStop));
-      }
+    List<TripResult> results = trips
+      .parallelStream()
+      .map(trip -> {
+        var result = validateAndInterpolate(trip, stopTimesByTrip.get(trip));
+        //noinspection Convert2MethodRef
+        progress.step(m -> LOG.info(m));
+        return result;
+      })
+      .toList();
 
-      // Stop times frequently contain duplicate, missing, or incorrect entries. Repair them.
-      TIntList removedStopSequences = removeRepeatedStops(stopTimes);
-      if (!removedStopSequences.isEmpty()) {
-        issueStore.add(new RepeatedStops(trip, removedStopSequences));
-      }
-      if (!filterStopTimes(stopTimes)) {
-        stopTimesByTrip.replace(trip, List.of());
-      } else if (interpolate) {
-        interpolateStopTimes(stopTimes);
-        stopTimesByTrip.replace(trip, stopTimes);
-      } else {
-        stopTimes.removeIf(st -> !st.isArrivalTimeSet() || !st.isDepartureTimeSet());
-        stopTimesByTrip.replace(trip, stopTimes);
-      }
-
-      //noinspection Convert2MethodRef
-      progress.step(m -> LOG.info(m));
+    for (TripResult result : results) {
+      result.issues.forEach(issueStore::add);
+      stopTimesByTrip.replace(result.trip, result.stopTimes);
     }
 
     LOG.info(progress.completeMessage());
   }
 
+  private TripResult validateAndInterpolate(Trip trip, List<StopTime> tripStopTimes) {
+    // Copy the list since it's immutable.
+    List<StopTime> stopTimes = new ArrayList<>(tripStopTimes);
+    List<DataImportIssue> issues = new ArrayList<>();
+
+    // if we don't have flex routing enabled then remove all the flex locations and location
+    // groups
+    if (OTPFeature.FlexRouting.isOff()) {
+      stopTimes.removeIf(st -> !(st.getStop() instanceof RegularStop));
+    }
+
+    // Stop times frequently contain duplicate, missing, or incorrect entries. Repair them.
+    TIntList removedStopSequences = removeRepeatedStops(stopTimes);
+    if (!removedStopSequences.isEmpty()) {
+      issues.add(new RepeatedStops(trip, removedStopSequences));
+    }
+    if (!filterStopTimes(stopTimes, issues)) {
+      return new TripResult(trip, List.of(), issues);
+    } else if (interpolate) {
+      interpolateStopTimes(stopTimes);
+    } else {
+      stopTimes.removeIf(st -> !st.isArrivalTimeSet() || !st.isDepartureTimeSet());
+    }
+    return new TripResult(trip, stopTimes, issues);
+  }
+
   /**
    * Filter out any series of stop times that refer to the same stop. This is very inefficient in an
    * array-backed list, but we are assuming that this is a rare occurrence. The alternative is to
@@ -140,9 +160,10 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
    * are reported to reveal the problems to the user.
    *
    * @param stopTimes the stop times to be filtered (from a single trip)
+   * @param issues the list to add the issues found to
    * @return whether the stop time is usable
    */
-  private boolean filterStopTimes(List<StopTime> stopTimes) {
+  private boolean filterStopTimes(List<StopTime> stopTimes, List<DataImportIssue> issues) {
     if (stopTimes.size() < 2 && !FlexTrip.containsFlexStops(stopTimes)) {
       return false;
     }
@@ -180,13 +201,13 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
       }
       int dwellTime = st0.getDepartureTime() - st0.getArrivalTime();
       if (dwellTime < 0) {
-        issueStore.add(new NegativeDwellTime(st0));
+        issues.add(new NegativeDwellTime(st0));
         return false;
       }
 
       int runningTime = st1.getArrivalTime() - st0.getDepartureTime();
       if (runningTime < 0) {
-        issueStore.add(new NegativeHopTime(st0, st1));
+        issues.add(new NegativeHopTime(st0, st1));
         return false;
       }
 
@@ -197,7 +218,7 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
       double hopSpeed = hopDistance / runningTime;
 
       if (hopDistance == 0) {
-        issueStore.add(
+        issues.add(
           new HopZeroDistance(
             runningTime,
             st1.getTrip(),
@@ -211,7 +232,7 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
       if (runningTime == 0) {
         // identical stop times at different stops
         if (hopDistance > MIN_ZERO_TIME_HOP_DISTANCE_METERS) {
-          issueStore.add(
+          issues.add(
             new HopZeroTime(
               (float) hopDistance,
               st1.getTrip(),
@@ -222,7 +243,7 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
           );
         }
       } else if (hopSpeed > getMaxSpeedForMode(st0.getTrip().getMode())) {
-        issueStore.add(
+        issues.add(
           new HopSpeedFast(
             (float) hopSpeed,
             (float) hopDistance,
@@ -234,7 +255,7 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
         );
       } else if (hopSpeed < 0.3) {
         // 0.3 m/sec ~= 1 km/h
-        issueStore.add(
+        issues.add(
           new HopSpeedSlow(
             (float) hopSpeed,
             (float) hopDistance,
@@ -336,4 +357,6 @@ public class ValidateAndInterpolateStopTimesForEachTrip {
       }
     }
   }
+
+  private record TripResult(Trip trip, List<StopTime> stopTimes, List<DataImportIssue> issues) {}
 }
@@ -20,6 +20,8 @@ import org.opentripplanner.graph_builder.module.DirectTransferGenerator;
 import org.opentripplanner.graph_builder.module.GraphCoherencyCheckerModule;
 import org.opentripplanner.graph_builder.module.OsmBoardingLocationsModule;
 import org.opentripplanner.graph_builder.module.RouteToCentroidStationIdsValidator;
+import org.opentripplanner.graph_builder.module.StopReachabilityModule;
+import org.opentripplanner.graph_builder.module.StreetLandmarkModule;
 import org.opentripplanner.graph_builder.module.StreetLinkerModule;
 import org.opentripplanner.graph_builder.module.TimeZoneAdjusterModule;
 import org.opentripplanner.graph_builder.module.TripPatternNamer;
@@ -63,6 +65,12 @@ public interface GraphBuilderFactory {
   @Nullable
   RouteToCentroidStationIdsValidator routeToCentroidStationIdValidator();
 
+  @Nullable
+  StreetLandmarkModule streetLandmarkModule();
+
+  @Nullable
+  StopReachabilityModule stopReachabilityModule();
+
   @Nullable
   StopConsolidationModule stopConsolidationModule();
 
@@ -25,6 +25,8 @@ import org.opentripplanner.graph_builder.issue.report.DataImportIssueReporter;
 import org.opentripplanner.graph_builder.issue.service.DefaultDataImportIssueStore;
 import org.opentripplanner.graph_builder.module.DirectTransferGenerator;
 import org.opentripplanner.graph_builder.module.RouteToCentroidStationIdsValidator;
+import org.opentripplanner.graph_builder.module.StopReachabilityModule;
+import org.opentripplanner.graph_builder.module.StreetLandmarkModule;
 import org.opentripplanner.graph_builder.module.StreetLinkerModule;
 import org.opentripplanner.graph_builder.module.islandpruning.PruneIslands;
 import org.opentripplanner.graph_builder.module.ned.DegreeGridNEDTileSource;
@@ -335,6 +337,24 @@ public class GraphBuilderModules {
       : new RouteToCentroidStationIdsValidator(issueStore, ids, timetableRepository);
   }
 
+  @Provides
+  @Singleton
+  @Nullable
+  static StreetLandmarkModule streetLandmarkModule(BuildConfig config, Graph graph) {
+    return config.streetLandmarks > 0
+      ? new StreetLandmarkModule(graph, config.streetLandmarks)
+      : null;
+  }
+
+  @Provides
+  @Singleton
+  @Nullable
+  static StopReachabilityModule stopReachabilityModule(BuildConfig config, Graph graph) {
+    return config.maxStopReachabilityDistance > 0
+      ? new StopReachabilityModule(graph, config.maxStopReachabilityDistance)
+      : null;
+  }
+
   /* private methods */
 
   private static ElevationGridCoverageFactory createNedElevationFactory(
@@ -1,5 +1,6 @@
 package org.opentripplanner.graph_builder.module.islandpruning;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,6 +34,7 @@ import org.opentripplanner.street.search.TraverseMode;
 import org.opentripplanner.street.search.request.StreetSearchRequest;
 import org.opentripplanner.street.search.state.State;
 import org.opentripplanner.transit.service.TimetableRepository;
+import org.opentripplanner.utils.time.DurationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -170,6 +172,7 @@ public class PruneIslands implements GraphBuilderModule {
 
   private void pruneIslands(TraverseMode traverseMode) {
     LOG.debug("nothru pruning");
+    long startTime = System.currentTimeMillis();
     Map<Vertex, Subgraph> subgraphs = new HashMap<>();
     Map<Vertex, Subgraph> extgraphs = new HashMap<>();
     Map<Vertex, ArrayList<Vertex>> neighborsForVertex = new HashMap<>();
@@ -194,7 +197,7 @@ public class PruneIslands implements GraphBuilderModule {
     LOG.info("Islands when {} noThruTraffic is ignored: {}", traverseMode, count);
 
     /* collect unreachable edges to a map */
-    processIslands(islands, isolated, true, traverseMode);
+    processIslands(islands, isolated, true, traverseMode, startTime);
 
     extgraphs = new HashMap<>(); // let old map go
     islands = new ArrayList<>(); // reset this too
@@ -211,15 +214,21 @@ public class PruneIslands implements GraphBuilderModule {
 
     LOG.info("Total {} sub graphs found", islands.size());
 
-    count = processIslands(islands, isolated, false, traverseMode);
-    LOG.info("Modified {} islands", count);
+    count = processIslands(islands, isolated, false, traverseMode, startTime);
+    LOG.info(
+      "Modified {} islands, {} pruning took {}",
+      count,
+      traverseMode,
+      DurationUtils.durationToStr(Duration.ofMillis(System.currentTimeMillis() - startTime))
+    );
   }
 
   private int processIslands(
     ArrayList<Subgraph> islands,
     Map<Edge, Boolean> isolated,
     boolean markIsolated,
-    TraverseMode traverseMode
+    TraverseMode traverseMode,
+    long startTime
   ) {
     Map<String, Integer> stats = new HashMap<>();
 
@@ -281,7 +290,12 @@ public class PruneIslands implements GraphBuilderModule {
       }
     }
     if (markIsolated) {
-      LOG.info("Detected {} isolated edges", stats.get("isolated"));
+      LOG.info(
+        "Detected {} isolated edges, {} pruning time so far {}",
+        stats.get("isolated"),
+        traverseMode,
+        DurationUtils.durationToStr(Duration.ofMillis(System.currentTimeMillis() - startTime))
+      );
     } else {
       LOG.info("Number of islands with stops: {}", islandsWithStops);
       LOG.warn("Modified connectivity of {} islands with stops", islandsWithStopsChanged);
@@ -296,7 +310,8 @@ public class PruneIslands implements GraphBuilderModule {
           islandsWithStopsChanged,
           stats.get("removed"),
           stats.get("restricted"),
-          stats.get("noThru")
+          stats.get("noThru"),
+          Duration.ofMillis(System.currentTimeMillis() - startTime)
         )
       );
     }
@@ -318,35 +333,59 @@ public class PruneIslands implements GraphBuilderModule {
 
     StreetSearchRequest request = StreetSearchRequest.of().withMode(streetMode).build();
 
-    for (Vertex gv : graph.getVertices()) {
-      if (!(gv instanceof StreetVertex)) {
+    List<Vertex> streetVertices = graph
+      .getVertices()
+      .stream()
+      .filter(StreetVertex.class::isInstance)
+      .toList();
+
+    // Traversing the edges is the expensive part, so it is done in parallel. The neighbours are
+    // added to the map in vertex order in the calling thread, so the neighbour lists and the
+    // islands found are the same as for a sequential traversal.
+    List<List<Vertex>> reachableVertices = streetVertices
+      .parallelStream()
+      .map(gv -> findReachableVertices(gv, request, traverseMode, shouldMatchNoThruType))
+      .toList();
+
+    for (int i = 0; i < streetVertices.size(); ++i) {
+      Vertex gv = streetVertices.get(i);
+      for (Vertex out : reachableVertices.get(i)) {
+        var vertexList = neighborsForVertex.computeIfAbsent(gv, k -> new ArrayList<>());
+        vertexList.add(out);
+
+        // note: this assumes that edges are bi-directional. Maybe explicit state traversal is needed for CAR mode.
+        vertexList = neighborsForVertex.computeIfAbsent(out, k -> new ArrayList<>());
+        vertexList.add(gv);
+      }
+    }
+  }
+
+  /**
+   * Return the vertices reached by traversing the outgoing edges of the given vertex. This does not
+   * modify the graph, and is safe to call from several threads.
+   */
+  private static List<Vertex> findReachableVertices(
+    Vertex gv,
+    StreetSearchRequest request,
+    TraverseMode traverseMode,
+    boolean shouldMatchNoThruType
+  ) {
+    List<Vertex> result = new ArrayList<>();
+    State s0 = new State(gv, request);
+    for (Edge e : gv.getOutgoing()) {
+      if (
+        e instanceof StreetEdge &&
+        shouldMatchNoThruType != ((StreetEdge) e).isNoThruTraffic(traverseMode)
+      ) {
         continue;
       }
-      State s0 = new State(gv, request);
-      for (Edge e : gv.getOutgoing()) {
-        if (
-          e instanceof StreetEdge &&
-          shouldMatchNoThruType != ((StreetEdge) e).isNoThruTraffic(traverseMode)
-        ) {
-          continue;
-        }
-        State[] states = e.traverse(s0);
-        if (State.isEmpty(states)) {
-          continue;
-        }
-        Arrays
-          .stream(states)
-          .map(State::getVertex)
-          .forEach(out -> {
-            var vertexList = neighborsForVertex.computeIfAbsent(gv, k -> new ArrayList<>());
-            vertexList.add(out);
-
-            // note: this assumes that edges are bi-directional. Maybe explicit state traversal is needed for CAR mode.
-            vertexList = neighborsForVertex.computeIfAbsent(out, k -> new ArrayList<>());
-            vertexList.add(gv);
-          });
+      State[] states = e.traverse(s0);
+      if (State.isEmpty(states)) {
+        continue;
       }
+      Arrays.stream(states).map(State::getVertex).forEach(result::add);
     }
+    return result;
   }
 
   private int collectSubGraphs(
@@ -8,9 +8,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import org.opentripplanner.astar.model.ShortestPathTree;
+import org.opentripplanner.astar.spi.SearchTerminationStrategy;
 import org.opentripplanner.astar.strategy.DurationSkipEdgeStrategy;
 import org.opentripplanner.astar.strategy.MaxCountTerminationStrategy;
 import org.opentripplanner.ext.dataoverlay.routing.DataOverlayContext;
@@ -20,6 +23,7 @@ import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.StreetMode;
 import org.opentripplanner.routing.api.request.request.StreetRequest;
 import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.street.model.StopReachabilityIndex;
 import org.opentripplanner.street.model.edge.Edge;
 import org.opentripplanner.street.model.edge.StreetEdge;
 import org.opentripplanner.street.model.vertex.StreetVertex;
@@ -39,6 +43,9 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
   private final DataOverlayContext dataOverlayContext;
   private final Set<Vertex> ignoreVertices;
 
+  @Nullable
+  private final StopReachabilityIndex stopReachabilityIndex;
+
   /**
    * Construct a NearbyStopFinder for the given graph and search radius.
    *
@@ -65,11 +72,28 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
     int maxStopCount,
     DataOverlayContext dataOverlayContext,
     Set<Vertex> ignoreVertices
+  ) {
+    this(durationLimit, maxStopCount, dataOverlayContext, ignoreVertices, null);
+  }
+
+  /**
+   * Construct a NearbyStopFinder for the given graph and search radius.
+   *
+   * @param stopReachabilityIndex Used to terminate the search when all stops within the duration
+   *                              limit are found, the search is not limited if null.
+   */
+  public StreetNearbyStopFinder(
+    Duration durationLimit,
+    int maxStopCount,
+    DataOverlayContext dataOverlayContext,
+    Set<Vertex> ignoreVertices,
+    @Nullable StopReachabilityIndex stopReachabilityIndex
   ) {
     this.dataOverlayContext = dataOverlayContext;
     this.durationLimit = durationLimit;
     this.maxStopCount = maxStopCount;
     this.ignoreVertices = ignoreVertices;
+    this.stopReachabilityIndex = stopReachabilityIndex;
   }
 
   /**
@@ -100,6 +124,20 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
     RouteRequest request,
     StreetRequest streetRequest,
     boolean reverseDirection
+  ) {
+    return search(originVertices, request, streetRequest, reverseDirection).stops();
+  }
+
+  /**
+   * Same as {@link #findNearbyStops(Set, RouteRequest, StreetRequest, boolean)}, but also report
+   * if the street search completed. A search aborted by the street routing timeout returns the
+   * stops found so far.
+   */
+  public SearchResult search(
+    Set<Vertex> originVertices,
+    RouteRequest request,
+    StreetRequest streetRequest,
+    boolean reverseDirection
   ) {
     OTPRequestTimeoutException.checkForTimeout();
 
@@ -115,7 +153,11 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
       streetRequest.mode() == StreetMode.NOT_SET ||
       (maxStopCount > 0 && stopsFound.size() >= maxStopCount)
     ) {
-      return stopsFound;
+      return new SearchResult(stopsFound, true);
+    }
+    Set<Vertex> reachableStops = findReachableStops(originVertices, request, streetRequest);
+    if (reachableStops != null && reachableStops.isEmpty()) {
+      return new SearchResult(stopsFound, true);
     }
     stopsFound = new ArrayList<>(stopsFound);
 
@@ -130,10 +172,9 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
       .setTo(reverseDirection ? originVertices : null)
       .setDataOverlayContext(dataOverlayContext);
 
-    if (maxStopCount > 0) {
-      streetSearch.setTerminationStrategy(
-        new MaxCountTerminationStrategy<>(maxStopCount, this::hasReachedStop)
-      );
+    var terminationStrategy = createTerminationStrategy(reachableStops);
+    if (terminationStrategy != null) {
+      streetSearch.setTerminationStrategy(terminationStrategy);
     }
 
     ShortestPathTree<State, Edge, Vertex> spt = streetSearch.getShortestPathTree();
@@ -186,7 +227,61 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
       }
     }
 
-    return stopsFound;
+    return new SearchResult(stopsFound, spt == null || !spt.isAborted());
+  }
+
+  /**
+   * Find the stops which may be reached within the duration limit using the precomputed index.
+   * Returns {@code null} if the index does not exist or can not be used for this search. The
+   * index does not contain flex area stops, and the distance is a walk distance.
+   */
+  @Nullable
+  private Set<Vertex> findReachableStops(
+    Set<Vertex> originVertices,
+    RouteRequest request,
+    StreetRequest streetRequest
+  ) {
+    if (
+      stopReachabilityIndex == null ||
+      streetRequest.mode() != StreetMode.WALK ||
+      dataOverlayContext != null ||
+      OTPFeature.FlexRouting.isOn()
+    ) {
+      return null;
+    }
+    double maxDistance = durationLimit.toSeconds() * request.preferences().walk().speed();
+    var stops = stopReachabilityIndex.findStops(originVertices, maxDistance);
+    if (stops == null) {
+      return null;
+    }
+    var result = new HashSet<Vertex>(stops);
+    result.removeAll(originVertices);
+    result.removeAll(ignoreVertices);
+    return result;
+  }
+
+  /**
+   * Terminate the search when the max number of stops is found, or when all the stops which may
+   * be reached within the duration limit are found. The index only contains stops which may be
+   * reached, so the stops within the duration limit are the same as with a full search.
+   */
+  @Nullable
+  private SearchTerminationStrategy<State> createTerminationStrategy(
+    @Nullable Set<Vertex> reachableStops
+  ) {
+    SearchTerminationStrategy<State> maxCount = maxStopCount > 0
+      ? new MaxCountTerminationStrategy<>(maxStopCount, this::hasReachedStop)
+      : null;
+    if (reachableStops == null) {
+      return maxCount;
+    }
+    return state -> {
+      if (hasReachedStop(state)) {
+        reachableStops.remove(state.getVertex());
+      }
+      boolean maxCountReached = maxCount != null && maxCount.shouldSearchTerminate(state);
+      return maxCountReached || reachableStops.isEmpty();
+    };
   }
 
   private boolean canBoardFlex(State state, boolean reverse) {
@@ -217,4 +312,12 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
       vertex instanceof TransitStopVertex && state.isFinal() && !ignoreVertices.contains(vertex)
     );
   }
+
+  /**
+   * The stops found by a street search.
+   *
+   * @param complete false if the street search was aborted before it completed, the stops are
+   *                 then only the stops found before the search was aborted.
+   */
+  public record SearchResult(List<NearbyStop> stops, boolean complete) {}
 }
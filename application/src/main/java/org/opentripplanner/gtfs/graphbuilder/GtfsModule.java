@@ -2,15 +2,22 @@ package org.opentripplanner.gtfs.graphbuilder;
 
 import static org.opentripplanner.utils.color.ColorUtils.computeBrightness;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Color;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.onebusaway.csv_entities.EntityHandler;
 import org.onebusaway.gtfs.impl.GtfsRelationalDaoImpl;
 import org.onebusaway.gtfs.model.Agency;
@@ -72,7 +79,15 @@ public class GtfsModule implements GraphBuilderModule {
   );
 
   private static final Logger LOG = LoggerFactory.getLogger(GtfsModule.class);
-  private final EntityHandler counter = new EntityCounter();
+
+  /**
+   * The maximum number of feeds read ahead of the feed currently being mapped. Reading a feed is
+   * done in parallel, while mapping into the transit model is done in feed order. This limits the
+   * number of feeds kept in memory at the same time. A fully loaded feed can be large, so this
+   * is kept small and does not depend on the number of processors.
+   */
+  private static final int MAX_FEEDS_READ_AHEAD = 2;
+
   private final Set<String> agencyIdsSeen = new HashSet<>();
   /**
    * @see BuildConfig#transitServiceStart
@@ -127,9 +142,23 @@ public class GtfsModule implements GraphBuilderModule {
 
     Map<String, GtfsBundle> feedIdsEncountered = new HashMap<>();
 
+    ExecutorService readerPool = Executors.newFixedThreadPool(
+      Math.max(1, Math.min(MAX_FEEDS_READ_AHEAD, gtfsBundles.size())),
+      new ThreadFactoryBuilder().setNameFormat("gtfs-reader-%d").build()
+    );
+    List<Future<GtfsMutableRelationalDao>> daos = new ArrayList<>(gtfsBundles.size());
+
     try {
-      for (GtfsBundle gtfsBundle : gtfsBundles) {
-        GtfsMutableRelationalDao gtfsDao = loadBundle(gtfsBundle);
+      for (int i = 0; i < gtfsBundles.size(); ++i) {
+        GtfsBundle gtfsBundle = gtfsBundles.get(i);
+
+        // Keep the reader pool busy, the bundles are read in parallel, but mapped in feed order
+        while (daos.size() < gtfsBundles.size() && daos.size() < i + MAX_FEEDS_READ_AHEAD) {
+          daos.add(readBundleAsync(gtfsBundles.get(daos.size()), readerPool));
+        }
+        GtfsMutableRelationalDao gtfsDao = daos.get(i).get();
+        // Release the dao for garbage collection when the feed is mapped
+        daos.set(i, null);
 
         final String feedId = gtfsBundle.getFeedId().getId();
         verifyUniqueFeedId(gtfsBundle, feedIdsEncountered, feedId);
@@ -205,7 +234,13 @@ public class GtfsModule implements GraphBuilderModule {
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
     } finally {
+      shutdownReaderPool(readerPool);
       // Note the close method of each bundle should NOT throw an exception, so this
       // code should be safe without the try/catch block.
       gtfsBundles.forEach(GtfsBundle::close);
@@ -216,6 +251,22 @@ public class GtfsModule implements GraphBuilderModule {
     timetableRepository.updateCalendarServiceData(hasTransit, calendarServiceData, issueStore);
   }
 
+  /**
+   * Cancel the bundles which are not read yet, and wait for the readers to finish. A bundle must
+   * not be closed while it is read.
+   */
+  private static void shutdownReaderPool(ExecutorService readerPool) {
+    readerPool.shutdownNow();
+    try {
+      if (!readerPool.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.warn("Timeout waiting for the GTFS readers to finish.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while waiting for the GTFS readers to finish.");
+    }
+  }
+
   /**
    * Verifies that a feed id is not assigned twice.
    * <p>
@@ -309,22 +360,79 @@ public class GtfsModule implements GraphBuilderModule {
     );
   }
 
-  private GtfsMutableRelationalDao loadBundle(GtfsBundle gtfsBundle) throws IOException {
+  /**
+   * Read the given bundle using the reader pool. The agencies are read in the calling thread before
+   * the rest of the feed is read in parallel. This makes sure conflicting agency ids are resolved
+   * in the same order as the bundles are listed, independent of the thread scheduling.
+   */
+  private Future<GtfsMutableRelationalDao> readBundleAsync(
+    GtfsBundle gtfsBundle,
+    ExecutorService readerPool
+  ) throws IOException {
     StoreImpl store = new StoreImpl(new GtfsRelationalDaoImpl());
     store.open();
     LOG.info("reading {}", gtfsBundle.toString());
 
-    GtfsFeedId gtfsFeedId = gtfsBundle.getFeedId();
-
     GtfsReader reader = new GtfsReader();
     reader.setInputSource(gtfsBundle.getCsvInputSource());
     reader.setEntityStore(store);
     reader.setInternStrings(true);
-    reader.setDefaultAgencyId(gtfsFeedId.getId());
+    reader.setDefaultAgencyId(gtfsBundle.getFeedId().getId());
 
-    if (LOG.isDebugEnabled()) reader.addEntityHandler(counter);
+    if (LOG.isDebugEnabled()) reader.addEntityHandler(new EntityCounter());
 
+    readAgencies(gtfsBundle.getFeedId(), reader, store);
+
+    return readerPool.submit(() -> loadBundle(reader, store));
+  }
+
+  /**
+   * NOTE that agencies are first in the list and read before all other entity types, so it is
+   * effective to set the agencyId here. Each feed ("bundle") is loaded by a separate reader, so
+   * there is no risk of agency mappings accumulating.
+   */
+  private void readAgencies(GtfsFeedId gtfsFeedId, GtfsReader reader, StoreImpl store)
+    throws IOException {
+    LOG.info("Reading entity: {}", Agency.class.getName());
+    reader.readEntities(Agency.class);
+    store.flush();
+
+    for (Agency agency : reader.getAgencies()) {
+      String agencyId = agency.getId();
+      LOG.info("This Agency has the ID {}", agencyId);
+      // Somehow, when the agency's id field is missing, OBA replaces it with the agency's name.
+      // TODO Figure out how and why this is happening.
+      if (agencyId == null || agencyIdsSeen.contains(gtfsFeedId.getId() + agencyId)) {
+        // Loop in case generated name is already in use.
+        String generatedAgencyId = null;
+        while (generatedAgencyId == null || agencyIdsSeen.contains(generatedAgencyId)) {
+          generatedAgencyId = "F" + nextAgencyId;
+          nextAgencyId++;
+        }
+        LOG.warn(
+          "The agency ID '{}' was already seen, or I think it's bad. Replacing with '{}'.",
+          agencyId,
+          generatedAgencyId
+        );
+        reader.addAgencyIdMapping(agencyId, generatedAgencyId); // NULL key should work
+        agency.setId(generatedAgencyId);
+        agencyId = generatedAgencyId;
+      }
+      if (agencyId != null) agencyIdsSeen.add(gtfsFeedId.getId() + agencyId);
+    }
+  }
+
+  /**
+   * Read all entities except the agencies, which must be read before this method is called. This
+   * method only access the given reader and store, so it is safe to call it in parallel for
+   * different bundles.
+   */
+  private GtfsMutableRelationalDao loadBundle(GtfsReader reader, StoreImpl store)
+    throws IOException {
     for (Class<?> entityClass : reader.getEntityClasses()) {
+      if (entityClass == Agency.class) {
+        continue;
+      }
       if (skipEntityClass(entityClass)) {
         LOG.info("Skipping entity: {}", entityClass.getName());
         continue;
@@ -332,34 +440,6 @@ public class GtfsModule implements GraphBuilderModule {
       LOG.info("Reading entity: {}", entityClass.getName());
       reader.readEntities(entityClass);
       store.flush();
-      // NOTE that agencies are first in the list and read before all other entity types, so it is effective to
-      // set the agencyId here. Each feed ("bundle") is loaded by a separate reader, so there is no risk of
-      // agency mappings accumulating.
-      if (entityClass == Agency.class) {
-        for (Agency agency : reader.getAgencies()) {
-          String agencyId = agency.getId();
-          LOG.info("This Agency has the ID {}", agencyId);
-          // Somehow, when the agency's id field is missing, OBA replaces it with the agency's name.
-          // TODO Figure out how and why this is happening.
-          if (agencyId == null || agencyIdsSeen.contains(gtfsFeedId.getId() + agencyId)) {
-            // Loop in case generated name is already in use.
-            String generatedAgencyId = null;
-            while (generatedAgencyId == null || agencyIdsSeen.contains(generatedAgencyId)) {
-              generatedAgencyId = "F" + nextAgencyId;
-              nextAgencyId++;
-            }
-            LOG.warn(
-              "The agency ID '{}' was already seen, or I think it's bad. Replacing with '{}'.",
-              agencyId,
-              generatedAgencyId
-            );
-            reader.addAgencyIdMapping(agencyId, generatedAgencyId); // NULL key should work
-            agency.setId(generatedAgencyId);
-            agencyId = generatedAgencyId;
-          }
-          if (agencyId != null) agencyIdsSeen.add(gtfsFeedId.getId() + agencyId);
-        }
-      }
     }
 
     for (ShapePoint shapePoint : store.getAllEntitiesForType(ShapePoint.class)) {
@@ -62,6 +62,13 @@ public class Timetable implements Serializable {
   @Nullable
   private final LocalDate serviceDate;
 
+  /**
+   * The index is created on first use. A timetable is not modified after it is created, and a
+   * real-time update replaces the timetable in the snapshot, so the index is never out of date.
+   */
+  @Nullable
+  private transient volatile TimetableStopTimesIndex stopTimesIndex;
+
   Timetable(TimetableBuilder timetableBuilder) {
     this.pattern = timetableBuilder.getPattern();
     this.serviceDate = timetableBuilder.getServiceDate();
@@ -406,6 +413,20 @@ public class Timetable implements Serializable {
     return tripTimes;
   }
 
+  /**
+   * Return the trip times of this timetable sorted by arrival and departure time for each stop
+   * position. Use {@link #getTripTimes(int)} to look up the trip times for an index entry.
+   */
+  public TimetableStopTimesIndex getStopTimesIndex() {
+    var index = stopTimesIndex;
+    if (index == null) {
+      // Creating the index is idempotent, so we do not need to synchronize this
+      index = TimetableStopTimesIndex.of(tripTimes);
+      stopTimesIndex = index;
+    }
+    return index;
+  }
+
   /**
    * Contains one FrequencyEntry object for each block of frequency-based trips.
    */
@@ -0,0 +1,155 @@
+package org.opentripplanner.model;
+
+import java.util.Arrays;
+import java.util.List;
+import org.opentripplanner.transit.model.timetable.TripTimes;
+
+/**
+ * An index of the trips in a {@link Timetable} sorted by arrival and departure time at each stop
+ * position in the pattern. The index only stores primitive times and the index of the trip times
+ * in the timetable, so it is compact and cheap to scan. This is used to look up departures and
+ * arrivals for departure boards without visiting every trip in the timetable.
+ * <p>
+ * The trip times are sorted for each stop position, because real-time updates may cause trips to
+ * overtake each other.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE. A timetable is never modified after it is created, a
+ * real-time update creates a new timetable, so the index is never out of date.
+ */
+public final class TimetableStopTimesIndex {
+
+  private static final TimetableStopTimesIndex EMPTY = new TimetableStopTimesIndex(
+    new int[0][],
+    new int[0][],
+    new int[0][],
+    new int[0][]
+  );
+
+  private final int[][] arrivalTimes;
+  private final int[][] arrivalTripIndexes;
+  private final int[][] departureTimes;
+  private final int[][] departureTripIndexes;
+
+  private TimetableStopTimesIndex(
+    int[][] arrivalTimes,
+    int[][] arrivalTripIndexes,
+    int[][] departureTimes,
+    int[][] departureTripIndexes
+  ) {
+    this.arrivalTimes = arrivalTimes;
+    this.arrivalTripIndexes = arrivalTripIndexes;
+    this.departureTimes = departureTimes;
+    this.departureTripIndexes = departureTripIndexes;
+  }
+
+  static TimetableStopTimesIndex of(List<TripTimes> tripTimes) {
+    if (tripTimes.isEmpty()) {
+      return EMPTY;
+    }
+    int nStops = tripTimes.get(0).getNumStops();
+    int nTrips = tripTimes.size();
+
+    int[][] arrivalTimes = new int[nStops][nTrips];
+    int[][] arrivalTripIndexes = new int[nStops][nTrips];
+    int[][] departureTimes = new int[nStops][nTrips];
+    int[][] departureTripIndexes = new int[nStops][nTrips];
+
+    // Time and trip index are packed into one long, so the sort is done on primitives. The trip
+    // index is used as a tiebreaker, this keep the timetable order for trips with the same time.
+    long[] buffer = new long[nTrips];
+
+    for (int stopPos = 0; stopPos < nStops; ++stopPos) {
+      for (int i = 0; i < nTrips; ++i) {
+        buffer[i] = pack(tripTimes.get(i).getArrivalTime(stopPos), i);
+      }
+      unpackSorted(buffer, arrivalTimes[stopPos], arrivalTripIndexes[stopPos]);
+
+      for (int i = 0; i < nTrips; ++i) {
+        buffer[i] = pack(tripTimes.get(i).getDepartureTime(stopPos), i);
+      }
+      unpackSorted(buffer, departureTimes[stopPos], departureTripIndexes[stopPos]);
+    }
+    return new TimetableStopTimesIndex(
+      arrivalTimes,
+      arrivalTripIndexes,
+      departureTimes,
+      departureTripIndexes
+    );
+  }
+
+  /**
+   * The number of trips in the index, this is the same for all stop positions.
+   */
+  public int numberOfTrips() {
+    return departureTimes.length == 0 ? 0 : departureTimes[0].length;
+  }
+
+  /**
+   * Find the position in the departure index of the first departure at or after the given time.
+   * Returns {@link #numberOfTrips()} if no such departure exists.
+   */
+  public int findFirstDeparture(int stopPos, int time) {
+    return lowerBound(departureTimes[stopPos], time);
+  }
+
+  public int departureTime(int stopPos, int index) {
+    return departureTimes[stopPos][index];
+  }
+
+  /**
+   * The index of the {@link TripTimes} in the timetable for the given position in the departure
+   * index.
+   */
+  public int departureTripIndex(int stopPos, int index) {
+    return departureTripIndexes[stopPos][index];
+  }
+
+  /**
+   * Find the position in the arrival index of the first arrival at or after the given time.
+   * Returns {@link #numberOfTrips()} if no such arrival exists.
+   */
+  public int findFirstArrival(int stopPos, int time) {
+    return lowerBound(arrivalTimes[stopPos], time);
+  }
+
+  public int arrivalTime(int stopPos, int index) {
+    return arrivalTimes[stopPos][index];
+  }
+
+  /**
+   * The index of the {@link TripTimes} in the timetable for the given position in the arrival
+   * index.
+   */
+  public int arrivalTripIndex(int stopPos, int index) {
+    return arrivalTripIndexes[stopPos][index];
+  }
+
+  private static long pack(int time, int tripIndex) {
+    return ((long) time << 32) | tripIndex;
+  }
+
+  private static void unpackSorted(long[] buffer, int[] times, int[] tripIndexes) {
+    Arrays.sort(buffer);
+    for (int i = 0; i < buffer.length; ++i) {
+      times[i] = (int) (buffer[i] >> 32);
+      tripIndexes[i] = (int) buffer[i];
+    }
+  }
+
+  /**
+   * Return the index of the first element greater than or equal to the given value.
+   */
+  private static int lowerBound(int[] values, int value) {
+    int low = 0;
+    int high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -9,8 +9,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import javax.annotation.Nullable;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
@@ -67,12 +65,23 @@ public class RoutingWorker {
   private final ZonedDateTime transitSearchTimeZero;
   private final AdditionalSearchDays additionalSearchDays;
   private final TransitGroupPriorityService transitGroupPriorityService;
+
+  /**
+   * The transit search is degraded when this deadline has passed, {@code null} if the request has
+   * no search time budget.
+   */
+  @Nullable
+  private final Instant searchDeadline;
+
   private SearchParams raptorSearchParamsUsed = null;
+  private boolean searchWindowTruncated = false;
   private PageCursorInput pageCursorInput = null;
 
   public RoutingWorker(OtpServerRequestContext serverContext, RouteRequest request, ZoneId zoneId) {
     request.applyPageCursor();
-    this.request = request;
+    this.searchDeadline = createSearchDeadline(request);
+    this.request =
+      searchDeadline == null ? request : request.copyWithSearchDeadline(searchDeadline);
     this.serverContext = serverContext;
     this.debugTimingAggregator =
       new DebugTimingAggregator(
@@ -107,19 +116,13 @@ public class RoutingWorker {
     var routingErrors = Collections.synchronizedSet(new HashSet<RoutingError>());
 
     if (OTPFeature.ParallelRouting.isOn()) {
-      // TODO: This is not using {@link OtpRequestThreadFactory} which means we do not get
-      //       log-trace-parameters-propagation and graceful timeout handling here.
-      try {
-        CompletableFuture
-          .allOf(
-            CompletableFuture.runAsync(() -> routeDirectStreet(itineraries, routingErrors)),
-            CompletableFuture.runAsync(() -> routeDirectFlex(itineraries, routingErrors)),
-            CompletableFuture.runAsync(() -> routeTransit(itineraries, routingErrors))
-          )
-          .join();
-      } catch (CompletionException e) {
-        RoutingValidationException.unwrapAndRethrowCompletionException(e);
-      }
+      serverContext
+        .requestExecutor()
+        .runAll(
+          () -> routeDirectStreet(itineraries, routingErrors),
+          () -> routeDirectFlex(itineraries, routingErrors),
+          () -> routeTransit(itineraries, routingErrors)
+        );
     } else {
       // Direct street routing
       routeDirectStreet(itineraries, routingErrors);
@@ -181,10 +184,22 @@ public class RoutingWorker {
       routingErrors,
       debugTimingAggregator,
       serverContext.transitService(),
-      pagingService
+      pagingService,
+      searchWindowTruncated
     );
   }
 
+  /**
+   * Calculate the deadline for the search time budget. Each street search is limited to the time
+   * left until the deadline, and returns the paths found when the time is up, see
+   * {@link RouteRequest#searchDeadline()}.
+   */
+  @Nullable
+  private static Instant createSearchDeadline(RouteRequest request) {
+    var budget = request.preferences().system().searchTimeBudget();
+    return budget.isZero() ? null : Instant.now().plus(budget);
+  }
+
   private static AdditionalSearchDays createAdditionalSearchDays(
     RaptorTuningParameters raptorTuningParameters,
     ZoneId zoneId,
@@ -281,9 +296,11 @@ public class RoutingWorker {
         transitGroupPriorityService,
         transitSearchTimeZero,
         additionalSearchDays,
+        searchDeadline,
         debugTimingAggregator
       );
       raptorSearchParamsUsed = transitResults.getSearchParams();
+      searchWindowTruncated = transitResults.isSearchWindowTruncated();
       itineraries.addAll(transitResults.getItineraries());
     } catch (RoutingValidationException e) {
       routingErrors.addAll(e.getRoutingErrors());
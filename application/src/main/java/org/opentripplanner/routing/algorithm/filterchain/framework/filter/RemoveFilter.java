@@ -1,8 +1,7 @@
 package org.opentripplanner.routing.algorithm.filterchain.framework.filter;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.opentripplanner.model.SystemNotice;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryListFilter;
@@ -27,15 +26,14 @@ public class RemoveFilter implements ItineraryListFilter {
 
   @Override
   public List<Itinerary> filter(List<Itinerary> itineraries) {
-    List<Itinerary> filterInput;
-    if (flagger.skipAlreadyFlaggedItineraries()) {
-      filterInput =
-        itineraries
-          .stream()
-          .filter(Predicate.not(Itinerary::isFlaggedForDeletion))
-          .collect(Collectors.toList());
-    } else {
-      filterInput = itineraries;
+    List<Itinerary> filterInput = itineraries;
+    if (flagger.skipAlreadyFlaggedItineraries() && anyFlaggedForDeletion(itineraries)) {
+      filterInput = new ArrayList<>(itineraries.size());
+      for (Itinerary it : itineraries) {
+        if (!it.isFlaggedForDeletion()) {
+          filterInput.add(it);
+        }
+      }
     }
 
     for (Itinerary it : flagger.flagForRemoval(filterInput)) {
@@ -49,4 +47,14 @@ public class RemoveFilter implements ItineraryListFilter {
 
     return itineraries;
   }
+
+  /** Only copy the input list if there is something to skip. */
+  private static boolean anyFlaggedForDeletion(List<Itinerary> itineraries) {
+    for (Itinerary it : itineraries) {
+      if (it.isFlaggedForDeletion()) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
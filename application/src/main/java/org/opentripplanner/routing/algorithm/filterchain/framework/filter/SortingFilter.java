@@ -1,8 +1,10 @@
 package org.opentripplanner.routing.algorithm.filterchain.framework.filter;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.model.plan.ItinerarySortKey;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryListFilter;
@@ -10,6 +12,10 @@ import org.opentripplanner.routing.algorithm.filterchain.framework.spi.Itinerary
 /**
  * This is a filter to sort itineraries. To create a filter, provide a comparator as a constructor
  * argument.
+ * <p>
+ * The sort key of each itinerary is computed once before sorting, not every time two itineraries
+ * are compared. The start and end times are derived from the legs, and creating them for each
+ * comparison is expensive when sorting many itineraries.
  */
 public final class SortingFilter implements ItineraryListFilter {
 
@@ -28,7 +34,38 @@ public final class SortingFilter implements ItineraryListFilter {
     if (itineraries.size() < 2) {
       return itineraries;
     }
+    var keys = new SortKey[itineraries.size()];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = SortKey.of(itineraries.get(i));
+    }
     // Sort ascending by qualifier and map to list of itineraries
-    return itineraries.stream().sorted(comparator()).collect(Collectors.toList());
+    Arrays.sort(keys, comparator);
+
+    var result = new ArrayList<Itinerary>(keys.length);
+    for (SortKey key : keys) {
+      result.add(key.itinerary());
+    }
+    return result;
+  }
+
+  private record SortKey(
+    Itinerary itinerary,
+    Instant startTimeAsInstant,
+    Instant endTimeAsInstant,
+    int getGeneralizedCostIncludingPenalty,
+    int getNumberOfTransfers,
+    boolean isOnStreetAllTheWay
+  )
+    implements ItinerarySortKey {
+    static SortKey of(Itinerary it) {
+      return new SortKey(
+        it,
+        it.startTimeAsInstant(),
+        it.endTimeAsInstant(),
+        it.getGeneralizedCostIncludingPenalty(),
+        it.getNumberOfTransfers(),
+        it.isOnStreetAllTheWay()
+      );
+    }
   }
 }
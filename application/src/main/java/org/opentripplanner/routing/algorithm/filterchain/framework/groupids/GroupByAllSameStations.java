@@ -19,6 +19,9 @@ public class GroupByAllSameStations implements GroupId<GroupByAllSameStations> {
 
   private final List<FeedScopedIdPair> keySet;
 
+  /** Computed once, most group-ids compared do not match and are rejected on the hash. */
+  private final int keySetHash;
+
   public GroupByAllSameStations(Itinerary itinerary) {
     keySet =
       itinerary
@@ -32,6 +35,7 @@ public class GroupByAllSameStations implements GroupId<GroupByAllSameStations> {
           )
         )
         .collect(Collectors.toList());
+    keySetHash = keySet.hashCode();
   }
 
   @Override
@@ -45,7 +49,7 @@ public class GroupByAllSameStations implements GroupId<GroupByAllSameStations> {
       return false;
     }
 
-    return this.keySet.equals(other.keySet);
+    return this.keySetHash == other.keySetHash && this.keySet.equals(other.keySet);
   }
 
   @Override
@@ -1,7 +1,7 @@
 package org.opentripplanner.routing.algorithm.filterchain.framework.groupids;
 
-import java.util.List;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.model.plan.Leg;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.GroupId;
@@ -17,22 +17,27 @@ import org.opentripplanner.transit.model.framework.FeedScopedId;
 public class GroupBySameRoutesAndStops implements GroupId<GroupBySameRoutesAndStops> {
 
   public static final String TAG = "group-by-same-stations-and-routes";
-  private final List<FeedScopedId> keySet;
+
+  /**
+   * The from-stop, route and to-stop of each transit leg. The key is compared with all other
+   * group-ids, so it is computed once together with the hash, which rejects most non-matching
+   * keys without comparing the ids.
+   */
+  private final FeedScopedId[] keySet;
+  private final int keySetHash;
 
   public GroupBySameRoutesAndStops(Itinerary itinerary) {
-    keySet =
-      itinerary
-        .getLegs()
-        .stream()
-        .filter(Leg::isTransitLeg)
-        .flatMap(leg ->
-          Stream.of(
-            leg.getFrom().stop.getStationOrStopId(),
-            leg.getRoute().getId(),
-            leg.getTo().stop.getStationOrStopId()
-          )
-        )
-        .toList();
+    var legs = itinerary.getLegs();
+    var keys = new ArrayList<FeedScopedId>(3 * legs.size());
+    for (Leg leg : legs) {
+      if (leg.isTransitLeg()) {
+        keys.add(leg.getFrom().stop.getStationOrStopId());
+        keys.add(leg.getRoute().getId());
+        keys.add(leg.getTo().stop.getStationOrStopId());
+      }
+    }
+    this.keySet = keys.toArray(FeedScopedId[]::new);
+    this.keySetHash = Arrays.hashCode(keySet);
   }
 
   @Override
@@ -42,11 +47,11 @@ public class GroupBySameRoutesAndStops implements GroupId<GroupBySameRoutesAndSt
     }
 
     // Itineraries without transit is not filtered - they are considered different
-    if (this.keySet.isEmpty() || other.keySet.isEmpty()) {
+    if (this.keySet.length == 0 || other.keySet.length == 0) {
       return false;
     }
 
-    return this.keySet.equals(other.keySet);
+    return this.keySetHash == other.keySetHash && Arrays.equals(this.keySet, other.keySet);
   }
 
   @Override
@@ -101,7 +101,7 @@ public class RouteRequestToFilterChainMapper {
 
     var fareService = context.graph().getFareService();
     if (fareService != null) {
-      builder.withFareDecorator(new DecorateWithFare(fareService));
+      builder.withFareDecorator(new DecorateWithFare(fareService.forRequest()));
     }
 
     if (!context.rideHailingServices().isEmpty()) {
@@ -28,7 +28,8 @@ public class RoutingResponseMapper {
     Set<RoutingError> routingErrors,
     DebugTimingAggregator debugTimingAggregator,
     TransitService transitService,
-    PagingService pagingService
+    PagingService pagingService,
+    boolean searchWindowTruncated
   ) {
     // Search is performed without realtime, but we still want to
     // include realtime information in the result
@@ -57,7 +58,8 @@ public class RoutingResponseMapper {
       nextPageCursor,
       metadata,
       List.copyOf(routingErrors),
-      debugTimingAggregator
+      debugTimingAggregator,
+      searchWindowTruncated
     );
   }
 
@@ -60,27 +60,34 @@ public class AdditionalSearchDays {
    * How many days that are prior to the search date time should be searched for transit.
    */
   public int additionalSearchDaysInPast() {
-    if (arriveBy) {
-      var sw = getSearchWindowOrElseMax();
-      var earliestStart = searchDateTime.minus(maxJourneyDuration.plus(sw));
-      return daysInBetween(searchDateTime, earliestStart);
-    } else {
-      return 0;
-    }
+    return daysInBetween(searchDateTime, earliestSearchTime());
   }
 
   /**
    * How many days that are after to the search date time should be searched for transit.
    */
   public int additionalSearchDaysInFuture() {
-    if (arriveBy) {
-      return 0;
-    } else {
-      var sw = getSearchWindowOrElseMax();
-      var requestTime = searchDateTime;
-      var lastArrival = requestTime.plus(maxJourneyDuration.plus(sw));
-      return daysInBetween(requestTime, lastArrival);
-    }
+    return daysInBetween(searchDateTime, latestSearchTime());
+  }
+
+  /**
+   * The earliest time a journey in the result can depart. This is the search date time, or for
+   * arrive-by searches the search date time minus the search window and max journey duration.
+   */
+  public ZonedDateTime earliestSearchTime() {
+    return arriveBy ? searchDateTime.minus(searchPeriod()) : searchDateTime;
+  }
+
+  /**
+   * The latest time a journey in the result can arrive. This is the search date time plus the
+   * search window and max journey duration, or for arrive-by searches the search date time.
+   */
+  public ZonedDateTime latestSearchTime() {
+    return arriveBy ? searchDateTime : searchDateTime.plus(searchPeriod());
+  }
+
+  private Duration searchPeriod() {
+    return maxJourneyDuration.plus(getSearchWindowOrElseMax());
   }
 
   private Duration getSearchWindowOrElseMax() {
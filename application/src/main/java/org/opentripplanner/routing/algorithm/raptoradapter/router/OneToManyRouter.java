@@ -0,0 +1,287 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router;
+
+import static org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType.ACCESS;
+import static org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType.EGRESS;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.opentripplanner.framework.application.OTPRequestTimeoutException;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.raptor.RaptorService;
+import org.opentripplanner.raptor.api.model.RaptorAccessEgress;
+import org.opentripplanner.raptor.api.model.RaptorConstants;
+import org.opentripplanner.raptor.api.model.SearchDirection;
+import org.opentripplanner.raptor.api.request.RaptorProfile;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.api.request.RaptorRequestBuilder;
+import org.opentripplanner.raptor.api.response.StopArrivals;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressRouter;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.RoutingAccessEgress;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitLayer;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitTuningParameters;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.AccessEgressMapper;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.RaptorRoutingRequestTransitData;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.RouteRequestTransitDataProviderFilter;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.response.InputField;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
+import org.opentripplanner.routing.api.response.RoutingError;
+import org.opentripplanner.routing.api.response.RoutingErrorCode;
+import org.opentripplanner.routing.error.RoutingValidationException;
+import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.standalone.api.OtpServerRequestContext;
+import org.opentripplanner.street.search.TemporaryVerticesContainer;
+import org.opentripplanner.transit.model.network.grouppriority.TransitGroupPriorityService;
+import org.opentripplanner.utils.time.ServiceDateUtils;
+
+/**
+ * Find the travel time from one origin to many destinations with a single transit search. This is
+ * used to compute travel time matrices, where routing each origin-destination pair with the
+ * {@link org.opentripplanner.routing.algorithm.RoutingWorker} would repeat the access search, the
+ * heuristics and the Raptor search for every destination.
+ * <p>
+ * The search is done in three steps:
+ * <ol>
+ *   <li>One street search from the origin to find the accesses.</li>
+ *   <li>One street search from each destination to find its egresses.</li>
+ *   <li>One Raptor search with the {@link RaptorProfile#BEST_TIME} profile, with the egresses of
+ *   all destinations, to find the earliest arrival time at every stop.</li>
+ * </ol>
+ * The arrival time at a destination is the best arrival time at one of its egress stops plus the
+ * egress duration. No paths or itineraries are created, and there is no direct street search, so
+ * a destination is only reached by transit or by walking through a stop.
+ * <p>
+ * Only depart-after searches are supported. Flex access and egress are not included. The number
+ * of destinations is limited by {@link TransitTuningParameters#maxOneToManyDestinations()}.
+ */
+public class OneToManyRouter {
+
+  private static final GenericLocation NO_LOCATION = new GenericLocation(null, null);
+
+  private final RouteRequest request;
+  private final List<GenericLocation> destinations;
+  private final OtpServerRequestContext serverContext;
+  private final ZonedDateTime transitSearchTimeZero;
+  private final AdditionalSearchDays additionalSearchDays;
+
+  private OneToManyRouter(
+    RouteRequest request,
+    List<GenericLocation> destinations,
+    OtpServerRequestContext serverContext,
+    ZoneId zoneId
+  ) {
+    this.request = request;
+    this.destinations = destinations;
+    this.serverContext = serverContext;
+    this.transitSearchTimeZero = ServiceDateUtils.asStartOfService(request.dateTime(), zoneId);
+    this.additionalSearchDays =
+      new AdditionalSearchDays(
+        false,
+        ZonedDateTime.ofInstant(request.dateTime(), zoneId),
+        null,
+        serverContext.raptorTuningParameters().dynamicSearchWindowCoefficients().maxWindow(),
+        request.preferences().system().maxJourneyDuration()
+      );
+  }
+
+  public static OneToManyResponse route(
+    RouteRequest request,
+    List<GenericLocation> destinations,
+    OtpServerRequestContext serverContext,
+    ZoneId zoneId
+  ) {
+    if (request.arriveBy()) {
+      throw new IllegalArgumentException("Arrive-by is not supported in one-to-many searches.");
+    }
+    int maxDestinations = serverContext.transitTuningParameters().maxOneToManyDestinations();
+    if (destinations.size() > maxDestinations) {
+      throw new IllegalArgumentException(
+        "The number of destinations exceeds the limit of " + maxDestinations + "."
+      );
+    }
+    return new OneToManyRouter(request, destinations, serverContext, zoneId).route();
+  }
+
+  private OneToManyResponse route() {
+    if (!request.journey().transit().enabled() || destinations.isEmpty()) {
+      return OneToManyResponse.unreachable(request.dateTime(), destinations);
+    }
+    if (!serverContext.transitService().transitFeedCovers(request.dateTime())) {
+      throw new RoutingValidationException(
+        List.of(new RoutingError(RoutingErrorCode.OUTSIDE_SERVICE_PERIOD, InputField.DATE_TIME))
+      );
+    }
+
+    var accesses = findAccesses();
+    var egressesByDestination = findEgresses();
+
+    var allEgresses = egressesByDestination.stream().flatMap(Collection::stream).toList();
+    if (accesses.isEmpty() || allEgresses.isEmpty()) {
+      return OneToManyResponse.unreachable(request.dateTime(), destinations);
+    }
+
+    var transitLayer = request.preferences().transit().ignoreRealtimeUpdates()
+      ? serverContext.transitService().getTransitLayer()
+      : serverContext.transitService().getRealtimeTransitLayer();
+
+    var arrivals = new RaptorService<>(serverContext.raptorConfig())
+      .route(createRaptorRequest(accesses, allEgresses), createTransitData(transitLayer))
+      .getArrivals();
+
+    int departureTime = relativeTime(request.dateTime());
+    int[] durations = new int[destinations.size()];
+    for (int i = 0; i < durations.length; ++i) {
+      int arrivalTime = bestArrivalTime(arrivals, egressesByDestination.get(i));
+      durations[i] =
+        arrivalTime == RaptorConstants.TIME_NOT_SET
+          ? OneToManyResponse.UNREACHABLE
+          : arrivalTime - departureTime;
+    }
+    return new OneToManyResponse(request.dateTime(), destinations, durations);
+  }
+
+  private List<RoutingAccessEgress> findAccesses() {
+    try (
+      var vertices = new TemporaryVerticesContainer(
+        serverContext.graph(),
+        request.from(),
+        NO_LOCATION,
+        request.journey().access().mode(),
+        request.journey().egress().mode()
+      )
+    ) {
+      return AccessEgressMapper.mapNearbyStops(findNearbyStops(vertices, ACCESS), ACCESS);
+    }
+  }
+
+  /**
+   * Find the egresses of each destination. A destination which can not be linked to the street
+   * network gets no egresses, and is reported as unreachable.
+   */
+  private List<List<RoutingAccessEgress>> findEgresses() {
+    var result = new ArrayList<List<RoutingAccessEgress>>(destinations.size());
+    for (GenericLocation destination : destinations) {
+      OTPRequestTimeoutException.checkForTimeout();
+      try (
+        var vertices = new TemporaryVerticesContainer(
+          serverContext.graph(),
+          NO_LOCATION,
+          destination,
+          request.journey().access().mode(),
+          request.journey().egress().mode()
+        )
+      ) {
+        result.add(AccessEgressMapper.mapNearbyStops(findNearbyStops(vertices, EGRESS), EGRESS));
+      } catch (RoutingValidationException e) {
+        result.add(List.of());
+      }
+    }
+    return result;
+  }
+
+  private Collection<NearbyStop> findNearbyStops(
+    TemporaryVerticesContainer vertices,
+    AccessEgressType type
+  ) {
+    var streetRequest = type.isAccess() ? request.journey().access() : request.journey().egress();
+    var accessEgressPreferences = request.preferences().street().accessEgress();
+    return AccessEgressRouter.findAccessEgresses(
+      request,
+      vertices,
+      streetRequest,
+      serverContext.dataOverlayContext(request),
+      type,
+      accessEgressPreferences.maxDuration().valueOf(streetRequest.mode()),
+      accessEgressPreferences.maxStopCount(),
+      serverContext.graph().getStopReachabilityIndex()
+    );
+  }
+
+  private RaptorRequest<TripSchedule> createRaptorRequest(
+    Collection<RoutingAccessEgress> accesses,
+    Collection<RoutingAccessEgress> egresses
+  ) {
+    int departureTime = relativeTime(request.dateTime());
+    int maxJourneyDuration = (int) request.preferences().system().maxJourneyDuration().toSeconds();
+    Integer maxTransfers = request.preferences().transfer().maxTransfers();
+
+    var builder = new RaptorRequestBuilder<TripSchedule>()
+      .profile(RaptorProfile.BEST_TIME)
+      .searchDirection(SearchDirection.FORWARD);
+
+    var searchParams = builder
+      .searchParams()
+      .earliestDepartureTime(departureTime)
+      .latestArrivalTime(departureTime + maxJourneyDuration)
+      .searchOneIterationOnly()
+      .addAccessPaths(accesses)
+      .addEgressPaths(egresses);
+
+    if (maxTransfers != null) {
+      searchParams.maxNumberOfTransfers(maxTransfers);
+    }
+    // The search must not stop when the first destination is reached, the other destinations
+    // may need more transfers.
+    searchParams.numberOfAdditionalTransfers(searchParams.maxNumberOfTransfers());
+
+    return builder.build();
+  }
+
+  private RaptorRoutingRequestTransitData createTransitData(TransitLayer transitLayer) {
+    return new RaptorRoutingRequestTransitData(
+      transitLayer,
+      TransitGroupPriorityService.empty(),
+      transitSearchTimeZero,
+      additionalSearchDays.additionalSearchDaysInPast(),
+      additionalSearchDays.additionalSearchDaysInFuture(),
+      new RouteRequestTransitDataProviderFilter(request),
+      request
+    );
+  }
+
+  /**
+   * The best arrival time at the destination, using one of the given egresses, or
+   * {@link RaptorConstants#TIME_NOT_SET} if none of the egress stops are reached.
+   */
+  private static int bestArrivalTime(
+    StopArrivals arrivals,
+    Collection<? extends RaptorAccessEgress> egresses
+  ) {
+    int best = RaptorConstants.TIME_NOT_SET;
+    for (RaptorAccessEgress egress : egresses) {
+      int stop = egress.stop();
+      int stopArrivalTime;
+      if (egress.stopReachedOnBoard()) {
+        // An egress which must follow a transit leg
+        if (!arrivals.reachedByTransit(stop)) {
+          continue;
+        }
+        stopArrivalTime = arrivals.bestTransitArrivalTime(stop);
+      } else {
+        if (!arrivals.reached(stop)) {
+          continue;
+        }
+        stopArrivalTime = arrivals.bestArrivalTime(stop);
+      }
+      int departureTime = egress.earliestDepartureTime(stopArrivalTime);
+      if (departureTime == RaptorConstants.TIME_NOT_SET) {
+        continue;
+      }
+      int arrivalTime = departureTime + egress.durationInSeconds();
+      if (best == RaptorConstants.TIME_NOT_SET || arrivalTime < best) {
+        best = arrivalTime;
+      }
+    }
+    return best;
+  }
+
+  private int relativeTime(Instant time) {
+    return (int) (time.getEpochSecond() - transitSearchTimeZero.toEpochSecond());
+  }
+}
@@ -9,8 +9,6 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import org.opentripplanner.ext.ridehailing.RideHailingAccessShifter;
@@ -59,6 +57,10 @@ public class TransitRouter {
   private final DebugTimingAggregator debugTimingAggregator;
   private final ZonedDateTime transitSearchTimeZero;
   private final AdditionalSearchDays additionalSearchDays;
+
+  @Nullable
+  private final Instant searchDeadline;
+
   private final TemporaryVerticesContainer temporaryVerticesContainer;
 
   private TransitRouter(
@@ -67,6 +69,7 @@ public class TransitRouter {
     TransitGroupPriorityService transitGroupPriorityService,
     ZonedDateTime transitSearchTimeZero,
     AdditionalSearchDays additionalSearchDays,
+    @Nullable Instant searchDeadline,
     DebugTimingAggregator debugTimingAggregator
   ) {
     this.request = request;
@@ -74,16 +77,23 @@ public class TransitRouter {
     this.transitGroupPriorityService = transitGroupPriorityService;
     this.transitSearchTimeZero = transitSearchTimeZero;
     this.additionalSearchDays = additionalSearchDays;
+    this.searchDeadline = searchDeadline;
     this.debugTimingAggregator = debugTimingAggregator;
     this.temporaryVerticesContainer = createTemporaryVerticesContainer(request, serverContext);
   }
 
+  /**
+   * @param searchDeadline The Raptor search stops iterating over the search-window when this
+   *                       deadline has passed, and the best results found so far are returned. If
+   *                       {@code null}, the whole search-window is searched.
+   */
   public static TransitRouterResult route(
     RouteRequest request,
     OtpServerRequestContext serverContext,
     TransitGroupPriorityService priorityGroupConfigurator,
     ZonedDateTime transitSearchTimeZero,
     AdditionalSearchDays additionalSearchDays,
+    @Nullable Instant searchDeadline,
     DebugTimingAggregator debugTimingAggregator
   ) {
     TransitRouter transitRouter = new TransitRouter(
@@ -92,6 +102,7 @@ public class TransitRouter {
       priorityGroupConfigurator,
       transitSearchTimeZero,
       additionalSearchDays,
+      searchDeadline,
       debugTimingAggregator
     );
 
@@ -108,7 +119,7 @@ public class TransitRouter {
 
   private TransitRouterResult route() {
     if (!request.journey().transit().enabled()) {
-      return new TransitRouterResult(List.of(), null);
+      return new TransitRouterResult(List.of(), null, false);
     }
 
     if (!serverContext.transitService().transitFeedCovers(request.dateTime())) {
@@ -136,6 +147,7 @@ public class TransitRouter {
     var raptorRequest = RaptorRequestMapper.<TripSchedule>mapRequest(
       request,
       transitSearchTimeZero,
+      searchDeadline,
       serverContext.raptorConfig().isMultiThreaded(),
       accessEgresses.getAccesses(),
       accessEgresses.getEgresses(),
@@ -164,7 +176,8 @@ public class TransitRouter {
         requestTransitDataProvider,
         transitLayer.getStopBoardAlightTransferCosts(),
         request.preferences().transfer().optimization(),
-        raptorRequest.multiCriteria()
+        raptorRequest.multiCriteria(),
+        serverContext.requestExecutor()
       );
       paths = service.optimize(transitResponse.paths());
     }
@@ -183,7 +196,11 @@ public class TransitRouter {
 
     debugTimingAggregator.finishedItineraryCreation();
 
-    return new TransitRouterResult(itineraries, transitResponse.requestUsed().searchParams());
+    return new TransitRouterResult(
+      itineraries,
+      transitResponse.requestUsed().searchParams(),
+      transitResponse.isSearchWindowTruncated()
+    );
   }
 
   private AccessEgresses fetchAccessEgresses() {
@@ -191,18 +208,12 @@ public class TransitRouter {
     final var egressList = new ArrayList<RoutingAccessEgress>();
 
     if (OTPFeature.ParallelRouting.isOn()) {
-      try {
-        // TODO: This is not using {@link OtpRequestThreadFactory} which mean we do not get
-        //       log-trace-parameters-propagation and graceful timeout handling here.
-        CompletableFuture
-          .allOf(
-            CompletableFuture.runAsync(() -> accessList.addAll(fetchAccess())),
-            CompletableFuture.runAsync(() -> egressList.addAll(fetchEgress()))
-          )
-          .join();
-      } catch (CompletionException e) {
-        RoutingValidationException.unwrapAndRethrowCompletionException(e);
-      }
+      serverContext
+        .requestExecutor()
+        .runAll(
+          () -> accessList.addAll(fetchAccess()),
+          () -> egressList.addAll(fetchEgress())
+        );
     } else {
       accessList.addAll(fetchAccess());
       egressList.addAll(fetchEgress());
@@ -260,15 +271,34 @@ public class TransitRouter {
       .valueOf(streetRequest.mode());
     int stopCountLimit = accessRequest.preferences().street().accessEgress().maxStopCount();
 
-    var nearbyStops = AccessEgressRouter.findAccessEgresses(
-      accessRequest,
-      temporaryVerticesContainer,
-      streetRequest,
-      serverContext.dataOverlayContext(accessRequest),
-      type,
-      durationLimit,
-      stopCountLimit
-    );
+    var dataOverlayContext = serverContext.dataOverlayContext(accessRequest);
+    var nearbyStops = serverContext
+      .transitService()
+      .getTransitLayer()
+      .getAccessEgressCache()
+      .get(
+        accessRequest,
+        streetRequest,
+        dataOverlayContext,
+        type,
+        durationLimit,
+        stopCountLimit,
+        type.isAccess()
+          ? temporaryVerticesContainer.getFromVertices()
+          : temporaryVerticesContainer.getToVertices(),
+        serverContext.graph().getLinker().realTimeEdgesVersion(),
+        () ->
+          AccessEgressRouter.searchAccessEgresses(
+            accessRequest,
+            temporaryVerticesContainer,
+            streetRequest,
+            dataOverlayContext,
+            type,
+            durationLimit,
+            stopCountLimit,
+            serverContext.graph().getStopReachabilityIndex()
+          )
+      );
     var accessEgresses = AccessEgressMapper.mapNearbyStops(nearbyStops, type);
     accessEgresses = timeshiftRideHailing(streetRequest, type, accessEgresses);
 
@@ -282,7 +312,7 @@ public class TransitRouter {
         serverContext,
         additionalSearchDays,
         serverContext.flexParameters(),
-        serverContext.dataOverlayContext(accessRequest),
+        dataOverlayContext,
         type
       );
 
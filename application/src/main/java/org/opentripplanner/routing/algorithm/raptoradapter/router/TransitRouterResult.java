@@ -8,10 +8,16 @@ public class TransitRouterResult {
 
   private final List<Itinerary> itineraries;
   private final SearchParams searchParams;
+  private final boolean searchWindowTruncated;
 
-  public TransitRouterResult(List<Itinerary> itineraries, SearchParams searchParams) {
+  public TransitRouterResult(
+    List<Itinerary> itineraries,
+    SearchParams searchParams,
+    boolean searchWindowTruncated
+  ) {
     this.itineraries = itineraries;
     this.searchParams = searchParams;
+    this.searchWindowTruncated = searchWindowTruncated;
   }
 
   public List<Itinerary> getItineraries() {
@@ -21,4 +27,12 @@ public class TransitRouterResult {
   public SearchParams getSearchParams() {
     return searchParams;
   }
+
+  /**
+   * The transit search stopped early because the search time budget was used, the search
+   * parameters are reduced to the part of the search-window searched.
+   */
+  public boolean isSearchWindowTruncated() {
+    return searchWindowTruncated;
+  }
 }
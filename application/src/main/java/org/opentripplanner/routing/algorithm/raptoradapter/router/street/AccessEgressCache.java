@@ -0,0 +1,194 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.opentripplanner.ext.dataoverlay.routing.DataOverlayContext;
+import org.opentripplanner.graph_builder.module.nearbystops.StreetNearbyStopFinder;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.preference.BikePreferences;
+import org.opentripplanner.routing.api.request.preference.CarPreferences;
+import org.opentripplanner.routing.api.request.preference.StreetPreferences;
+import org.opentripplanner.routing.api.request.preference.WalkPreferences;
+import org.opentripplanner.routing.api.request.preference.WheelchairPreferences;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.routing.linking.VertexLinker;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.transit.model.framework.FeedScopedId;
+
+/**
+ * Cache the access/egress street search result between requests. The street search from the
+ * origin/destination to the nearby stops is repeated for every request, also when the same
+ * location is used again - for example when paging or when many users search from the same
+ * place.
+ * <p>
+ * The result is cached for the exact same location, street mode and the street relevant
+ * preferences. The street search is independent of the time of the request, the access/egress
+ * paths are time-shifted when mapped into itineraries. Only modes which do not depend on
+ * real-time data are cached; rental, parking, hailing and flex are always computed, so the
+ * entries do not need to be invalidated when the rental or parking real-time data changes. The
+ * entries expire after the configured time-to-live.
+ * <p>
+ * The cached paths may still pass through the edges split when the rental stations and parking
+ * facilities are linked to the street network in real-time. These edges are removed again when the
+ * updaters remove the station or facility. So the version of the realtime edges is part of the
+ * key, and the entries are not used after the realtime edges have changed.
+ * <p>
+ * Only the result of a completed street search is cached, a search aborted by the street routing
+ * timeout only finds some of the stops. The result is stripped to the permanent part of the
+ * graph, and the paths are restored for the temporary vertices of each request, see
+ * {@link CachedNearbyStops}.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ */
+public class AccessEgressCache {
+
+  private static final Set<StreetMode> CACHEABLE_MODES = EnumSet.of(
+    StreetMode.WALK,
+    StreetMode.BIKE,
+    StreetMode.CAR
+  );
+
+  @Nullable
+  private final Cache<CacheKey, CachedNearbyStops> cache;
+
+  public AccessEgressCache(int maximumSize, Duration timeToLive) {
+    this.cache =
+      maximumSize > 0
+        ? CacheBuilder
+          .newBuilder()
+          .maximumSize(maximumSize)
+          .expireAfterWrite(timeToLive)
+          .recordStats()
+          .build()
+        : null;
+  }
+
+  /**
+   * The underlying cache, used to report the cache statistics. Returns {@code null} if the cache
+   * is disabled.
+   */
+  @Nullable
+  public Cache<CacheKey, CachedNearbyStops> getCache() {
+    return cache;
+  }
+
+  /**
+   * Return the cached access/egress for the given request, or perform the street {@code search}
+   * and cache the result. The search is used directly, without caching, if the request can not
+   * be cached.
+   *
+   * @param originVertices the origin vertices of the street search for this request, used to
+   *                       restore the cached paths.
+   * @param realTimeEdgesVersion the version of the realtime edges when the search starts, see
+   *                             {@link VertexLinker#realTimeEdgesVersion()}.
+   */
+  public Collection<NearbyStop> get(
+    RouteRequest request,
+    StreetRequest streetRequest,
+    @Nullable DataOverlayContext dataOverlayContext,
+    AccessEgressType accessOrEgress,
+    Duration durationLimit,
+    int maxStopCount,
+    Set<Vertex> originVertices,
+    long realTimeEdgesVersion,
+    Supplier<StreetNearbyStopFinder.SearchResult> search
+  ) {
+    if (!isCacheable(streetRequest, dataOverlayContext)) {
+      return search.get().stops();
+    }
+    var key = new CacheKey(
+      accessOrEgress,
+      LocationKey.of(accessOrEgress.isAccess() ? request.from() : request.to()),
+      durationLimit,
+      maxStopCount,
+      new StreetRelevantOptions(request, streetRequest.mode()),
+      realTimeEdgesVersion
+    );
+    // The search is not done inside the cache loader, a timeout or an error in one request
+    // should not fail other requests waiting for the same entry.
+    var cached = cache.getIfPresent(key);
+    if (cached != null) {
+      var stops = cached.restore(
+        originVertices,
+        request,
+        streetRequest,
+        accessOrEgress.isEgress()
+      );
+      if (stops != null) {
+        return stops;
+      }
+      cache.invalidate(key);
+    }
+
+    var result = search.get();
+    if (result.complete()) {
+      var stripped = CachedNearbyStops.of(result.stops());
+      if (stripped != null) {
+        cache.put(key, stripped);
+      }
+    }
+    return result.stops();
+  }
+
+  boolean isCacheable(
+    StreetRequest streetRequest,
+    @Nullable DataOverlayContext dataOverlayContext
+  ) {
+    return (
+      cache != null && dataOverlayContext == null && CACHEABLE_MODES.contains(streetRequest.mode())
+    );
+  }
+
+  public record CacheKey(
+    AccessEgressType accessOrEgress,
+    LocationKey location,
+    Duration durationLimit,
+    int maxStopCount,
+    StreetRelevantOptions options,
+    long realTimeEdgesVersion
+  ) {}
+
+  /**
+   * {@link GenericLocation} does not implement equals/hashCode, so the fields are copied. The
+   * label is not used by the street search, and is not part of the key.
+   */
+  record LocationKey(@Nullable FeedScopedId stopId, @Nullable Double lat, @Nullable Double lng) {
+    static LocationKey of(GenericLocation location) {
+      return new LocationKey(location.stopId, location.lat, location.lng);
+    }
+  }
+
+  /**
+   * An extract of the parameters which may influence the access/egress street search.
+   */
+  record StreetRelevantOptions(
+    StreetMode mode,
+    boolean wheelchair,
+    WalkPreferences walk,
+    BikePreferences bike,
+    CarPreferences car,
+    StreetPreferences street,
+    WheelchairPreferences wheelchairPreferences
+  ) {
+    StreetRelevantOptions(RouteRequest request, StreetMode mode) {
+      this(
+        mode,
+        request.wheelchair(),
+        request.preferences().walk(),
+        mode.includesBiking() ? request.preferences().bike() : BikePreferences.DEFAULT,
+        mode.includesDriving() ? request.preferences().car() : CarPreferences.DEFAULT,
+        request.preferences().street(),
+        request.wheelchair() ? request.preferences().wheelchair() : WheelchairPreferences.DEFAULT
+      );
+    }
+  }
+}
@@ -11,6 +11,7 @@ import org.opentripplanner.graph_builder.module.nearbystops.StreetNearbyStopFind
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.request.StreetRequest;
 import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.street.model.StopReachabilityIndex;
 import org.opentripplanner.street.search.TemporaryVerticesContainer;
 import org.opentripplanner.utils.collection.ListUtils;
 import org.slf4j.Logger;
@@ -36,6 +37,60 @@ public class AccessEgressRouter {
     AccessEgressType accessOrEgress,
     Duration durationLimit,
     int maxStopCount
+  ) {
+    return findAccessEgresses(
+      request,
+      verticesContainer,
+      streetRequest,
+      dataOverlayContext,
+      accessOrEgress,
+      durationLimit,
+      maxStopCount,
+      null
+    );
+  }
+
+  /**
+   * Find accesses or egresses. The {@code stopReachabilityIndex} is used to stop the street
+   * search early when all reachable stops are found, if it exists.
+   */
+  public static Collection<NearbyStop> findAccessEgresses(
+    RouteRequest request,
+    TemporaryVerticesContainer verticesContainer,
+    StreetRequest streetRequest,
+    @Nullable DataOverlayContext dataOverlayContext,
+    AccessEgressType accessOrEgress,
+    Duration durationLimit,
+    int maxStopCount,
+    @Nullable StopReachabilityIndex stopReachabilityIndex
+  ) {
+    return searchAccessEgresses(
+      request,
+      verticesContainer,
+      streetRequest,
+      dataOverlayContext,
+      accessOrEgress,
+      durationLimit,
+      maxStopCount,
+      stopReachabilityIndex
+    )
+      .stops();
+  }
+
+  /**
+   * Same as {@link #findAccessEgresses(RouteRequest, TemporaryVerticesContainer, StreetRequest,
+   * DataOverlayContext, AccessEgressType, Duration, int, StopReachabilityIndex)}, but also report
+   * if the street search completed.
+   */
+  public static StreetNearbyStopFinder.SearchResult searchAccessEgresses(
+    RouteRequest request,
+    TemporaryVerticesContainer verticesContainer,
+    StreetRequest streetRequest,
+    @Nullable DataOverlayContext dataOverlayContext,
+    AccessEgressType accessOrEgress,
+    Duration durationLimit,
+    int maxStopCount,
+    @Nullable StopReachabilityIndex stopReachabilityIndex
   ) {
     OTPRequestTimeoutException.checkForTimeout();
 
@@ -62,13 +117,14 @@ public class AccessEgressRouter {
       durationLimit,
       maxStopCount,
       dataOverlayContext,
-      ignoreVertices
+      ignoreVertices,
+      stopReachabilityIndex
     )
-      .findNearbyStops(originVertices, request, streetRequest, accessOrEgress.isEgress());
+      .search(originVertices, request, streetRequest, accessOrEgress.isEgress());
 
-    var results = ListUtils.combine(zeroDistanceAccessEgress, streetAccessEgress);
+    var results = ListUtils.combine(zeroDistanceAccessEgress, streetAccessEgress.stops());
     LOG.debug("Found {} {} stops", results.size(), accessOrEgress);
-    return results;
+    return new StreetNearbyStopFinder.SearchResult(results, streetAccessEgress.complete());
   }
 
   /**
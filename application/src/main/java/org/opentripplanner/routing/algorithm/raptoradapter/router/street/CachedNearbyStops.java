@@ -0,0 +1,216 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.edge.TemporaryEdge;
+import org.opentripplanner.street.model.vertex.TemporaryVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+import org.opentripplanner.street.search.TraverseMode;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.strategy.DominanceFunctions;
+import org.opentripplanner.transit.model.site.StopLocation;
+
+/**
+ * The access/egress street search result, stripped to the permanent part of the graph so it can
+ * be cached between requests. The states of a search reference the temporary vertices and edges
+ * of the request, which are removed from the graph when the request is done.
+ * <p>
+ * The paths to the stops are stored as a tree of the permanent edges, starting at the first
+ * permanent vertex of each path. When the result is restored, the temporary edges from the
+ * origin of the new request to the first permanent vertices are searched again, and the
+ * permanent edges are traversed from there. The restored states belong to the new request.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE.
+ */
+class CachedNearbyStops {
+
+  private static final int START = -1;
+
+  private final List<Node> nodes;
+  private final List<CachedStop> stops;
+
+  /** The permanent vertices where a path starts without any temporary edges. */
+  private final Set<Vertex> rootVertices;
+
+  private CachedNearbyStops(List<Node> nodes, List<CachedStop> stops, Set<Vertex> rootVertices) {
+    this.nodes = List.copyOf(nodes);
+    this.stops = List.copyOf(stops);
+    this.rootVertices = Set.copyOf(rootVertices);
+  }
+
+  /**
+   * Strip the given nearby stops to the permanent part of the graph. Returns {@code null} if the
+   * result can not be cached, because a path does not start with the temporary edges at the
+   * origin followed by only permanent edges.
+   */
+  @Nullable
+  static CachedNearbyStops of(Collection<NearbyStop> nearbyStops) {
+    var nodes = new ArrayList<Node>();
+    var stops = new ArrayList<CachedStop>();
+    var nodeIndexes = new IdentityHashMap<State, Integer>();
+    var rootVertices = new HashSet<Vertex>();
+
+    for (NearbyStop nearbyStop : nearbyStops) {
+      int node = addPath(nearbyStop.state, nodes, nodeIndexes, rootVertices);
+      if (node == START) {
+        return null;
+      }
+      stops.add(new CachedStop(nearbyStop.stop, node));
+    }
+    return new CachedNearbyStops(nodes, stops, rootVertices);
+  }
+
+  /**
+   * Restore the nearby stops for a new request from the given origin. The request must have the
+   * same street relevant options as the request used to find the stops. Returns {@code null} if
+   * the paths can not be restored, the street search must then be done again.
+   */
+  @Nullable
+  List<NearbyStop> restore(
+    Set<Vertex> originVertices,
+    RouteRequest request,
+    StreetRequest streetRequest,
+    boolean arriveBy
+  ) {
+    if (stops.isEmpty()) {
+      return List.of();
+    }
+    // Only the temporary edges at the origin are searched, the search stops at the first
+    // permanent vertex. The paths starting at a permanent vertex, like the origin stops used
+    // directly as access/egress, are not reached this way, so they are added as origins.
+    var searchOrigins = new HashSet<Vertex>(originVertices);
+    searchOrigins.addAll(rootVertices);
+
+    var spt = StreetSearchBuilder
+      .of()
+      .setSkipEdgeStrategy((state, edge) -> !(state.getVertex() instanceof TemporaryVertex))
+      .setDominanceFunction(new DominanceFunctions.MinimumWeight())
+      .setRequest(request)
+      .setArriveBy(arriveBy)
+      .setStreetRequest(streetRequest)
+      .setFrom(arriveBy ? null : searchOrigins)
+      .setTo(arriveBy ? searchOrigins : null)
+      .getShortestPathTree();
+
+    if (spt == null || spt.isAborted()) {
+      return null;
+    }
+
+    var states = new State[nodes.size()];
+    for (int i = 0; i < states.length; ++i) {
+      var node = nodes.get(i);
+      states[i] = node.parent() == START ? spt.getState(node.vertex()) : traverse(node, states);
+      if (states[i] == null) {
+        return null;
+      }
+    }
+
+    var result = new ArrayList<NearbyStop>(stops.size());
+    for (CachedStop stop : stops) {
+      result.add(NearbyStop.nearbyStopForState(states[stop.node()], stop.stop()));
+    }
+    return result;
+  }
+
+  /**
+   * Add the nodes for the path to the given state, and return the index of the node for the
+   * state. The paths share the nodes for the states they have in common, the parent of a node
+   * is always added before the node. Returns {@link #START} if the path can not be cached.
+   */
+  private static int addPath(
+    State state,
+    List<Node> nodes,
+    Map<State, Integer> nodeIndexes,
+    Set<Vertex> rootVertices
+  ) {
+    var newStates = new ArrayList<State>();
+    int parent = START;
+    State s = state;
+
+    while (s != null) {
+      Integer index = nodeIndexes.get(s);
+      if (index != null) {
+        parent = index;
+        break;
+      }
+      if (s.getVertex() instanceof TemporaryVertex) {
+        if (!isTemporaryPrefix(s)) {
+          return START;
+        }
+        break;
+      }
+      newStates.add(s);
+      s = s.getBackState();
+    }
+
+    if (newStates.isEmpty()) {
+      return parent;
+    }
+    if (s == null) {
+      rootVertices.add(newStates.getLast().getVertex());
+    }
+
+    for (int i = newStates.size() - 1; i >= 0; --i) {
+      var current = newStates.get(i);
+      Node node;
+      if (parent == START) {
+        node = new Node(START, current.getVertex(), null, null);
+      } else {
+        if (current.getBackEdge() instanceof TemporaryEdge) {
+          return START;
+        }
+        node = new Node(parent, current.getVertex(), current.getBackEdge(), current.getBackMode());
+      }
+      parent = nodes.size();
+      nodes.add(node);
+      nodeIndexes.put(current, parent);
+    }
+    return parent;
+  }
+
+  /**
+   * Return true if the given state and all the states before it are at temporary vertices.
+   */
+  private static boolean isTemporaryPrefix(State state) {
+    for (State s = state; s != null; s = s.getBackState()) {
+      if (!(s.getVertex() instanceof TemporaryVertex)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static State traverse(Node node, State[] states) {
+    for (State next : node.edge().traverse(states[node.parent()])) {
+      if (next.getBackMode() == node.backMode() && next.getVertex() == node.vertex()) {
+        return next;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A state on the permanent part of a path. The first node of a path has no edge, the state is
+   * found by the search from the origin.
+   */
+  private record Node(
+    int parent,
+    Vertex vertex,
+    @Nullable Edge edge,
+    @Nullable TraverseMode backMode
+  ) {}
+
+  private record CachedStop(StopLocation stop, int node) {}
+}
@@ -58,10 +58,11 @@ public class DirectFlexRouter {
         serverContext.graph(),
         serverContext.transitService(),
         serverContext.flexParameters(),
+        serverContext.flexPathCache(),
         request.dateTime(),
         request.bookingTime(),
-        additionalSearchDays.additionalSearchDaysInPast(),
-        additionalSearchDays.additionalSearchDaysInFuture(),
+        request.searchDeadline(),
+        additionalSearchDays,
         accessStops,
         egressStops
       );
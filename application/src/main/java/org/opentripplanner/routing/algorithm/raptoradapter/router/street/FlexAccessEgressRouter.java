@@ -61,10 +61,11 @@ public class FlexAccessEgressRouter {
       serverContext.graph(),
       transitService,
       config,
+      serverContext.flexPathCache(),
       request.dateTime(),
       request.bookingTime(),
-      searchDays.additionalSearchDaysInPast(),
-      searchDays.additionalSearchDaysInFuture(),
+      request.searchDeadline(),
+      searchDays,
       accessStops,
       egressStops
     );
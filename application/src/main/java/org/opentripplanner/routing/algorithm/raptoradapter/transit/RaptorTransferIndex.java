@@ -2,70 +2,192 @@ package org.opentripplanner.routing.algorithm.raptoradapter.transit;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.opentripplanner.raptor.api.model.RaptorTransfer;
 import org.opentripplanner.routing.api.request.StreetMode;
 import org.opentripplanner.street.search.request.StreetSearchRequest;
 
+/**
+ * The transfers for each stop, forward and reversed, for a given street request.
+ * <p>
+ * The transfers are stored in a compressed sparse row layout: all transfers are kept in one
+ * array, ordered by stop, and an offset array holds the index of the first transfer for each stop.
+ * This replaces one list per stop, so the index is a few large arrays instead of two small objects
+ * per stop, and it is built without intermediate lists.
+ * <p>
+ * The array holds the {@link RaptorTransfer} objects, not the stop, duration and cost in primitive
+ * arrays. Raptor keeps a reference to the transfer in the stop arrivals and returns it in the
+ * paths, and the itinerary mapping needs the street path of the transfer. Creating the transfer
+ * objects from primitive arrays would allocate an object for each transfer visited in each round,
+ * which cost more than the object array saves.
+ */
 public class RaptorTransferIndex {
 
-  private final List<RaptorTransfer>[] forwardTransfers;
+  private final RaptorTransfer[] forwardTransfers;
+  private final int[] forwardOffsets;
 
-  private final List<RaptorTransfer>[] reversedTransfers;
+  private final RaptorTransfer[] reversedTransfers;
+  private final int[] reversedOffsets;
 
   public RaptorTransferIndex(
-    List<List<RaptorTransfer>> forwardTransfers,
-    List<List<RaptorTransfer>> reversedTransfers
+    List<? extends Collection<RaptorTransfer>> forwardTransfers,
+    List<? extends Collection<RaptorTransfer>> reversedTransfers
   ) {
-    // Create immutable copies of the lists for each stop to make them immutable and faster to iterate
-    this.forwardTransfers = forwardTransfers.stream().map(List::copyOf).toArray(List[]::new);
-    this.reversedTransfers = reversedTransfers.stream().map(List::copyOf).toArray(List[]::new);
+    this.forwardOffsets = new int[forwardTransfers.size() + 1];
+    this.forwardTransfers = flatten(forwardTransfers, forwardOffsets);
+    this.reversedOffsets = new int[reversedTransfers.size() + 1];
+    this.reversedTransfers = flatten(reversedTransfers, reversedOffsets);
   }
 
+  /**
+   * Create the index from the forward transfers, and derive the reversed transfers from them.
+   */
+  private RaptorTransferIndex(List<? extends Collection<RaptorTransfer>> forwardTransfers) {
+    this.forwardOffsets = new int[forwardTransfers.size() + 1];
+    this.forwardTransfers = flatten(forwardTransfers, forwardOffsets);
+    this.reversedOffsets = new int[forwardTransfers.size() + 1];
+    this.reversedTransfers = reverse(this.forwardTransfers, forwardOffsets, reversedOffsets);
+  }
+
+  /**
+   * Create the index. The street traversal needed to compute the duration and cost of each
+   * transfer is done in parallel for all stops, this is the expensive part and is done each time
+   * a request with new street preferences is cached.
+   */
   public static RaptorTransferIndex create(
     List<List<Transfer>> transfersByStopIndex,
     StreetSearchRequest request
   ) {
-    var forwardTransfers = new ArrayList<List<RaptorTransfer>>(transfersByStopIndex.size());
-    var reversedTransfers = new ArrayList<List<RaptorTransfer>>(transfersByStopIndex.size());
+    int nStops = transfersByStopIndex.size();
     StreetMode mode = request.mode();
 
-    for (int i = 0; i < transfersByStopIndex.size(); i++) {
-      reversedTransfers.add(new ArrayList<>());
+    List<Collection<RaptorTransfer>> forwardTransfers = IntStream
+      .range(0, nStops)
+      .parallel()
+      .mapToObj(stop -> createForwardTransfers(transfersByStopIndex.get(stop), mode, request))
+      .toList();
+
+    return new RaptorTransferIndex(forwardTransfers);
+  }
+
+  public Iterator<RaptorTransfer> getForwardTransfers(int stopIndex) {
+    return iterator(forwardTransfers, forwardOffsets[stopIndex], forwardOffsets[stopIndex + 1]);
+  }
+
+  public Iterator<RaptorTransfer> getReversedTransfers(int stopIndex) {
+    return iterator(reversedTransfers, reversedOffsets[stopIndex], reversedOffsets[stopIndex + 1]);
+  }
+
+  /**
+   * Many stops have no transfers, return a shared empty iterator for these.
+   */
+  private static Iterator<RaptorTransfer> iterator(RaptorTransfer[] transfers, int start, int end) {
+    return start == end ? Collections.emptyIterator() : new TransferIterator(transfers, start, end);
+  }
+
+  private static Collection<RaptorTransfer> createForwardTransfers(
+    List<Transfer> transfers,
+    StreetMode mode,
+    StreetSearchRequest request
+  ) {
+    // The transfers are filtered so that there is only one possible directional transfer
+    // for a stop pair.
+    return transfers
+      .stream()
+      .filter(transfer -> transfer.allowsMode(mode))
+      .flatMap(s -> s.asRaptorTransfer(request).stream())
+      .collect(
+        toMap(RaptorTransfer::stop, Function.identity(), (a, b) -> a.c1() < b.c1() ? a : b)
+      )
+      .values();
+  }
+
+  /**
+   * Copy the transfers into one array and set the offset of the first transfer for each stop. The
+   * last element of the offsets is the total number of transfers.
+   */
+  private static RaptorTransfer[] flatten(
+    List<? extends Collection<RaptorTransfer>> transfersByStop,
+    int[] offsets
+  ) {
+    int size = 0;
+    for (int i = 0; i < transfersByStop.size(); ++i) {
+      offsets[i] = size;
+      size += transfersByStop.get(i).size();
     }
+    offsets[transfersByStop.size()] = size;
 
-    for (int fromStop = 0; fromStop < transfersByStopIndex.size(); fromStop++) {
-      // The transfers are filtered so that there is only one possible directional transfer
-      // for a stop pair.
-      var transfers = transfersByStopIndex
-        .get(fromStop)
-        .stream()
-        .filter(transfer -> transfer.allowsMode(mode))
-        .flatMap(s -> s.asRaptorTransfer(request).stream())
-        .collect(
-          toMap(RaptorTransfer::stop, Function.identity(), (a, b) -> a.c1() < b.c1() ? a : b)
-        )
-        .values();
-
-      forwardTransfers.add(new ArrayList<>(transfers));
-
-      for (RaptorTransfer forwardTransfer : transfers) {
-        reversedTransfers
-          .get(forwardTransfer.stop())
-          .add(DefaultRaptorTransfer.reverseOf(fromStop, forwardTransfer));
+    var result = new RaptorTransfer[size];
+    int index = 0;
+    for (var transfers : transfersByStop) {
+      for (RaptorTransfer transfer : transfers) {
+        result[index++] = transfer;
       }
     }
-
-    return new RaptorTransferIndex(forwardTransfers, reversedTransfers);
+    return result;
   }
 
-  public List<RaptorTransfer> getForwardTransfers(int stopIndex) {
-    return forwardTransfers[stopIndex];
+  /**
+   * Create the reversed transfers, ordered by the stop the forward transfers arrive at, and set
+   * the reversed offsets. The transfers to each stop are kept in the order of the stop they
+   * depart from.
+   */
+  private static RaptorTransfer[] reverse(
+    RaptorTransfer[] forwardTransfers,
+    int[] forwardOffsets,
+    int[] reversedOffsets
+  ) {
+    int nStops = reversedOffsets.length - 1;
+
+    // Count the transfers to each stop, and turn the counts into offsets
+    for (RaptorTransfer transfer : forwardTransfers) {
+      ++reversedOffsets[transfer.stop() + 1];
+    }
+    for (int i = 0; i < nStops; ++i) {
+      reversedOffsets[i + 1] += reversedOffsets[i];
+    }
+
+    var result = new RaptorTransfer[forwardTransfers.length];
+    int[] next = Arrays.copyOf(reversedOffsets, nStops);
+    for (int fromStop = 0; fromStop < nStops; ++fromStop) {
+      for (int i = forwardOffsets[fromStop]; i < forwardOffsets[fromStop + 1]; ++i) {
+        var transfer = forwardTransfers[i];
+        result[next[transfer.stop()]++] = DefaultRaptorTransfer.reverseOf(fromStop, transfer);
+      }
+    }
+    return result;
   }
 
-  public List<RaptorTransfer> getReversedTransfers(int stopIndex) {
-    return reversedTransfers[stopIndex];
+  private static final class TransferIterator implements Iterator<RaptorTransfer> {
+
+    private final RaptorTransfer[] transfers;
+    private final int end;
+    private int index;
+
+    private TransferIterator(RaptorTransfer[] transfers, int start, int end) {
+      this.transfers = transfers;
+      this.index = start;
+      this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < end;
+    }
+
+    @Override
+    public RaptorTransfer next() {
+      if (index >= end) {
+        throw new NoSuchElementException();
+      }
+      return transfers[index++];
+    }
   }
 }
@@ -6,9 +6,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.opentripplanner.model.transfer.TransferService;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.constrainedtransfer.ConstrainedTransfersForPatterns;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.constrainedtransfer.TransferIndexGenerator;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.RaptorRequestTransferCache;
@@ -29,6 +31,14 @@ import org.opentripplanner.transit.service.SiteRepository;
  */
 public class TransitLayer {
 
+  private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
+  /**
+   * A unique version number for each instance. A new instance is created for each real-time
+   * update, so the version can be used in cache keys instead of a reference to the layer.
+   */
+  private final long version = VERSION_COUNTER.incrementAndGet();
+
   /**
    * Transit data required for routing, indexed by each local date(Graph TimeZone) it runs through.
    * A Trip "runs through" a date if any of its arrivals or departures is happening on that date.
@@ -52,6 +62,8 @@ public class TransitLayer {
 
   private final RaptorRequestTransferCache transferCache;
 
+  private final AccessEgressCache accessEgressCache;
+
   private ConstrainedTransfersForPatterns constrainedTransfers;
 
   private final TransferIndexGenerator transferIndexGenerator;
@@ -71,6 +83,7 @@ public class TransitLayer {
       transitLayer.transferService,
       transitLayer.siteRepository,
       transitLayer.transferCache,
+      transitLayer.accessEgressCache,
       transitLayer.constrainedTransfers,
       transitLayer.transferIndexGenerator,
       transitLayer.stopBoardAlightTransferCosts
@@ -83,6 +96,7 @@ public class TransitLayer {
     TransferService transferService,
     SiteRepository siteRepository,
     RaptorRequestTransferCache transferCache,
+    AccessEgressCache accessEgressCache,
     ConstrainedTransfersForPatterns constrainedTransfers,
     TransferIndexGenerator transferIndexGenerator,
     @Nullable int[] stopBoardAlightTransferCosts
@@ -92,6 +106,7 @@ public class TransitLayer {
     this.transferService = transferService;
     this.siteRepository = siteRepository;
     this.transferCache = transferCache;
+    this.accessEgressCache = accessEgressCache;
     this.constrainedTransfers = constrainedTransfers;
     this.transferIndexGenerator = transferIndexGenerator;
     this.stopBoardAlightTransferCosts = stopBoardAlightTransferCosts;
@@ -141,6 +156,10 @@ public class TransitLayer {
       .collect(Collectors.toList());
   }
 
+  public long getVersion() {
+    return version;
+  }
+
   public TransferService getTransferService() {
     return transferService;
   }
@@ -157,6 +176,10 @@ public class TransitLayer {
     return transferCache;
   }
 
+  public AccessEgressCache getAccessEgressCache() {
+    return accessEgressCache;
+  }
+
   @Nullable
   public ConstrainedTransfersForPatterns getConstrainedTransfers() {
     return constrainedTransfers;
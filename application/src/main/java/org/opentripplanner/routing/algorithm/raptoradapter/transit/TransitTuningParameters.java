@@ -47,6 +47,21 @@ public interface TransitTuningParameters {
       return 5;
     }
 
+    @Override
+    public int accessEgressCacheMaxSize() {
+      return 0;
+    }
+
+    @Override
+    public Duration accessEgressCacheTimeToLive() {
+      return Duration.ofMinutes(30);
+    }
+
+    @Override
+    public int maxOneToManyDestinations() {
+      return 10;
+    }
+
     @Override
     public Duration maxSearchWindow() {
       return Duration.ofHours(24);
@@ -83,6 +98,23 @@ public interface TransitTuningParameters {
    */
   int transferCacheMaxSize();
 
+  /**
+   * The maximum number of access/egress street search results to cache and share between
+   * requests. Zero disables the cache.
+   */
+  int accessEgressCacheMaxSize();
+
+  /**
+   * How long an access/egress street search result is kept in the cache after it is added.
+   */
+  Duration accessEgressCacheTimeToLive();
+
+  /**
+   * The maximum number of destinations in a one-to-many search. A street search is done from each
+   * destination, so the limit protects the server from very large requests.
+   */
+  int maxOneToManyDestinations();
+
   /**
    * The maximum search window that can be set through the searchWindow API parameter. Due to the
    * way timetable data are collected before a Raptor trip search, using a search window larger than
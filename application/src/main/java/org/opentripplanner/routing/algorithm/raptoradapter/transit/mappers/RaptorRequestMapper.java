@@ -8,6 +8,7 @@ import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.raptor.api.model.GeneralizedCostRelaxFunction;
 import org.opentripplanner.raptor.api.model.RaptorAccessEgress;
@@ -37,6 +38,10 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
   private final Collection<? extends RaptorAccessEgress> accessPaths;
   private final Collection<? extends RaptorAccessEgress> egressPaths;
   private final long transitSearchTimeZeroEpocSecond;
+
+  @Nullable
+  private final Instant searchDeadline;
+
   private final boolean isMultiThreadedEnbled;
   private final MeterRegistry meterRegistry;
   private final LookupStopIndexCallback lookUpStopIndex;
@@ -47,6 +52,7 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
     Collection<? extends RaptorAccessEgress> accessPaths,
     Collection<? extends RaptorAccessEgress> egressPaths,
     long transitSearchTimeZeroEpocSecond,
+    @Nullable Instant searchDeadline,
     MeterRegistry meterRegistry,
     LookupStopIndexCallback lookUpStopIndex
   ) {
@@ -55,6 +61,7 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
     this.accessPaths = accessPaths;
     this.egressPaths = egressPaths;
     this.transitSearchTimeZeroEpocSecond = transitSearchTimeZeroEpocSecond;
+    this.searchDeadline = searchDeadline;
     this.meterRegistry = meterRegistry;
     this.lookUpStopIndex = lookUpStopIndex;
   }
@@ -62,6 +69,7 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
   public static <T extends RaptorTripSchedule> RaptorRequest<T> mapRequest(
     RouteRequest request,
     ZonedDateTime transitSearchTimeZero,
+    @Nullable Instant searchDeadline,
     boolean isMultiThreaded,
     Collection<? extends RaptorAccessEgress> accessPaths,
     Collection<? extends RaptorAccessEgress> egressPaths,
@@ -74,6 +82,7 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
       accessPaths,
       egressPaths,
       transitSearchTimeZero.toEpochSecond(),
+      searchDeadline,
       meterRegistry,
       lookUpStopIndex
     )
@@ -188,6 +197,8 @@ public class RaptorRequestMapper<T extends RaptorTripSchedule> {
       builder.searchParams().preferLateArrival(true);
     }
 
+    builder.softDeadline(searchDeadline);
+
     // Add this last, it depends on generating an alias from the set values
     if (meterRegistry != null) {
       builder.performanceTimers(
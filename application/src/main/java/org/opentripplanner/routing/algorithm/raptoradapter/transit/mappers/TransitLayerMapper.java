@@ -14,6 +14,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.raptor.api.model.RaptorCostConverter;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.Transfer;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitLayer;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitTuningParameters;
@@ -81,6 +82,10 @@ public class TransitLayerMapper {
     }
 
     var transferCache = new RaptorRequestTransferCache(tuningParameters.transferCacheMaxSize());
+    var accessEgressCache = new AccessEgressCache(
+      tuningParameters.accessEgressCacheMaxSize(),
+      tuningParameters.accessEgressCacheTimeToLive()
+    );
 
     LOG.info("Mapping complete.");
 
@@ -90,6 +95,7 @@ public class TransitLayerMapper {
       transitService.getTransferService(),
       siteRepository,
       transferCache,
+      accessEgressCache,
       constrainedTransfers,
       transferIndexGenerator,
       createStopBoardAlightTransferCosts(siteRepository, tuningParameters)
@@ -1,5 +1,6 @@
 package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.BitSet;
 import java.util.Iterator;
@@ -27,6 +28,8 @@ import org.opentripplanner.routing.algorithm.raptoradapter.transit.constrainedtr
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.cost.CostCalculatorFactory;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.GeneralizedCostParametersMapper;
 import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.framework.DurationForEnum;
+import org.opentripplanner.transit.model.basic.TransitMode;
 import org.opentripplanner.transit.model.network.RoutingTripPattern;
 import org.opentripplanner.transit.model.network.grouppriority.TransitGroupPriorityService;
 import org.opentripplanner.utils.time.ServiceDateUtils;
@@ -69,6 +72,9 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
 
   private final int validTransitDataEndTime;
 
+  @Nullable
+  private final Object cacheKey;
+
   public RaptorRoutingRequestTransitData(
     TransitLayer transitLayer,
     TransitGroupPriorityService transitGroupPriorityService,
@@ -126,6 +132,22 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
         this.transitSearchTimeZero,
         this.transitSearchTimeZero.plusDays(additionalFutureSearchDays + 1).toInstant()
       );
+
+    var filterKey = filter.cacheKey();
+    this.cacheKey =
+      filterKey == null
+        ? null
+        : new CacheKey(
+          transitLayer.getVersion(),
+          transitSearchTimeZero,
+          additionalPastSearchDays,
+          additionalFutureSearchDays,
+          filterKey,
+          transferIndex,
+          request.preferences().transfer().slack(),
+          request.preferences().transit().boardSlack(),
+          request.preferences().transit().alightSlack()
+        );
   }
 
   public RaptorRoutingRequestTransitData(
@@ -143,16 +165,17 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
     this.validTransitDataEndTime = original.validTransitDataEndTime;
     this.generalizedCostCalculator = newCostCalculator;
     this.slackProvider = original.slackProvider();
+    this.cacheKey = original.cacheKey;
   }
 
   @Override
   public Iterator<RaptorTransfer> getTransfersFromStop(int stopIndex) {
-    return transferIndex.getForwardTransfers(stopIndex).iterator();
+    return transferIndex.getForwardTransfers(stopIndex);
   }
 
   @Override
   public Iterator<? extends RaptorTransfer> getTransfersToStop(int stopIndex) {
-    return transferIndex.getReversedTransfers(stopIndex).iterator();
+    return transferIndex.getReversedTransfers(stopIndex);
   }
 
   @Override
@@ -259,4 +282,27 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
     }
     return new ConstrainedBoardingSearch(false, toStopTransfers, fromStopTransfers);
   }
+
+  @Nullable
+  @Override
+  public Object cacheKey() {
+    return cacheKey;
+  }
+
+  /**
+   * The parts of the request used to create the transit data. The transfer index is compared by
+   * identity, it is cached in the transit layer and shared by all requests with the same street
+   * preferences.
+   */
+  private record CacheKey(
+    long transitLayerVersion,
+    ZonedDateTime transitSearchTimeZero,
+    int additionalPastSearchDays,
+    int additionalFutureSearchDays,
+    Object filterKey,
+    RaptorTransferIndex transferIndex,
+    Duration transferSlack,
+    DurationForEnum<TransitMode> boardSlack,
+    DurationForEnum<TransitMode> alightSlack
+  ) {}
 }
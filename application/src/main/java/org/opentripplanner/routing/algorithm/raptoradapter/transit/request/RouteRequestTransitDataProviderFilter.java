@@ -3,11 +3,13 @@ package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import org.opentripplanner.model.PickDrop;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripPatternForDate;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.StreetMode;
 import org.opentripplanner.routing.api.request.preference.WheelchairPreferences;
+import org.opentripplanner.routing.api.request.request.filter.AllowAllTransitFilter;
 import org.opentripplanner.routing.api.request.request.filter.TransitFilter;
 import org.opentripplanner.transit.model.basic.Accessibility;
 import org.opentripplanner.transit.model.framework.FeedScopedId;
@@ -187,4 +189,34 @@ public class RouteRequestTransitDataProviderFilter implements TransitDataProvide
     }
     return result;
   }
+
+  /**
+   * Only the default filter, which includes all transit and no banned trips, can be compared.
+   * The transit filters do not implement equals.
+   */
+  @Nullable
+  @Override
+  public Object cacheKey() {
+    boolean allowAll = filters.length == 1 && filters[0] instanceof AllowAllTransitFilter;
+    if (!allowAll || !bannedTrips.isEmpty()) {
+      return null;
+    }
+    return new CacheKey(
+      requireBikesAllowed,
+      requireCarsAllowed,
+      wheelchairEnabled,
+      wheelchairPreferences,
+      includePlannedCancellations,
+      includeRealtimeCancellations
+    );
+  }
+
+  private record CacheKey(
+    boolean requireBikesAllowed,
+    boolean requireCarsAllowed,
+    boolean wheelchairEnabled,
+    WheelchairPreferences wheelchairPreferences,
+    boolean includePlannedCancellations,
+    boolean includeRealtimeCancellations
+  ) {}
 }
@@ -1,6 +1,7 @@
 package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 
 import java.util.BitSet;
+import javax.annotation.Nullable;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripPatternForDate;
 import org.opentripplanner.transit.model.network.RoutingTripPattern;
 import org.opentripplanner.transit.model.timetable.TripTimes;
@@ -37,4 +38,14 @@ public interface TransitDataProviderFilter {
     BitSet boardingPossible,
     BoardAlight boardAlight
   );
+
+  /**
+   * Return a key with the same equality as the filter, or {@code null} if the filter can not be
+   * compared with other filters. This is used to share the result of the heuristic search between
+   * requests with the same filter.
+   */
+  @Nullable
+  default Object cacheKey() {
+    return null;
+  }
 }
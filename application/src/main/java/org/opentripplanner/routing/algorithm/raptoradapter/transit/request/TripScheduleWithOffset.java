@@ -15,7 +15,9 @@ import org.opentripplanner.utils.tostring.ToStringBuilder;
  * This represents a single trip within a TripPattern, but with a time offset in seconds. This is
  * used to represent a trip on a subsequent service day than the first one in the date range used.
  * <p>
- * Use flyweight pattern, reusing TripPatternForDates data
+ * Use flyweight pattern, reusing TripPatternForDates data. A new instance is created each time a
+ * trip is looked up, so two instances are equal if they represent the same trip in the same
+ * pattern.
  */
 public final class TripScheduleWithOffset implements TripSchedule {
 
@@ -25,8 +27,9 @@ public final class TripScheduleWithOffset implements TripSchedule {
   private final IntUnaryOperator arrivalTimes;
   private final IntUnaryOperator departureTimes;
 
-  // Computed when needed later for RaptorPathToItineraryMapper
-  private TripTimes tripTimes = null;
+  // Computed when needed later for RaptorPathToItineraryMapper. The trip-times are set last, and
+  // are volatile, so the other fields are safe to read when the trip-times are set.
+  private volatile TripTimes tripTimes = null;
   private LocalDate serviceDate = null;
   private int secondsOffset;
 
@@ -103,6 +106,23 @@ public final class TripScheduleWithOffset implements TripSchedule {
     return secondsOffset;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    var that = (TripScheduleWithOffset) o;
+    return pattern == that.pattern && tripIndexForDates == that.tripIndexForDates;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * System.identityHashCode(pattern) + tripIndexForDates;
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder
@@ -123,9 +143,9 @@ public final class TripScheduleWithOffset implements TripSchedule {
       int numSchedules = tripPatternForDate.numberOfTripSchedules();
 
       if (index < numSchedules) {
-        this.tripTimes = tripPatternForDate.getTripTimes(index);
         this.serviceDate = tripPatternForDate.getServiceDate();
         this.secondsOffset = pattern.tripPatternForDateOffsets(i);
+        this.tripTimes = tripPatternForDate.getTripTimes(index);
         return;
       }
       index -= numSchedules;
@@ -3,6 +3,7 @@ package org.opentripplanner.routing.algorithm.transferoptimization;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.api.path.RaptorPath;
 import org.opentripplanner.routing.algorithm.raptoradapter.path.PathDiff;
@@ -15,6 +16,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Optimize the transfers of each path returned by Raptor. The paths are optimized independently of
+ * each other, so this is done in parallel using the request executor.
+ *
  * @param <T> The TripSchedule type defined by the user of the raptor API.
  */
 public class OptimizeTransferService<T extends RaptorTripSchedule> {
@@ -25,21 +29,28 @@ public class OptimizeTransferService<T extends RaptorTripSchedule> {
   private final OptimizePathDomainService<T> optimizePathDomainService;
   private final MinSafeTransferTimeCalculator<T> minSafeTransferTimeCalculator;
   private final TransferWaitTimeCostCalculator transferWaitTimeCostCalculator;
+  private final OtpRequestExecutor requestExecutor;
 
   public OptimizeTransferService(
     OptimizePathDomainService<T> optimizePathDomainService,
     MinSafeTransferTimeCalculator<T> minSafeTransferTimeCalculator,
-    TransferWaitTimeCostCalculator transferWaitTimeCostCalculator
+    TransferWaitTimeCostCalculator transferWaitTimeCostCalculator,
+    OtpRequestExecutor requestExecutor
   ) {
     this.optimizePathDomainService = optimizePathDomainService;
     this.minSafeTransferTimeCalculator = minSafeTransferTimeCalculator;
     this.transferWaitTimeCostCalculator = transferWaitTimeCostCalculator;
+    this.requestExecutor = requestExecutor;
   }
 
-  public OptimizeTransferService(OptimizePathDomainService<T> optimizePathDomainService) {
+  public OptimizeTransferService(
+    OptimizePathDomainService<T> optimizePathDomainService,
+    OtpRequestExecutor requestExecutor
+  ) {
     this.optimizePathDomainService = optimizePathDomainService;
     this.minSafeTransferTimeCalculator = null;
     this.transferWaitTimeCostCalculator = null;
+    this.requestExecutor = requestExecutor;
   }
 
   public List<RaptorPath<T>> optimize(Collection<RaptorPath<T>> paths) {
@@ -47,10 +58,21 @@ public class OptimizeTransferService<T extends RaptorTripSchedule> {
 
     long start = LOG.isDebugEnabled() ? System.currentTimeMillis() : 0;
 
-    List<RaptorPath<T>> results = new ArrayList<>();
+    // Optimize each path in a separate task, the results are kept in the same order as the paths
+    var input = List.copyOf(paths);
+    List<Collection<OptimizedPath<T>>> optimized = new ArrayList<>(input.size());
+    var tasks = new Runnable[input.size()];
 
-    for (var path : paths) {
-      results.addAll(optimize(path));
+    for (int i = 0; i < tasks.length; ++i) {
+      optimized.add(null);
+      final int index = i;
+      tasks[i] = () -> optimized.set(index, optimize(input.get(index)));
+    }
+    requestExecutor.runAll(tasks);
+
+    List<RaptorPath<T>> results = new ArrayList<>();
+    for (var it : optimized) {
+      results.addAll(it);
     }
 
     if (LOG.isDebugEnabled()) {
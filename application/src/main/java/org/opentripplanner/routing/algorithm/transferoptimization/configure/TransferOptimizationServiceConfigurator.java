@@ -2,6 +2,7 @@ package org.opentripplanner.routing.algorithm.transferoptimization.configure;
 
 import java.util.function.IntFunction;
 import javax.annotation.Nullable;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.model.transfer.TransferService;
 import org.opentripplanner.raptor.api.model.RaptorStopNameResolver;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
@@ -35,6 +36,7 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
 
   private final TransferOptimizationParameters config;
   private final MultiCriteriaRequest<T> multiCriteriaRequest;
+  private final OtpRequestExecutor requestExecutor;
 
   private TransferOptimizationServiceConfigurator(
     IntFunction<StopLocation> stopLookup,
@@ -43,7 +45,8 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
     RaptorTransitDataProvider<T> transitDataProvider,
     int[] stopBoardAlightTransferCosts,
     TransferOptimizationParameters config,
-    MultiCriteriaRequest<T> multiCriteriaRequest
+    MultiCriteriaRequest<T> multiCriteriaRequest,
+    OtpRequestExecutor requestExecutor
   ) {
     this.stopLookup = stopLookup;
     this.stopNameResolver = stopNameResolver;
@@ -52,6 +55,7 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
     this.stopBoardAlightTransferCosts = stopBoardAlightTransferCosts;
     this.config = config;
     this.multiCriteriaRequest = multiCriteriaRequest;
+    this.requestExecutor = requestExecutor;
   }
 
   /**
@@ -66,7 +70,8 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
     RaptorTransitDataProvider<T> transitDataProvider,
     @Nullable int[] stopBoardAlightTransferCosts,
     TransferOptimizationParameters config,
-    MultiCriteriaRequest<T> multiCriteriaRequest
+    MultiCriteriaRequest<T> multiCriteriaRequest,
+    OtpRequestExecutor requestExecutor
   ) {
     return new TransferOptimizationServiceConfigurator<T>(
       stopLookup,
@@ -75,7 +80,8 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
       transitDataProvider,
       stopBoardAlightTransferCosts,
       config,
-      multiCriteriaRequest
+      multiCriteriaRequest,
+      requestExecutor
     )
       .createOptimizeTransferService();
   }
@@ -95,7 +101,8 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
       return new OptimizeTransferService<>(
         transfersPermutationService,
         createMinSafeTxTimeService(),
-        transferWaitTimeCalculator
+        transferWaitTimeCalculator,
+        requestExecutor
       );
     } else {
       var transfersPermutationService = createOptimizePathService(
@@ -103,7 +110,7 @@ public class TransferOptimizationServiceConfigurator<T extends RaptorTripSchedul
         null,
         transitDataProvider.multiCriteriaCostCalculator()
       );
-      return new OptimizeTransferService<>(transfersPermutationService);
+      return new OptimizeTransferService<>(transfersPermutationService, requestExecutor);
     }
   }
 
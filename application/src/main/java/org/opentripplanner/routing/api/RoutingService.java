@@ -1,13 +1,23 @@
 package org.opentripplanner.routing.api;
 
+import java.util.List;
+import org.opentripplanner.model.GenericLocation;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.RouteViaRequest;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
 import org.opentripplanner.routing.api.response.RoutingResponse;
 import org.opentripplanner.routing.api.response.ViaRoutingResponse;
 
 public interface RoutingService {
   RoutingResponse route(RouteRequest request);
 
+  /**
+   * Find the travel time from the origin of the request to each of the given destinations, with
+   * one transit search. The destination of the request is ignored. This is exposed in the legacy
+   * REST API as the {@code travelTimes} endpoint.
+   */
+  OneToManyResponse route(RouteRequest request, List<GenericLocation> destinations);
+
   /**
    * @deprecated We will replace the complex via-search with a simpler version part of the
    *      existing trip search.
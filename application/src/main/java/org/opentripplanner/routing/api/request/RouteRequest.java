@@ -79,6 +79,9 @@ public class RouteRequest implements Cloneable, Serializable {
 
   private Instant bookingTime;
 
+  @Nullable
+  private Instant searchDeadline;
+
   /* CONSTRUCTORS */
 
   /** Constructor for options; modes defaults to walk and transit */
@@ -125,6 +128,17 @@ public class RouteRequest implements Cloneable, Serializable {
     return this;
   }
 
+  /**
+   * The street searches are limited to the time left until this deadline, see
+   * {@link org.opentripplanner.routing.api.request.preference.SystemPreferences#searchTimeBudget()}.
+   * The deadline is set on a copy of the request when the search starts, and is not part of the
+   * API.
+   */
+  @Nullable
+  public Instant searchDeadline() {
+    return searchDeadline;
+  }
+
   void setPreferences(RoutingPreferences preferences) {
     this.preferences = preferences;
   }
@@ -250,6 +264,16 @@ public class RouteRequest implements Cloneable, Serializable {
     return copy;
   }
 
+  /**
+   * Copy the request and set the search deadline. The deadline is only valid for one search, so
+   * it is never set on the request passed in by the caller.
+   */
+  public RouteRequest copyWithSearchDeadline(Instant searchDeadline) {
+    RouteRequest copy = clone();
+    copy.searchDeadline = searchDeadline;
+    return copy;
+  }
+
   @Override
   public RouteRequest clone() {
     try {
@@ -31,12 +31,14 @@ public class SystemPreferences implements Serializable {
   private final DataOverlayParameters dataOverlay;
   private final boolean geoidElevation;
   private final Duration maxJourneyDuration;
+  private final Duration searchTimeBudget;
 
   private SystemPreferences() {
     this.tags = Set.of();
     this.dataOverlay = null;
     this.geoidElevation = false;
     this.maxJourneyDuration = Duration.ofHours(24);
+    this.searchTimeBudget = Duration.ZERO;
   }
 
   private SystemPreferences(Builder builder) {
@@ -44,6 +46,10 @@ public class SystemPreferences implements Serializable {
     this.dataOverlay = builder.dataOverlay;
     this.geoidElevation = builder.geoidElevation;
     this.maxJourneyDuration = Objects.requireNonNull(builder.maxJourneyDuration);
+    this.searchTimeBudget = Objects.requireNonNull(builder.searchTimeBudget);
+    if (searchTimeBudget.isNegative()) {
+      throw new IllegalArgumentException("Negative searchTimeBudget: " + searchTimeBudget);
+    }
   }
 
   public static SystemPreferences.Builder of() {
@@ -75,6 +81,14 @@ public class SystemPreferences implements Serializable {
     return maxJourneyDuration;
   }
 
+  /**
+   * The time a search may take before it is degraded to return the best results found so far. If
+   * zero, the search is not degraded.
+   */
+  public Duration searchTimeBudget() {
+    return searchTimeBudget;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -84,13 +98,14 @@ public class SystemPreferences implements Serializable {
       geoidElevation == that.geoidElevation &&
       tags.equals(that.tags) &&
       Objects.equals(dataOverlay, that.dataOverlay) &&
-      maxJourneyDuration.equals(that.maxJourneyDuration)
+      maxJourneyDuration.equals(that.maxJourneyDuration) &&
+      searchTimeBudget.equals(that.searchTimeBudget)
     );
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(tags, dataOverlay, geoidElevation, maxJourneyDuration);
+    return Objects.hash(tags, dataOverlay, geoidElevation, maxJourneyDuration, searchTimeBudget);
   }
 
   @Override
@@ -101,6 +116,7 @@ public class SystemPreferences implements Serializable {
       .addObj("dataOverlay", dataOverlay, DEFAULT.dataOverlay)
       .addBoolIfTrue("geoidElevation", geoidElevation)
       .addDuration("maxJourneyDuration", maxJourneyDuration, DEFAULT.maxJourneyDuration)
+      .addDuration("searchTimeBudget", searchTimeBudget, DEFAULT.searchTimeBudget)
       .toString();
   }
 
@@ -112,6 +128,7 @@ public class SystemPreferences implements Serializable {
     private DataOverlayParameters dataOverlay;
     private boolean geoidElevation;
     private Duration maxJourneyDuration;
+    private Duration searchTimeBudget;
 
     public Builder(SystemPreferences original) {
       this.original = original;
@@ -119,6 +136,7 @@ public class SystemPreferences implements Serializable {
       this.dataOverlay = original.dataOverlay;
       this.geoidElevation = original.geoidElevation;
       this.maxJourneyDuration = original.maxJourneyDuration;
+      this.searchTimeBudget = original.searchTimeBudget;
     }
 
     public SystemPreferences original() {
@@ -145,6 +163,11 @@ public class SystemPreferences implements Serializable {
       return this;
     }
 
+    public Builder withSearchTimeBudget(Duration searchTimeBudget) {
+      this.searchTimeBudget = searchTimeBudget;
+      return this;
+    }
+
     public Builder apply(Consumer<Builder> body) {
       body.accept(this);
       return this;
@@ -0,0 +1,100 @@
+package org.opentripplanner.routing.api.response;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+
+/**
+ * The travel time from one origin to each of a list of destinations, departing at the requested
+ * time. The travel times are kept in one primitive array, in the same order as the destinations,
+ * so a row of a travel time matrix is cheap to create and to serialize.
+ */
+public class OneToManyResponse {
+
+  /** The travel time used for destinations which can not be reached. */
+  public static final int UNREACHABLE = -1;
+
+  private final Instant departureTime;
+  private final List<GenericLocation> destinations;
+  private final int[] durations;
+
+  public OneToManyResponse(
+    Instant departureTime,
+    List<GenericLocation> destinations,
+    int[] durations
+  ) {
+    if (destinations.size() != durations.length) {
+      throw new IllegalArgumentException(
+        "Expected one duration for each destination: " +
+        destinations.size() +
+        " != " +
+        durations.length
+      );
+    }
+    this.departureTime = departureTime;
+    this.destinations = List.copyOf(destinations);
+    this.durations = durations;
+  }
+
+  /** Create a response where none of the destinations are reached. */
+  public static OneToManyResponse unreachable(
+    Instant departureTime,
+    List<GenericLocation> destinations
+  ) {
+    int[] durations = new int[destinations.size()];
+    Arrays.fill(durations, UNREACHABLE);
+    return new OneToManyResponse(departureTime, destinations, durations);
+  }
+
+  public Instant departureTime() {
+    return departureTime;
+  }
+
+  public List<GenericLocation> destinations() {
+    return destinations;
+  }
+
+  public int size() {
+    return durations.length;
+  }
+
+  public boolean isReachable(int destinationIndex) {
+    return durations[destinationIndex] != UNREACHABLE;
+  }
+
+  /**
+   * The travel time in seconds to the destination with the given index, or {@link #UNREACHABLE}.
+   */
+  public int durationInSeconds(int destinationIndex) {
+    return durations[destinationIndex];
+  }
+
+  public Optional<Duration> duration(int destinationIndex) {
+    return isReachable(destinationIndex)
+      ? Optional.of(Duration.ofSeconds(durations[destinationIndex]))
+      : Optional.empty();
+  }
+
+  public Optional<Instant> arrivalTime(int destinationIndex) {
+    return duration(destinationIndex).map(departureTime::plus);
+  }
+
+  /** The travel time to all destinations in seconds, {@link #UNREACHABLE} if not reached. */
+  public int[] durationsInSeconds() {
+    return Arrays.copyOf(durations, durations.length);
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder
+      .of(OneToManyResponse.class)
+      .addDateTime("departureTime", departureTime)
+      .addColSize("destinations", destinations)
+      .addInts("durations", durations)
+      .toString();
+  }
+}
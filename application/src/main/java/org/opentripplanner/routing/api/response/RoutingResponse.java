@@ -14,6 +14,7 @@ public class RoutingResponse {
   private final TripSearchMetadata metadata;
   private final List<RoutingError> routingErrors;
   private final DebugTimingAggregator debugTimingAggregator;
+  private final boolean searchWindowTruncated;
 
   public RoutingResponse(
     TripPlan tripPlan,
@@ -22,6 +23,26 @@ public class RoutingResponse {
     TripSearchMetadata metadata,
     List<RoutingError> routingErrors,
     DebugTimingAggregator debugTimingAggregator
+  ) {
+    this(
+      tripPlan,
+      previousPageCursor,
+      nextPageCursor,
+      metadata,
+      routingErrors,
+      debugTimingAggregator,
+      false
+    );
+  }
+
+  public RoutingResponse(
+    TripPlan tripPlan,
+    PageCursor previousPageCursor,
+    PageCursor nextPageCursor,
+    TripSearchMetadata metadata,
+    List<RoutingError> routingErrors,
+    DebugTimingAggregator debugTimingAggregator,
+    boolean searchWindowTruncated
   ) {
     this.tripPlan = tripPlan;
     this.nextPageCursor = nextPageCursor;
@@ -29,6 +50,7 @@ public class RoutingResponse {
     this.metadata = metadata;
     this.routingErrors = routingErrors;
     this.debugTimingAggregator = debugTimingAggregator;
+    this.searchWindowTruncated = searchWindowTruncated;
   }
 
   public TripPlan getTripPlan() {
@@ -55,6 +77,16 @@ public class RoutingResponse {
     return routingErrors;
   }
 
+  /**
+   * The search used the whole search time budget, and the transit search stopped before the
+   * whole search-window was searched. The itineraries are the best found in the reduced
+   * search-window, see {@link TripSearchMetadata#searchWindowUsed}. Paging to the next/previous
+   * page continues from the part of the search-window searched.
+   */
+  public boolean isSearchWindowTruncated() {
+    return searchWindowTruncated;
+  }
+
   /**
    * Generate empty result with just an error.
    */
@@ -71,6 +103,7 @@ public class RoutingResponse {
       .addObj("previousPageCursor", previousPageCursor)
       .addObj("metadata", metadata)
       .addObj("routingErrors", routingErrors)
+      .addBoolIfTrue("searchWindowTruncated", searchWindowTruncated)
       .toString();
   }
 }
@@ -13,4 +13,13 @@ public interface FareService extends Serializable {
    * @param itinerary the OTP2 Itinerary for which we want to compute a fare
    */
   ItineraryFares calculateFares(Itinerary itinerary);
+
+  /**
+   * Return a fare service to use for the itineraries of one request. The itineraries of a request
+   * often share legs, so an implementation may cache results across them. The returned service is
+   * used by one thread only. The default is to return this instance.
+   */
+  default FareService forRequest() {
+    return this;
+  }
 }
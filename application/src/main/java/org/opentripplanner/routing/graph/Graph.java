@@ -22,6 +22,8 @@ import org.opentripplanner.routing.fares.FareService;
 import org.opentripplanner.routing.graph.index.StreetIndex;
 import org.opentripplanner.routing.linking.VertexLinker;
 import org.opentripplanner.routing.services.notes.StreetNotesService;
+import org.opentripplanner.street.model.StopReachabilityIndex;
+import org.opentripplanner.street.model.StreetLandmarks;
 import org.opentripplanner.street.model.edge.Edge;
 import org.opentripplanner.street.model.edge.StreetEdge;
 import org.opentripplanner.street.model.vertex.TransitStopVertex;
@@ -112,6 +114,14 @@ public class Graph implements Serializable {
 
   private FareService fareService;
 
+  /** Precomputed car travel times used to speed up car searches, null if not built. */
+  @Nullable
+  private StreetLandmarks streetLandmarks;
+
+  /** Precomputed walk distances to nearby stops used by the access/egress search, may be null. */
+  @Nullable
+  private StopReachabilityIndex stopReachabilityIndex;
+
   /**
    * Hack. I've tried three different ways of generating unique labels. Previously we were just
    * tolerating edge label collisions. For some reason we're repeatedly generating splits on the
@@ -368,6 +378,24 @@ public class Graph implements Serializable {
     this.fareService = fareService;
   }
 
+  @Nullable
+  public StreetLandmarks getStreetLandmarks() {
+    return streetLandmarks;
+  }
+
+  public void setStreetLandmarks(@Nullable StreetLandmarks streetLandmarks) {
+    this.streetLandmarks = streetLandmarks;
+  }
+
+  @Nullable
+  public StopReachabilityIndex getStopReachabilityIndex() {
+    return stopReachabilityIndex;
+  }
+
+  public void setStopReachabilityIndex(@Nullable StopReachabilityIndex stopReachabilityIndex) {
+    this.stopReachabilityIndex = stopReachabilityIndex;
+  }
+
   private void indexIfNotIndexed(SiteRepository siteRepository) {
     if (streetIndex == null) {
       index(siteRepository);
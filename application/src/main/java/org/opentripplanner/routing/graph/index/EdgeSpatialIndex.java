@@ -1,8 +1,10 @@
 package org.opentripplanner.routing.graph.index;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.LineString;
+import org.opentripplanner.framework.geometry.ConcurrentHashGridSpatialIndex;
 import org.opentripplanner.framework.geometry.HashGridSpatialIndex;
 import org.opentripplanner.routing.linking.Scope;
 import org.opentripplanner.street.model.edge.Edge;
@@ -14,7 +16,12 @@ import org.opentripplanner.street.model.edge.Edge;
  * the permanent index and inserts into the realtime index REQUEST: Looks at both the permanent and
  * realtime indexes and does not insert into any index
  * <p>
- * NOTES ON CONCURRENCY: It is possible that an A Star search would find an edge in the
+ * NOTES ON CONCURRENCY: The realtime index is written by the updaters while request threads query
+ * it, so it uses a copy-on-write {@link ConcurrentHashGridSpatialIndex}. Queries never block and
+ * never see a partially updated bin. The permanent index is only written during graph build and
+ * startup, and uses the more compact {@link HashGridSpatialIndex}.
+ * <p>
+ * It is possible that an A Star search would find an edge in the
  * realTimeIndex which is then removed before the actual routing starts. This could result in a
  * NullPointerException on the from/to vertex of the Edge being routed on. This happens seldom
  * enough that we have not accounted for it.
@@ -34,12 +41,19 @@ public class EdgeSpatialIndex {
 
   private final HashGridSpatialIndex<Edge> permanentEdgeIndex = new HashGridSpatialIndex<>();
 
-  private final HashGridSpatialIndex<Edge> realTimeEdgeIndex = new HashGridSpatialIndex<>();
+  private final ConcurrentHashGridSpatialIndex<Edge> realTimeEdgeIndex =
+    new ConcurrentHashGridSpatialIndex<>();
+
+  /** Incremented every time an edge is inserted into or removed from the realtime index. */
+  private final AtomicLong realTimeVersion = new AtomicLong();
 
   public void insert(LineString lineString, Object obj, Scope scope) {
     switch (scope) {
       case PERMANENT -> permanentEdgeIndex.insert(lineString, obj);
-      case REALTIME -> realTimeEdgeIndex.insert(lineString, obj);
+      case REALTIME -> {
+        realTimeEdgeIndex.insert(lineString, obj);
+        realTimeVersion.incrementAndGet();
+      }
       case REQUEST -> throw new IllegalArgumentException();
     }
   }
@@ -47,11 +61,22 @@ public class EdgeSpatialIndex {
   public void remove(Envelope envelope, final Object item, Scope scope) {
     switch (scope) {
       case PERMANENT -> permanentEdgeIndex.remove(envelope, item);
-      case REALTIME -> realTimeEdgeIndex.remove(envelope, item);
+      case REALTIME -> {
+        realTimeEdgeIndex.remove(envelope, item);
+        realTimeVersion.incrementAndGet();
+      }
       case REQUEST -> throw new IllegalArgumentException();
     }
   }
 
+  /**
+   * The version of the realtime index. The version changes every time a realtime edge is added or
+   * removed, so a result computed with the realtime edges can be discarded when they change.
+   */
+  public long realTimeVersion() {
+    return realTimeVersion.get();
+  }
+
   public final Stream<Edge> query(Envelope envelope, Scope scope) {
     return switch (scope) {
       case PERMANENT, REALTIME -> permanentEdgeIndex.query(envelope).stream();
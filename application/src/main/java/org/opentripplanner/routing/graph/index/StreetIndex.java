@@ -1,5 +1,6 @@
 package org.opentripplanner.routing.graph.index;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -13,7 +14,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.LineString;
 import org.opentripplanner.framework.geometry.GeometryUtils;
-import org.opentripplanner.framework.geometry.HashGridSpatialIndex;
+import org.opentripplanner.framework.geometry.PackedHashGridSpatialIndex;
 import org.opentripplanner.framework.geometry.SphericalDistanceLibrary;
 import org.opentripplanner.framework.geometry.SplitLineString;
 import org.opentripplanner.framework.i18n.I18NString;
@@ -69,7 +70,7 @@ public class StreetIndex {
   private final Map<FeedScopedId, StationCentroidVertex> stationCentroidVertices;
 
   private final EdgeSpatialIndex edgeSpatialIndex;
-  private final HashGridSpatialIndex<Vertex> verticesTree;
+  private final PackedHashGridSpatialIndex<Vertex> verticesTree;
 
   /**
    * Should only be called by the graph.
@@ -77,11 +78,10 @@ public class StreetIndex {
   public StreetIndex(Graph graph, SiteRepository siteRepository) {
     this.siteRepository = siteRepository;
     this.edgeSpatialIndex = new EdgeSpatialIndex();
-    this.verticesTree = new HashGridSpatialIndex<>();
     this.vertexLinker = new VertexLinker(graph, siteRepository, edgeSpatialIndex);
     this.transitStopVertices = toImmutableMap(graph.getVerticesOfType(TransitStopVertex.class));
     this.stationCentroidVertices = createStationCentroidVertexMap(graph);
-    postSetup(graph.getVertices());
+    this.verticesTree = postSetup(graph.getVertices());
   }
 
   /**
@@ -156,9 +156,13 @@ public class StreetIndex {
    * Returns the vertices intersecting with the specified envelope.
    */
   public List<Vertex> getVerticesForEnvelope(Envelope envelope) {
-    List<Vertex> vertices = verticesTree.query(envelope);
-    // Here we assume vertices list modifiable
-    vertices.removeIf(v -> !envelope.contains(new Coordinate(v.getLon(), v.getLat())));
+    List<Vertex> vertices = new ArrayList<>();
+    verticesTree.query(envelope, id -> {
+      Vertex v = verticesTree.item(id);
+      if (envelope.contains(v.getLon(), v.getLat())) {
+        vertices.add(v);
+      }
+    });
     return vertices;
   }
 
@@ -432,17 +436,18 @@ public class StreetIndex {
     return nonTransitMode;
   }
 
-  private void postSetup(Collection<Vertex> vertices) {
+  private PackedHashGridSpatialIndex<Vertex> postSetup(Collection<Vertex> vertices) {
     var progress = ProgressTracker.track("Index street vertex", 1000, vertices.size());
     LOG.info(progress.startMessage());
 
+    var vertexIndex = PackedHashGridSpatialIndex.<Vertex>of();
     for (Vertex gv : vertices) {
       for (Edge e : gv.getOutgoing()) {
         LineString geometry = edgeGeometryOrStraightLine(e);
         edgeSpatialIndex.insert(geometry, e, Scope.PERMANENT);
       }
       Envelope env = new Envelope(gv.getCoordinate());
-      verticesTree.insert(env, gv);
+      vertexIndex.insert(env, gv);
 
       //noinspection Convert2MethodRef
       progress.step(m -> LOG.info(m));
@@ -450,8 +455,8 @@ public class StreetIndex {
 
     // Trim the sizes of the indices
     edgeSpatialIndex.compact();
-    verticesTree.compact();
     LOG.info(progress.completeMessage());
+    return vertexIndex.build();
   }
 
   private static Map<FeedScopedId, TransitStopVertex> toImmutableMap(
@@ -119,6 +119,13 @@ public class VertexLinker {
     return link(vertex, traverseModes, direction, Scope.REQUEST, edgeFunction);
   }
 
+  /**
+   * The version of the edges linked for realtime, see {@link EdgeSpatialIndex#realTimeVersion()}.
+   */
+  public long realTimeEdgesVersion() {
+    return edgeSpatialIndex.realTimeVersion();
+  }
+
   public void removeEdgeFromIndex(Edge edge, Scope scope) {
     // Edges without geometry will not have been added to the index in the first place
     if (edge.getGeometry() != null) {
@@ -1,14 +1,18 @@
 package org.opentripplanner.routing.service;
 
 import java.time.ZoneId;
+import java.util.List;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.framework.time.ZoneIdFallback;
+import org.opentripplanner.model.GenericLocation;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.routing.algorithm.RoutingWorker;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.OneToManyRouter;
 import org.opentripplanner.routing.algorithm.via.ViaRoutingWorker;
 import org.opentripplanner.routing.api.RoutingService;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.RouteViaRequest;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
 import org.opentripplanner.routing.api.response.RoutingResponse;
 import org.opentripplanner.routing.api.response.ViaRoutingResponse;
 import org.opentripplanner.standalone.api.OtpServerRequestContext;
@@ -39,10 +43,23 @@ public class DefaultRoutingService implements RoutingService {
     LOG.debug("Request: {}", request);
     OTPRequestTimeoutException.checkForTimeout();
     request.validateOriginAndDestination();
-    var worker = new RoutingWorker(serverContext, request, timeZone);
-    var response = worker.route();
-    logResponse(response);
-    return response;
+    try (var permit = serverContext.admissionController().acquire()) {
+      var worker = new RoutingWorker(serverContext, request, timeZone);
+      var response = worker.route();
+      logResponse(response);
+      return response;
+    }
+  }
+
+  @Override
+  public OneToManyResponse route(RouteRequest request, List<GenericLocation> destinations) {
+    LOG.debug("Request: {}, destinations: {}", request, destinations.size());
+    OTPRequestTimeoutException.checkForTimeout();
+    try (var permit = serverContext.admissionController().acquire()) {
+      var response = OneToManyRouter.route(request, destinations, serverContext, timeZone);
+      LOG.debug("Response: {}", response);
+      return response;
+    }
   }
 
   @Override
@@ -55,7 +72,9 @@ public class DefaultRoutingService implements RoutingService {
         new RoutingWorker(serverContext, req, serverContext.transitService().getTimeZone()).route()
     );
     // TODO: Add output logging here, see route(..) method
-    return viaRoutingWorker.route();
+    try (var permit = serverContext.admissionController().acquire()) {
+      return viaRoutingWorker.route();
+    }
   }
 
   private void logResponse(RoutingResponse response) {
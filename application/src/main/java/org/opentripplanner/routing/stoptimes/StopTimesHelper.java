@@ -1,9 +1,11 @@
 package org.opentripplanner.routing.stoptimes;
 
 import static org.opentripplanner.routing.stoptimes.ArrivalDeparture.ARRIVALS;
+import static org.opentripplanner.routing.stoptimes.ArrivalDeparture.BOTH;
 import static org.opentripplanner.routing.stoptimes.ArrivalDeparture.DEPARTURES;
 
 import com.google.common.collect.MinMaxPriorityQueue;
+import gnu.trove.set.TIntSet;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -17,6 +19,7 @@ import java.util.Queue;
 import org.opentripplanner.model.PickDrop;
 import org.opentripplanner.model.StopTimesInPattern;
 import org.opentripplanner.model.Timetable;
+import org.opentripplanner.model.TimetableStopTimesIndex;
 import org.opentripplanner.model.TripTimeOnDate;
 import org.opentripplanner.transit.model.network.TripPattern;
 import org.opentripplanner.transit.model.site.StopLocation;
@@ -202,16 +205,16 @@ public class StopTimesHelper {
     // datesUntil is exclusive in the end, so need to add one day
     List<LocalDate> serviceDates = startDate.datesUntil(endDate.plusDays(1)).toList();
 
-    // The bounded priority Q is used to keep a sorted short list of trip times. We can not
-    // rely on the trip times to be in order because of real-time updates. This code can
-    // probably be optimized, and the trip search in the Raptor search does almost the same
-    // thing. This is no part of a routing request, but is a used frequently in some
-    // operation like Entur for "departure boards" (apps, widgets, screens on platforms, and
-    // hotel lobbies). Setting the numberOfDepartures and timeRange to a big number for a
-    // transit hub could result in a DOS attack, but there are probably other more effective
-    // ways to do it.
+    // The bounded priority Q is used to keep a sorted short list of trip times. The trip times
+    // are looked up using the timetable stop times index, which is sorted on arrival and
+    // departure time for each stop. This allows us to skip directly to the start of the time
+    // range and stop when the end is reached, instead of visiting all trips. This is not part
+    // of a routing request, but is used frequently in some operations like Entur for "departure
+    // boards" (apps, widgets, screens on platforms, and hotel lobbies). Setting the
+    // numberOfDepartures and timeRange to a big number for a transit hub could result in a DOS
+    // attack, but there are probably other more effective ways to do it.
     //
-    // The {@link MinMaxPriorityQueue} is marked beta, but we do not have a god alternative.
+    // The {@link MinMaxPriorityQueue} is marked beta, but we do not have a good alternative.
     MinMaxPriorityQueue<TripTimeOnDate> pq = MinMaxPriorityQueue
       .orderedBy(
         Comparator.comparing((TripTimeOnDate tts) ->
@@ -244,35 +247,70 @@ public class StopTimesHelper {
             continue;
           }
 
-          for (TripTimes tripTimes : timetable.getTripTimes()) {
-            if (!servicesRunning.contains(tripTimes.getServiceCode())) {
-              continue;
-            }
-            if (skipByTripCancellation(tripTimes, includeCancellations)) {
-              continue;
-            }
-            if (
-              !includeReplaced &&
-              isReplacedByAnotherPattern(tripTimes.getTrip(), serviceDate, pattern, transitService)
+          int endTime = secondsSinceMidnight + timeRangeSeconds;
+          TimetableStopTimesIndex index = timetable.getStopTimesIndex();
+
+          // DEPARTURES or BOTH: Add trips with the departure time within range
+          if (arrivalDeparture != ARRIVALS) {
+            int nAdded = 0;
+            for (
+              int i = index.findFirstDeparture(stopIndex, secondsSinceMidnight);
+              i < index.numberOfTrips() && index.departureTime(stopIndex, i) <= endTime;
+              ++i
             ) {
-              continue;
+              TripTimes tripTimes = timetable.getTripTimes(index.departureTripIndex(stopIndex, i));
+              if (
+                skipTripTimes(
+                  tripTimes,
+                  servicesRunning,
+                  includeCancellations,
+                  includeReplaced,
+                  serviceDate,
+                  pattern,
+                  transitService
+                )
+              ) {
+                continue;
+              }
+              pq.add(
+                new TripTimeOnDate(tripTimes, stopIndex, pattern, serviceDate, midnight.toInstant())
+              );
+              // The departures are visited in the same order as the queue is sorted, so all
+              // later departures would be dropped by the bounded queue.
+              if (++nAdded == numberOfDepartures) {
+                break;
+              }
             }
+          }
 
-            boolean departureTimeInRange =
-              tripTimes.getDepartureTime(stopIndex) >= secondsSinceMidnight &&
-              tripTimes.getDepartureTime(stopIndex) <= secondsSinceMidnight + timeRangeSeconds;
-
-            boolean arrivalTimeInRange =
-              tripTimes.getArrivalTime(stopIndex) >= secondsSinceMidnight &&
-              tripTimes.getArrivalTime(stopIndex) <= secondsSinceMidnight + timeRangeSeconds;
-
-            // ARRIVAL: Arrival time has to be within range
-            // DEPARTURES: Departure time has to be within range
-            // BOTH: Either arrival time or departure time has to be within range
-            if (
-              (arrivalDeparture != ARRIVALS && departureTimeInRange) ||
-              (arrivalDeparture != DEPARTURES && arrivalTimeInRange)
+          // ARRIVALS or BOTH: Add trips with the arrival time within range, for BOTH skip the
+          // trips already added above
+          if (arrivalDeparture != DEPARTURES) {
+            for (
+              int i = index.findFirstArrival(stopIndex, secondsSinceMidnight);
+              i < index.numberOfTrips() && index.arrivalTime(stopIndex, i) <= endTime;
+              ++i
             ) {
+              TripTimes tripTimes = timetable.getTripTimes(index.arrivalTripIndex(stopIndex, i));
+              if (arrivalDeparture == BOTH) {
+                int departureTime = tripTimes.getDepartureTime(stopIndex);
+                if (departureTime >= secondsSinceMidnight && departureTime <= endTime) {
+                  continue;
+                }
+              }
+              if (
+                skipTripTimes(
+                  tripTimes,
+                  servicesRunning,
+                  includeCancellations,
+                  includeReplaced,
+                  serviceDate,
+                  pattern,
+                  transitService
+                )
+              ) {
+                continue;
+              }
               pq.add(
                 new TripTimeOnDate(tripTimes, stopIndex, pattern, serviceDate, midnight.toInstant())
               );
@@ -285,6 +323,27 @@ public class StopTimesHelper {
     return pq;
   }
 
+  private static boolean skipTripTimes(
+    TripTimes tripTimes,
+    TIntSet servicesRunning,
+    boolean includeCancellations,
+    boolean includeReplaced,
+    LocalDate serviceDate,
+    TripPattern pattern,
+    TransitService transitService
+  ) {
+    if (!servicesRunning.contains(tripTimes.getServiceCode())) {
+      return true;
+    }
+    if (skipByTripCancellation(tripTimes, includeCancellations)) {
+      return true;
+    }
+    return (
+      !includeReplaced &&
+      isReplacedByAnotherPattern(tripTimes.getTrip(), serviceDate, pattern, transitService)
+    );
+  }
+
   private static boolean isReplacedByAnotherPattern(
     Trip trip,
     LocalDate serviceDate,
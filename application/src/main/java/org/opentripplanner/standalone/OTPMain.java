@@ -8,6 +8,7 @@ import org.geotools.referencing.factory.DeferredAuthorityFactory;
 import org.geotools.util.WeakCollectionCleaner;
 import org.opentripplanner.framework.application.ApplicationShutdownSupport;
 import org.opentripplanner.framework.application.OtpAppException;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.graph_builder.GraphBuilder;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
 import org.opentripplanner.raptor.configure.RaptorConfig;
@@ -206,7 +207,11 @@ public class OTPMain {
     if (params.doServe()) {
       GrizzlyServer grizzlyServer = app.createGrizzlyServer();
 
-      registerShutdownHookToGracefullyShutDownServer(app.timetableRepository(), app.raptorConfig());
+      registerShutdownHookToGracefullyShutDownServer(
+        app.timetableRepository(),
+        app.raptorConfig(),
+        app.requestExecutor()
+      );
 
       // Loop to restart server on uncaught fatal exceptions.
       while (true) {
@@ -234,7 +239,8 @@ public class OTPMain {
    */
   private static void registerShutdownHookToGracefullyShutDownServer(
     TimetableRepository timetableRepository,
-    RaptorConfig<?> raptorConfig
+    RaptorConfig<?> raptorConfig,
+    OtpRequestExecutor requestExecutor
   ) {
     ApplicationShutdownSupport.addShutdownHook(
       "server-shutdown",
@@ -242,6 +248,7 @@ public class OTPMain {
         LOG.info("OTP shutdown started...");
         UpdaterConfigurator.shutdownGraph(timetableRepository);
         raptorConfig.shutdown();
+        requestExecutor.shutdown();
         WeakCollectionCleaner.DEFAULT.exit();
         DeferredAuthorityFactory.exit();
         LOG.info("OTP shutdown: resources released...");
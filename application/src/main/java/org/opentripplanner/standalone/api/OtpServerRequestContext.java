@@ -8,11 +8,14 @@ import org.opentripplanner.astar.spi.TraverseVisitor;
 import org.opentripplanner.ext.dataoverlay.routing.DataOverlayContext;
 import org.opentripplanner.ext.emissions.EmissionsService;
 import org.opentripplanner.ext.flex.FlexParameters;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.ext.geocoder.LuceneIndex;
 import org.opentripplanner.ext.ridehailing.RideHailingService;
 import org.opentripplanner.ext.sorlandsbanen.SorlandsbanenNorwayService;
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationService;
 import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.inspector.raster.TileRendererManager;
 import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
 import org.opentripplanner.raptor.configure.RaptorConfig;
@@ -75,6 +78,18 @@ public interface OtpServerRequestContext {
 
   RaptorConfig<TripSchedule> raptorConfig();
 
+  /**
+   * The executor used to run the independent parts of a routing request in parallel. If the
+   * {@code ParallelRouting} feature is off, the parts are run in the calling thread.
+   */
+  OtpRequestExecutor requestExecutor();
+
+  /**
+   * Routing requests must be admitted by this before they are processed, to avoid overloading
+   * the server.
+   */
+  AdmissionController admissionController();
+
   Graph graph();
 
   @HttpRequestScoped
@@ -126,6 +141,11 @@ public interface OtpServerRequestContext {
 
   FlexParameters flexParameters();
 
+  /**
+   * The flex paths cached between requests.
+   */
+  FlexPathCache flexPathCache();
+
   VectorTileConfig vectorTileConfig();
 
   DebugUiConfig debugUiConfig();
@@ -161,6 +161,10 @@ public class BuildConfig implements OtpDataStoreConfig {
 
   public final int maxAreaNodes;
 
+  public final int streetLandmarks;
+
+  public final int maxStopReachabilityDistance;
+
   public final DataOverlayConfig dataOverlay;
   public final double maxStopToShapeSnapDistance;
   public final Set<String> boardingLocationTags;
@@ -496,6 +500,46 @@ recommended.
           "Visibility calculations for an area will not be done if there are more nodes than this limit."
         )
         .asInt(150);
+    streetLandmarks =
+      root
+        .of("streetLandmarks")
+        .since(V2_7)
+        .summary("The number of landmarks used to speed up direct car searches.")
+        .description(
+          """
+If set, the car travel times to and from this number of landmark vertices are computed for every
+street vertex during the graph build, and saved with the graph. The travel times give a much
+better estimate of the remaining travel time than the straight line distance, so direct car
+searches visit far fewer vertices. This is known as the ALT (A*, Landmarks and Triangle
+inequality) technique.
+
+The table uses 8 bytes per vertex for each landmark, and the build time grows linearly with the
+number of landmarks. Between 8 and 16 landmarks is usually a good compromise. The feature is
+disabled if the value is zero.
+"""
+        )
+        .asInt(0);
+    maxStopReachabilityDistance =
+      root
+        .of("maxStopReachabilityDistance")
+        .since(V2_7)
+        .summary(
+          "The max walk distance in meters of the precomputed index from street vertices to nearby stops."
+        )
+        .description(
+          """
+If set, the walk distance from every street vertex to the stops within this distance is computed
+during the graph build, and saved with the graph. The walk access/egress search uses the index to
+find out which stops it may reach, and stops searching as soon as all of them are found, instead of
+searching the whole area within the access/egress duration limit.
+
+The index is only used if the max access/egress walk duration multiplied with the walk speed is
+not longer than this distance, and not if flex routing is enabled. The index size grows with the
+square of the distance, each vertex-stop pair uses 8 bytes. The feature is disabled if the value is
+zero.
+"""
+        )
+        .asInt(0);
     maxElevationPropagationMeters =
       root
         .of("maxElevationPropagationMeters")
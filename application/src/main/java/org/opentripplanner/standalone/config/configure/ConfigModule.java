@@ -3,6 +3,10 @@ package org.opentripplanner.standalone.config.configure;
 import dagger.Module;
 import dagger.Provides;
 import jakarta.inject.Singleton;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
+import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.raptor.api.request.RaptorEnvironment;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
@@ -55,4 +59,31 @@ public class ConfigModule {
     int searchThreadPoolSize = routerConfig.transitTuningConfig().searchThreadPoolSize();
     return RaptorEnvironmentFactory.create(searchThreadPoolSize);
   }
+
+  @Provides
+  @Singleton
+  static OtpRequestExecutor providesRequestExecutor(RouterConfig routerConfig) {
+    return OTPFeature.ParallelRouting.isOn()
+      ? OtpRequestExecutor.of("routing-%d", routerConfig.server().routingThreadPoolSize())
+      : OtpRequestExecutor.sequential();
+  }
+
+  @Provides
+  @Singleton
+  static AdmissionController providesAdmissionController(RouterConfig routerConfig) {
+    var parameters = routerConfig.server().admissionControl();
+    return parameters.isEnabled()
+      ? new AdmissionController(parameters)
+      : AdmissionController.unlimited();
+  }
+
+  @Provides
+  @Singleton
+  static FlexPathCache providesFlexPathCache(RouterConfig routerConfig) {
+    var flexParameters = routerConfig.flexParameters();
+    return new FlexPathCache(
+      flexParameters.pathCacheMaxSize(),
+      flexParameters.pathCacheTimeToLive()
+    );
+  }
 }
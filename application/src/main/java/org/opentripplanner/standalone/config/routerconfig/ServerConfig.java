@@ -1,10 +1,12 @@
 package org.opentripplanner.standalone.config.routerconfig;
 
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_4;
+import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_7;
 
 import java.time.Duration;
 import java.util.List;
 import org.opentripplanner.framework.application.OtpAppException;
+import org.opentripplanner.framework.concurrent.AdmissionControlParameters;
 import org.opentripplanner.standalone.config.framework.json.NodeAdapter;
 import org.opentripplanner.standalone.server.OTPWebApplicationParameters;
 import org.opentripplanner.standalone.server.RequestTraceParameter;
@@ -13,6 +15,9 @@ public class ServerConfig implements OTPWebApplicationParameters {
 
   private final Duration apiProcessingTimeout;
   private final List<RequestTraceParameter> traceParameters;
+  private final boolean virtualThreads;
+  private final int routingThreadPoolSize;
+  private final AdmissionControlParameters admissionControl;
 
   public ServerConfig(String parameterName, NodeAdapter root) {
     NodeAdapter c = root
@@ -37,7 +42,6 @@ domain, these are set in the routing request.
 This timeout limits the server-side processing time for a given API request. This does not include
 network latency nor waiting time in the HTTP server thread pool. The default value is
 `-1s`(no timeout). The timeout is applied to all APIs (REST, Transmodel & GTFS GraphQL).
-The timeout is not enforced when the parallel routing OTP feature is in use.
 """
         )
         .asDuration(Duration.ofSeconds(-1));
@@ -99,12 +103,117 @@ Only log4j and logback support this.
               .asBoolean(false)
           )
         );
+
+    this.virtualThreads =
+      c
+        .of("virtualThreads")
+        .since(V2_7)
+        .summary("Handle the HTTP requests in virtual threads.")
+        .description(
+          """
+If `true` the HTTP server handles each request in a virtual thread. A virtual thread does not hold
+on to an operating system thread while it waits, for example when writing a large response to a
+slow client. The number of requests handled at the same time is still limited by the `--maxThreads`
+command line parameter. If not set, the limit is eight times the number of available processors.
+"""
+        )
+        .asBoolean(false);
+
+    this.routingThreadPoolSize =
+      c
+        .of("routingThreadPoolSize")
+        .since(V2_7)
+        .summary("The number of threads used to run the parallel parts of a routing request.")
+        .description(
+          """
+When the `ParallelRouting` feature is enabled, the direct street, direct flex and transit searches,
+and the access and egress searches, are run in parallel. This is done in a shared pool of threads,
+this parameter sets the size of the pool. The thread handling the request takes part in the work,
+so the pool can be small. If 0, the number of available processors is used.
+"""
+        )
+        .asInt(0);
+
+    this.admissionControl = mapAdmissionControl(c);
+  }
+
+  private static AdmissionControlParameters mapAdmissionControl(NodeAdapter root) {
+    var c = root
+      .of("admissionControl")
+      .since(V2_7)
+      .summary("Limit the number of routing requests processed at the same time.")
+      .description(
+        """
+When the server is overloaded, requests queue up in the HTTP server until they time out, and the
+CPU is spent on requests the clients have already given up on. Admission control puts a limit on
+the number of routing requests processed at the same time, across all APIs. A request waiting
+longer than the `maxQueueTime` for its turn is rejected with HTTP status `503 Service Unavailable`.
+A request is rejected at once if there are as many requests waiting as the current limit.
+
+The limit can be fixed, or adjusted to the observed latency, see `targetLatency`. The limit, the
+number of requests processed and waiting, and the number of rejected requests are reported as
+metrics, if the Actuator API is enabled.
+
+Admission control is disabled by default.
+"""
+      )
+      .asObject();
+
+    var dft = AdmissionControlParameters.DEFAULT;
+    return new AdmissionControlParameters(
+      c
+        .of("maxConcurrentRequests")
+        .since(V2_7)
+        .summary("The max number of routing requests processed at the same time.")
+        .description(
+          """
+This is also the initial limit, if the limit is adjusted to the latency. If 0, admission control
+is disabled. A good starting point is one or two times the number of processors.
+"""
+        )
+        .asInt(dft.maxConcurrentRequests()),
+      c
+        .of("minConcurrentRequests")
+        .since(V2_7)
+        .summary("The lower bound of the limit, when the limit is adjusted to the latency.")
+        .asInt(dft.minConcurrentRequests()),
+      c
+        .of("maxQueueTime")
+        .since(V2_7)
+        .summary("The max time a routing request waits for its turn, before it is rejected.")
+        .asDuration(dft.maxQueueTime()),
+      c
+        .of("targetLatency")
+        .since(V2_7)
+        .summary("Adjust the limit to keep the processing time of requests below this.")
+        .description(
+          """
+Each request processed within the target latency increases the limit slowly, until the limit
+reaches `maxConcurrentRequests`. Each request slower than the target reduces the limit by 10%, but
+not below `minConcurrentRequests` (additive increase, multiplicative decrease). If zero, the limit
+is fixed.
+"""
+        )
+        .asDuration(dft.targetLatency())
+    );
   }
 
   public Duration apiProcessingTimeout() {
     return apiProcessingTimeout;
   }
 
+  public boolean virtualThreads() {
+    return virtualThreads;
+  }
+
+  public int routingThreadPoolSize() {
+    return routingThreadPoolSize;
+  }
+
+  public AdmissionControlParameters admissionControl() {
+    return admissionControl;
+  }
+
   public void validate(Duration streetRoutingTimeout) {
     if (
       !apiProcessingTimeout.isNegative() &&
@@ -6,6 +6,7 @@ import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_2;
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_3;
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_4;
+import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_7;
 
 import java.time.Duration;
 import java.util.List;
@@ -29,6 +30,10 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
   private final int searchThreadPoolSize;
   private final int transferCacheMaxSize;
   private final List<RouteRequest> transferCacheRequests;
+  private final int reverseHeuristicsCacheMaxSize;
+  private final int accessEgressCacheMaxSize;
+  private final Duration accessEgressCacheTimeToLive;
+  private final int maxOneToManyDestinations;
   private final List<Duration> pagingSearchWindowAdjustments;
 
   private final Map<StopTransferPriority, Integer> stopBoardAlightDuringTransferCost;
@@ -158,6 +163,60 @@ Use values in a range from `0` to `100 000`. **All key/value pairs are required
           " If too low, requests may be slower. If too high, more memory may be used then required."
         )
         .asInt(25);
+    this.reverseHeuristicsCacheMaxSize =
+      c
+        .of("reverseHeuristicsCacheMaxSize")
+        .since(V2_7)
+        .summary(
+          "The maximum number of destination heuristics to cache and share between requests."
+        )
+        .description(
+          """
+Raptor runs a reverse search from the destination to compute heuristics used to prune the main
+search. Requests with the same egress, the same transit filters and an earliest-departure-time in
+the same 15 minutes period get the same heuristics, so the reverse search can be skipped if the
+result is cached. Each entry uses three integers per stop. Entries computed before a new real-time
+snapshot is published are not used. Set it to `0` to disable the cache.
+"""
+        )
+        .asInt(dft.reverseHeuristicsCacheMaxSize());
+    this.accessEgressCacheMaxSize =
+      c
+        .of("accessEgressCacheMaxSize")
+        .since(V2_7)
+        .summary("The maximum number of access/egress street search results to cache.")
+        .description(
+          """
+The street search from the origin and to the destination is repeated for every request, also when
+the same location is used again - for example when paging or when many users search from the same
+place. The result is cached for the exact same location, street mode and street preferences. Only
+walk, bicycle and car access/egress is cached; modes using rental, parking, hailing or flex depend
+on real-time data and are always computed. Set it to `0` to disable the cache.
+"""
+        )
+        .asInt(0);
+    this.accessEgressCacheTimeToLive =
+      c
+        .of("accessEgressCacheTimeToLive")
+        .since(V2_7)
+        .summary("How long a cached access/egress street search result is kept.")
+        .description(
+          "The entries are removed this long after they are added. See `accessEgressCacheMaxSize`."
+        )
+        .asDuration(Duration.ofMinutes(30));
+    this.maxOneToManyDestinations =
+      c
+        .of("maxOneToManyDestinations")
+        .since(V2_7)
+        .summary("The maximum number of destinations in a one-to-many travel time request.")
+        .description(
+          """
+The travel time API finds the travel time from one origin to many destinations with one transit
+search, but a street search is done from each destination to find its egress stops. Requests with
+more destinations than this are rejected.
+"""
+        )
+        .asInt(500);
 
     this.transferCacheRequests =
       c
@@ -268,6 +327,26 @@ for more info."
     return transferCacheMaxSize;
   }
 
+  @Override
+  public int reverseHeuristicsCacheMaxSize() {
+    return reverseHeuristicsCacheMaxSize;
+  }
+
+  @Override
+  public int accessEgressCacheMaxSize() {
+    return accessEgressCacheMaxSize;
+  }
+
+  @Override
+  public Duration accessEgressCacheTimeToLive() {
+    return accessEgressCacheTimeToLive;
+  }
+
+  @Override
+  public int maxOneToManyDestinations() {
+    return maxOneToManyDestinations;
+  }
+
   @Override
   public List<RouteRequest> transferCacheRequests() {
     return transferCacheRequests;
@@ -723,6 +723,26 @@ search, hence, making it a bit slower. Recommended values would be from 12 hours
 """
           )
           .asDuration(dft.maxJourneyDuration())
+      )
+      .withSearchTimeBudget(
+        c
+          .of("searchTimeBudget")
+          .since(V2_7)
+          .summary(
+            "The time a search may take before it is degraded to return the best results found so far."
+          )
+          .description(
+            """
+When the budget is used, the transit search stops iterating over the minutes in the search-window,
+and returns the itineraries found in the part of the search-window searched so far. The
+search-window reported in the response, and the paging cursors, are reduced accordingly. The street
+routing timeout is also limited to the budget, so the street searches(AStar) return the paths
+found within the budget. This keeps the response time predictable when the server is busy, at the
+cost of fewer results. The budget is a soft limit, it should be set well below the
+'apiProcessingTimeout'. If zero, the search is not degraded.
+"""
+          )
+          .asDuration(dft.searchTimeBudget())
       );
     if (OTPFeature.DataOverlay.isOn()) {
       builder.withDataOverlay(
@@ -2,6 +2,7 @@ package org.opentripplanner.standalone.config.sandbox;
 
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_1;
 import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_3;
+import static org.opentripplanner.standalone.config.framework.json.OtpVersion.V2_7;
 
 import java.time.Duration;
 import org.opentripplanner.ext.flex.FlexParameters;
@@ -26,12 +27,16 @@ public class FlexConfig implements FlexParameters {
   private final Duration maxFlexTripDuration;
   private final Duration maxAccessWalkDuration;
   private final Duration maxEgressWalkDuration;
+  private final int pathCacheMaxSize;
+  private final Duration pathCacheTimeToLive;
 
   private FlexConfig() {
     maxTransferDuration = Duration.ofMinutes(5);
     maxFlexTripDuration = Duration.ofMinutes(45);
     maxAccessWalkDuration = Duration.ofMinutes(45);
     maxEgressWalkDuration = Duration.ofMinutes(45);
+    pathCacheMaxSize = 0;
+    pathCacheTimeToLive = Duration.ofHours(1);
   }
 
   public FlexConfig(NodeAdapter root, String parameterName) {
@@ -92,6 +97,34 @@ public class FlexConfig implements FlexParameters {
         )
         .description(ACCESS_EGRESS_DESCRIPTION)
         .asDuration(DEFAULT.maxEgressWalkDuration());
+
+    pathCacheMaxSize =
+      json
+        .of("pathCacheMaxSize")
+        .since(V2_7)
+        .summary("The maximum number of flex street paths to cache between requests.")
+        .description(
+          """
+          Flex routing computes a car street path between each pair of stops or zones a flex trip
+          can board and alight at. The same pairs are used again and again, so the paths between
+          permanent street vertices can be cached and shared by all requests. Each entry holds the
+          duration, distance and the edges of one path.
+
+          The cache is disabled if the value is 0.
+          """
+        )
+        .asInt(DEFAULT.pathCacheMaxSize());
+
+    pathCacheTimeToLive =
+      json
+        .of("pathCacheTimeToLive")
+        .since(V2_7)
+        .summary("How long a cached flex street path is kept.")
+        .description(
+          "The entries are removed this long after they are added, so changes to the street " +
+          "network are eventually used. See `pathCacheMaxSize`."
+        )
+        .asDuration(DEFAULT.pathCacheTimeToLive());
   }
 
   public Duration maxFlexTripDuration() {
@@ -109,4 +142,12 @@ public class FlexConfig implements FlexParameters {
   public Duration maxEgressWalkDuration() {
     return maxEgressWalkDuration;
   }
+
+  public int pathCacheMaxSize() {
+    return pathCacheMaxSize;
+  }
+
+  public Duration pathCacheTimeToLive() {
+    return pathCacheTimeToLive;
+  }
 }
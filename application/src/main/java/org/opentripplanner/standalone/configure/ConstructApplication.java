@@ -8,6 +8,7 @@ import org.opentripplanner.ext.emissions.EmissionsDataModel;
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationRepository;
 import org.opentripplanner.framework.application.LogMDCSupport;
 import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.graph_builder.GraphBuilder;
 import org.opentripplanner.graph_builder.GraphBuilderDataSources;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
@@ -117,7 +118,8 @@ public class ConstructApplication {
     return new GrizzlyServer(
       cli,
       createApplication(),
-      routerConfig().server().apiProcessingTimeout()
+      routerConfig().server().apiProcessingTimeout(),
+      routerConfig().server().virtualThreads()
     );
   }
 
@@ -309,6 +311,10 @@ public class ConstructApplication {
     return factory.raptorConfig();
   }
 
+  public OtpRequestExecutor requestExecutor() {
+    return factory.requestExecutor();
+  }
+
   public GraphVisualizer graphVisualizer() {
     return factory.graphVisualizer();
   }
@@ -15,6 +15,7 @@ import org.opentripplanner.ext.sorlandsbanen.configure.SorlandsbanenNorwayModule
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationRepository;
 import org.opentripplanner.ext.stopconsolidation.configure.StopConsolidationServiceModule;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.graph.Graph;
@@ -71,6 +72,7 @@ import org.opentripplanner.visualizer.GraphVisualizer;
 public interface ConstructApplicationFactory {
   ConfigModel config();
   RaptorConfig<TripSchedule> raptorConfig();
+  OtpRequestExecutor requestExecutor();
   Graph graph();
   TimetableRepository timetableRepository();
   WorldEnvelopeRepository worldEnvelopeRepository();
@@ -7,11 +7,14 @@ import java.util.List;
 import javax.annotation.Nullable;
 import org.opentripplanner.astar.spi.TraverseVisitor;
 import org.opentripplanner.ext.emissions.EmissionsService;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.ext.geocoder.LuceneIndex;
 import org.opentripplanner.ext.interactivelauncher.api.LauncherRequestDecorator;
 import org.opentripplanner.ext.ridehailing.RideHailingService;
 import org.opentripplanner.ext.sorlandsbanen.SorlandsbanenNorwayService;
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationService;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.graph.Graph;
@@ -35,6 +38,9 @@ public class ConstructApplicationModule {
     RouterConfig routerConfig,
     DebugUiConfig debugUiConfig,
     RaptorConfig<TripSchedule> raptorConfig,
+    OtpRequestExecutor requestExecutor,
+    AdmissionController admissionController,
+    FlexPathCache flexPathCache,
     Graph graph,
     TransitService transitService,
     WorldEnvelopeService worldEnvelopeService,
@@ -56,6 +62,8 @@ public class ConstructApplicationModule {
       routerConfig.transitTuningConfig(),
       defaultRequest,
       raptorConfig,
+      requestExecutor,
+      admissionController,
       graph,
       transitService,
       Metrics.globalRegistry,
@@ -67,6 +75,7 @@ public class ConstructApplicationModule {
       emissionsService,
       sorlandsbanenService,
       routerConfig.flexParameters(),
+      flexPathCache,
       rideHailingServices,
       stopConsolidationService,
       streetLimitationParametersService,
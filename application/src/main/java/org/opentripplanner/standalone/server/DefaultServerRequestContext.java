@@ -7,10 +7,13 @@ import javax.annotation.Nullable;
 import org.opentripplanner.astar.spi.TraverseVisitor;
 import org.opentripplanner.ext.emissions.EmissionsService;
 import org.opentripplanner.ext.flex.FlexParameters;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.ext.geocoder.LuceneIndex;
 import org.opentripplanner.ext.ridehailing.RideHailingService;
 import org.opentripplanner.ext.sorlandsbanen.SorlandsbanenNorwayService;
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationService;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.inspector.raster.TileRendererManager;
 import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
 import org.opentripplanner.raptor.configure.RaptorConfig;
@@ -42,9 +45,12 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
   private final RouteRequest routeRequestDefaults;
   private final MeterRegistry meterRegistry;
   private final RaptorConfig<TripSchedule> raptorConfig;
+  private final OtpRequestExecutor requestExecutor;
+  private final AdmissionController admissionController;
   private final TileRendererManager tileRendererManager;
   private final VectorTileConfig vectorTileConfig;
   private final FlexParameters flexParameters;
+  private final FlexPathCache flexPathCache;
   private final TraverseVisitor traverseVisitor;
   private final WorldEnvelopeService worldEnvelopeService;
   private final RealtimeVehicleService realtimeVehicleService;
@@ -72,6 +78,8 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     RouteRequest routeRequestDefaults,
     MeterRegistry meterRegistry,
     RaptorConfig<TripSchedule> raptorConfig,
+    OtpRequestExecutor requestExecutor,
+    AdmissionController admissionController,
     TileRendererManager tileRendererManager,
     VectorTileConfig vectorTileConfig,
     WorldEnvelopeService worldEnvelopeService,
@@ -84,6 +92,7 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     @Nullable StopConsolidationService stopConsolidationService,
     StreetLimitationParametersService streetLimitationParametersService,
     FlexParameters flexParameters,
+    FlexPathCache flexPathCache,
     @Nullable TraverseVisitor traverseVisitor,
     @Nullable LuceneIndex luceneIndex,
     DebugUiConfig debugUiConfig
@@ -93,11 +102,14 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     this.transitRoutingConfig = transitRoutingConfig;
     this.meterRegistry = meterRegistry;
     this.raptorConfig = raptorConfig;
+    this.requestExecutor = requestExecutor;
+    this.admissionController = admissionController;
     this.tileRendererManager = tileRendererManager;
     this.vectorTileConfig = vectorTileConfig;
     this.vehicleRentalService = vehicleRentalService;
     this.vehicleParkingService = vehicleParkingService;
     this.flexParameters = flexParameters;
+    this.flexPathCache = flexPathCache;
     this.traverseVisitor = traverseVisitor;
     this.routeRequestDefaults = routeRequestDefaults;
     this.worldEnvelopeService = worldEnvelopeService;
@@ -118,6 +130,8 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     TransitRoutingConfig transitRoutingConfig,
     RouteRequest routeRequestDefaults,
     RaptorConfig<TripSchedule> raptorConfig,
+    OtpRequestExecutor requestExecutor,
+    AdmissionController admissionController,
     Graph graph,
     TransitService transitService,
     MeterRegistry meterRegistry,
@@ -129,6 +143,7 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     @Nullable EmissionsService emissionsService,
     @Nullable SorlandsbanenNorwayService sorlandsbanenService,
     FlexParameters flexParameters,
+    FlexPathCache flexPathCache,
     List<RideHailingService> rideHailingServices,
     @Nullable StopConsolidationService stopConsolidationService,
     StreetLimitationParametersService streetLimitationParametersService,
@@ -143,6 +158,8 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
       routeRequestDefaults,
       meterRegistry,
       raptorConfig,
+      requestExecutor,
+      admissionController,
       new TileRendererManager(graph, routeRequestDefaults.preferences()),
       vectorTileConfig,
       worldEnvelopeService,
@@ -155,6 +172,7 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
       stopConsolidationService,
       streetLimitationParametersService,
       flexParameters,
+      flexPathCache,
       traverseVisitor,
       luceneIndex,
       debugUiConfig
@@ -183,6 +201,16 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     return raptorConfig;
   }
 
+  @Override
+  public OtpRequestExecutor requestExecutor() {
+    return requestExecutor;
+  }
+
+  @Override
+  public AdmissionController admissionController() {
+    return admissionController;
+  }
+
   @Override
   public Graph graph() {
     return graph;
@@ -263,6 +291,11 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     return flexParameters;
   }
 
+  @Override
+  public FlexPathCache flexPathCache() {
+    return flexPathCache;
+  }
+
   @Override
   public VectorTileConfig vectorTileConfig() {
     return vectorTileConfig;
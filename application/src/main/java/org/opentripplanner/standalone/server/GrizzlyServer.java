@@ -28,10 +28,19 @@ public class GrizzlyServer {
   private static final Logger LOG = LoggerFactory.getLogger(GrizzlyServer.class);
 
   private static final int MIN_THREADS = 4;
+
+  /**
+   * Virtual threads waiting for IO do not hold on to a carrier thread, so we allow more requests
+   * in progress than with platform threads. CPU-bound requests are still limited by the number of
+   * carrier threads, which equals the number of processors.
+   */
+  private static final int VIRTUAL_THREADS_PER_PROCESSOR = 8;
+
   /** The command line parameters, including things like port number and content directories. */
   private final CommandLineParameters params;
   private final Application app;
   private final Duration httpTransactionTimeout;
+  private final boolean virtualThreads;
 
   static {
     // Remove existing handlers attached to the j.u.l root logger
@@ -44,11 +53,13 @@ public class GrizzlyServer {
   public GrizzlyServer(
     CommandLineParameters params,
     Application app,
-    Duration httpTransactionTimeout
+    Duration httpTransactionTimeout,
+    boolean virtualThreads
   ) {
     this.params = params;
     this.app = app;
     this.httpTransactionTimeout = httpTransactionTimeout;
+    this.virtualThreads = virtualThreads;
   }
 
   /**
@@ -68,12 +79,18 @@ public class GrizzlyServer {
     // Set up a pool of threads to handle incoming HTTP requests.
     // According to the Grizzly docs, setting the core and max pool size equal with no queue limit
     // will use a more efficient fixed-size thread pool implementation.
-    // TODO we should probably use Grizzly async processing rather than tying up the HTTP handler threads.
+    // With virtual threads the handler threads are cheap, and waiting for IO does not tie up an
+    // operating system thread. We still use the Grizzly thread pool, not an executor with a new
+    // thread for each task, because the transaction timeout is implemented by the pool.
     int nHandlerThreads = getMaxThreads();
     ThreadPoolConfig threadPoolConfig = ThreadPoolConfig
       .defaultConfig()
       .setPoolName("grizzly")
-      .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("grizzly-%d").build())
+      .setThreadFactory(
+        virtualThreads
+          ? Thread.ofVirtual().name("grizzly-", 0).factory()
+          : new ThreadFactoryBuilder().setNameFormat("grizzly-%d").build()
+      )
       .setCorePoolSize(nHandlerThreads)
       .setMaxPoolSize(nHandlerThreads)
       .setQueueLimit(-1);
@@ -154,13 +171,18 @@ public class GrizzlyServer {
 
   /**
    * OTP is CPU-bound, so we want roughly as many worker threads as we have cores, subject to some
-   * constraints.
+   * constraints. With virtual threads the limit is higher, see
+   * {@link #VIRTUAL_THREADS_PER_PROCESSOR}.
    */
   private int getMaxThreads() {
     int maxThreads = Runtime.getRuntime().availableProcessors();
     LOG.info("Java reports that this machine has {} available processors.", maxThreads);
-    // Testing shows increased throughput up to 1.25x as many threads as cores
-    maxThreads *= 1.25;
+    if (virtualThreads) {
+      maxThreads *= VIRTUAL_THREADS_PER_PROCESSOR;
+    } else {
+      // Testing shows increased throughput up to 1.25x as many threads as cores
+      maxThreads *= 1.25;
+    }
     if (params.maxThreads != null) {
       maxThreads = params.maxThreads;
       LOG.info("Based on configuration, forced max thread pool size to {} threads.", maxThreads);
@@ -1,5 +1,7 @@
 package org.opentripplanner.standalone.server;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
@@ -19,8 +21,11 @@ import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ForkJoinPool;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
 import org.opentripplanner.raptor.configure.RaptorConfig;
+import org.opentripplanner.raptor.configure.ReverseHeuristicsCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.transit.service.TimetableRepository;
 
@@ -34,6 +39,8 @@ public class MetricsLogging {
   public MetricsLogging(
     TimetableRepository timetableRepository,
     RaptorConfig<TripSchedule> raptorConfig,
+    OtpRequestExecutor requestExecutor,
+    AdmissionController admissionController,
     DataImportIssueSummary issueSummary
   ) {
     new ClassLoaderMetrics().bindTo(Metrics.globalRegistry);
@@ -55,6 +62,38 @@ public class MetricsLogging {
         List.of(Tag.of("cache", "raptorTransfers"))
       )
         .bindTo(Metrics.globalRegistry);
+
+      var accessEgressCache = timetableRepository
+        .getTransitLayer()
+        .getAccessEgressCache()
+        .getCache();
+      if (accessEgressCache != null) {
+        new GuavaCacheMetrics(
+          accessEgressCache,
+          "accessEgressCache",
+          List.of(Tag.of("cache", "accessEgress"))
+        )
+          .bindTo(Metrics.globalRegistry);
+      }
+    }
+    var reverseHeuristicsCache = raptorConfig.reverseHeuristicsCache();
+    if (reverseHeuristicsCache != null) {
+      // Use the same meters as the Guava caches above
+      var tags = List.of(Tag.of("cache", "reverseHeuristics"));
+      Gauge
+        .builder("cache.size", reverseHeuristicsCache, ReverseHeuristicsCache::size)
+        .tags(tags)
+        .register(Metrics.globalRegistry);
+      FunctionCounter
+        .builder("cache.gets", reverseHeuristicsCache, ReverseHeuristicsCache::hitCount)
+        .tags(tags)
+        .tag("result", "hit")
+        .register(Metrics.globalRegistry);
+      FunctionCounter
+        .builder("cache.gets", reverseHeuristicsCache, ReverseHeuristicsCache::missCount)
+        .tags(tags)
+        .tag("result", "miss")
+        .register(Metrics.globalRegistry);
     }
     new ExecutorServiceMetrics(
       ForkJoinPool.commonPool(),
@@ -95,6 +134,41 @@ public class MetricsLogging {
         .bindTo(Metrics.globalRegistry);
     }
 
+    if (requestExecutor.threadPool() != null) {
+      new ExecutorServiceMetrics(
+        requestExecutor.threadPool(),
+        "routing",
+        List.of(Tag.of("pool", "routing"))
+      )
+        .bindTo(Metrics.globalRegistry);
+    }
+
+    if (admissionController.parameters().isEnabled()) {
+      Gauge
+        .builder("routing_admission_limit", admissionController, AdmissionController::limit)
+        .register(Metrics.globalRegistry);
+      Gauge
+        .builder("routing_admission_in_flight", admissionController, AdmissionController::inFlight)
+        .register(Metrics.globalRegistry);
+      Gauge
+        .builder("routing_admission_waiting", admissionController, AdmissionController::waiting)
+        .register(Metrics.globalRegistry);
+      FunctionCounter
+        .builder(
+          "routing_admission_admitted",
+          admissionController,
+          AdmissionController::admittedCount
+        )
+        .register(Metrics.globalRegistry);
+      FunctionCounter
+        .builder(
+          "routing_admission_rejected",
+          admissionController,
+          AdmissionController::rejectedCount
+        )
+        .register(Metrics.globalRegistry);
+    }
+
     final Map<String, Long> issueCount = issueSummary.asMap();
 
     var totalIssues = issueCount.values().stream().mapToLong(i -> i).sum();
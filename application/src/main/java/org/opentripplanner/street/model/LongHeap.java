@@ -0,0 +1,68 @@
+package org.opentripplanner.street.model;
+
+import java.util.Arrays;
+
+/**
+ * A minimal binary min-heap of primitive longs, used by the graph build street searches. The
+ * priority and the vertex index are packed into one value, see {@link #key(double, int)}.
+ */
+class LongHeap {
+
+  private long[] heap = new long[1024];
+  private int size = 0;
+
+  /**
+   * Pack the priority and the vertex index into one long. The bits of a positive float have the
+   * same order as the float value. The float is only used for the queue order, vertices with
+   * almost the same priority may be visited out of order and are then visited again.
+   */
+  static long key(double priority, int index) {
+    return ((long) Float.floatToIntBits((float) priority) << 32) | index;
+  }
+
+  static int index(long key) {
+    return (int) key;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void push(long value) {
+    if (size == heap.length) {
+      heap = Arrays.copyOf(heap, size * 2);
+    }
+    int i = size++;
+    while (i > 0) {
+      int parent = (i - 1) >> 1;
+      if (heap[parent] <= value) {
+        break;
+      }
+      heap[i] = heap[parent];
+      i = parent;
+    }
+    heap[i] = value;
+  }
+
+  long pop() {
+    long min = heap[0];
+    long last = heap[--size];
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1] < heap[child]) {
+        ++child;
+      }
+      if (last <= heap[child]) {
+        break;
+      }
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = last;
+    return min;
+  }
+}
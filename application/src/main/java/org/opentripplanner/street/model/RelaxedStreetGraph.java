@@ -0,0 +1,156 @@
+package org.opentripplanner.street.model;
+
+import com.google.common.collect.Iterables;
+import gnu.trove.map.TIntDoubleMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntDoubleHashMap;
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * A compact copy of the street graph used to compute lower bounds in the graph build. Each edge
+ * has a fixed, non-negative cost, and the graph is stored in primitive arrays in compressed sparse
+ * row format. Searching this graph is much faster than a regular street search, but it only works
+ * if the cost does not depend on the search state.
+ */
+class RelaxedStreetGraph {
+
+  /** Which edges of each vertex to follow. */
+  enum Direction {
+    /** Follow the outgoing edges, compute the cost FROM the source. */
+    FORWARD,
+    /** Follow the incoming edges, compute the cost TO the source. */
+    BACKWARD,
+    /** Follow the edges in both directions, compute a lower bound in both directions. */
+    BOTH,
+  }
+
+  private final int[] first;
+  private final int[] target;
+  private final double[] cost;
+
+  private RelaxedStreetGraph(int[] first, int[] target, double[] cost) {
+    this.first = first;
+    this.target = target;
+    this.cost = cost;
+  }
+
+  /**
+   * @param edgeCost The cost of an edge, or a negative number if the edge can not be used.
+   */
+  static RelaxedStreetGraph create(
+    VertexIndex vertexIndex,
+    Direction direction,
+    ToDoubleFunction<Edge> edgeCost
+  ) {
+    Vertex[] vertices = vertexIndex.vertices();
+    TObjectIntMap<Vertex> index = vertexIndex.map();
+    int[] first = new int[vertices.length + 1];
+    int nEdges = 0;
+    for (int i = 0; i < vertices.length; ++i) {
+      first[i] = nEdges;
+      for (Edge e : edges(vertices[i], direction)) {
+        if (index.get(opposite(vertices[i], e)) >= 0 && edgeCost.applyAsDouble(e) >= 0) {
+          ++nEdges;
+        }
+      }
+    }
+    first[vertices.length] = nEdges;
+
+    int[] target = new int[nEdges];
+    double[] cost = new double[nEdges];
+    int j = 0;
+    for (Vertex v : vertices) {
+      for (Edge e : edges(v, direction)) {
+        int t = index.get(opposite(v, e));
+        double c = edgeCost.applyAsDouble(e);
+        if (t >= 0 && c >= 0) {
+          target[j] = t;
+          cost[j] = c;
+          ++j;
+        }
+      }
+    }
+    return new RelaxedStreetGraph(first, target, cost);
+  }
+
+  int numberOfVertices() {
+    return first.length - 1;
+  }
+
+  boolean hasEdges(int vertex) {
+    return first[vertex] < first[vertex + 1];
+  }
+
+  /** Dijkstra's algorithm, returns the cost to each vertex. */
+  double[] shortestPathTree(int source) {
+    double[] distance = new double[numberOfVertices()];
+    Arrays.fill(distance, Double.POSITIVE_INFINITY);
+    distance[source] = 0;
+
+    var queue = new LongHeap();
+    queue.push(LongHeap.key(0, source));
+
+    while (!queue.isEmpty()) {
+      long key = queue.pop();
+      int v = LongHeap.index(key);
+      // Skip outdated queue entries
+      if (key != LongHeap.key(distance[v], v)) {
+        continue;
+      }
+      for (int j = first[v]; j < first[v + 1]; ++j) {
+        int t = target[j];
+        double d = distance[v] + cost[j];
+        if (d < distance[t]) {
+          distance[t] = d;
+          queue.push(LongHeap.key(d, t));
+        }
+      }
+    }
+    return distance;
+  }
+
+  /**
+   * Dijkstra's algorithm limited to the given max cost. Returns the cost of each vertex reached,
+   * the result is sparse so many searches can run in parallel on a large graph.
+   */
+  TIntDoubleMap shortestPathTree(int source, double maxCost) {
+    TIntDoubleMap distance = new TIntDoubleHashMap(64, 0.5f, -1, Double.POSITIVE_INFINITY);
+    distance.put(source, 0);
+
+    var queue = new LongHeap();
+    queue.push(LongHeap.key(0, source));
+
+    while (!queue.isEmpty()) {
+      long key = queue.pop();
+      int v = LongHeap.index(key);
+      double dv = distance.get(v);
+      if (key != LongHeap.key(dv, v)) {
+        continue;
+      }
+      for (int j = first[v]; j < first[v + 1]; ++j) {
+        int t = target[j];
+        double d = dv + cost[j];
+        if (d <= maxCost && d < distance.get(t)) {
+          distance.put(t, d);
+          queue.push(LongHeap.key(d, t));
+        }
+      }
+    }
+    return distance;
+  }
+
+  private static Iterable<Edge> edges(Vertex v, Direction direction) {
+    return switch (direction) {
+      case FORWARD -> v.getOutgoing();
+      case BACKWARD -> v.getIncoming();
+      case BOTH -> Iterables.concat(v.getOutgoing(), v.getIncoming());
+    };
+  }
+
+  private static Vertex opposite(Vertex v, Edge e) {
+    return e.getFromVertex() == v ? e.getToVertex() : e.getFromVertex();
+  }
+}
@@ -0,0 +1,119 @@
+package org.opentripplanner.street.model;
+
+import com.google.common.collect.Iterables;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.opentripplanner.street.model.vertex.TransitStopVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * Precomputed walk distances from each street vertex to the transit stops nearby. The distance is
+ * a lower bound for the walking distance in both directions: it is computed along all walkable
+ * street edges, ignoring one-way restrictions, turn restrictions, and extra costs like stairs or
+ * slopes. All other edges are free. So, the stops which can not be reached within a distance in
+ * the index, can not be reached by walking that distance in a street search either.
+ * <p>
+ * The index is used to find the stops the access/egress search may reach, and to stop the search
+ * when all of them are found, instead of searching the whole area within the duration limit. See
+ * {@link org.opentripplanner.graph_builder.module.nearbystops.StreetNearbyStopFinder}. The
+ * distances and stops are stored in primitive arrays, one consecutive range for each vertex.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE.
+ */
+public class StopReachabilityIndex implements Serializable {
+
+  /** Limit the search for permanent vertices around a temporary origin. */
+  private static final int MAX_ORIGIN_SEARCH_VERTICES = 1000;
+
+  private final VertexIndex vertices;
+  private final TransitStopVertex[] stopVertices;
+
+  /** The stops of vertex {@code v} are in the range [firstStop[v], firstStop[v+1]). */
+  private final int[] firstStop;
+
+  /** The index of the stop in {@link #stopVertices} */
+  private final int[] stops;
+
+  /** The distance in whole meters, rounded down. */
+  private final int[] distances;
+
+  private final int maxDistance;
+
+  StopReachabilityIndex(
+    VertexIndex vertices,
+    TransitStopVertex[] stopVertices,
+    int[] firstStop,
+    int[] stops,
+    int[] distances,
+    int maxDistance
+  ) {
+    this.vertices = vertices;
+    this.stopVertices = stopVertices;
+    this.firstStop = firstStop;
+    this.stops = stops;
+    this.distances = distances;
+    this.maxDistance = maxDistance;
+  }
+
+  /** The max distance in meters used to build the index. */
+  public int maxDistance() {
+    return maxDistance;
+  }
+
+  public int numberOfVertices() {
+    return vertices.size();
+  }
+
+  /** The total number of vertex-stop pairs in the index. */
+  public int size() {
+    return stops.length;
+  }
+
+  public boolean contains(Vertex vertex) {
+    return vertices.indexOf(vertex) >= 0;
+  }
+
+  /**
+   * Find all stops which may be reached by walking at most {@code maxDistance} meters from, or to,
+   * any of the given vertices. Temporary vertices, which are not part of the index, are resolved
+   * to the nearest vertices in the index.
+   *
+   * @return the stops, or {@code null} if the index can not be used for the given vertices.
+   */
+  @Nullable
+  public Set<TransitStopVertex> findStops(Collection<? extends Vertex> origins, double maxDistance) {
+    if (maxDistance > this.maxDistance) {
+      return null;
+    }
+    var result = new HashSet<TransitStopVertex>();
+    var visited = new HashSet<Vertex>();
+    var queue = new ArrayDeque<Vertex>(origins);
+
+    while (!queue.isEmpty()) {
+      Vertex v = queue.poll();
+      if (!visited.add(v)) {
+        continue;
+      }
+      if (visited.size() > MAX_ORIGIN_SEARCH_VERTICES) {
+        return null;
+      }
+      int index = vertices.indexOf(v);
+      if (index >= 0) {
+        for (int i = firstStop[index]; i < firstStop[index + 1]; ++i) {
+          if (distances[i] <= maxDistance) {
+            result.add(stopVertices[stops[i]]);
+          }
+        }
+        continue;
+      }
+      for (var e : Iterables.concat(v.getOutgoing(), v.getIncoming())) {
+        queue.add(e.getFromVertex() == v ? e.getToVertex() : e.getFromVertex());
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,110 @@
+package org.opentripplanner.street.model;
+
+import static org.opentripplanner.street.model.RelaxedStreetGraph.Direction.BOTH;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TIntDoubleMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.TransitStopVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.TraverseMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Calculate the {@link StopReachabilityIndex} for a set of vertices. A distance limited search is
+ * done from each stop, in parallel, and the result is transposed into one range of stops for each
+ * vertex.
+ */
+public class StopReachabilityIndexBuilder {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StopReachabilityIndexBuilder.class);
+
+  private final VertexIndex vertices;
+  private final int maxDistance;
+  private final RelaxedStreetGraph graph;
+
+  public StopReachabilityIndexBuilder(Collection<? extends Vertex> vertices, int maxDistance) {
+    if (maxDistance < 1) {
+      throw new IllegalArgumentException("The max distance must be positive: " + maxDistance);
+    }
+    this.vertices = new VertexIndex(vertices);
+    this.maxDistance = maxDistance;
+    this.graph =
+      RelaxedStreetGraph.create(this.vertices, BOTH, StopReachabilityIndexBuilder::walkDistance);
+  }
+
+  public StopReachabilityIndex build() {
+    var stopIndexes = new TIntArrayList();
+    for (int i = 0; i < vertices.size(); ++i) {
+      if (vertices.vertex(i) instanceof TransitStopVertex) {
+        stopIndexes.add(i);
+      }
+    }
+    var stopVertices = new TransitStopVertex[stopIndexes.size()];
+    for (int i = 0; i < stopVertices.length; ++i) {
+      stopVertices[i] = (TransitStopVertex) vertices.vertex(stopIndexes.get(i));
+    }
+    LOG.info("Computing walk distances from {} stops...", stopVertices.length);
+
+    List<TIntDoubleMap> results = IntStream
+      .range(0, stopVertices.length)
+      .parallel()
+      .mapToObj(i -> graph.shortestPathTree(stopIndexes.get(i), maxDistance))
+      .toList();
+
+    // Count the stops of each vertex, and turn the counts into the start of each range
+    int n = vertices.size();
+    int[] firstStop = new int[n + 1];
+    for (TIntDoubleMap result : results) {
+      for (int v : result.keys()) {
+        ++firstStop[v + 1];
+      }
+    }
+    for (int v = 0; v < n; ++v) {
+      firstStop[v + 1] += firstStop[v];
+    }
+
+    int size = firstStop[n];
+    int[] stops = new int[size];
+    int[] distances = new int[size];
+    int[] next = Arrays.copyOf(firstStop, n);
+    for (int stop = 0; stop < results.size(); ++stop) {
+      int s = stop;
+      results
+        .get(stop)
+        .forEachEntry((v, distance) -> {
+          int i = next[v]++;
+          stops[i] = s;
+          distances[i] = (int) distance;
+          return true;
+        });
+    }
+    return new StopReachabilityIndex(
+      vertices,
+      stopVertices,
+      firstStop,
+      stops,
+      distances,
+      maxDistance
+    );
+  }
+
+  /**
+   * The shortest walk distance of the edge, or a negative number if the edge can not be walked.
+   * The effective walk distance may be shorter than the length on a gentle downhill slope.
+   */
+  private static double walkDistance(Edge edge) {
+    if (edge instanceof StreetEdge streetEdge) {
+      return streetEdge.canTraverse(TraverseMode.WALK)
+        ? Math.min(streetEdge.getDistanceMeters(), streetEdge.getEffectiveWalkDistance())
+        : -1;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,92 @@
+package org.opentripplanner.street.model;
+
+import java.io.Serializable;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * Precomputed car travel times between a small set of landmark vertices and all other vertices in
+ * the street graph. The table is used to compute a lower bound for the car travel time between
+ * two vertices with the triangle inequality, this is known as the ALT (A*, Landmarks and Triangle
+ * inequality) technique. The bound is much tighter than the straight line distance divided by the
+ * max car speed, especially for long trips, so the A* search explores far fewer states.
+ * <p>
+ * The travel times are calculated with the car speed of each street edge, without turn costs,
+ * traffic lights, reluctance or any other penalty, so they are a lower bound for the weight of a
+ * car search with a reluctance of 1. The table is built by the {@link StreetLandmarksBuilder} in
+ * the graph build and serialized with the graph. Vertices added to the graph later, for example
+ * the temporary origin and destination vertices, are not part of the table.
+ * <p>
+ * The table uses {@code 2 * 4 * nLandmarks} bytes for each vertex in the graph.
+ * <p>
+ * THIS CLASS IS IMMUTABLE AND THREAD-SAFE.
+ */
+public class StreetLandmarks implements Serializable {
+
+  /** Travel time for vertices which can not be reached from or can not reach the landmark. */
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  /**
+   * Travel times are rounded to whole seconds, the error of each of the two values used in a bound
+   * is at most half a second.
+   */
+  private static final int ROUNDING_ERROR = 1;
+
+  private final VertexIndex vertices;
+
+  /** Car travel time in seconds FROM each landmark TO each vertex, indexed by [landmark][vertex] */
+  private final int[][] fromLandmark;
+
+  /** Car travel time in seconds FROM each vertex TO each landmark, indexed by [landmark][vertex] */
+  private final int[][] toLandmark;
+
+  StreetLandmarks(VertexIndex vertices, int[][] fromLandmark, int[][] toLandmark) {
+    if (fromLandmark.length != toLandmark.length) {
+      throw new IllegalArgumentException("The from and to landmark tables do not match.");
+    }
+    this.vertices = vertices;
+    this.fromLandmark = fromLandmark;
+    this.toLandmark = toLandmark;
+  }
+
+  public int numberOfLandmarks() {
+    return fromLandmark.length;
+  }
+
+  public int numberOfVertices() {
+    return vertices.size();
+  }
+
+  /**
+   * The index of the given vertex in the table, or a negative number if the vertex is not part of
+   * the table.
+   */
+  public int indexOf(Vertex vertex) {
+    return vertices.indexOf(vertex);
+  }
+
+  public boolean contains(Vertex vertex) {
+    return indexOf(vertex) >= 0;
+  }
+
+  /**
+   * A lower bound for the car travel time in seconds from the vertex at index {@code from} to the
+   * vertex at index {@code to}. Landmarks which can not reach or can not be reached from one of
+   * the vertices are ignored. Zero is returned if no landmark gives a bound.
+   */
+  public int lowerBound(int from, int to) {
+    int bound = 0;
+    for (int i = 0; i < fromLandmark.length; ++i) {
+      // d(from, to) >= d(landmark, to) - d(landmark, from)
+      int[] fromL = fromLandmark[i];
+      if (fromL[from] != UNREACHABLE && fromL[to] != UNREACHABLE) {
+        bound = Math.max(bound, fromL[to] - fromL[from]);
+      }
+      // d(from, to) >= d(from, landmark) - d(to, landmark)
+      int[] toL = toLandmark[i];
+      if (toL[from] != UNREACHABLE && toL[to] != UNREACHABLE) {
+        bound = Math.max(bound, toL[from] - toL[to]);
+      }
+    }
+    return Math.max(0, bound - ROUNDING_ERROR);
+  }
+}
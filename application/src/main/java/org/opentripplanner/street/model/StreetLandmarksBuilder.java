@@ -0,0 +1,131 @@
+package org.opentripplanner.street.model;
+
+import static org.opentripplanner.street.model.RelaxedStreetGraph.Direction.BACKWARD;
+import static org.opentripplanner.street.model.RelaxedStreetGraph.Direction.FORWARD;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ToDoubleFunction;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.TraverseMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Calculate the {@link StreetLandmarks} table for a set of vertices.
+ * <p>
+ * The travel times are computed on a relaxed copy of the street graph: street edges which can be
+ * traversed by car cost the edge length divided by the car speed, street edges which can not be
+ * traversed by car are left out, and all other edges (elevators, links, etc.) are free. This
+ * makes the travel times a lower bound for any car search.
+ * <p>
+ * The landmarks are selected with the "farthest" heuristic: the first landmark is the vertex
+ * farthest away from an arbitrary start vertex, and each of the following landmarks is the vertex
+ * with the largest travel time to the closest of the landmarks already selected. Landmarks on the
+ * edge of the network give the best bounds.
+ */
+public class StreetLandmarksBuilder {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StreetLandmarksBuilder.class);
+
+  private final VertexIndex vertices;
+  private final int nLandmarks;
+
+  private final RelaxedStreetGraph forward;
+  private final RelaxedStreetGraph backward;
+
+  public StreetLandmarksBuilder(Collection<? extends Vertex> vertices, int nLandmarks) {
+    if (nLandmarks < 1) {
+      throw new IllegalArgumentException("At least one landmark is required: " + nLandmarks);
+    }
+    this.vertices = new VertexIndex(vertices);
+    this.nLandmarks = nLandmarks;
+
+    ToDoubleFunction<Edge> cost = StreetLandmarksBuilder::carTravelTime;
+    this.forward = RelaxedStreetGraph.create(this.vertices, FORWARD, cost);
+    this.backward = RelaxedStreetGraph.create(this.vertices, BACKWARD, cost);
+  }
+
+  public StreetLandmarks build() {
+    int n = vertices.size();
+    int[][] fromLandmark = new int[nLandmarks][];
+    int[][] toLandmark = new int[nLandmarks][];
+
+    // Travel time from the closest landmark to each vertex, used to select the next landmark
+    double[] minDistance = new double[n];
+    Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+
+    int landmark = n == 0 ? -1 : farthest(forward.shortestPathTree(startVertex()));
+    int count = 0;
+
+    while (count < nLandmarks && landmark >= 0) {
+      LOG.info("Computing travel times for street landmark {} of {}", count + 1, nLandmarks);
+      double[] from = forward.shortestPathTree(landmark);
+      fromLandmark[count] = toSeconds(from);
+      toLandmark[count] = toSeconds(backward.shortestPathTree(landmark));
+      ++count;
+
+      for (int v = 0; v < n; ++v) {
+        minDistance[v] = Math.min(minDistance[v], from[v]);
+      }
+      // The landmarks already selected have a distance of zero and are not selected again
+      landmark = farthest(minDistance);
+    }
+    return new StreetLandmarks(
+      vertices,
+      Arrays.copyOf(fromLandmark, count),
+      Arrays.copyOf(toLandmark, count)
+    );
+  }
+
+  /** The first vertex with an edge, the farthest vertex from it becomes the first landmark. */
+  private int startVertex() {
+    for (int i = 0; i < vertices.size(); ++i) {
+      if (forward.hasEdges(i)) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Find the reachable vertex with the largest distance. Return -1 if no vertex has a positive
+   * distance.
+   */
+  private static int farthest(double[] distance) {
+    int best = -1;
+    double max = 0;
+    for (int i = 0; i < distance.length; ++i) {
+      double d = distance[i];
+      if (d != Double.POSITIVE_INFINITY && d > max) {
+        max = d;
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  private static int[] toSeconds(double[] distance) {
+    int[] seconds = new int[distance.length];
+    for (int i = 0; i < distance.length; ++i) {
+      double d = distance[i];
+      seconds[i] =
+        d == Double.POSITIVE_INFINITY
+          ? StreetLandmarks.UNREACHABLE
+          : (int) Math.min(Math.round(d), StreetLandmarks.UNREACHABLE - 1);
+    }
+    return seconds;
+  }
+
+  /** The lower bound travel time of the edge, or a negative number if it is not usable. */
+  private static double carTravelTime(Edge edge) {
+    if (edge instanceof StreetEdge streetEdge) {
+      return streetEdge.canTraverse(TraverseMode.CAR)
+        ? streetEdge.getDistanceMeters() / streetEdge.getCarSpeed()
+        : -1;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,63 @@
+package org.opentripplanner.street.model;
+
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import java.io.Serializable;
+import java.util.Collection;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * Map each vertex of a precomputed table to a position in the table's primitive arrays. The
+ * identity hash code of a vertex is not stable across serialization, so only the array of
+ * vertices is serialized, and the lookup map is created again the first time it is used after the
+ * graph is loaded.
+ * <p>
+ * THIS CLASS IS THREAD-SAFE.
+ */
+class VertexIndex implements Serializable {
+
+  static final int NOT_FOUND = -1;
+
+  private final Vertex[] vertices;
+
+  private transient volatile TObjectIntMap<Vertex> indexByVertex;
+
+  VertexIndex(Collection<? extends Vertex> vertices) {
+    this.vertices = vertices.toArray(new Vertex[0]);
+  }
+
+  int size() {
+    return vertices.length;
+  }
+
+  Vertex vertex(int index) {
+    return vertices[index];
+  }
+
+  /** The index of the vertex, or {@link #NOT_FOUND} if the vertex is not part of the index. */
+  int indexOf(Vertex vertex) {
+    return map().get(vertex);
+  }
+
+  Vertex[] vertices() {
+    return vertices;
+  }
+
+  /** The mapping from vertex to index, used to create the {@link RelaxedStreetGraph}. */
+  TObjectIntMap<Vertex> map() {
+    var index = indexByVertex;
+    if (index == null) {
+      synchronized (this) {
+        index = indexByVertex;
+        if (index == null) {
+          index = new TObjectIntHashMap<>(vertices.length, 0.5f, NOT_FOUND);
+          for (int i = 0; i < vertices.length; ++i) {
+            index.put(vertices[i], i);
+          }
+          indexByVertex = index;
+        }
+      }
+    }
+    return index;
+  }
+}
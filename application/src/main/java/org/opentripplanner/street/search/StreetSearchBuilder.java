@@ -1,12 +1,15 @@
 package org.opentripplanner.street.search;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Set;
 import org.opentripplanner.astar.AStarBuilder;
+import org.opentripplanner.astar.model.AStarQueueType;
 import org.opentripplanner.astar.spi.DominanceFunction;
 import org.opentripplanner.astar.spi.RemainingWeightHeuristic;
 import org.opentripplanner.ext.dataoverlay.routing.DataOverlayContext;
+import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.preference.StreetPreferences;
 import org.opentripplanner.routing.api.request.request.StreetRequest;
@@ -33,6 +36,9 @@ public class StreetSearchBuilder extends AStarBuilder<State, Edge, Vertex, Stree
   private StreetSearchBuilder() {
     super();
     setBuilder(this);
+    if (OTPFeature.IndexedHeapStreetSearch.isOn()) {
+      setQueueType(AStarQueueType.INDEXED_HEAP);
+    }
   }
 
   public StreetSearchBuilder setRequest(RouteRequest request) {
@@ -64,9 +70,23 @@ public class StreetSearchBuilder extends AStarBuilder<State, Edge, Vertex, Stree
     return this;
   }
 
+  /**
+   * The street routing timeout, limited to the time left until the search deadline of the request.
+   * The timeout is calculated when the search starts, so each search only gets the time which is
+   * left of the search time budget.
+   */
   @Override
   protected Duration streetRoutingTimeout() {
-    return routeRequest.preferences().street().routingTimeout();
+    var timeout = routeRequest.preferences().street().routingTimeout();
+    var deadline = routeRequest.searchDeadline();
+    if (deadline == null) {
+      return timeout;
+    }
+    var timeLeft = Duration.between(Instant.now(), deadline);
+    if (timeLeft.isNegative()) {
+      return Duration.ZERO;
+    }
+    return timeLeft.compareTo(timeout) < 0 ? timeLeft : timeout;
   }
 
   @Override
@@ -51,6 +51,9 @@ public class State implements AStarState<State, Edge, Vertex>, Cloneable {
   // we should DEFINITELY rename this variable and the associated methods.
   public double walkDistance;
 
+  // the position of this state in the search queue, -1 if not in the queue
+  private int queueIndex = -1;
+
   /* CONSTRUCTORS */
 
   /**
@@ -298,6 +301,14 @@ public class State implements AStarState<State, Edge, Vertex>, Cloneable {
     return request;
   }
 
+  public int getQueueIndex() {
+    return queueIndex;
+  }
+
+  public void setQueueIndex(int queueIndex) {
+    this.queueIndex = queueIndex;
+  }
+
   public RoutingPreferences getPreferences() {
     return request.preferences();
   }
@@ -0,0 +1,107 @@
+package org.opentripplanner.street.search.strategy;
+
+import gnu.trove.list.array.TIntArrayList;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.preference.RoutingPreferences;
+import org.opentripplanner.street.model.StreetLandmarks;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.state.State;
+
+/**
+ * A remaining weight heuristic for car searches which uses the precomputed landmark travel times,
+ * see {@link StreetLandmarks}. The estimate is the largest of the Euclidean estimate and the
+ * landmark lower bound multiplied with the car reluctance. For all other modes, and for vertices
+ * which are not part of the landmark table, the Euclidean estimate is used.
+ * <p>
+ * The destination is usually a temporary vertex which is not part of the table. The permanent
+ * vertices leading to the destination are found by searching back from the destination through
+ * the temporary vertices, and the smallest bound to any of them is used.
+ */
+public class LandmarkRemainingWeightHeuristic extends EuclideanRemainingWeightHeuristic {
+
+  /** Limit the search for permanent vertices around the destination. */
+  private static final int MAX_TARGET_SEARCH_VERTICES = 1000;
+
+  private final StreetLandmarks landmarks;
+
+  private boolean arriveBy;
+  private double reluctance;
+
+  /** The table index of the permanent vertices closest to the destination. */
+  private int[] targets;
+
+  public LandmarkRemainingWeightHeuristic(Float maxCarSpeed, StreetLandmarks landmarks) {
+    super(maxCarSpeed);
+    this.landmarks = landmarks;
+  }
+
+  @Override
+  public void initialize(
+    StreetMode streetMode,
+    Set<Vertex> toVertices,
+    boolean arriveBy,
+    RoutingPreferences preferences
+  ) {
+    super.initialize(streetMode, toVertices, arriveBy, preferences);
+    this.arriveBy = arriveBy;
+    this.reluctance = preferences.car().reluctance();
+    this.targets = streetMode == StreetMode.CAR ? findTargets(toVertices, arriveBy) : new int[0];
+  }
+
+  @Override
+  public double estimateRemainingWeight(State s) {
+    double estimate = super.estimateRemainingWeight(s);
+    if (targets.length == 0) {
+      return estimate;
+    }
+    int v = landmarks.indexOf(s.getVertex());
+    if (v < 0) {
+      return estimate;
+    }
+    int bound = Integer.MAX_VALUE;
+    for (int target : targets) {
+      // In a reverse search the remaining part of the trip is from the origin to the vertex
+      bound = Math.min(
+        bound,
+        arriveBy ? landmarks.lowerBound(target, v) : landmarks.lowerBound(v, target)
+      );
+    }
+    return Math.max(estimate, bound * reluctance);
+  }
+
+  /**
+   * Find the vertices in the table which are connected to the destination vertices without
+   * passing through any other table vertex. An empty array is returned if the search is not
+   * successful, then only the Euclidean estimate is used.
+   */
+  private int[] findTargets(Set<Vertex> destinations, boolean arriveBy) {
+    var targets = new TIntArrayList();
+    var visited = new HashSet<Vertex>();
+    var queue = new ArrayDeque<>(destinations);
+
+    while (!queue.isEmpty()) {
+      Vertex v = queue.poll();
+      if (!visited.add(v)) {
+        continue;
+      }
+      if (visited.size() > MAX_TARGET_SEARCH_VERTICES) {
+        return new int[0];
+      }
+      int index = landmarks.indexOf(v);
+      if (index >= 0) {
+        targets.add(index);
+        continue;
+      }
+      // The destination is reached by the incoming edges, but in a reverse search the
+      // destination is the origin of the trip, which is left by the outgoing edges
+      for (Edge e : arriveBy ? v.getOutgoing() : v.getIncoming()) {
+        queue.add(arriveBy ? e.getToVertex() : e.getFromVertex());
+      }
+    }
+    return targets.toArray();
+  }
+}
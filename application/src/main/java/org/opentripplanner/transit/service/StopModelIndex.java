@@ -1,13 +1,15 @@
 package org.opentripplanner.transit.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import org.locationtech.jts.geom.Envelope;
-import org.opentripplanner.framework.geometry.HashGridSpatialIndex;
+import org.opentripplanner.framework.geometry.PackedHashGridSpatialIndex;
 import org.opentripplanner.transit.model.site.AreaStop;
 import org.opentripplanner.transit.model.site.GroupStop;
 import org.opentripplanner.transit.model.site.MultiModalStation;
@@ -28,9 +30,9 @@ class SiteRepositoryIndex {
 
   private static final Logger LOG = LoggerFactory.getLogger(SiteRepositoryIndex.class);
 
-  private final HashGridSpatialIndex<RegularStop> regularStopSpatialIndex = new HashGridSpatialIndex<>();
+  private final PackedHashGridSpatialIndex<RegularStop> regularStopSpatialIndex;
   private final Map<Station, MultiModalStation> multiModalStationForStations = new HashMap<>();
-  private final HashGridSpatialIndex<AreaStop> locationIndex = new HashGridSpatialIndex<>();
+  private final PackedHashGridSpatialIndex<AreaStop> locationIndex;
   private final StopLocation[] stopsByIndex;
 
   /**
@@ -45,27 +47,27 @@ class SiteRepositoryIndex {
   ) {
     stopsByIndex = new StopLocation[indexSize];
 
+    var regularStopIndexBuilder = PackedHashGridSpatialIndex.<RegularStop>of();
     var allStops = new CollectionsView<StopLocation>(stops, flexStops, groupStops);
     for (StopLocation it : allStops) {
       if (it instanceof RegularStop regularStop) {
         var envelope = new Envelope(it.getCoordinate().asJtsCoordinate());
-        regularStopSpatialIndex.insert(envelope, regularStop);
+        regularStopIndexBuilder.insert(envelope, regularStop);
       }
       stopsByIndex[it.getIndex()] = it;
     }
+    this.regularStopSpatialIndex = regularStopIndexBuilder.build();
 
     for (MultiModalStation it : multiModalStations) {
       for (Station childStation : it.getChildStations()) {
         multiModalStationForStations.put(childStation, it);
       }
     }
+    var locationIndexBuilder = PackedHashGridSpatialIndex.<AreaStop>of();
     for (AreaStop it : flexStops) {
-      locationIndex.insert(it.getGeometry().getEnvelopeInternal(), it);
+      locationIndexBuilder.insert(it.getGeometry().getEnvelopeInternal(), it);
     }
-
-    // Trim the sizes of the indices
-    regularStopSpatialIndex.compact();
-    locationIndex.compact();
+    this.locationIndex = locationIndexBuilder.build();
 
     logHolesInIndex();
   }
@@ -77,11 +79,14 @@ class SiteRepositoryIndex {
    * @return A collection of {@link RegularStop}s that are inside of the passed envelope.
    */
   Collection<RegularStop> findRegularStops(Envelope envelope) {
-    return regularStopSpatialIndex
-      .query(envelope)
-      .stream()
-      .filter(stop -> envelope.contains(stop.getCoordinate().asJtsCoordinate()))
-      .toList();
+    List<RegularStop> result = new ArrayList<>();
+    regularStopSpatialIndex.query(envelope, id -> {
+      var stop = regularStopSpatialIndex.item(id);
+      if (envelope.contains(stop.getCoordinate().asJtsCoordinate())) {
+        result.add(stop);
+      }
+    });
+    return result;
   }
 
   MultiModalStation getMultiModalStationForStation(Station station) {
@@ -12,7 +12,9 @@ import static org.opentripplanner.updater.trip.UpdateIncrementality.FULL_DATASET
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.opentripplanner.model.RealTimeTripUpdate;
 import org.opentripplanner.model.Timetable;
@@ -69,6 +71,13 @@ public class SiriTimetableSnapshotSource implements TimetableSnapshotProvider {
 
   private final TimetableSnapshotManager snapshotManager;
 
+  /**
+   * The feeds with a full dataset which is applied in several batches. The snapshot is not
+   * published until all the batches are applied, so routing threads do not see a partly loaded
+   * dataset. Only accessed from the graph-writer thread.
+   */
+  private final Set<String> stagedFeeds = new HashSet<>();
+
   public SiriTimetableSnapshotSource(
     TimetableSnapshotSourceParameters parameters,
     TimetableRepository timetableRepository
@@ -360,9 +369,28 @@ public class SiriTimetableSnapshotSource implements TimetableSnapshotProvider {
   }
 
   /**
-   * Flush pending changes in the timetable snapshot buffer and publish a new snapshot.
+   * Start or stop staging the updates of the given feed. While the updates of a feed are staged,
+   * they are applied to the timetable snapshot buffer, but the buffer is not flushed. This is used
+   * to apply a full dataset in several batches, and publish it once when the last batch is
+   * applied.
+   */
+  public void setStaged(String feedId, boolean staged) {
+    if (staged) {
+      stagedFeeds.add(feedId);
+    } else {
+      stagedFeeds.remove(feedId);
+    }
+  }
+
+  /**
+   * Flush pending changes in the timetable snapshot buffer and publish a new snapshot. Nothing is
+   * published while the updates of a feed are staged, see {@link #setStaged(String, boolean)}.
    */
   public void flushBuffer() {
+    if (!stagedFeeds.isEmpty()) {
+      LOG.debug("Updates are staged for {}, keeping old snapshot.", stagedFeeds);
+      return;
+    }
     snapshotManager.purgeAndCommit();
   }
 }
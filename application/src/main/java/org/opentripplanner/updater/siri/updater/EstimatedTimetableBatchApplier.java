@@ -0,0 +1,141 @@
+package org.opentripplanner.updater.siri.updater;
+
+import static org.opentripplanner.updater.trip.UpdateIncrementality.DIFFERENTIAL;
+import static org.opentripplanner.updater.trip.UpdateIncrementality.FULL_DATASET;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.opentripplanner.updater.GraphWriterRunnable;
+import org.opentripplanner.updater.spi.WriteToGraphCallback;
+import org.opentripplanner.updater.trip.UpdateIncrementality;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.org.siri.siri20.EstimatedTimetableDeliveryStructure;
+import uk.org.siri.siri20.ServiceDelivery;
+
+/**
+ * Read one message from an {@link EstimatedTimetableSource} in batches, and apply the batches in
+ * the graph-writer thread in the order they are read.
+ * <p>
+ * The message is applied batch by batch while it is read. The source is blocked until the
+ * previous batch is applied, so only a few batches are kept in memory. The last batch is held
+ * back until the whole message is read, because the updater is primed when the last batch of the
+ * last page is applied.
+ * <p>
+ * A full dataset replaces all earlier updates. The first batch is applied as a full dataset, the
+ * rest as differential updates. All batches except the last are staged, the timetable snapshot
+ * is not published before the last batch is applied, so routing threads never see a partly
+ * loaded dataset.
+ * <p>
+ * If the message can not be read, the batch held back is discarded. The batches already applied
+ * are kept, and the staging of a full dataset ends. The partly loaded full dataset is then
+ * published, until it is replaced by the next full dataset.
+ */
+class EstimatedTimetableBatchApplier {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EstimatedTimetableBatchApplier.class);
+
+  private final WriteToGraphCallback saveResultOnGraph;
+  private final BatchWriter batchWriter;
+
+  private final List<EstimatedTimetableDeliveryStructure> buffer = new ArrayList<>();
+  private UpdateIncrementality incrementality;
+  private boolean moreData = false;
+  private boolean firstBatchApplied = false;
+  private boolean staged = false;
+  private Future<?> inProgress;
+
+  EstimatedTimetableBatchApplier(WriteToGraphCallback saveResultOnGraph, BatchWriter batchWriter) {
+    this.saveResultOnGraph = saveResultOnGraph;
+    this.batchWriter = batchWriter;
+  }
+
+  /**
+   * Read the next message from the source and apply it.
+   *
+   * @return true if the source has more data.
+   */
+  boolean readAndApply(EstimatedTimetableSource source) {
+    boolean completed = source.streamUpdates(serviceDelivery -> add(source, serviceDelivery));
+    if (!completed) {
+      buffer.clear();
+      // End the staging of a full dataset
+      apply(true, false);
+      return false;
+    }
+    if (incrementality == null) {
+      // Nothing to apply
+      return false;
+    }
+    // Mark the updater as primed after last page of updates
+    apply(true, !moreData);
+    return moreData;
+  }
+
+  private void add(EstimatedTimetableSource source, ServiceDelivery serviceDelivery) {
+    if (incrementality == null) {
+      incrementality = source.incrementalityOfLastUpdates();
+    } else {
+      apply(false, false);
+    }
+    moreData = Boolean.TRUE.equals(serviceDelivery.isMoreData());
+    var etds = serviceDelivery.getEstimatedTimetableDeliveries();
+    if (etds != null) {
+      buffer.addAll(etds);
+    }
+  }
+
+  private void apply(boolean lastBatch, boolean markPrimed) {
+    awaitInProgress();
+    boolean stage = incrementality == FULL_DATASET && !lastBatch;
+    // An empty batch is only applied to end the staging
+    if (buffer.isEmpty() && (stage || !staged)) {
+      return;
+    }
+    var etds = List.copyOf(buffer);
+    buffer.clear();
+    // Only the first batch of a full dataset replaces the earlier updates
+    var batchIncrementality = firstBatchApplied ? DIFFERENTIAL : incrementality;
+    inProgress =
+      saveResultOnGraph.execute(batchWriter.write(etds, batchIncrementality, stage, markPrimed));
+    firstBatchApplied = true;
+    staged = stage;
+  }
+
+  /**
+   * Wait for the previous batch to be applied. An error in the graph-writer thread is logged, but
+   * does not stop the rest of the message from being read and applied.
+   */
+  private void awaitInProgress() {
+    if (inProgress == null) {
+      return;
+    }
+    try {
+      inProgress.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      LOG.error("Failed to apply SIRI-ET update", e.getCause());
+    } finally {
+      inProgress = null;
+    }
+  }
+
+  /**
+   * Create the graph-writer task applying a batch of estimated timetable deliveries. If
+   * {@code staged} is true, the batch must not be published before a batch with {@code staged}
+   * false is applied.
+   */
+  @FunctionalInterface
+  interface BatchWriter {
+    GraphWriterRunnable write(
+      List<EstimatedTimetableDeliveryStructure> etds,
+      UpdateIncrementality incrementality,
+      boolean staged,
+      boolean markPrimed
+    );
+  }
+}
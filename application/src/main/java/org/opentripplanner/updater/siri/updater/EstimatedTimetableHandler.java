@@ -37,6 +37,20 @@ public class EstimatedTimetableHandler {
     UpdateIncrementality updateMode,
     RealTimeUpdateContext context
   ) {
+    return applyUpdate(estimatedTimetableDeliveries, updateMode, false, context);
+  }
+
+  /**
+   * Apply the update to the transit model. If {@code staged} is true, the update is not published
+   * before an update with {@code staged} false is applied for the same feed.
+   */
+  public UpdateResult applyUpdate(
+    List<EstimatedTimetableDeliveryStructure> estimatedTimetableDeliveries,
+    UpdateIncrementality updateMode,
+    boolean staged,
+    RealTimeUpdateContext context
+  ) {
+    snapshotSource.setStaged(feedId, staged);
     return snapshotSource.applyEstimatedTimetable(
       fuzzyTripMatching ? context.siriFuzzyTripMatcher() : null,
       context.entityResolver(feedId),
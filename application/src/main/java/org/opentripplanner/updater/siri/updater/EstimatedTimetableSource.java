@@ -1,7 +1,9 @@
 package org.opentripplanner.updater.siri.updater;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.opentripplanner.updater.trip.UpdateIncrementality;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 /**
@@ -18,6 +20,24 @@ public interface EstimatedTimetableSource {
    */
   Optional<Siri> getUpdates();
 
+  /**
+   * Wait for one message to arrive, and pass it on to the consumer as a sequence of service
+   * deliveries, each containing a bounded batch of estimated vehicle journeys. Blocking call. The
+   * consumer is called while the message is read, so large messages can be applied before they
+   * are fully downloaded, see {@link SiriETStreamReader}.
+   * <p>
+   * The {@link #incrementalityOfLastUpdates()} is valid for all batches of the message. The
+   * default implementation pass on the result of {@link #getUpdates()} as one batch.
+   *
+   * @return false if an exception occurred while reading the message. Some batches may have been
+   * passed on before the exception occurred, the caller should discard these if the message must
+   * be applied as a whole.
+   */
+  default boolean streamUpdates(Consumer<ServiceDelivery> batchConsumer) {
+    getUpdates().map(Siri::getServiceDelivery).ifPresent(batchConsumer);
+    return true;
+  }
+
   /**
    * @return The incrementality of the last collection of updates.
    * {@link UpdateIncrementality}
@@ -7,6 +7,8 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import org.opentripplanner.framework.io.OtpHttpClientException;
 import org.opentripplanner.updater.spi.HttpHeaders;
@@ -14,6 +16,7 @@ import org.opentripplanner.updater.trip.UpdateIncrementality;
 import org.opentripplanner.utils.tostring.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 public class SiriETHttpTripUpdateSource implements EstimatedTimetableSource {
@@ -51,16 +54,7 @@ public class SiriETHttpTripUpdateSource implements EstimatedTimetableSource {
         return Optional.empty();
       }
 
-      var serviceDelivery = siri.get().getServiceDelivery();
-      if (serviceDelivery.getResponseTimestamp().isBefore(lastTimestamp)) {
-        LOG.info("Newer data has already been processed");
-        return Optional.empty();
-      }
-      lastTimestamp = serviceDelivery.getResponseTimestamp();
-
-      //All subsequent requests will return changes since last request
-      updateIncrementality = DIFFERENTIAL;
-      return siri;
+      return accept(siri.get().getServiceDelivery()) ? siri : Optional.empty();
     } catch (OtpHttpClientException e) {
       LOG.info("Failed after {} ms", (System.currentTimeMillis() - t1));
       LOG.warn("Could not get SIRI-ET data from {}", url, e);
@@ -71,11 +65,57 @@ public class SiriETHttpTripUpdateSource implements EstimatedTimetableSource {
     return Optional.empty();
   }
 
+  @Override
+  public boolean streamUpdates(Consumer<ServiceDelivery> batchConsumer) {
+    long t1 = System.currentTimeMillis();
+    // The header of the service delivery is copied into all batches, so all batches of a message
+    // are either accepted or rejected.
+    var firstBatch = new AtomicBoolean(true);
+    var accepted = new AtomicBoolean(false);
+    try {
+      siriLoader.fetchETFeed(
+        requestorRef,
+        SiriETStreamReader.DEFAULT_BATCH_SIZE,
+        serviceDelivery -> {
+          if (firstBatch.getAndSet(false)) {
+            accepted.set(accept(serviceDelivery));
+          }
+          if (accepted.get()) {
+            batchConsumer.accept(serviceDelivery);
+          }
+        }
+      );
+      return true;
+    } catch (OtpHttpClientException e) {
+      LOG.info("Failed after {} ms", (System.currentTimeMillis() - t1));
+      LOG.warn("Could not get SIRI-ET data from {}", url, e);
+    } catch (Exception e) {
+      LOG.info("Failed after {} ms", (System.currentTimeMillis() - t1));
+      LOG.warn("Failed to parse SIRI-ET feed from {}", url, e);
+    }
+    return false;
+  }
+
   @Override
   public UpdateIncrementality incrementalityOfLastUpdates() {
     return updateIncrementality;
   }
 
+  /**
+   * Return true if the service delivery is newer than the last one processed.
+   */
+  private boolean accept(ServiceDelivery serviceDelivery) {
+    if (serviceDelivery.getResponseTimestamp().isBefore(lastTimestamp)) {
+      LOG.info("Newer data has already been processed");
+      return false;
+    }
+    lastTimestamp = serviceDelivery.getResponseTimestamp();
+
+    //All subsequent requests will return changes since last request
+    updateIncrementality = DIFFERENTIAL;
+    return true;
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder.of(SiriETHttpTripUpdateSource.class).addStr("url", url).toString();
@@ -0,0 +1,166 @@
+package org.opentripplanner.updater.siri.updater;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.entur.siri.adapter.ZonedDateTimeAdapter;
+import uk.org.siri.siri20.EstimatedTimetableDeliveryStructure;
+import uk.org.siri.siri20.EstimatedVehicleJourney;
+import uk.org.siri.siri20.EstimatedVersionFrameStructure;
+import uk.org.siri.siri20.ServiceDelivery;
+
+/**
+ * Read a SIRI-ET document from a stream without unmarshalling the whole document into memory.
+ * The {@code EstimatedVehicleJourney} elements are unmarshalled one at a time and handed over to
+ * a consumer in batches of bounded size. Full refreshes of large feeds can be several hundred
+ * megabytes, reading them in batches caps the memory used and allow the first batches to be
+ * applied while the rest of the document is still being downloaded.
+ * <p>
+ * Each batch is wrapped in a {@link ServiceDelivery} with one estimated timetable delivery, so it
+ * can be processed like any other SIRI-ET update. The {@code ResponseTimestamp} and
+ * {@code MoreData} elements of the service delivery are copied into each batch. The SIRI schema
+ * place these elements before the deliveries, so they are known when the first batch is emitted.
+ * Other elements of the document are ignored.
+ */
+public class SiriETStreamReader {
+
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private static final String SERVICE_DELIVERY = "ServiceDelivery";
+  private static final String RESPONSE_TIMESTAMP = "ResponseTimestamp";
+  private static final String MORE_DATA = "MoreData";
+  private static final String ESTIMATED_VEHICLE_JOURNEY = "EstimatedVehicleJourney";
+
+  private final XMLStreamReader reader;
+  private final Unmarshaller unmarshaller;
+  private final int batchSize;
+  private final Consumer<ServiceDelivery> batchConsumer;
+
+  private ZonedDateTime responseTimestamp;
+  private Boolean moreData;
+  private List<EstimatedVehicleJourney> batch = new ArrayList<>();
+  private int numberOfBatches = 0;
+
+  private SiriETStreamReader(
+    XMLStreamReader reader,
+    Unmarshaller unmarshaller,
+    int batchSize,
+    Consumer<ServiceDelivery> batchConsumer
+  ) {
+    this.reader = reader;
+    this.unmarshaller = unmarshaller;
+    this.batchSize = batchSize;
+    this.batchConsumer = batchConsumer;
+  }
+
+  /**
+   * Read the document and pass the estimated vehicle journeys to the consumer in batches of at
+   * most {@code batchSize} journeys. The consumer is called on the calling thread, before the
+   * rest of the document is read.
+   *
+   * @return the number of batches passed to the consumer. A document with a service delivery, but
+   * no estimated vehicle journeys, result in one empty batch. Zero is returned only if the document
+   * does not contain a service delivery.
+   */
+  public static int read(InputStream is, int batchSize, Consumer<ServiceDelivery> batchConsumer)
+    throws JAXBException, XMLStreamException {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+    }
+    XMLStreamReader reader = SiriHelper.createXmlStreamReader(is);
+    try {
+      var streamReader = new SiriETStreamReader(
+        reader,
+        SiriHelper.createUnmarshaller(),
+        batchSize,
+        batchConsumer
+      );
+      streamReader.readDocument();
+      return streamReader.numberOfBatches;
+    } finally {
+      reader.close();
+    }
+  }
+
+  private void readDocument() throws JAXBException, XMLStreamException {
+    boolean serviceDeliveryFound = false;
+    int depth = 0;
+    int serviceDeliveryDepth = -1;
+    int event = reader.getEventType();
+
+    while (true) {
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = reader.getLocalName();
+        if (ESTIMATED_VEHICLE_JOURNEY.equals(name)) {
+          // The unmarshaller consumes the element, including the end tag, and leaves the reader
+          // positioned at the next event.
+          add(unmarshaller.unmarshal(reader, EstimatedVehicleJourney.class).getValue());
+          event = reader.getEventType();
+          continue;
+        }
+        ++depth;
+        if (SERVICE_DELIVERY.equals(name)) {
+          serviceDeliveryFound = true;
+          serviceDeliveryDepth = depth;
+        } else if (depth == serviceDeliveryDepth + 1) {
+          // Reading the element text moves the reader to the end tag of the element
+          if (RESPONSE_TIMESTAMP.equals(name)) {
+            responseTimestamp = ZonedDateTimeAdapter.parse(reader.getElementText().trim());
+            --depth;
+          } else if (MORE_DATA.equals(name)) {
+            moreData = parseBoolean(reader.getElementText());
+            --depth;
+          }
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        --depth;
+      }
+
+      if (!reader.hasNext()) {
+        break;
+      }
+      event = reader.next();
+    }
+
+    if (!batch.isEmpty() || (serviceDeliveryFound && numberOfBatches == 0)) {
+      emitBatch();
+    }
+  }
+
+  private void add(EstimatedVehicleJourney journey) {
+    batch.add(journey);
+    if (batch.size() >= batchSize) {
+      emitBatch();
+    }
+  }
+
+  private void emitBatch() {
+    var frame = new EstimatedVersionFrameStructure();
+    frame.getEstimatedVehicleJourneies().addAll(batch);
+
+    var delivery = new EstimatedTimetableDeliveryStructure();
+    delivery.getEstimatedJourneyVersionFrames().add(frame);
+
+    var serviceDelivery = new ServiceDelivery();
+    serviceDelivery.setResponseTimestamp(responseTimestamp);
+    serviceDelivery.setMoreData(moreData);
+    serviceDelivery.getEstimatedTimetableDeliveries().add(delivery);
+
+    // Do not reuse the list, the consumer may keep a reference to the batch
+    batch = new ArrayList<>();
+    ++numberOfBatches;
+    batchConsumer.accept(serviceDelivery);
+  }
+
+  private static boolean parseBoolean(String value) {
+    var text = value.trim();
+    return "true".equals(text) || "1".equals(text);
+  }
+}
@@ -2,18 +2,18 @@ package org.opentripplanner.updater.siri.updater;
 
 import java.util.List;
 import java.util.function.Consumer;
+import org.opentripplanner.updater.GraphWriterRunnable;
 import org.opentripplanner.updater.siri.SiriTimetableSnapshotSource;
 import org.opentripplanner.updater.spi.PollingGraphUpdater;
 import org.opentripplanner.updater.spi.PollingGraphUpdaterParameters;
 import org.opentripplanner.updater.spi.ResultLogger;
 import org.opentripplanner.updater.spi.UpdateResult;
-import org.opentripplanner.updater.spi.WriteToGraphCallback;
+import org.opentripplanner.updater.trip.UpdateIncrementality;
 import org.opentripplanner.updater.trip.UrlUpdaterParameters;
 import org.opentripplanner.utils.tostring.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import uk.org.siri.siri20.EstimatedTimetableDeliveryStructure;
-import uk.org.siri.siri20.ServiceDelivery;
 
 /**
  * Update OTP stop timetables from some a Siri-ET HTTP sources.
@@ -58,35 +58,34 @@ public class SiriETUpdater extends PollingGraphUpdater {
 
   /**
    * Repeatedly makes blocking calls to an UpdateStreamer to retrieve new stop time updates, and
-   * applies those updates to the graph.
+   * applies those updates to the graph. Each update is read and applied in batches, see
+   * {@link EstimatedTimetableBatchApplier}.
    */
   @Override
   public void runPolling() {
     boolean moreData = false;
     do {
-      var updates = updateSource.getUpdates();
-      if (updates.isPresent()) {
-        var incrementality = updateSource.incrementalityOfLastUpdates();
-        ServiceDelivery serviceDelivery = updates.get().getServiceDelivery();
-        moreData = Boolean.TRUE.equals(serviceDelivery.isMoreData());
-        // Mark this updater as primed after last page of updates. Copy moreData into a final
-        // primitive, because the object moreData persists across iterations.
-        final boolean markPrimed = !moreData;
-        List<EstimatedTimetableDeliveryStructure> etds = serviceDelivery.getEstimatedTimetableDeliveries();
-        if (etds != null) {
-          saveResultOnGraph.execute(context -> {
-            var result = estimatedTimetableHandler.applyUpdate(etds, incrementality, context);
-            ResultLogger.logUpdateResult(feedId, "siri-et", result);
-            metricsConsumer.accept(result);
-            if (markPrimed) {
-              primed = true;
-            }
-          });
-        }
-      }
+      var batchApplier = new EstimatedTimetableBatchApplier(saveResultOnGraph, this::applyUpdate);
+      moreData = batchApplier.readAndApply(updateSource);
     } while (moreData);
   }
 
+  private GraphWriterRunnable applyUpdate(
+    List<EstimatedTimetableDeliveryStructure> etds,
+    UpdateIncrementality incrementality,
+    boolean staged,
+    boolean markPrimed
+  ) {
+    return context -> {
+      var result = estimatedTimetableHandler.applyUpdate(etds, incrementality, staged, context);
+      ResultLogger.logUpdateResult(feedId, "siri-et", result);
+      metricsConsumer.accept(result);
+      if (markPrimed) {
+        primed = true;
+      }
+    };
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder
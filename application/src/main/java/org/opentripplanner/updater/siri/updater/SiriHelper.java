@@ -1,11 +1,15 @@
 package org.opentripplanner.updater.siri.updater;
 
+import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.UUID;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.rutebanken.siri20.util.SiriXml;
 import uk.org.siri.siri20.EstimatedTimetableRequestStructure;
 import uk.org.siri.siri20.MessageQualifierStructure;
@@ -16,10 +20,35 @@ import uk.org.siri.siri20.SituationExchangeRequestStructure;
 
 public class SiriHelper {
 
+  /**
+   * The JAXB context used to unmarshal parts of a SIRI document, see {@link #createUnmarshaller()}.
+   * {@link SiriXml} does not expose its context, and creating a context is expensive, so it is
+   * created once and shared.
+   */
+  private static JAXBContext jaxbContext;
+
   public static Siri unmarshal(InputStream is) throws JAXBException, XMLStreamException {
     return SiriXml.parseXml(is);
   }
 
+  /**
+   * Create a reader for streaming a SIRI document, with DTDs and external entities disabled.
+   */
+  public static XMLStreamReader createXmlStreamReader(InputStream is) throws XMLStreamException {
+    XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return xmlInputFactory.createXMLStreamReader(is);
+  }
+
+  /**
+   * Create an unmarshaller for the SIRI model, for unmarshalling the elements of a document one
+   * at a time. An unmarshaller is not thread-safe, create one for each document.
+   */
+  public static Unmarshaller createUnmarshaller() throws JAXBException {
+    return context().createUnmarshaller();
+  }
+
   public static String createSXServiceRequestAsXml(String requestorRef) throws JAXBException {
     Siri request = createSXServiceRequest(requestorRef);
     return SiriXml.toXml(request);
@@ -91,4 +120,11 @@ public class SiriHelper {
 
     return request;
   }
+
+  private static synchronized JAXBContext context() throws JAXBException {
+    if (jaxbContext == null) {
+      jaxbContext = JAXBContext.newInstance(Siri.class);
+    }
+    return jaxbContext;
+  }
 }
@@ -3,11 +3,13 @@ package org.opentripplanner.updater.siri.updater;
 import jakarta.xml.bind.JAXBException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.opentripplanner.framework.io.OtpHttpClient;
 import org.opentripplanner.framework.io.OtpHttpClientFactory;
 import org.opentripplanner.updater.spi.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 /**
@@ -49,7 +51,12 @@ public class SiriHttpLoader implements SiriLoader {
     requestTimer.init();
     String sxServiceRequest = SiriHelper.createSXServiceRequestAsXml(requestorRef);
     requestTimer.serviceRequestCreated();
-    return fetchFeed(sxServiceRequest, requestTimer, requestorRef);
+    return fetchFeed(
+      sxServiceRequest,
+      requestTimer,
+      requestorRef,
+      is -> Optional.of(SiriHelper.unmarshal(is))
+    );
   }
 
   /**
@@ -61,13 +68,41 @@ public class SiriHttpLoader implements SiriLoader {
     requestTimer.init();
     String etServiceRequest = SiriHelper.createETServiceRequestAsXml(requestorRef, previewInterval);
     requestTimer.serviceRequestCreated();
-    return fetchFeed(etServiceRequest, requestTimer, requestorRef);
+    return fetchFeed(
+      etServiceRequest,
+      requestTimer,
+      requestorRef,
+      is -> Optional.of(SiriHelper.unmarshal(is))
+    );
   }
 
-  private Optional<Siri> fetchFeed(
+  /**
+   * Send a SIRI-ET service request and stream the response to the consumer in batches. The
+   * unmarshalling time logged include the time spent by the consumer.
+   */
+  @Override
+  public int fetchETFeed(
+    String requestorRef,
+    int batchSize,
+    Consumer<ServiceDelivery> batchConsumer
+  ) throws JAXBException {
+    RequestTimer requestTimer = new RequestTimer("ET");
+    requestTimer.init();
+    String etServiceRequest = SiriHelper.createETServiceRequestAsXml(requestorRef, previewInterval);
+    requestTimer.serviceRequestCreated();
+    return fetchFeed(
+      etServiceRequest,
+      requestTimer,
+      requestorRef,
+      is -> SiriETStreamReader.read(is, batchSize, batchConsumer)
+    );
+  }
+
+  private <T> T fetchFeed(
     String serviceRequest,
     RequestTimer requestTimer,
-    String requestorRef
+    String requestorRef,
+    OtpHttpClient.ResponseMapper<T> responseMapper
   ) {
     try {
       return otpHttpClient.postXmlAndMap(
@@ -77,9 +112,9 @@ public class SiriHttpLoader implements SiriLoader {
         requestHeaders.asMap(),
         is -> {
           requestTimer.responseFetched();
-          Siri siri = SiriHelper.unmarshal(is);
+          T result = responseMapper.apply(is);
           requestTimer.responseUnmarshalled();
-          return Optional.of(siri);
+          return result;
         }
       );
     } finally {
@@ -2,6 +2,8 @@ package org.opentripplanner.updater.siri.updater;
 
 import jakarta.xml.bind.JAXBException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 /**
@@ -17,4 +19,21 @@ public interface SiriLoader {
    * Request a new Siri ET update.
    */
   Optional<Siri> fetchETFeed(String requestorRef) throws JAXBException;
+
+  /**
+   * Request a new Siri ET update and pass the estimated vehicle journeys to the consumer in
+   * batches of at most {@code batchSize} journeys, see {@link SiriETStreamReader}. The default
+   * implementation unmarshal the whole document and pass it on as one batch.
+   *
+   * @return the number of batches passed to the consumer, zero if no update was available.
+   */
+  default int fetchETFeed(
+    String requestorRef,
+    int batchSize,
+    Consumer<ServiceDelivery> batchConsumer
+  ) throws JAXBException {
+    var serviceDelivery = fetchETFeed(requestorRef).map(Siri::getServiceDelivery);
+    serviceDelivery.ifPresent(batchConsumer);
+    return serviceDelivery.isPresent() ? 1 : 0;
+  }
 }
@@ -5,14 +5,17 @@ import static org.opentripplanner.updater.trip.UpdateIncrementality.FULL_DATASET
 import java.net.URI;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.opentripplanner.framework.io.OtpHttpClientException;
 import org.opentripplanner.updater.siri.updater.EstimatedTimetableSource;
+import org.opentripplanner.updater.siri.updater.SiriETStreamReader;
 import org.opentripplanner.updater.siri.updater.SiriLoader;
 import org.opentripplanner.updater.spi.HttpHeaders;
 import org.opentripplanner.updater.trip.UpdateIncrementality;
 import org.opentripplanner.utils.tostring.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 /**
@@ -51,6 +54,23 @@ public class SiriETLiteHttpTripUpdateSource implements EstimatedTimetableSource
     return Optional.empty();
   }
 
+  @Override
+  public boolean streamUpdates(Consumer<ServiceDelivery> batchConsumer) {
+    try {
+      siriLoader.fetchETFeed(
+        DUMMY_REQUESTOR_REF,
+        SiriETStreamReader.DEFAULT_BATCH_SIZE,
+        batchConsumer
+      );
+      return true;
+    } catch (OtpHttpClientException e) {
+      LOG.warn("Could not get SIRI-ET data from {}", parameters.uri(), e);
+    } catch (Exception e) {
+      LOG.warn("Failed to parse SIRI-ET feed from {}", parameters.uri(), e);
+    }
+    return false;
+  }
+
   @Override
   public UpdateIncrementality incrementalityOfLastUpdates() {
     return FULL_DATASET;
@@ -3,13 +3,16 @@ package org.opentripplanner.updater.siri.updater.lite;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.opentripplanner.framework.io.OtpHttpClient;
 import org.opentripplanner.framework.io.OtpHttpClientFactory;
+import org.opentripplanner.updater.siri.updater.SiriETStreamReader;
 import org.opentripplanner.updater.siri.updater.SiriHelper;
 import org.opentripplanner.updater.siri.updater.SiriLoader;
 import org.opentripplanner.updater.spi.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.org.siri.siri20.ServiceDelivery;
 import uk.org.siri.siri20.Siri;
 
 /**
@@ -47,6 +50,23 @@ public class SiriLiteHttpLoader implements SiriLoader {
     return fetchFeed();
   }
 
+  /**
+   * Send a HTTP GET service request and stream the response to the consumer in batches.
+   */
+  @Override
+  public int fetchETFeed(
+    String ignored,
+    int batchSize,
+    Consumer<ServiceDelivery> batchConsumer
+  ) {
+    return otpHttpClient.getAndMap(
+      uri,
+      timeout,
+      headers.asMap(),
+      is -> SiriETStreamReader.read(is, batchSize, batchConsumer)
+    );
+  }
+
   private Optional<Siri> fetchFeed() {
     return otpHttpClient.getAndMap(
       uri,
@@ -7,6 +7,9 @@ import java.util.List;
 import org.opentripplanner.ext.emissions.DefaultEmissionsService;
 import org.opentripplanner.ext.emissions.EmissionsDataModel;
 import org.opentripplanner.ext.emissions.EmissionsService;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.graph.Graph;
 import org.opentripplanner.service.realtimevehicles.RealtimeVehicleService;
@@ -51,6 +54,8 @@ public class TestServerContext {
         routerConfig.transitTuningConfig(),
         RaptorEnvironmentFactory.create(routerConfig.transitTuningConfig().searchThreadPoolSize())
       ),
+      OtpRequestExecutor.sequential(),
+      AdmissionController.unlimited(),
       graph,
       new DefaultTransitService(timetableRepository),
       Metrics.globalRegistry,
@@ -62,6 +67,7 @@ public class TestServerContext {
       createEmissionsService(),
       null,
       routerConfig.flexParameters(),
+      FlexPathCache.disabled(),
       List.of(),
       null,
       createStreetLimitationParametersService(),
@@ -18,7 +18,10 @@ import static org.opentripplanner.transit.model.basic.TransitMode.FERRY;
 import static org.opentripplanner.transit.model.timetable.OccupancyStatus.FEW_SEATS_AVAILABLE;
 
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -478,9 +481,11 @@ class GraphQLIntegrationTest {
       .resolve(path.getFileName().toString().replace(".graphql", ".json"));
   }
 
-  private static String responseBody(Response response) {
+  private static String responseBody(Response response) throws IOException {
     if (response instanceof OutboundJaxrsResponse outbound) {
-      return (String) outbound.getContext().getEntity();
+      var output = new ByteArrayOutputStream();
+      ((StreamingOutput) outbound.getContext().getEntity()).write(output);
+      return output.toString(StandardCharsets.UTF_8);
     }
     fail("expected an outbound response but got %s".formatted(response.getClass().getSimpleName()));
     return null;
@@ -3,12 +3,14 @@ package org.opentripplanner.apis.gtfs;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
+import org.opentripplanner.model.GenericLocation;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.model.plan.PlanTestConstants;
 import org.opentripplanner.model.plan.TripPlan;
 import org.opentripplanner.routing.api.RoutingService;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.RouteViaRequest;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
 import org.opentripplanner.routing.api.response.RoutingResponse;
 import org.opentripplanner.routing.api.response.ViaRoutingResponse;
 import org.opentripplanner.routing.framework.DebugTimingAggregator;
@@ -35,6 +37,11 @@ public class TestRoutingService implements RoutingService {
     return routingResponse;
   }
 
+  @Override
+  public OneToManyResponse route(RouteRequest request, List<GenericLocation> destinations) {
+    throw new RuntimeException("Not implemented yet!");
+  }
+
   @Override
   public ViaRoutingResponse route(RouteViaRequest request) {
     throw new RuntimeException("Not implemented yet!");
@@ -31,6 +31,9 @@ import org.opentripplanner._support.time.ZoneIds;
 import org.opentripplanner.apis.transmodel.TransmodelRequestContext;
 import org.opentripplanner.ext.emissions.DefaultEmissionsService;
 import org.opentripplanner.ext.emissions.EmissionsDataModel;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueStore;
 import org.opentripplanner.model.calendar.CalendarServiceData;
 import org.opentripplanner.model.plan.Itinerary;
@@ -140,6 +143,8 @@ public class TripRequestMapperTest implements PlanTestConstants {
           RouterConfig.DEFAULT.transitTuningConfig(),
           defaultRequest,
           RaptorConfig.defaultConfigForTest(),
+          OtpRequestExecutor.sequential(),
+          AdmissionController.unlimited(),
           graph,
           transitService,
           Metrics.globalRegistry,
@@ -151,6 +156,7 @@ public class TripRequestMapperTest implements PlanTestConstants {
           new DefaultEmissionsService(new EmissionsDataModel()),
           null,
           RouterConfig.DEFAULT.flexParameters(),
+          FlexPathCache.disabled(),
           List.of(),
           null,
           new DefaultStreetLimitationParametersService(new StreetLimitationParameters()),
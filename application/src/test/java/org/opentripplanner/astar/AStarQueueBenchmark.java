@@ -0,0 +1,156 @@
+package org.opentripplanner.astar;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.opentripplanner.astar.model.AStarQueueType;
+import org.opentripplanner.astar.spi.TraverseVisitor;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.routing.graph.SerializedGraphObject;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model._data.StreetModelForTest;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.IntersectionVertex;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.strategy.EuclideanRemainingWeightHeuristic;
+
+/**
+ * Compare the A* priority queue implementations, see {@link AStarQueueType}. For each queue type
+ * the same point-to-point searches are run, and the number of queue inserts, visited states and
+ * the wall time is printed. Enable debug logging for {@link AStar} to see the number of states
+ * extracted from the queue, including dominated states skipped by the binary heap.
+ * <p>
+ * Usage: {@code AStarQueueBenchmark [graph.obj] [mode] [number of searches]}. If no graph file is
+ * given a generated grid network is used. The default mode is {@code CAR}.
+ */
+public class AStarQueueBenchmark {
+
+  private static final int GRID_SIZE = 300;
+  private static final int WARM_UP_ROUNDS = 2;
+
+  private final List<StreetVertex> vertices;
+  private final StreetMode mode;
+  private final int nSearches;
+
+  private AStarQueueBenchmark(List<StreetVertex> vertices, StreetMode mode, int nSearches) {
+    this.vertices = vertices;
+    this.mode = mode;
+    this.nSearches = nSearches;
+  }
+
+  public static void main(String[] args) {
+    var vertices = args.length > 0 ? loadGraph(new File(args[0])) : createGrid();
+    var mode = args.length > 1 ? StreetMode.valueOf(args[1]) : StreetMode.CAR;
+    int nSearches = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+    new AStarQueueBenchmark(vertices, mode, nSearches).run();
+  }
+
+  private void run() {
+    System.out.printf("Vertices: %d, mode: %s, searches: %d%n", vertices.size(), mode, nSearches);
+    for (int i = 0; i < WARM_UP_ROUNDS; ++i) {
+      for (AStarQueueType type : AStarQueueType.values()) {
+        runSearches(type);
+      }
+    }
+    for (AStarQueueType type : AStarQueueType.values()) {
+      var result = runSearches(type);
+      System.out.printf(
+        "%-12s  inserts: %,12d  visits: %,12d  time: %,6d ms%n",
+        type,
+        result.inserts,
+        result.visits,
+        result.timeMs
+      );
+    }
+  }
+
+  private Counter runSearches(AStarQueueType queueType) {
+    var random = new Random(42);
+    var counter = new Counter();
+    var request = new RouteRequest();
+    long start = System.currentTimeMillis();
+
+    for (int i = 0; i < nSearches; ++i) {
+      var from = vertices.get(random.nextInt(vertices.size()));
+      var to = vertices.get(random.nextInt(vertices.size()));
+
+      StreetSearchBuilder
+        .of()
+        .setHeuristic(new EuclideanRemainingWeightHeuristic())
+        .setRequest(request)
+        .setStreetRequest(new StreetRequest(mode))
+        .setFrom(from)
+        .setTo(to)
+        .setTraverseVisitor(counter)
+        .setQueueType(queueType)
+        .getPathsToTarget();
+    }
+    counter.timeMs = System.currentTimeMillis() - start;
+    return counter;
+  }
+
+  private static List<StreetVertex> loadGraph(File file) {
+    var graph = SerializedGraphObject.load(file).graph;
+    return new ArrayList<>(graph.getVerticesOfType(StreetVertex.class));
+  }
+
+  /**
+   * A grid with random edge lengths, so there are many alternative paths with slightly different
+   * weights - this is where dominated states pile up in the queue.
+   */
+  private static List<StreetVertex> createGrid() {
+    var random = new Random(7);
+    var grid = new IntersectionVertex[GRID_SIZE][GRID_SIZE];
+    var vertices = new ArrayList<StreetVertex>();
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        grid[i][j] =
+          StreetModelForTest.intersectionVertex("%d_%d".formatted(i, j), i * 0.001, j * 0.001);
+        vertices.add(grid[i][j]);
+      }
+    }
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        if (i + 1 < GRID_SIZE) {
+          connect(grid[i][j], grid[i + 1][j], random);
+        }
+        if (j + 1 < GRID_SIZE) {
+          connect(grid[i][j], grid[i][j + 1], random);
+        }
+      }
+    }
+    return vertices;
+  }
+
+  private static void connect(StreetVertex a, StreetVertex b, Random random) {
+    double length = 100 + random.nextInt(50);
+    StreetModelForTest.streetEdge(a, b, length, StreetTraversalPermission.ALL);
+    StreetModelForTest.streetEdge(b, a, length, StreetTraversalPermission.ALL);
+  }
+
+  private static class Counter implements TraverseVisitor<State, Edge> {
+
+    private long inserts = 0;
+    private long visits = 0;
+    private long timeMs = 0;
+
+    @Override
+    public void visitEdge(Edge edge) {}
+
+    @Override
+    public void visitVertex(State state) {
+      ++visits;
+    }
+
+    @Override
+    public void visitEnqueue() {
+      ++inserts;
+    }
+  }
+}
@@ -10,7 +10,10 @@ import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.locationtech.jts.geom.Coordinate;
+import org.opentripplanner.astar.model.AStarQueueType;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.spi.SearchTerminationStrategy;
@@ -86,8 +89,9 @@ public class AStarTest {
     edges("market_20th", "russell_20th", "leary_20th", "ballard_20th", "shilshole_20th");
   }
 
-  @Test
-  public void testForward() {
+  @ParameterizedTest
+  @EnumSource(AStarQueueType.class)
+  public void testForward(AStarQueueType queueType) {
     var request = new RouteRequest();
 
     request.withPreferences(pref -> pref.withWalk(w -> w.withSpeed(1.0)));
@@ -99,6 +103,7 @@ public class AStarTest {
       .setRequest(request)
       .setFrom(from)
       .setTo(to)
+      .setQueueType(queueType)
       .getShortestPathTree();
 
     GraphPath path = tree.getPath(to);
@@ -116,8 +121,9 @@ public class AStarTest {
     assertEquals("leary_20th", states.get(6).getVertex().getLabelString());
   }
 
-  @Test
-  public void testBack() {
+  @ParameterizedTest
+  @EnumSource(AStarQueueType.class)
+  public void testBack(AStarQueueType queueType) {
     var request = new RouteRequest();
 
     request.withPreferences(pref -> pref.withWalk(w -> w.withSpeed(1.0)));
@@ -130,6 +136,7 @@ public class AStarTest {
       .setRequest(request)
       .setFrom(from)
       .setTo(to)
+      .setQueueType(queueType)
       .getShortestPathTree();
 
     GraphPath path = tree.getPath(from);
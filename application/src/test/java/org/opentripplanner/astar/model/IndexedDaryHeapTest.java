@@ -0,0 +1,88 @@
+package org.opentripplanner.astar.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.street.model._data.StreetModelForTest;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.state.StateEditor;
+
+class IndexedDaryHeapTest {
+
+  private static final int N = 5000;
+
+  private final Random random = new Random(11);
+
+  @Test
+  void extractInPriorityOrder() {
+    var subject = new IndexedDaryHeap<State>(10);
+    var states = createStates();
+
+    for (State s : states) {
+      subject.insert(s, s.getWeight());
+    }
+    assertEquals(N, subject.size());
+
+    states.sort(Comparator.comparingDouble(State::getWeight));
+    assertEquals(states.get(0).getWeight(), subject.peek_min_key());
+
+    for (State expected : states) {
+      var s = subject.extract_min();
+      assertEquals(expected.getWeight(), s.getWeight());
+      assertEquals(-1, s.getQueueIndex());
+    }
+    assertTrue(subject.empty());
+    assertNull(subject.extract_min());
+    assertThrows(IllegalStateException.class, subject::peek_min_key);
+  }
+
+  @Test
+  void removeStates() {
+    var subject = new IndexedDaryHeap<State>(10);
+    var states = createStates();
+
+    for (State s : states) {
+      subject.insert(s, s.getWeight());
+    }
+
+    var remaining = new ArrayList<State>();
+    for (int i = 0; i < states.size(); ++i) {
+      var s = states.get(i);
+      if (i % 3 == 0) {
+        subject.remove(s);
+        assertEquals(-1, s.getQueueIndex());
+        // Removing a state twice has no effect
+        subject.remove(s);
+      } else {
+        remaining.add(s);
+      }
+    }
+    assertEquals(remaining.size(), subject.size());
+
+    remaining.sort(Comparator.comparingDouble(State::getWeight));
+    for (State expected : remaining) {
+      assertEquals(expected.getWeight(), subject.extract_min().getWeight());
+    }
+    assertTrue(subject.empty());
+  }
+
+  private List<State> createStates() {
+    var vertex = StreetModelForTest.intersectionVertex(1, 1);
+    var request = StreetSearchRequest.of().build();
+    var states = new ArrayList<State>(N);
+    for (int i = 0; i < N; ++i) {
+      var editor = new StateEditor(vertex, request);
+      editor.incrementWeight(random.nextInt(10_000));
+      states.add(editor.makeState());
+    }
+    return states;
+  }
+}
@@ -0,0 +1,77 @@
+package org.opentripplanner.astar.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.street.model._data.StreetModelForTest;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.state.StateEditor;
+
+class ShortestPathTreeTest {
+
+  private static final Vertex A = StreetModelForTest.intersectionVertex(1, 1);
+  private static final Vertex B = StreetModelForTest.intersectionVertex(2, 2);
+
+  /** A state dominates another if the weight is lower, states with the same weight co-exist */
+  private final ShortestPathTree<State, Edge, Vertex> subject = new ShortestPathTree<>((a, b) ->
+    a.getWeight() < b.getWeight()
+  );
+
+  @Test
+  void singleStatePerVertex() {
+    var s10 = state(A, 10);
+    var s5 = state(A, 5);
+
+    assertNull(subject.getStates(A));
+    assertTrue(subject.add(s10));
+    assertEquals(List.of(s10), subject.getStates(A));
+
+    assertTrue(subject.add(s5));
+    assertFalse(subject.add(state(A, 20)));
+
+    assertSame(s5, subject.getState(A));
+    assertTrue(subject.visit(s5));
+    assertFalse(subject.visit(s10));
+  }
+
+  @Test
+  void coDominantStates() {
+    var s10 = state(A, 10);
+    var other10 = state(A, 10);
+
+    assertTrue(subject.add(s10));
+    assertTrue(subject.add(other10));
+    assertEquals(List.of(s10, other10), subject.getStates(A));
+    assertTrue(subject.visit(s10));
+    assertTrue(subject.visit(other10));
+
+    var s5 = state(A, 5);
+    assertTrue(subject.add(s5));
+    assertEquals(List.of(s5), subject.getStates(A));
+    assertFalse(subject.visit(s10));
+  }
+
+  @Test
+  void allStatesAndVertices() {
+    subject.add(state(A, 10));
+    subject.add(state(A, 10));
+    subject.add(state(B, 10));
+
+    assertEquals(3, subject.getAllStates().size());
+    assertEquals(2, subject.getVertexCount());
+  }
+
+  private static State state(Vertex vertex, double weight) {
+    var editor = new StateEditor(vertex, StreetSearchRequest.of().build());
+    editor.incrementWeight(weight);
+    return editor.makeState();
+  }
+}
@@ -0,0 +1,46 @@
+package org.opentripplanner.ext.restapi.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
+
+class TravelTimeResourceTest {
+
+  private static final GenericLocation A = new GenericLocation(59.9, 10.7);
+  private static final GenericLocation B = new GenericLocation(60.0, 10.8);
+
+  @Test
+  void mapDestinations() {
+    var destinations = TravelTimeResource.mapDestinations(List.of("59.9,10.7", "60.0,10.8"));
+
+    assertEquals(2, destinations.size());
+    assertEquals(59.9, destinations.get(0).lat);
+    assertEquals(10.8, destinations.get(1).lng);
+  }
+
+  @Test
+  void destinationsAreRequired() {
+    assertThrows(IllegalArgumentException.class, () -> TravelTimeResource.mapDestinations(null));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> TravelTimeResource.mapDestinations(List.of())
+    );
+  }
+
+  @Test
+  void unreachableDestinationsHaveNoDuration() {
+    var response = new OneToManyResponse(
+      Instant.parse("2024-01-15T10:00:00Z"),
+      List.of(A, B),
+      new int[] { 1200, OneToManyResponse.UNREACHABLE }
+    );
+
+    assertEquals(Arrays.asList(1200, null), TravelTimeResource.mapDurations(response));
+  }
+}
@@ -0,0 +1,120 @@
+package org.opentripplanner.framework.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.opentripplanner.framework.application.OTPRequestRejectedException;
+
+class AdmissionControllerTest {
+
+  private static final Duration NO_WAIT = Duration.ZERO;
+  private static final Duration LONG_WAIT = Duration.ofSeconds(30);
+
+  @Test
+  void unlimited() {
+    var subject = AdmissionController.unlimited();
+
+    try (var p1 = subject.acquire(); var p2 = subject.acquire()) {
+      assertEquals(Integer.MAX_VALUE, subject.limit());
+      assertEquals(0, subject.inFlight());
+    }
+  }
+
+  @Test
+  void rejectWhenQueueTimeIsExceeded() {
+    var subject = new AdmissionController(parameters(1, 1, NO_WAIT, Duration.ZERO));
+
+    try (var permit = subject.acquire()) {
+      assertEquals(1, subject.inFlight());
+      assertThrows(OTPRequestRejectedException.class, subject::acquire);
+    }
+    assertEquals(0, subject.inFlight());
+    assertEquals(1, subject.admittedCount());
+    assertEquals(1, subject.rejectedCount());
+
+    // A permit is available again
+    subject.acquire().close();
+    assertEquals(2, subject.admittedCount());
+  }
+
+  @Test
+  @Timeout(10)
+  void waitForPermit() throws Exception {
+    var subject = new AdmissionController(parameters(1, 1, LONG_WAIT, Duration.ZERO));
+
+    var permit = subject.acquire();
+    var waiting = CompletableFuture.runAsync(() -> subject.acquire().close());
+
+    while (subject.waiting() == 0) {
+      Thread.onSpinWait();
+    }
+    // A third request is rejected at once, since the queue is as long as the limit
+    assertThrows(OTPRequestRejectedException.class, subject::acquire);
+
+    permit.close();
+    waiting.get(5, TimeUnit.SECONDS);
+
+    assertEquals(2, subject.admittedCount());
+    assertEquals(1, subject.rejectedCount());
+    assertEquals(0, subject.waiting());
+  }
+
+  @Test
+  void decreaseLimitWhenLatencyIsAboveTarget() {
+    var subject = new AdmissionController(parameters(10, 8, NO_WAIT, Duration.ofNanos(1)));
+
+    slowRequest(subject);
+    assertEquals(9, subject.limit());
+
+    slowRequest(subject);
+    assertEquals(8, subject.limit());
+
+    // Never below the min limit
+    slowRequest(subject);
+    assertEquals(8, subject.limit());
+  }
+
+  @Test
+  void keepLimitWhenLatencyIsBelowTarget() {
+    var subject = new AdmissionController(parameters(3, 1, NO_WAIT, Duration.ofHours(1)));
+
+    subject.acquire().close();
+    subject.acquire().close();
+
+    assertEquals(3, subject.limit());
+  }
+
+  @Test
+  void validateParameters() {
+    assertThrows(IllegalArgumentException.class, () -> parameters(-1, 1, NO_WAIT, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> parameters(4, 0, NO_WAIT, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> parameters(4, 5, NO_WAIT, Duration.ZERO));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> parameters(4, 1, Duration.ofSeconds(-1), Duration.ZERO)
+    );
+  }
+
+  private static void slowRequest(AdmissionController subject) {
+    try (var permit = subject.acquire()) {
+      long start = System.nanoTime();
+      while (System.nanoTime() - start < 1000) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  private static AdmissionControlParameters parameters(
+    int max,
+    int min,
+    Duration maxQueueTime,
+    Duration targetLatency
+  ) {
+    return new AdmissionControlParameters(max, min, maxQueueTime, targetLatency);
+  }
+}
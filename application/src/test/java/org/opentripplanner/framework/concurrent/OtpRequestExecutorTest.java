@@ -0,0 +1,94 @@
+package org.opentripplanner.framework.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.opentripplanner.framework.application.OTPRequestTimeoutException;
+
+class OtpRequestExecutorTest {
+
+  private final OtpRequestExecutor subject = OtpRequestExecutor.of("test-%d", 2);
+
+  @AfterEach
+  void tearDown() {
+    subject.shutdown();
+  }
+
+  @Test
+  void runAll() {
+    var counter = new AtomicInteger();
+    Runnable task = counter::incrementAndGet;
+
+    subject.runAll(task, task, task, task, task);
+
+    assertEquals(5, counter.get());
+  }
+
+  @Test
+  void runAllSequential() {
+    var sequential = OtpRequestExecutor.sequential();
+    var threads = ConcurrentHashMap.<Thread>newKeySet();
+    Runnable task = () -> threads.add(Thread.currentThread());
+
+    sequential.runAll(task, task, task);
+
+    assertNull(sequential.threadPool());
+    assertEquals(Set.of(Thread.currentThread()), threads);
+  }
+
+  @Test
+  void rethrowExceptionFromTask() {
+    var expected = new IllegalStateException("Expected");
+
+    var ex = assertThrows(
+      IllegalStateException.class,
+      () ->
+        subject.runAll(
+          () -> {},
+          () -> {
+            throw expected;
+          }
+        )
+    );
+    assertSame(expected, ex);
+  }
+
+  @Test
+  void timeoutInTaskIsRethrown() {
+    assertThrows(
+      OTPRequestTimeoutException.class,
+      () ->
+        subject.runAll(
+          () -> {},
+          () -> {
+            throw new OTPRequestTimeoutException();
+          }
+        )
+    );
+  }
+
+  /**
+   * All threads in the pool are busy with tasks waiting for nested tasks, the nested tasks must
+   * be run by the caller.
+   */
+  @Test
+  @Timeout(10)
+  void nestedCallsDoNotDeadlock() {
+    var counter = new AtomicInteger();
+    Runnable nested = () -> subject.runAll(counter::incrementAndGet, counter::incrementAndGet);
+
+    subject.runAll(nested, nested, nested, nested);
+
+    assertNotNull(subject.threadPool());
+    assertEquals(8, counter.get());
+  }
+}
@@ -0,0 +1,98 @@
+package org.opentripplanner.framework.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+
+class ConcurrentHashGridSpatialIndexTest {
+
+  private static final double X0 = 10.0;
+  private static final double Y0 = 59.0;
+  private static final double D = 0.05;
+
+  @Test
+  void sameResultAsHashGridSpatialIndex() {
+    var rand = new Random(42);
+    var hashGrid = new HashGridSpatialIndex<LineString>();
+    var subject = new ConcurrentHashGridSpatialIndex<LineString>();
+
+    for (int i = 0; i < 500; i++) {
+      var line = randomLine(rand);
+      hashGrid.insert(line, line);
+      subject.insert(line, line);
+    }
+    for (int i = 0; i < 500; i++) {
+      var env = randomLine(rand).getEnvelopeInternal();
+      assertEquals(Set.copyOf(hashGrid.query(env)), Set.copyOf(subject.query(env)));
+    }
+  }
+
+  @Test
+  void insertAndRemove() {
+    var subject = new ConcurrentHashGridSpatialIndex<LineString>();
+    var a = line(X0, Y0, X0 + 0.02, Y0);
+    var b = line(X0, Y0 + 0.001, X0 + 0.001, Y0 + 0.001);
+    subject.insert(a, a);
+    subject.insert(b, b);
+    var env = new Envelope(X0, X0 + 0.001, Y0, Y0 + 0.001);
+
+    assertEquals(Set.of(a, b), Set.copyOf(subject.query(env)));
+
+    assertTrue(subject.remove(a.getEnvelopeInternal(), a));
+    assertFalse(subject.remove(a.getEnvelopeInternal(), a));
+    assertEquals(List.of(b), subject.query(env));
+
+    assertTrue(subject.remove(b.getEnvelopeInternal(), b));
+    assertEquals(List.of(), subject.query(env));
+    assertEquals(0, subject.numberOfBins());
+  }
+
+  @Test
+  void queryWhileUpdating() throws InterruptedException {
+    var subject = new ConcurrentHashGridSpatialIndex<LineString>();
+    var permanent = line(X0, Y0, X0 + D, Y0 + D);
+    subject.insert(permanent, permanent);
+    var env = permanent.getEnvelopeInternal();
+
+    var writer = new Thread(() -> {
+      var rand = new Random(7);
+      for (int i = 0; i < 2000; i++) {
+        var line = randomLine(rand);
+        subject.insert(line, line);
+        subject.remove(line.getEnvelopeInternal(), line);
+      }
+    });
+    writer.start();
+
+    Set<LineString> found = new HashSet<>();
+    while (writer.isAlive()) {
+      found.clear();
+      found.addAll(subject.query(env));
+      assertTrue(found.contains(permanent));
+    }
+    writer.join();
+    assertEquals(List.of(permanent), subject.query(env));
+  }
+
+  private static LineString randomLine(Random rand) {
+    return line(
+      X0 + rand.nextDouble() * D,
+      Y0 + rand.nextDouble() * D,
+      X0 + rand.nextDouble() * D,
+      Y0 + rand.nextDouble() * D
+    );
+  }
+
+  private static LineString line(double x0, double y0, double x1, double y1) {
+    return GeometryUtils.makeLineString(new Coordinate(x0, y0), new Coordinate(x1, y1));
+  }
+}
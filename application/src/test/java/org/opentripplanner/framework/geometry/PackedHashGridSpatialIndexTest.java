@@ -0,0 +1,72 @@
+package org.opentripplanner.framework.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+
+class PackedHashGridSpatialIndexTest {
+
+  private static final double X0 = 10.0;
+  private static final double Y0 = 59.0;
+  private static final double D = 0.05;
+
+  /**
+   * Compare the result with the HashGridSpatialIndex, after removing the false positives returned
+   * by it. Each item should be returned once.
+   */
+  @Test
+  void sameResultAsHashGridSpatialIndex() {
+    var rand = new Random(42);
+    var hashGrid = new HashGridSpatialIndex<Envelope>();
+    var builder = PackedHashGridSpatialIndex.<Envelope>of();
+
+    for (int i = 0; i < 1000; i++) {
+      // Mix points and envelopes
+      var env = i % 2 == 0 ? randomEnvelope(rand) : new Envelope(randomCoordinate(rand));
+      hashGrid.insert(env, env);
+      builder.insert(env, env);
+    }
+    var subject = builder.build();
+    assertEquals(1000, subject.size());
+
+    for (int i = 0; i < 1000; i++) {
+      var query = randomEnvelope(rand);
+      Set<Envelope> expected = hashGrid
+        .query(query)
+        .stream()
+        .filter(query::intersects)
+        .collect(Collectors.toSet());
+
+      List<Envelope> result = new ArrayList<>();
+      subject.query(query, id -> result.add(subject.item(id)));
+
+      assertEquals(expected, new HashSet<>(result));
+      assertEquals(expected.size(), result.size(), "Each item is returned once");
+    }
+  }
+
+  @Test
+  void pointOnQueryBoundary() {
+    var p = new Envelope(new Coordinate(X0 + 0.1234567, Y0 + 0.7654321));
+    var subject = PackedHashGridSpatialIndex.<Envelope>of().insert(p, p).build();
+
+    assertEquals(List.of(p), subject.query(new Envelope(p.getMinX(), X0 + 1, Y0, p.getMaxY())));
+    assertEquals(List.of(), subject.query(new Envelope(X0, X0 + 0.1, Y0, Y0 + 1)));
+  }
+
+  private static Envelope randomEnvelope(Random rand) {
+    return new Envelope(randomCoordinate(rand), randomCoordinate(rand));
+  }
+
+  private static Coordinate randomCoordinate(Random rand) {
+    return new Coordinate(X0 + rand.nextDouble() * D, Y0 + rand.nextDouble() * D);
+  }
+}
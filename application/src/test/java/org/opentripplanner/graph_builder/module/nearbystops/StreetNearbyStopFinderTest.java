@@ -19,6 +19,8 @@ import org.opentripplanner.routing.algorithm.GraphRoutingTest;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.request.StreetRequest;
 import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.street.model.StopReachabilityIndex;
+import org.opentripplanner.street.model.StopReachabilityIndexBuilder;
 import org.opentripplanner.street.model.vertex.TransitStopVertex;
 import org.opentripplanner.street.model.vertex.Vertex;
 
@@ -30,10 +32,11 @@ class StreetNearbyStopFinderTest extends GraphRoutingTest {
   private TransitStopVertex stopB;
   private TransitStopVertex stopC;
   private TransitStopVertex stopD;
+  private StopReachabilityIndex stopReachabilityIndex;
 
   @BeforeEach
   protected void setUp() throws Exception {
-    modelOf(
+    var model = modelOf(
       new GraphRoutingTest.Builder() {
         @Override
         public void build() {
@@ -61,6 +64,8 @@ class StreetNearbyStopFinderTest extends GraphRoutingTest {
         }
       }
     );
+    stopReachabilityIndex =
+      new StopReachabilityIndexBuilder(model.graph().getVertices(), 1000).build();
   }
 
   @Test
@@ -163,6 +168,71 @@ class StreetNearbyStopFinderTest extends GraphRoutingTest {
     assertStopAtDistance(stopC, 200, sortedNearbyStops.get(0));
   }
 
+  @Test
+  void testStopReachabilityIndex() {
+    var durationLimit = Duration.ofMinutes(10);
+    var finder = new StreetNearbyStopFinder(
+      durationLimit,
+      0,
+      null,
+      Set.of(),
+      stopReachabilityIndex
+    );
+
+    var sortedNearbyStops = sort(
+      finder.findNearbyStops(stopA, new RouteRequest(), new StreetRequest(), false)
+    );
+
+    assertThat(sortedNearbyStops).hasSize(4);
+    assertZeroDistanceStop(stopA, sortedNearbyStops.get(0));
+    assertStopAtDistance(stopB, 100, sortedNearbyStops.get(1));
+    assertStopAtDistance(stopC, 200, sortedNearbyStops.get(2));
+    assertStopAtDistance(stopD, 300, sortedNearbyStops.get(3));
+  }
+
+  @Test
+  void testStopReachabilityIndexWithDurationLimit() {
+    var durationLimit = Duration.ofSeconds(101);
+    var routeRequest = new RouteRequest()
+      .withPreferences(b -> b.withWalk(walkPreferences -> walkPreferences.withSpeed(1.0)));
+    var finder = new StreetNearbyStopFinder(
+      durationLimit,
+      0,
+      null,
+      Set.of(),
+      stopReachabilityIndex
+    );
+
+    var sortedNearbyStops = sort(
+      finder.findNearbyStops(stopA, routeRequest, new StreetRequest(), false)
+    );
+
+    assertThat(sortedNearbyStops).hasSize(2);
+    assertZeroDistanceStop(stopA, sortedNearbyStops.get(0));
+    assertStopAtDistance(stopB, 100, sortedNearbyStops.get(1));
+  }
+
+  @Test
+  void testStopReachabilityIndexWithoutReachableStops() {
+    var finder = new StreetNearbyStopFinder(
+      Duration.ofMinutes(10),
+      0,
+      null,
+      Set.of(),
+      stopReachabilityIndex
+    );
+
+    var nearbyStops = finder.findNearbyStops(
+      isolatedStop,
+      new RouteRequest(),
+      new StreetRequest(),
+      false
+    );
+
+    assertThat(nearbyStops).hasSize(1);
+    assertZeroDistanceStop(isolatedStop, nearbyStops.iterator().next());
+  }
+
   static List<NearbyStop> sort(Collection<NearbyStop> stops) {
     return stops.stream().sorted(Comparator.comparing(x -> x.distance)).toList();
   }
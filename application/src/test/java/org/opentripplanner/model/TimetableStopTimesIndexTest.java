@@ -0,0 +1,72 @@
+package org.opentripplanner.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.transit.model._data.TimetableRepositoryForTest;
+import org.opentripplanner.transit.model.timetable.ScheduledTripTimes;
+import org.opentripplanner.transit.model.timetable.TripTimes;
+import org.opentripplanner.utils.time.TimeUtils;
+
+class TimetableStopTimesIndexTest {
+
+  private static final TripTimes T1 = tripTimes("T1", "10:00 10:10 10:20", "10:01 10:11 10:21");
+  private static final TripTimes T2 = tripTimes("T2", "09:00 09:10 10:30", "09:01 09:11 10:31");
+  private static final TripTimes T3 = tripTimes("T3", "11:00 11:10 11:20", "11:01 11:11 11:21");
+
+  private final TimetableStopTimesIndex subject = TimetableStopTimesIndex.of(List.of(T1, T2, T3));
+
+  @Test
+  void numberOfTrips() {
+    assertEquals(3, subject.numberOfTrips());
+    assertEquals(0, TimetableStopTimesIndex.of(List.of()).numberOfTrips());
+  }
+
+  @Test
+  void departuresAreSortedForEachStop() {
+    // First stop: T2, T1, T3
+    assertEquals(1, subject.departureTripIndex(0, 0));
+    assertEquals(0, subject.departureTripIndex(0, 1));
+    assertEquals(2, subject.departureTripIndex(0, 2));
+    assertEquals(TimeUtils.time("09:01"), subject.departureTime(0, 0));
+
+    // Last stop: T1 overtakes T2
+    assertEquals(0, subject.departureTripIndex(2, 0));
+    assertEquals(1, subject.departureTripIndex(2, 1));
+    assertEquals(2, subject.departureTripIndex(2, 2));
+  }
+
+  @Test
+  void arrivalsAreSortedForEachStop() {
+    assertEquals(1, subject.arrivalTripIndex(1, 0));
+    assertEquals(TimeUtils.time("09:10"), subject.arrivalTime(1, 0));
+    assertEquals(0, subject.arrivalTripIndex(2, 0));
+    assertEquals(TimeUtils.time("10:20"), subject.arrivalTime(2, 0));
+  }
+
+  @Test
+  void findFirstDeparture() {
+    assertEquals(0, subject.findFirstDeparture(0, TimeUtils.time("08:00")));
+    assertEquals(1, subject.findFirstDeparture(0, TimeUtils.time("09:02")));
+    // Inclusive, a departure at the given time is found
+    assertEquals(1, subject.findFirstDeparture(0, TimeUtils.time("10:01")));
+    assertEquals(3, subject.findFirstDeparture(0, TimeUtils.time("12:00")));
+  }
+
+  @Test
+  void findFirstArrival() {
+    assertEquals(0, subject.findFirstArrival(2, TimeUtils.time("10:20")));
+    assertEquals(1, subject.findFirstArrival(2, TimeUtils.time("10:21")));
+    assertEquals(3, subject.findFirstArrival(2, TimeUtils.time("11:21")));
+  }
+
+  private static TripTimes tripTimes(String tripId, String arrivals, String departures) {
+    return ScheduledTripTimes
+      .of()
+      .withTrip(TimetableRepositoryForTest.trip(tripId).build())
+      .withArrivalTimes(arrivals)
+      .withDepartureTimes(departures)
+      .build();
+  }
+}
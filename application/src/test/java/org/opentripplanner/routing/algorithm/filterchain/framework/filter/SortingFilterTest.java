@@ -3,6 +3,7 @@ package org.opentripplanner.routing.algorithm.filterchain.framework.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.opentripplanner.model.plan.Itinerary.toStr;
 import static org.opentripplanner.model.plan.TestItineraryBuilder.newItinerary;
+import static org.opentripplanner.routing.algorithm.filterchain.framework.sort.SortOrderComparator.defaultComparatorDepartAfter;
 import static org.opentripplanner.routing.algorithm.filterchain.framework.sort.SortOrderComparator.generalizedCostComparator;
 
 import java.util.List;
@@ -25,4 +26,18 @@ public class SortingFilterTest implements PlanTestConstants {
     // Then: expect nothing to happen to it
     assertEquals(toStr(list), toStr(filter.filter(list)));
   }
+
+  @Test
+  public void sortItinerariesByComparator() {
+    SortingFilter filter = new SortingFilter(defaultComparatorDepartAfter());
+
+    Itinerary walk = newItinerary(A, 0).walk(60, E).build();
+    Itinerary early = newItinerary(A).bus(31, 0, 30, E).build();
+    Itinerary late = newItinerary(A).bus(32, 10, 40, E).build();
+
+    assertEquals(
+      toStr(List.of(walk, early, late)),
+      toStr(filter.filter(List.of(late, walk, early)))
+    );
+  }
 }
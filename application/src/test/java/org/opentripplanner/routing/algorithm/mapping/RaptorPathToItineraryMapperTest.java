@@ -321,6 +321,7 @@ public class RaptorPathToItineraryMapperTest {
       null,
       null,
       null,
+      null,
       null
     );
   }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import org.junit.jupiter.api.Test;
 import org.opentripplanner._support.time.ZoneIds;
 
@@ -87,6 +88,23 @@ class AdditionalSearchDaysTest {
     assertEquals(0, days2.additionalSearchDaysInFuture());
   }
 
+  @Test
+  void searchPeriod() {
+    var time = "2022-01-25T13:14:20+01:00";
+
+    var days = getDays(time, false);
+    assertEquals(parse(time), days.earliestSearchTime());
+    assertEquals(parse("2022-01-25T21:14:20+01:00"), days.latestSearchTime());
+
+    var days2 = getDays(time, true);
+    assertEquals(parse("2022-01-25T05:14:20+01:00"), days2.earliestSearchTime());
+    assertEquals(parse(time), days2.latestSearchTime());
+  }
+
+  private static ZonedDateTime parse(String time) {
+    return OffsetDateTime.parse(time).atZoneSameInstant(ZoneIds.BERLIN);
+  }
+
   private AdditionalSearchDays getDays(String time, boolean arriveBy) {
     var zonedDateTime = OffsetDateTime.parse(time).atZoneSameInstant(ZoneIds.BERLIN);
     return new AdditionalSearchDays(
@@ -0,0 +1,114 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opentripplanner.routing.api.request.StreetMode.NOT_SET;
+import static org.opentripplanner.routing.api.request.StreetMode.WALK;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.GtfsTest;
+import org.opentripplanner.api.common.LocationStringParser;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.api.request.RequestModes;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.response.OneToManyResponse;
+
+class OneToManyRouterTest extends GtfsTest {
+
+  /** 2014-01-01 00:01 */
+  private static final Instant DEPARTURE = Instant.ofEpochSecond(1388530860L);
+
+  @Override
+  public String getFeedName() {
+    return "mmri/2d";
+  }
+
+  @Test
+  void travelTimeToEachDestination() {
+    var response = serverContext
+      .routingService()
+      .route(request(DEPARTURE), List.of(stop("2d3"), stop("2d5"), stop("2d4"), stop("2d2")));
+
+    assertEquals(DEPARTURE, response.departureTime());
+    // Train 1 departs at 0:01 from 2d1 and arrives at 2d3 at 0:03 and at 2d5 at 0:05
+    assertEquals(120, response.durationInSeconds(0));
+    assertEquals(240, response.durationInSeconds(1));
+    // Transfer to train 2 at 2d3, arrive at 2d4 at 0:04
+    assertEquals(180, response.durationInSeconds(2));
+    assertEquals(DEPARTURE.plusSeconds(180), response.arrivalTime(2).orElseThrow());
+    // Train 2 does not go back to 2d2
+    assertFalse(response.isReachable(3));
+    assertEquals(OneToManyResponse.UNREACHABLE, response.durationInSeconds(3));
+  }
+
+  @Test
+  void laterDeparture() {
+    var response = serverContext
+      .routingService()
+      .route(request(DEPARTURE.plusSeconds(60)), List.of(stop("2d3"), stop("2d4")));
+
+    // Train 1 is missed, nothing is reached
+    assertFalse(response.isReachable(0));
+    assertFalse(response.isReachable(1));
+  }
+
+  @Test
+  void unknownDestinationIsUnreachable() {
+    var response = serverContext
+      .routingService()
+      .route(request(DEPARTURE), List.of(stop("unknown"), stop("2d4")));
+
+    assertFalse(response.isReachable(0));
+    assertEquals(180, response.durationInSeconds(1));
+  }
+
+  @Test
+  void arriveByIsNotSupported() {
+    var request = request(DEPARTURE);
+    request.setArriveBy(true);
+    var destinations = List.of(stop("2d4"));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> serverContext.routingService().route(request, destinations)
+    );
+  }
+
+  @Test
+  void tooManyDestinations() {
+    var request = request(DEPARTURE);
+    int max = serverContext.transitTuningParameters().maxOneToManyDestinations();
+    var destinations = Collections.nCopies(max + 1, stop("2d4"));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> serverContext.routingService().route(request, destinations)
+    );
+  }
+
+  private RouteRequest request(Instant departure) {
+    var request = new RouteRequest();
+    request.setDateTime(departure);
+    request.setFrom(stop("2d1"));
+    request.journey().setModes(
+      RequestModes
+        .of()
+        .withDirectMode(NOT_SET)
+        .withAccessMode(WALK)
+        .withTransferMode(WALK)
+        .withEgressMode(WALK)
+        .build()
+    );
+    request.withPreferences(p -> p.withTransfer(tx -> tx.withSlack(Duration.ZERO)));
+    return request;
+  }
+
+  private GenericLocation stop(String id) {
+    return LocationStringParser.getGenericLocation(null, feedId.getId() + ":" + id);
+  }
+}
@@ -0,0 +1,144 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType.ACCESS;
+import static org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType.EGRESS;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.graph_builder.module.nearbystops.StreetNearbyStopFinder;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.routing.graphfinder.NearbyStop;
+
+class AccessEgressCacheTest {
+
+  private static final Duration DURATION_LIMIT = Duration.ofMinutes(45);
+  private static final int MAX_STOP_COUNT = 100;
+  private static final GenericLocation FROM = new GenericLocation(59.91, 10.75);
+  private static final GenericLocation TO = new GenericLocation(59.92, 10.76);
+
+  private final AccessEgressCache subject = new AccessEgressCache(10, Duration.ofMinutes(5));
+  private int searchCount = 0;
+  private boolean complete = true;
+  private long realTimeEdgesVersion = 0;
+
+  @Test
+  void reuseResultForSameLocationAndPreferences() {
+    var first = get(request(FROM, TO), StreetMode.WALK, ACCESS);
+    var second = get(request(FROM, new GenericLocation(60.0, 11.0)), StreetMode.WALK, ACCESS);
+
+    assertEquals(first, second);
+    assertEquals(1, searchCount);
+    assertEquals(1, subject.getCache().stats().hitCount());
+  }
+
+  @Test
+  void keyIncludesLocationModeAndPreferences() {
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+    get(request(FROM, TO), StreetMode.WALK, EGRESS);
+    get(request(TO, TO), StreetMode.WALK, ACCESS);
+    get(request(FROM, TO), StreetMode.BIKE, ACCESS);
+
+    var request = request(FROM, TO);
+    request.withPreferences(p -> p.withWalk(w -> w.withSpeed(0.5)));
+    get(request, StreetMode.WALK, ACCESS);
+
+    assertEquals(5, searchCount);
+    assertEquals(0, subject.getCache().stats().hitCount());
+  }
+
+  @Test
+  void searchAgainWhenRealTimeEdgesChange() {
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+    ++realTimeEdgesVersion;
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+
+    assertEquals(2, searchCount);
+    assertEquals(0, subject.getCache().stats().hitCount());
+  }
+
+  @Test
+  void labelIsNotPartOfKey() {
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+    var labeled = new GenericLocation("Home", null, FROM.lat, FROM.lng);
+    get(request(labeled, TO), StreetMode.WALK, ACCESS);
+
+    assertEquals(1, searchCount);
+  }
+
+  @Test
+  void incompleteSearchIsNotCached() {
+    complete = false;
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+    get(request(FROM, TO), StreetMode.WALK, ACCESS);
+
+    assertEquals(2, searchCount);
+    assertEquals(0, subject.getCache().size());
+  }
+
+  @Test
+  void rentalIsNotCached() {
+    get(request(FROM, TO), StreetMode.BIKE_RENTAL, ACCESS);
+    get(request(FROM, TO), StreetMode.BIKE_RENTAL, ACCESS);
+
+    assertEquals(2, searchCount);
+    assertEquals(0, subject.getCache().size());
+  }
+
+  @Test
+  void disabledCache() {
+    var disabled = new AccessEgressCache(0, Duration.ofMinutes(5));
+    var request = request(FROM, TO);
+    var streetRequest = new StreetRequest(StreetMode.WALK);
+
+    for (int i = 0; i < 2; i++) {
+      disabled.get(
+        request,
+        streetRequest,
+        null,
+        ACCESS,
+        DURATION_LIMIT,
+        MAX_STOP_COUNT,
+        Set.of(),
+        realTimeEdgesVersion,
+        this::search
+      );
+    }
+
+    assertEquals(2, searchCount);
+    assertNull(disabled.getCache());
+  }
+
+  private Collection<NearbyStop> get(RouteRequest request, StreetMode mode, AccessEgressType type) {
+    return subject.get(
+      request,
+      new StreetRequest(mode),
+      null,
+      type,
+      DURATION_LIMIT,
+      MAX_STOP_COUNT,
+      Set.of(),
+      realTimeEdgesVersion,
+      this::search
+    );
+  }
+
+  private StreetNearbyStopFinder.SearchResult search() {
+    ++searchCount;
+    return new StreetNearbyStopFinder.SearchResult(List.of(), complete);
+  }
+
+  private static RouteRequest request(GenericLocation from, GenericLocation to) {
+    var request = new RouteRequest();
+    request.setFrom(from);
+    request.setTo(to);
+    return request;
+  }
+}
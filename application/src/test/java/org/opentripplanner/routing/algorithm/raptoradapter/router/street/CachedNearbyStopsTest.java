@@ -0,0 +1,147 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.framework.geometry.WgsCoordinate;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.routing.algorithm.GraphRoutingTest;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.routing.graph.Graph;
+import org.opentripplanner.routing.graphfinder.NearbyStop;
+import org.opentripplanner.street.model.vertex.TemporaryVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.TemporaryVerticesContainer;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.transit.model.framework.FeedScopedId;
+
+class CachedNearbyStopsTest extends GraphRoutingTest {
+
+  private static final WgsCoordinate ORIGIN = new WgsCoordinate(0.0, 0.0);
+  private static final WgsCoordinate FAR_AWAY = ORIGIN.moveEastMeters(100000);
+
+  private Graph graph;
+
+  @BeforeEach
+  protected void setUp() {
+    var otpModel = modelOf(
+      new GraphRoutingTest.Builder() {
+        @Override
+        public void build() {
+          var A = intersection("A", ORIGIN);
+          var B = intersection("B", ORIGIN.moveEastMeters(100));
+          var C = intersection("C", ORIGIN.moveEastMeters(200));
+          var farAway = intersection("FarAway", FAR_AWAY);
+
+          biStreet(A, B, 100);
+          biStreet(B, C, 100);
+          biStreet(farAway, A, 1000000);
+
+          var S1 = stop("S1", B.toWgsCoordinate());
+          var S2 = stop("S2", C.toWgsCoordinate());
+          biLink(B, S1);
+          biLink(C, S2);
+        }
+      }
+    );
+    graph = otpModel.graph();
+  }
+
+  @Test
+  void restoreAccessForNewRequest() {
+    var from = location(ORIGIN.moveEastMeters(5));
+    var to = location(FAR_AWAY);
+
+    assertRestored(from, to, AccessEgressType.ACCESS);
+  }
+
+  @Test
+  void restoreEgressForNewRequest() {
+    var from = location(FAR_AWAY);
+    var to = location(ORIGIN.moveEastMeters(5));
+
+    assertRestored(from, to, AccessEgressType.EGRESS);
+  }
+
+  @Test
+  void restoreAccessFromStop() {
+    var from = new GenericLocation(null, new FeedScopedId("F", "S1"), null, null);
+    var to = location(FAR_AWAY);
+
+    assertRestored(from, to, AccessEgressType.ACCESS);
+  }
+
+  private void assertRestored(GenericLocation from, GenericLocation to, AccessEgressType type) {
+    var request = new RouteRequest();
+    request.setFrom(from);
+    request.setTo(to);
+
+    CachedNearbyStops cached;
+    List<String> expected;
+    try (var container = container(from, to)) {
+      var stops = AccessEgressRouter.findAccessEgresses(
+        request,
+        container,
+        new StreetRequest(),
+        null,
+        type,
+        Duration.ofMinutes(10),
+        10
+      );
+      expected = describe(stops);
+      cached = CachedNearbyStops.of(stops);
+    }
+    assertNotNull(cached);
+    assertEquals(2, expected.size());
+
+    try (var container = container(from, to)) {
+      var origin = type.isAccess() ? container.getFromVertices() : container.getToVertices();
+      var restored = cached.restore(origin, request, new StreetRequest(), type.isEgress());
+
+      assertNotNull(restored);
+      assertEquals(expected, describe(restored));
+      for (NearbyStop stop : restored) {
+        assertTemporaryVerticesBelongTo(origin, stop.state);
+      }
+    }
+  }
+
+  private TemporaryVerticesContainer container(GenericLocation from, GenericLocation to) {
+    return new TemporaryVerticesContainer(graph, from, to, StreetMode.WALK, StreetMode.WALK);
+  }
+
+  /**
+   * The only temporary vertices of a restored path are the origin of the new request, and the
+   * vertices between the origin and the permanent part of the path.
+   */
+  private static void assertTemporaryVerticesBelongTo(Set<Vertex> origin, State state) {
+    var root = state;
+    while (root.getBackState() != null) {
+      root = root.getBackState();
+    }
+    if (root.getVertex() instanceof TemporaryVertex) {
+      assertTrue(origin.contains(root.getVertex()));
+    }
+  }
+
+  private static List<String> describe(Collection<NearbyStop> stops) {
+    return stops
+      .stream()
+      .map(s -> s.stop.getName() + " " + Math.round(s.distance) + " " + s.edges.size())
+      .sorted()
+      .toList();
+  }
+
+  private static GenericLocation location(WgsCoordinate coordinate) {
+    return new GenericLocation(coordinate.latitude(), coordinate.longitude());
+  }
+}
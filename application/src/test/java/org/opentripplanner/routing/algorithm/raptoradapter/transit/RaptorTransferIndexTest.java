@@ -0,0 +1,74 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.raptor.api.model.RaptorTransfer;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+
+class RaptorTransferIndexTest {
+
+  private static final EnumSet<StreetMode> WALK = EnumSet.of(StreetMode.WALK);
+  private static final EnumSet<StreetMode> BIKE = EnumSet.of(StreetMode.BIKE);
+  private static final StreetSearchRequest REQUEST = StreetSearchRequest
+    .of()
+    .withMode(StreetMode.WALK)
+    .build();
+
+  private final RaptorTransferIndex subject = RaptorTransferIndex.create(
+    List.of(
+      List.of(new Transfer(1, 100, WALK), new Transfer(2, 200, WALK)),
+      List.of(),
+      List.of(
+        new Transfer(0, 200, WALK),
+        // Only the cheapest transfer to a stop is kept
+        new Transfer(3, 500, WALK),
+        new Transfer(3, 300, WALK),
+        // Transfers not allowed for the mode are skipped
+        new Transfer(1, 50, BIKE)
+      ),
+      List.of()
+    ),
+    REQUEST
+  );
+
+  @Test
+  void forwardTransfers() {
+    assertEquals("[1, 2]", stops(subject.getForwardTransfers(0)));
+    assertEquals("[]", stops(subject.getForwardTransfers(1)));
+    assertEquals("[0, 3]", stops(subject.getForwardTransfers(2)));
+    assertEquals("[]", stops(subject.getForwardTransfers(3)));
+  }
+
+  @Test
+  void keepCheapestTransferToStop() {
+    var expected = new Transfer(3, 300, WALK).asRaptorTransfer(REQUEST).orElseThrow();
+
+    var it = subject.getForwardTransfers(2);
+    it.next();
+    var transfer = it.next();
+
+    assertEquals(3, transfer.stop());
+    assertEquals(expected.c1(), transfer.c1());
+    assertEquals(expected.durationInSeconds(), transfer.durationInSeconds());
+  }
+
+  @Test
+  void reversedTransfers() {
+    assertEquals("[2]", stops(subject.getReversedTransfers(0)));
+    assertEquals("[0]", stops(subject.getReversedTransfers(1)));
+    assertEquals("[0]", stops(subject.getReversedTransfers(2)));
+    assertEquals("[2]", stops(subject.getReversedTransfers(3)));
+  }
+
+  private static String stops(Iterator<RaptorTransfer> it) {
+    var stops = new ArrayList<Integer>();
+    it.forEachRemaining(t -> stops.add(t.stop()));
+    return stops.toString();
+  }
+}
@@ -2,6 +2,7 @@ package org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.RaptorRequestMapperTest.RequestFeature.RELAX_COST_DEST;
 import static org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.RaptorRequestMapperTest.RequestFeature.TRANSIT_GROUP_PRIORITY;
@@ -9,6 +10,7 @@ import static org.opentripplanner.routing.algorithm.raptoradapter.transit.mapper
 import static org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.RaptorRequestMapperTest.RequestFeature.VIA_VISIT;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
@@ -97,6 +99,14 @@ class RaptorRequestMapperTest {
     );
   }
 
+  @Test
+  void testSoftDeadline() {
+    var deadline = Instant.parse("2024-05-01T12:00:00Z");
+
+    assertNull(map(new RouteRequest()).softDeadline());
+    assertEquals(deadline, map(new RouteRequest(), deadline).softDeadline());
+  }
+
   @Test
   void testPassThroughPoints() {
     var req = new RouteRequest();
@@ -224,9 +234,17 @@ class RaptorRequestMapperTest {
   }
 
   private static RaptorRequest<TestTripSchedule> map(RouteRequest request) {
+    return map(request, null);
+  }
+
+  private static RaptorRequest<TestTripSchedule> map(
+    RouteRequest request,
+    @Nullable Instant searchDeadline
+  ) {
     return RaptorRequestMapper.mapRequest(
       request,
       ZonedDateTime.now(),
+      searchDeadline,
       false,
       ACCESS,
       EGRESS,
@@ -106,6 +106,34 @@ public class TransferGeneratorTest implements RaptorTestConstants {
     );
   }
 
+  @Test
+  void reuseTransfersFoundForTheSameTripPair() {
+    data.withRoutes(
+      route("L1", STOP_A, STOP_B, STOP_C, STOP_D)
+        .withTimetable(schedule("10:02 10:10 10:20 10:30"), schedule("10:04 10:12 10:22 10:32"))
+    );
+    var subject = new TransferGenerator<>(tsAdaptor, data);
+    var allTransfers =
+      "[[TripToTripTransfer{from: [2 10:10 BUS L1], to: [2 10:12 BUS L1]}, " +
+      "TripToTripTransfer{from: [3 10:20 BUS L1], to: [3 10:22 BUS L1]}]]";
+
+    assertEquals(
+      allTransfers,
+      subject.findAllPossibleTransfers(transitLegsSameRoute(STOP_A, STOP_C, STOP_D)).toString()
+    );
+
+    // The same trips are used, but the transfers after the last arrival must be removed
+    assertEquals(
+      "[[TripToTripTransfer{from: [2 10:10 BUS L1], to: [2 10:12 BUS L1]}]]",
+      subject.findAllPossibleTransfers(transitLegsSameRoute(STOP_A, STOP_B, STOP_C)).toString()
+    );
+
+    assertEquals(
+      allTransfers,
+      subject.findAllPossibleTransfers(transitLegsSameRoute(STOP_A, STOP_C, STOP_D)).toString()
+    );
+  }
+
   @Test
   void findGuaranteedTransferWithNoSlack() {
     data.withRoutes(
@@ -631,6 +659,8 @@ public class TransferGeneratorTest implements RaptorTestConstants {
 
     data.clearConstrainedTransfers();
     data.withConstrainedTransfer(tripA, STOP_C, tripB, STOP_D, transfer);
+    // The transfers found are cached, so a new generator is needed when the data changes
+    subject = new TransferGenerator<>(tsAdaptor, data);
     result = subject.findAllPossibleTransfers(transitLegs);
 
     // The same stop transfer is no longer an option
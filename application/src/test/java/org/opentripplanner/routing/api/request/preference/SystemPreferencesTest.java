@@ -2,6 +2,7 @@ package org.opentripplanner.routing.api.request.preference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opentripplanner.routing.api.request.preference.ImmutablePreferencesAsserts.assertEqualsAndHashCode;
 
@@ -19,6 +20,7 @@ class SystemPreferencesTest {
 
   private static final Duration MAX_DIRECT = Duration.ofMinutes(10);
   public static final Duration MAX_JOURNEY_DURATION = Duration.ofHours(5);
+  public static final Duration SEARCH_TIME_BUDGET = Duration.ofSeconds(3);
   public static final RoutingTag TAG_RENTAL = RoutingTag.testCaseCategory("rental");
   public static final DataOverlayParameters DATA_OVERLAY = new DataOverlayParametersBuilder()
     .add(ParameterName.LEAD, ParameterType.PENALTY, 17.3)
@@ -28,6 +30,7 @@ class SystemPreferencesTest {
     .of()
     .withGeoidElevation(true)
     .withMaxJourneyDuration(MAX_JOURNEY_DURATION)
+    .withSearchTimeBudget(SEARCH_TIME_BUDGET)
     .addTags(List.of(TAG_RENTAL))
     .withDataOverlay(DATA_OVERLAY)
     .build();
@@ -55,6 +58,16 @@ class SystemPreferencesTest {
     assertEquals(MAX_JOURNEY_DURATION, subject.maxJourneyDuration());
   }
 
+  @Test
+  void searchTimeBudget() {
+    assertEquals(SEARCH_TIME_BUDGET, subject.searchTimeBudget());
+    assertEquals(Duration.ZERO, SystemPreferences.DEFAULT.searchTimeBudget());
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> SystemPreferences.of().withSearchTimeBudget(Duration.ofSeconds(-1)).build()
+    );
+  }
+
   @Test
   void testOfAndCopyOf() {
     // Return same object if no value is set
@@ -78,7 +91,8 @@ class SystemPreferencesTest {
       "tags: [TestCaseCategory: rental], " +
       "dataOverlay: DataOverlayParameters{LEAD_PENALTY: 17.3}, " +
       "geoidElevation, " +
-      "maxJourneyDuration: 5h" +
+      "maxJourneyDuration: 5h, " +
+      "searchTimeBudget: 3s" +
       "}",
       subject.toString()
     );
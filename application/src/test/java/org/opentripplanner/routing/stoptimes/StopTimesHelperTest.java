@@ -311,6 +311,63 @@ class StopTimesHelperTest {
     assertEquals(serviceDate, stopTime.getServiceDay());
   }
 
+  /**
+   * Trip 1.3 arrives at stop B at 08:10 and departs at 08:20. The window 08:05-08:15 only
+   * contains the arrival.
+   */
+  @Test
+  void stopTimesForStop_arrivalInRange() {
+    assertEquals(1, countTrip13AtStopB(5, 10, ArrivalDeparture.ARRIVALS));
+    assertEquals(0, countTrip13AtStopB(5, 10, ArrivalDeparture.DEPARTURES));
+    assertEquals(1, countTrip13AtStopB(5, 10, ArrivalDeparture.BOTH));
+  }
+
+  /**
+   * The window 08:15-08:25 only contains the departure of trip 1.3 at stop B.
+   */
+  @Test
+  void stopTimesForStop_departureInRange() {
+    assertEquals(0, countTrip13AtStopB(15, 10, ArrivalDeparture.ARRIVALS));
+    assertEquals(1, countTrip13AtStopB(15, 10, ArrivalDeparture.DEPARTURES));
+    assertEquals(1, countTrip13AtStopB(15, 10, ArrivalDeparture.BOTH));
+  }
+
+  /**
+   * The window 08:05-08:35 contains both the arrival and the departure of trip 1.3 at stop B,
+   * the trip is only returned once.
+   */
+  @Test
+  void stopTimesForStop_arrivalAndDepartureInRange() {
+    assertEquals(1, countTrip13AtStopB(5, 30, ArrivalDeparture.ARRIVALS));
+    assertEquals(1, countTrip13AtStopB(5, 30, ArrivalDeparture.DEPARTURES));
+    assertEquals(1, countTrip13AtStopB(5, 30, ArrivalDeparture.BOTH));
+  }
+
+  private static long countTrip13AtStopB(
+    int startMinutesAfter8,
+    int timeRangeMinutes,
+    ArrivalDeparture arrivalDeparture
+  ) {
+    var result = StopTimesHelper.stopTimesForStop(
+      transitService,
+      transitService.getRegularStop(new FeedScopedId(feedId, "B")),
+      serviceDate
+        .atStartOfDay(transitService.getTimeZone())
+        .plusHours(8)
+        .plusMinutes(startMinutesAfter8)
+        .toInstant(),
+      Duration.ofMinutes(timeRangeMinutes),
+      10,
+      arrivalDeparture,
+      true
+    );
+    return result
+      .stream()
+      .flatMap(s -> s.times.stream())
+      .filter(t -> t.getTrip().getId().getId().equals("1.3"))
+      .count();
+  }
+
   boolean hasCancelledTrips(List<StopTimesInPattern> stopTimes) {
     return !stopTimes
       .stream()
@@ -0,0 +1,72 @@
+package org.opentripplanner.street.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.street.model._data.StreetModelForTest;
+import org.opentripplanner.street.model.edge.StreetTransitStopLink;
+import org.opentripplanner.street.model.vertex.IntersectionVertex;
+import org.opentripplanner.street.model.vertex.TransitStopVertex;
+import org.opentripplanner.transit.model._data.TimetableRepositoryForTest;
+
+class StopReachabilityIndexTest {
+
+  private static final TimetableRepositoryForTest TEST_MODEL = TimetableRepositoryForTest.of();
+
+  private final IntersectionVertex a = StreetModelForTest.intersectionVertex("A", 0, 0);
+  private final IntersectionVertex b = StreetModelForTest.intersectionVertex("B", 0, 0.001);
+  private final IntersectionVertex c = StreetModelForTest.intersectionVertex("C", 0, 0.002);
+  private final TransitStopVertex stopA = stopVertex("SA");
+  private final TransitStopVertex stopC = stopVertex("SC");
+
+  @Test
+  void findStops() {
+    // A one-way street, the index is used in both directions
+    StreetModelForTest.streetEdge(a, b, 100, StreetTraversalPermission.PEDESTRIAN);
+    StreetModelForTest.streetEdge(c, b, 100, StreetTraversalPermission.PEDESTRIAN);
+    link(a, stopA);
+    link(c, stopC);
+
+    var subject = new StopReachabilityIndexBuilder(Set.of(a, b, c, stopA, stopC), 150).build();
+
+    assertEquals(Set.of(stopA), subject.findStops(Set.of(a), 150));
+    assertEquals(Set.of(stopA, stopC), subject.findStops(Set.of(b), 100));
+    assertEquals(Set.of(), subject.findStops(Set.of(b), 99));
+    assertEquals(Set.of(stopC), subject.findStops(Set.of(stopC), 0));
+  }
+
+  @Test
+  void carOnlyStreetsAreNotUsed() {
+    StreetModelForTest.streetEdge(a, b, 100, StreetTraversalPermission.CAR);
+    link(a, stopA);
+
+    var subject = new StopReachabilityIndexBuilder(Set.of(a, b, stopA), 1000).build();
+
+    assertEquals(Set.of(), subject.findStops(Set.of(b), 1000));
+  }
+
+  @Test
+  void verticesOutsideTheIndexAreResolved() {
+    StreetModelForTest.streetEdge(a, b, 100, StreetTraversalPermission.PEDESTRIAN);
+    link(a, stopA);
+    var subject = new StopReachabilityIndexBuilder(Set.of(a, b, stopA), 1000).build();
+
+    var temporary = StreetModelForTest.intersectionVertex("T", 0, 0.0015);
+    StreetModelForTest.streetEdge(temporary, b, 50, StreetTraversalPermission.PEDESTRIAN);
+
+    assertTrue(subject.contains(b));
+    assertEquals(Set.of(stopA), subject.findStops(Set.of(temporary), 100));
+    assertNull(subject.findStops(Set.of(temporary), 1001));
+  }
+
+  private static TransitStopVertex stopVertex(String id) {
+    return TransitStopVertex.of().withStop(TEST_MODEL.stop(id).build()).build();
+  }
+
+  private static void link(IntersectionVertex street, TransitStopVertex stop) {
+    StreetTransitStopLink.createStreetTransitStopLink(stop, street);
+  }
+}
@@ -0,0 +1,53 @@
+package org.opentripplanner.street.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.routing.api.request.RouteRequest;
+
+class StreetSearchBuilderTest {
+
+  private static final Duration ROUTING_TIMEOUT = Duration.ofSeconds(5);
+
+  private final RouteRequest request = new RouteRequest()
+    .withPreferences(p -> p.withStreet(s -> s.withRoutingTimeout(ROUTING_TIMEOUT)));
+
+  @Test
+  void routingTimeoutWithoutDeadline() {
+    assertEquals(ROUTING_TIMEOUT, timeout(request));
+  }
+
+  @Test
+  void routingTimeoutIfDeadlineIsLater() {
+    var deadline = Instant.now().plus(Duration.ofMinutes(1));
+    assertEquals(ROUTING_TIMEOUT, timeout(request.copyWithSearchDeadline(deadline)));
+  }
+
+  @Test
+  void timeLeftIfDeadlineIsEarlier() {
+    var deadline = Instant.now().plus(Duration.ofSeconds(2));
+    var timeout = timeout(request.copyWithSearchDeadline(deadline));
+    assertTrue(timeout.compareTo(Duration.ofSeconds(2)) <= 0, timeout.toString());
+    assertTrue(timeout.compareTo(Duration.ofSeconds(1)) > 0, timeout.toString());
+  }
+
+  @Test
+  void zeroIfDeadlineHasPassed() {
+    var deadline = Instant.now().minus(Duration.ofSeconds(1));
+    assertEquals(Duration.ZERO, timeout(request.copyWithSearchDeadline(deadline)));
+  }
+
+  @Test
+  void deadlineIsOnlySetOnTheCopy() {
+    request.copyWithSearchDeadline(Instant.now());
+    assertNull(request.searchDeadline());
+  }
+
+  private static Duration timeout(RouteRequest request) {
+    return StreetSearchBuilder.of().setRequest(request).streetRoutingTimeout();
+  }
+}
@@ -0,0 +1,200 @@
+package org.opentripplanner.street.search.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentripplanner.astar.model.GraphPath;
+import org.opentripplanner.astar.spi.TraverseVisitor;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.StreetMode;
+import org.opentripplanner.routing.api.request.request.StreetRequest;
+import org.opentripplanner.street.model.StreetLandmarks;
+import org.opentripplanner.street.model.StreetLandmarksBuilder;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model._data.StreetModelForTest;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.IntersectionVertex;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+
+class LandmarkRemainingWeightHeuristicTest {
+
+  private static final int GRID_SIZE = 20;
+  private static final int N_SEARCHES = 20;
+
+  private final List<StreetVertex> vertices = new ArrayList<>();
+  private final StreetLandmarks landmarks;
+
+  LandmarkRemainingWeightHeuristicTest() {
+    var random = new Random(7);
+    var grid = new IntersectionVertex[GRID_SIZE][GRID_SIZE];
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        grid[i][j] =
+          StreetModelForTest.intersectionVertex("%d_%d".formatted(i, j), i * 0.001, j * 0.001);
+        vertices.add(grid[i][j]);
+      }
+    }
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        if (i + 1 < GRID_SIZE) {
+          connect(grid[i][j], grid[i + 1][j], random);
+        }
+        if (j + 1 < GRID_SIZE) {
+          connect(grid[i][j], grid[i][j + 1], random);
+        }
+      }
+    }
+    landmarks = new StreetLandmarksBuilder(vertices, 4).build();
+  }
+
+  @Test
+  void landmarks() {
+    assertEquals(4, landmarks.numberOfLandmarks());
+    assertEquals(GRID_SIZE * GRID_SIZE, landmarks.numberOfVertices());
+  }
+
+  @Test
+  void lowerBoundIsBelowTravelTime() {
+    var random = new Random(42);
+    for (int i = 0; i < N_SEARCHES; ++i) {
+      var from = randomVertex(random);
+      var to = randomVertex(random);
+      var path = search(new EuclideanRemainingWeightHeuristic(), from, to, false, null);
+      int bound = landmarks.lowerBound(landmarks.indexOf(from), landmarks.indexOf(to));
+
+      assertTrue(bound <= path.getDuration(), bound + " > " + path.getDuration());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void sameResultAsEuclideanWithFewerVisits(boolean arriveBy) {
+    var random = new Random(42);
+    var euclideanVisits = new VisitCounter();
+    var landmarkVisits = new VisitCounter();
+
+    for (int i = 0; i < N_SEARCHES; ++i) {
+      var from = randomVertex(random);
+      var to = randomVertex(random);
+      var expected = search(
+        new EuclideanRemainingWeightHeuristic(),
+        from,
+        to,
+        arriveBy,
+        euclideanVisits
+      );
+      var result = search(heuristic(), from, to, arriveBy, landmarkVisits);
+
+      assertEquals(expected.getWeight(), result.getWeight(), 0.001);
+    }
+    assertTrue(landmarkVisits.visits < euclideanVisits.visits);
+  }
+
+  @Test
+  void destinationOutsideTable() {
+    var from = vertices.get(0);
+    var nextToTarget = vertices.get(vertices.size() - 1);
+    var target = StreetModelForTest.intersectionVertex("target", 0.1, 0.1);
+    StreetModelForTest.streetEdge(nextToTarget, target, 50, StreetTraversalPermission.ALL);
+    assertFalse(landmarks.contains(target));
+
+    var expected = search(new EuclideanRemainingWeightHeuristic(), from, target, false, null);
+    var result = search(heuristic(), from, target, false, null);
+
+    assertEquals(expected.getWeight(), result.getWeight(), 0.001);
+  }
+
+  @Test
+  void onlyEuclideanEstimateForOtherModes() {
+    var request = new RouteRequest();
+    var euclidean = new EuclideanRemainingWeightHeuristic();
+    var subject = heuristic();
+    var from = vertices.get(0);
+    var to = vertices.get(vertices.size() - 1);
+    euclidean.initialize(StreetMode.BIKE, Set.of(to), false, request.preferences());
+    subject.initialize(StreetMode.BIKE, Set.of(to), false, request.preferences());
+
+    var state = new State(from, StreetSearchRequest.of().withMode(StreetMode.BIKE).build());
+    assertEquals(
+      euclidean.estimateRemainingWeight(state),
+      subject.estimateRemainingWeight(state)
+    );
+  }
+
+  private LandmarkRemainingWeightHeuristic heuristic() {
+    return new LandmarkRemainingWeightHeuristic(null, landmarks);
+  }
+
+  private StreetVertex randomVertex(Random random) {
+    return vertices.get(random.nextInt(vertices.size()));
+  }
+
+  private static GraphPath<State, Edge, Vertex> search(
+    EuclideanRemainingWeightHeuristic heuristic,
+    Vertex from,
+    Vertex to,
+    boolean arriveBy,
+    VisitCounter visitCounter
+  ) {
+    var request = new RouteRequest();
+    request.setArriveBy(arriveBy);
+    var builder = StreetSearchBuilder
+      .of()
+      .setHeuristic(heuristic)
+      .setRequest(request)
+      .setStreetRequest(new StreetRequest(StreetMode.CAR))
+      .setFrom(from)
+      .setTo(to);
+    if (visitCounter != null) {
+      builder.setTraverseVisitor(visitCounter);
+    }
+    var paths = builder.getPathsToTarget();
+    assertFalse(paths.isEmpty());
+    return paths.getFirst();
+  }
+
+  /**
+   * Connect the vertices in both directions. Some streets are fast, this makes the Euclidean
+   * estimate with the max car speed weak.
+   */
+  private static void connect(StreetVertex a, StreetVertex b, Random random) {
+    double length = 100 + random.nextInt(50);
+    float speed = random.nextInt(10) == 0 ? 30f : 10f;
+    StreetModelForTest
+      .streetEdgeBuilder(a, b, length, StreetTraversalPermission.ALL)
+      .withCarSpeed(speed)
+      .buildAndConnect();
+    StreetModelForTest
+      .streetEdgeBuilder(b, a, length, StreetTraversalPermission.ALL)
+      .withCarSpeed(speed)
+      .buildAndConnect();
+  }
+
+  private static class VisitCounter implements TraverseVisitor<State, Edge> {
+
+    private int visits = 0;
+
+    @Override
+    public void visitEdge(Edge edge) {}
+
+    @Override
+    public void visitVertex(State state) {
+      ++visits;
+    }
+
+    @Override
+    public void visitEnqueue() {}
+  }
+}
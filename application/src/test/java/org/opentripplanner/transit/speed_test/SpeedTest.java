@@ -15,7 +15,10 @@ import java.util.Map;
 import java.util.function.Predicate;
 import org.opentripplanner.TestServerContext;
 import org.opentripplanner.datastore.OtpDataStore;
+import org.opentripplanner.ext.flex.flexpathcalculator.FlexPathCache;
 import org.opentripplanner.framework.application.OtpAppException;
+import org.opentripplanner.framework.concurrent.AdmissionController;
+import org.opentripplanner.framework.concurrent.OtpRequestExecutor;
 import org.opentripplanner.model.plan.Itinerary;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.api.response.RoutingResponse;
@@ -116,6 +119,8 @@ public class SpeedTest {
           config.transitRoutingParams,
           RaptorEnvironmentFactory.create(config.transitRoutingParams.searchThreadPoolSize())
         ),
+        OtpRequestExecutor.sequential(),
+        AdmissionController.unlimited(),
         graph,
         new DefaultTransitService(timetableRepository),
         timer.getRegistry(),
@@ -127,6 +132,7 @@ public class SpeedTest {
         TestServerContext.createEmissionsService(),
         null,
         config.flexConfig,
+        FlexPathCache.disabled(),
         List.of(),
         null,
         TestServerContext.createStreetLimitationParametersService(),
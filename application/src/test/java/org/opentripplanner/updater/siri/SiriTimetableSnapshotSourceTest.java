@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.opentripplanner.transit.model._data.TimetableRepositoryForTest.id;
 import static org.opentripplanner.updater.spi.UpdateResultAssertions.assertFailure;
 
+import java.util.List;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.opentripplanner.transit.model.framework.FeedScopedId;
@@ -51,6 +52,26 @@ class SiriTimetableSnapshotSourceTest implements RealtimeTestConstants {
     assertEquals(RealTimeState.CANCELED, env.getTripTimesForTrip(TRIP_1_ID).getRealTimeState());
   }
 
+  @Test
+  void testStagedUpdateIsNotPublished() {
+    var env = RealtimeTestEnvironment.siri().addTrip(TRIP_1_INPUT).build();
+
+    var updates = new SiriEtBuilder(env.getDateTimeHelper())
+      .withDatedVehicleJourneyRef(TRIP_1_ID)
+      .withCancellation(true)
+      .buildEstimatedTimetableDeliveries();
+
+    var result = env.applyStagedEstimatedTimetable(updates);
+
+    assertEquals(1, result.successful());
+    assertEquals(RealTimeState.SCHEDULED, env.getTripTimesForTrip(TRIP_1_ID).getRealTimeState());
+
+    // The staging ends with the next update which is not staged
+    env.applyEstimatedTimetable(List.of());
+
+    assertEquals(RealTimeState.CANCELED, env.getTripTimesForTrip(TRIP_1_ID).getRealTimeState());
+  }
+
   @Test
   void testAddJourneyWithExistingRoute() {
     var env = RealtimeTestEnvironment.siri().addTrip(TRIP_1_INPUT).build();
@@ -0,0 +1,188 @@
+package org.opentripplanner.updater.siri.updater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.updater.trip.UpdateIncrementality.DIFFERENTIAL;
+import static org.opentripplanner.updater.trip.UpdateIncrementality.FULL_DATASET;
+
+import com.google.common.util.concurrent.Futures;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.updater.spi.WriteToGraphCallback;
+import org.opentripplanner.updater.trip.UpdateIncrementality;
+import uk.org.siri.siri20.EstimatedTimetableDeliveryStructure;
+import uk.org.siri.siri20.ServiceDelivery;
+import uk.org.siri.siri20.Siri;
+
+class EstimatedTimetableBatchApplierTest {
+
+  private static final EstimatedTimetableDeliveryStructure A = new EstimatedTimetableDeliveryStructure();
+  private static final EstimatedTimetableDeliveryStructure B = new EstimatedTimetableDeliveryStructure();
+  private static final EstimatedTimetableDeliveryStructure C = new EstimatedTimetableDeliveryStructure();
+
+  private final List<Write> writes = new ArrayList<>();
+  private boolean failWrites = false;
+
+  private final WriteToGraphCallback saveResultOnGraph = runnable -> {
+    runnable.run(null);
+    return failWrites
+      ? Futures.immediateFailedFuture(new IllegalStateException("Write failed"))
+      : Futures.immediateVoidFuture();
+  };
+
+  private final EstimatedTimetableBatchApplier subject = new EstimatedTimetableBatchApplier(
+    saveResultOnGraph,
+    (etds, incrementality, staged, markPrimed) ->
+      context -> writes.add(new Write(etds, incrementality, staged, markPrimed))
+  );
+
+  @Test
+  void applyDifferentialUpdateBatchByBatch() {
+    var source = new StubSource(
+      DIFFERENTIAL,
+      true,
+      batch(A, false),
+      batch(B, false),
+      batch(C, false)
+    );
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(
+      List.of(
+        new Write(List.of(A), DIFFERENTIAL, false, false),
+        new Write(List.of(B), DIFFERENTIAL, false, false),
+        new Write(List.of(C), DIFFERENTIAL, false, true)
+      ),
+      writes
+    );
+  }
+
+  @Test
+  void stageFullDatasetBatchByBatch() {
+    var source = new StubSource(
+      FULL_DATASET,
+      true,
+      batch(A, false),
+      batch(B, false),
+      batch(C, false)
+    );
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(
+      List.of(
+        new Write(List.of(A), FULL_DATASET, true, false),
+        new Write(List.of(B), DIFFERENTIAL, true, false),
+        new Write(List.of(C), DIFFERENTIAL, false, true)
+      ),
+      writes
+    );
+  }
+
+  @Test
+  void doNotMarkPrimedIfSourceHasMoreData() {
+    var source = new StubSource(DIFFERENTIAL, true, batch(A, true), batch(B, true));
+
+    assertTrue(subject.readAndApply(source));
+    assertEquals(
+      List.of(
+        new Write(List.of(A), DIFFERENTIAL, false, false),
+        new Write(List.of(B), DIFFERENTIAL, false, false)
+      ),
+      writes
+    );
+  }
+
+  @Test
+  void applyFullDatasetWithOneBatchInOneWrite() {
+    var source = new StubSource(FULL_DATASET, true, batch(A, false));
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(List.of(new Write(List.of(A), FULL_DATASET, false, true)), writes);
+  }
+
+  @Test
+  void endStagingOfFullDatasetIfReadFails() {
+    var source = new StubSource(FULL_DATASET, false, batch(A, false), batch(B, false));
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(
+      List.of(
+        new Write(List.of(A), FULL_DATASET, true, false),
+        new Write(List.of(), DIFFERENTIAL, false, false)
+      ),
+      writes
+    );
+  }
+
+  @Test
+  void keepAppliedBatchesOfDifferentialUpdateIfReadFails() {
+    var source = new StubSource(DIFFERENTIAL, false, batch(A, false), batch(B, false));
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(List.of(new Write(List.of(A), DIFFERENTIAL, false, false)), writes);
+  }
+
+  @Test
+  void continueIfWriteFails() {
+    failWrites = true;
+    var source = new StubSource(DIFFERENTIAL, true, batch(A, false), batch(B, false));
+
+    assertFalse(subject.readAndApply(source));
+    assertEquals(
+      List.of(
+        new Write(List.of(A), DIFFERENTIAL, false, false),
+        new Write(List.of(B), DIFFERENTIAL, false, true)
+      ),
+      writes
+    );
+  }
+
+  @Test
+  void nothingToApply() {
+    assertFalse(subject.readAndApply(new StubSource(DIFFERENTIAL, true)));
+    assertEquals(List.of(), writes);
+  }
+
+  private static ServiceDelivery batch(EstimatedTimetableDeliveryStructure etd, boolean moreData) {
+    var serviceDelivery = new ServiceDelivery();
+    serviceDelivery.setMoreData(moreData);
+    serviceDelivery.getEstimatedTimetableDeliveries().add(etd);
+    return serviceDelivery;
+  }
+
+  private record Write(
+    List<EstimatedTimetableDeliveryStructure> etds,
+    UpdateIncrementality incrementality,
+    boolean staged,
+    boolean markPrimed
+  ) {}
+
+  private record StubSource(
+    UpdateIncrementality incrementality,
+    boolean completed,
+    ServiceDelivery... batches
+  )
+    implements EstimatedTimetableSource {
+    @Override
+    public Optional<Siri> getUpdates() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean streamUpdates(Consumer<ServiceDelivery> batchConsumer) {
+      for (var batch : batches) {
+        batchConsumer.accept(batch);
+      }
+      return completed;
+    }
+
+    @Override
+    public UpdateIncrementality incrementalityOfLastUpdates() {
+      return incrementality;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.opentripplanner.updater.siri.updater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.test.support.ResourceLoader;
+import uk.org.siri.siri20.ServiceDelivery;
+
+class SiriETStreamReaderTest {
+
+  private static final ResourceLoader RESOURCES = ResourceLoader.of(SiriETStreamReaderTest.class);
+  private static final Instant TIMESTAMP = Instant.parse("2024-11-27T11:48:04.308988Z");
+
+  @Test
+  void readInBatches() throws Exception {
+    var batches = read(RESOURCES.inputStream("siri-et.xml"), 2);
+
+    assertEquals(2, batches.size());
+    assertEquals(List.of("1", "2"), journeyRefs(batches.get(0)));
+    assertEquals(List.of("3"), journeyRefs(batches.get(1)));
+
+    // The header is copied into all batches
+    for (ServiceDelivery batch : batches) {
+      assertEquals(TIMESTAMP, batch.getResponseTimestamp().toInstant());
+      assertTrue(batch.isMoreData());
+    }
+  }
+
+  @Test
+  void readInOneBatch() throws Exception {
+    var batches = read(RESOURCES.inputStream("siri-et.xml"), 100);
+
+    assertEquals(1, batches.size());
+    assertEquals(List.of("1", "2", "3"), journeyRefs(batches.get(0)));
+  }
+
+  @Test
+  void emptyServiceDelivery() throws Exception {
+    var xml =
+      """
+      <Siri version="2.0" xmlns="http://www.siri.org.uk/siri">
+        <ServiceDelivery>
+          <ResponseTimestamp>2024-11-27T11:48:04Z</ResponseTimestamp>
+        </ServiceDelivery>
+      </Siri>
+      """;
+    var batches = read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), 2);
+
+    assertEquals(1, batches.size());
+    assertEquals(List.of(), journeyRefs(batches.get(0)));
+  }
+
+  @Test
+  void invalidBatchSize() {
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> read(RESOURCES.inputStream("siri-et.xml"), 0)
+    );
+  }
+
+  private static List<ServiceDelivery> read(InputStream is, int batchSize) throws Exception {
+    var batches = new ArrayList<ServiceDelivery>();
+    int n = SiriETStreamReader.read(is, batchSize, batches::add);
+    assertEquals(n, batches.size());
+    return batches;
+  }
+
+  private static List<String> journeyRefs(ServiceDelivery serviceDelivery) {
+    return serviceDelivery
+      .getEstimatedTimetableDeliveries()
+      .stream()
+      .flatMap(it -> it.getEstimatedJourneyVersionFrames().stream())
+      .flatMap(it -> it.getEstimatedVehicleJourneies().stream())
+      .map(it -> it.getDatedVehicleJourneyRef().getValue())
+      .map(it -> it.substring(it.lastIndexOf(':') + 1))
+      .toList();
+  }
+}
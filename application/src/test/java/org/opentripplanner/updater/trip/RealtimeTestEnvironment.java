@@ -170,11 +170,20 @@ public final class RealtimeTestEnvironment implements RealtimeTestConstants {
   public UpdateResult applyEstimatedTimetableWithFuzzyMatcher(
     List<EstimatedTimetableDeliveryStructure> updates
   ) {
-    return applyEstimatedTimetable(updates, true);
+    return applyEstimatedTimetable(updates, true, false);
   }
 
   public UpdateResult applyEstimatedTimetable(List<EstimatedTimetableDeliveryStructure> updates) {
-    return applyEstimatedTimetable(updates, false);
+    return applyEstimatedTimetable(updates, false, false);
+  }
+
+  /**
+   * Apply the updates without publishing them, until the next update which is not staged.
+   */
+  public UpdateResult applyStagedEstimatedTimetable(
+    List<EstimatedTimetableDeliveryStructure> updates
+  ) {
+    return applyEstimatedTimetable(updates, false, true);
   }
 
   // GTFS-RT updates
@@ -210,13 +219,15 @@ public final class RealtimeTestEnvironment implements RealtimeTestConstants {
 
   private UpdateResult applyEstimatedTimetable(
     List<EstimatedTimetableDeliveryStructure> updates,
-    boolean fuzzyMatching
+    boolean fuzzyMatching,
+    boolean staged
   ) {
     Objects.requireNonNull(siriSource, "Test environment is configured for GTFS-RT only");
     UpdateResult updateResult = getEstimatedTimetableHandler(fuzzyMatching)
       .applyUpdate(
         updates,
         DIFFERENTIAL,
+        staged,
         new DefaultRealTimeUpdateContext(
           new Graph(),
           timetableRepository,
@@ -1,12 +1,15 @@
 package org.opentripplanner.raptor.api.request;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import javax.annotation.Nullable;
 import org.opentripplanner.raptor.api.debug.RaptorTimers;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.api.model.SearchDirection;
+import org.opentripplanner.raptor.api.response.RaptorResponse;
 import org.opentripplanner.utils.tostring.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +32,9 @@ public class RaptorRequest<T extends RaptorTripSchedule> {
   private final DebugRequest debug;
   private final RaptorTimers performanceTimers;
 
+  @Nullable
+  private final Instant softDeadline;
+
   private RaptorRequest() {
     searchParams = SearchParams.defaults();
     profile = RaptorProfile.MULTI_CRITERIA;
@@ -37,6 +43,7 @@ public class RaptorRequest<T extends RaptorTripSchedule> {
     multiCriteria = MultiCriteriaRequest.<T>of().build();
     performanceTimers = RaptorTimers.NOOP;
     debug = DebugRequest.defaults();
+    softDeadline = null;
     alias = RaptorRequestBuilder.generateRequestAlias(profile, searchDirection, optimizations);
   }
 
@@ -49,6 +56,7 @@ public class RaptorRequest<T extends RaptorTripSchedule> {
     this.multiCriteria = builder.multiCriteria();
     this.performanceTimers = builder.performanceTimers();
     this.debug = builder.debug().build();
+    this.softDeadline = builder.softDeadline();
     verify();
   }
 
@@ -145,6 +153,19 @@ public class RaptorRequest<T extends RaptorTripSchedule> {
     return performanceTimers;
   }
 
+  /**
+   * When the soft deadline has passed, Range Raptor stops iterating over the minutes in the
+   * search-window and returns the paths found so far. At least one iteration is always performed.
+   * Unlike the hard request timeout, the search is not aborted - the result is valid for the part
+   * of the search-window searched, see {@link RaptorResponse#isSearchWindowTruncated()}.
+   * <p/>
+   * This is optional, if {@code null} all minutes in the search-window are searched.
+   */
+  @Nullable
+  public Instant softDeadline() {
+    return softDeadline;
+  }
+
   /**
    * Specify what to debug in the debug request.
    * <p/>
@@ -188,6 +209,7 @@ public class RaptorRequest<T extends RaptorTripSchedule> {
       .addObj("multiCriteria", multiCriteria, defaults.multiCriteria())
       .addObj("debug", debug, defaults.debug())
       .addBoolIfTrue("withPerformanceTimers", performanceTimers != RaptorTimers.NOOP)
+      .addObj("softDeadline", softDeadline)
       .toString();
   }
 
@@ -1,9 +1,11 @@
 package org.opentripplanner.raptor.api.request;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.opentripplanner.raptor.api.debug.RaptorTimers;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.api.model.SearchDirection;
@@ -34,6 +36,9 @@ public class RaptorRequestBuilder<T extends RaptorTripSchedule> {
   // Performance monitoring
   private RaptorTimers performanceTimers;
 
+  @Nullable
+  private Instant softDeadline;
+
   // Algorithm
   private RaptorProfile profile;
 
@@ -57,6 +62,7 @@ public class RaptorRequestBuilder<T extends RaptorTripSchedule> {
 
     // Timer
     this.performanceTimers = defaults.performanceTimers();
+    this.softDeadline = defaults.softDeadline();
 
     // Debug
     this.debug = new DebugRequestBuilder(defaults.debug());
@@ -126,6 +132,16 @@ public class RaptorRequestBuilder<T extends RaptorTripSchedule> {
     return this;
   }
 
+  @Nullable
+  public Instant softDeadline() {
+    return softDeadline;
+  }
+
+  public RaptorRequestBuilder<T> softDeadline(@Nullable Instant softDeadline) {
+    this.softDeadline = softDeadline;
+    return this;
+  }
+
   public DebugRequestBuilder debug() {
     return this.debug;
   }
@@ -20,17 +20,29 @@ public class RaptorResponse<T extends RaptorTripSchedule> {
   private final RaptorRequest<T> requestUsed;
   private final StopArrivals arrivals;
   private final boolean heuristicPathExist;
+  private final boolean searchWindowTruncated;
 
   public RaptorResponse(
     Collection<RaptorPath<T>> paths,
     StopArrivals arrivals,
     RaptorRequest<T> requestUsed,
     boolean heuristicPathExist
+  ) {
+    this(paths, arrivals, requestUsed, heuristicPathExist, false);
+  }
+
+  public RaptorResponse(
+    Collection<RaptorPath<T>> paths,
+    StopArrivals arrivals,
+    RaptorRequest<T> requestUsed,
+    boolean heuristicPathExist,
+    boolean searchWindowTruncated
   ) {
     this.paths = paths;
     this.arrivals = arrivals;
     this.requestUsed = requestUsed;
     this.heuristicPathExist = heuristicPathExist;
+    this.searchWindowTruncated = searchWindowTruncated;
   }
 
   /**
@@ -71,12 +83,24 @@ public class RaptorResponse<T extends RaptorTripSchedule> {
     return paths.isEmpty() && !heuristicPathExist;
   }
 
+  /**
+   * Return {@code true} if the search was stopped before all minutes in the search-window were
+   * searched, because the {@link RaptorRequest#softDeadline()} passed. The search-window in the
+   * {@link #requestUsed()} is reduced to the part actually searched, so the paths returned are
+   * still complete for this window, and the next/previous page can be found by searching the
+   * adjacent window.
+   */
+  public boolean isSearchWindowTruncated() {
+    return searchWindowTruncated;
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder
       .of(RaptorResponse.class)
       .addObj("paths", paths)
       .addObj("requestUsed", requestUsed)
+      .addBoolIfTrue("searchWindowTruncated", searchWindowTruncated)
       .toString();
   }
 }
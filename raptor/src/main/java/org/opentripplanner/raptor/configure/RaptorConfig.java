@@ -12,11 +12,11 @@ import org.opentripplanner.raptor.rangeraptor.RangeRaptor;
 import org.opentripplanner.raptor.rangeraptor.RangeRaptorWorkerComposite;
 import org.opentripplanner.raptor.rangeraptor.context.SearchContext;
 import org.opentripplanner.raptor.rangeraptor.context.SearchContextViaLeg;
+import org.opentripplanner.raptor.rangeraptor.internalapi.HeuristicStopArrivals;
 import org.opentripplanner.raptor.rangeraptor.internalapi.Heuristics;
 import org.opentripplanner.raptor.rangeraptor.internalapi.PassThroughPointsService;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RangeRaptorWorker;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouter;
-import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorWorkerState;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RoutingStrategy;
 import org.opentripplanner.raptor.rangeraptor.multicriteria.McStopArrivals;
@@ -39,12 +39,19 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
   private final RaptorEnvironment environment;
   private final RaptorTuningParameters tuningParameters;
 
+  @Nullable
+  private final ReverseHeuristicsCache<T> reverseHeuristicsCache;
+
   /** The service is not final, because it depends on the request. */
   private PassThroughPointsService passThroughPointsService = null;
 
   public RaptorConfig(RaptorTuningParameters tuningParameters, RaptorEnvironment environment) {
     this.tuningParameters = tuningParameters;
     this.environment = environment;
+    this.reverseHeuristicsCache =
+      tuningParameters.reverseHeuristicsCacheMaxSize() > 0
+        ? new ReverseHeuristicsCache<>(tuningParameters)
+        : null;
   }
 
   public static <T extends RaptorTripSchedule> RaptorConfig<T> defaultConfigForTest() {
@@ -131,10 +138,19 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
   public Heuristics createHeuristic(
     RaptorTransitDataProvider<T> transitData,
     RaptorRequest<T> request,
-    RaptorRouterResult<T> results
+    HeuristicStopArrivals arrivals
   ) {
     var context = context(transitData, request);
-    return new StdRangeRaptorConfig<>(context).createHeuristics(results);
+    return new StdRangeRaptorConfig<>(context).createHeuristics(arrivals);
+  }
+
+  /**
+   * Return the application scoped cache for reverse heuristics, or {@code null} if caching is
+   * disabled.
+   */
+  @Nullable
+  public ReverseHeuristicsCache<T> reverseHeuristicsCache() {
+    return reverseHeuristicsCache;
   }
 
   public boolean isMultiThreaded() {
@@ -194,7 +210,8 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
       ctx.calculator(),
       ctx.createLifeCyclePublisher(),
       ctx.performanceTimers(),
-      environment.timeoutHook()
+      environment.timeoutHook(),
+      ctx.softDeadline()
     );
   }
 }
@@ -0,0 +1,205 @@
+package org.opentripplanner.raptor.configure;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.opentripplanner.raptor.api.model.RaptorAccessEgress;
+import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
+import org.opentripplanner.raptor.api.request.SearchParams;
+import org.opentripplanner.raptor.api.request.SearchParamsBuilder;
+import org.opentripplanner.raptor.rangeraptor.internalapi.HeuristicStopArrivals;
+import org.opentripplanner.raptor.rangeraptor.internalapi.Heuristics;
+import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
+import org.opentripplanner.raptor.spi.RaptorTransitDataProvider;
+
+/**
+ * A bounded cache of REVERSE heuristic search results, shared between requests. Many requests
+ * have the same destination, and the reverse search from the destination is the same for all of
+ * them as long as the egress paths, the transit data and the time limits are the same.
+ * <p>
+ * To increase the number of cache hits, the search is normalized before it is performed:
+ * <ul>
+ *   <li>The latest-arrival-time is rounded up and the earliest-departure-time is rounded down to
+ *   the nearest {@link #TIME_BUCKET_SECONDS}.</li>
+ *   <li>The search does not stop when the origin(access) is reached, it continues until the
+ *   max-number-of-transfers is reached or no more stops are reached. The result does not depend
+ *   on the access paths, and the heuristics are at least as good as for the normal search.</li>
+ * </ul>
+ * Only the best times and number of transfers for each stop is cached, see
+ * {@link HeuristicStopArrivals}. The {@link Heuristics} are created for each request using the
+ * access paths and the cost calculator of the request.
+ * <p>
+ * The normalization may change the dynamic search-window calculated from the heuristics a little,
+ * but the search-window is an estimate anyway. Searches without an earliest-departure-time are not
+ * cached, the earliest-departure-time is calculated from the reverse search.
+ * <p>
+ * The transit data is part of the key, see {@link RaptorTransitDataProvider#cacheKey()}. Results
+ * computed for an old version of the transit data is never used, and is evicted when the cache
+ * is full.
+ * <p>
+ * The least recently used entries are evicted first. The number of hits and misses are counted,
+ * so the cache can be monitored.
+ * <p>
+ * This class is thread-safe.
+ */
+public class ReverseHeuristicsCache<T extends RaptorTripSchedule> {
+
+  public static final int TIME_BUCKET_SECONDS = 15 * 60;
+
+  private final RaptorTuningParameters tuningParameters;
+  private final Map<CacheKey, HeuristicStopArrivals> cache;
+  private long hitCount = 0;
+  private long missCount = 0;
+
+  ReverseHeuristicsCache(RaptorTuningParameters tuningParameters) {
+    this.tuningParameters = tuningParameters;
+    int maxSize = tuningParameters.reverseHeuristicsCacheMaxSize();
+    this.cache =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, HeuristicStopArrivals> eldest) {
+          return size() > maxSize;
+        }
+      };
+  }
+
+  /** The number of times a cached result was found, used to report cache metrics. */
+  public long hitCount() {
+    synchronized (cache) {
+      return hitCount;
+    }
+  }
+
+  /** The number of times a result was not found in the cache, used to report cache metrics. */
+  public long missCount() {
+    synchronized (cache) {
+      return missCount;
+    }
+  }
+
+  /** The number of cached results, used to report cache metrics. */
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  /**
+   * Return {@code true} if the result of a heuristic search with the given request can be cached.
+   * Egress paths with opening hours and via searches are not cached.
+   */
+  public boolean isCacheable(RaptorTransitDataProvider<T> transitData, RaptorRequest<T> request) {
+    SearchParams params = request.searchParams();
+    return (
+      transitData.cacheKey() != null &&
+      params.isEarliestDepartureTimeSet() &&
+      params.isLatestArrivalTimeSet() &&
+      !params.hasViaLocations() &&
+      params.egressPaths().stream().noneMatch(RaptorAccessEgress::hasOpeningHours)
+    );
+  }
+
+  /**
+   * Normalize the search parameters of a cacheable heuristic search, see the class
+   * documentation.
+   */
+  public void normalize(SearchParams params, SearchParamsBuilder<T> builder) {
+    builder
+      .earliestDepartureTime(roundDown(params.earliestDepartureTime()))
+      .latestArrivalTime(roundUp(params.latestArrivalTime()))
+      .numberOfAdditionalTransfers(maxNumberOfTransfers(params));
+  }
+
+  public CacheKey key(RaptorTransitDataProvider<T> transitData, RaptorRequest<T> request) {
+    SearchParams params = request.searchParams();
+    return new CacheKey(
+      transitData.cacheKey(),
+      egressKeys(params.egressPaths()),
+      params.earliestDepartureTime(),
+      params.latestArrivalTime(),
+      maxNumberOfTransfers(params),
+      params.timetable(),
+      params.constrainedTransfers()
+    );
+  }
+
+  @Nullable
+  public HeuristicStopArrivals get(CacheKey key) {
+    synchronized (cache) {
+      var value = cache.get(key);
+      if (value == null) {
+        ++missCount;
+      } else {
+        ++hitCount;
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Extract the stop arrivals needed to create the heuristics and add them to the cache. Only the
+   * extracted arrivals are kept, not the state of the search. The cached value is returned.
+   */
+  public HeuristicStopArrivals put(CacheKey key, RaptorRouterResult<T> result) {
+    var value = HeuristicStopArrivals.of(result);
+    synchronized (cache) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  private int maxNumberOfTransfers(SearchParams params) {
+    return params.isMaxNumberOfTransfersSet()
+      ? params.maxNumberOfTransfers()
+      : tuningParameters.maxNumberOfTransfers();
+  }
+
+  private static Set<EgressKey> egressKeys(Collection<RaptorAccessEgress> egressPaths) {
+    return egressPaths
+      .stream()
+      .map(it ->
+        new EgressKey(
+          it.stop(),
+          it.durationInSeconds(),
+          it.timePenalty(),
+          it.numberOfRides(),
+          it.stopReachedOnBoard()
+        )
+      )
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private static int roundDown(int time) {
+    return Math.floorDiv(time, TIME_BUCKET_SECONDS) * TIME_BUCKET_SECONDS;
+  }
+
+  private static int roundUp(int time) {
+    return -roundDown(-time);
+  }
+
+  public record CacheKey(
+    Object transitDataKey,
+    Set<EgressKey> egressPaths,
+    int earliestDepartureTime,
+    int latestArrivalTime,
+    int maxNumberOfTransfers,
+    boolean timetable,
+    boolean constrainedTransfers
+  ) {}
+
+  /**
+   * The cost of the egress is not part of the key, it is not used by the heuristic search.
+   */
+  private record EgressKey(
+    int stop,
+    int durationInSeconds,
+    int timePenalty,
+    int numberOfRides,
+    boolean stopReachedOnBoard
+  ) {}
+}
@@ -69,4 +69,13 @@ public class ConcurrentCompositeRaptorRouter<T extends RaptorTripSchedule>
       throw (e.getCause() instanceof RuntimeException re) ? re : new RuntimeException(e);
     }
   }
+
+  /**
+   * The alternative search only adds paths to the main search result, so the part of the
+   * search-window searched is given by the main search.
+   */
+  @Override
+  public int stoppedAtIterationTime() {
+    return mainWorker.stoppedAtIterationTime();
+  }
 }
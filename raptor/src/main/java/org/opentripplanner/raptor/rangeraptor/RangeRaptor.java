@@ -2,6 +2,8 @@ package org.opentripplanner.raptor.rangeraptor;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Instant;
+import javax.annotation.Nullable;
 import org.opentripplanner.raptor.api.debug.RaptorTimers;
 import org.opentripplanner.raptor.api.model.RaptorConstants;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
@@ -69,6 +71,11 @@ public final class RangeRaptor<T extends RaptorTripSchedule> implements RaptorRo
 
   private final int minNumberOfRounds;
 
+  /** The soft deadline in epoch milliseconds, or {@link Long#MAX_VALUE} if not set. */
+  private final long softDeadline;
+
+  private int stoppedAtIterationTime = RaptorConstants.TIME_NOT_SET;
+
   public RangeRaptor(
     RangeRaptorWorker<T> worker,
     RaptorTransitDataProvider<T> transitData,
@@ -77,7 +84,8 @@ public final class RangeRaptor<T extends RaptorTripSchedule> implements RaptorRo
     RaptorTransitCalculator<T> calculator,
     LifeCycleEventPublisher lifeCyclePublisher,
     RaptorTimers timers,
-    Runnable timeoutHook
+    Runnable timeoutHook,
+    @Nullable Instant softDeadline
   ) {
     this.worker = requireNonNull(worker);
     this.transitData = requireNonNull(transitData);
@@ -88,6 +96,7 @@ public final class RangeRaptor<T extends RaptorTripSchedule> implements RaptorRo
     this.roundTracker = requireNonNull(roundTracker);
     this.lifeCycle = requireNonNull(lifeCyclePublisher);
     this.timeoutHook = requireNonNull(timeoutHook);
+    this.softDeadline = softDeadline == null ? Long.MAX_VALUE : softDeadline.toEpochMilli();
   }
 
   public RaptorRouterResult<T> route() {
@@ -104,11 +113,20 @@ public final class RangeRaptor<T extends RaptorTripSchedule> implements RaptorRo
       while (it.hasNext()) {
         iterationDepartureTime = it.next();
         runRaptorForMinute(iterationDepartureTime);
+
+        // Stop iterating if the soft deadline is passed, the result is valid for the part of the
+        // search-window searched so far.
+        if (it.hasNext() && System.currentTimeMillis() > softDeadline) {
+          stoppedAtIterationTime = iterationDepartureTime;
+          break;
+        }
       }
 
       // Iterate over virtual departure times - this is needed to allow access with a time-penalty
       // which falls outside the search-window due to the added time-penalty.
-      if (!calculator.oneIterationOnly()) {
+      if (
+        !calculator.oneIterationOnly() && stoppedAtIterationTime == RaptorConstants.TIME_NOT_SET
+      ) {
         final IntIterator as = accessPaths.iterateOverPathsWithPenalty(iterationDepartureTime);
         while (as.hasNext()) {
           iterationDepartureTime = as.next();
@@ -119,6 +137,11 @@ public final class RangeRaptor<T extends RaptorTripSchedule> implements RaptorRo
     return worker.result();
   }
 
+  @Override
+  public int stoppedAtIterationTime() {
+    return stoppedAtIterationTime;
+  }
+
   /**
    * Perform one minute of a RAPTOR search.
    */
@@ -0,0 +1,24 @@
+package org.opentripplanner.raptor.rangeraptor.internalapi;
+
+import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
+
+/**
+ * The stop arrivals of a heuristic search needed to create the {@link Heuristics}. This is a
+ * small subset of the {@link RaptorRouterResult}, and unlike the result, it does not keep a
+ * reference to the state of the search.
+ */
+public record HeuristicStopArrivals(
+  SingleCriteriaStopArrivals bestOverallArrivals,
+  SingleCriteriaStopArrivals bestTransitArrivals,
+  SingleCriteriaStopArrivals bestNumberOfTransfers
+) {
+  public static <T extends RaptorTripSchedule> HeuristicStopArrivals of(
+    RaptorRouterResult<T> result
+  ) {
+    return new HeuristicStopArrivals(
+      result.extractBestOverallArrivals(),
+      result.extractBestTransitArrivals(),
+      result.extractBestNumberOfTransfers()
+    );
+  }
+}
@@ -38,6 +38,11 @@ public interface Heuristics {
    */
   int size();
 
+  /**
+   * Return {@code true} if at least one journey reached the destination.
+   */
+  boolean isDestinationReached();
+
   /**
    * Return the best/minimum required time to travel from origin to destination.
    */
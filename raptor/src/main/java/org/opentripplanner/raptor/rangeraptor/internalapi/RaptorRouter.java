@@ -1,6 +1,8 @@
 package org.opentripplanner.raptor.rangeraptor.internalapi;
 
+import org.opentripplanner.raptor.api.model.RaptorConstants;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
 
 /**
  * Interface for Raptor Router. Allow instrumentation/wrapping the router. This is not
@@ -14,4 +16,14 @@ public interface RaptorRouter<T extends RaptorTripSchedule> {
    * just do one iteration.
    */
   RaptorRouterResult<T> route();
+
+  /**
+   * If the search stopped before all minutes in the search-window were searched, because the
+   * {@link RaptorRequest#softDeadline()} passed, return the last iteration departure-time
+   * (arrival-time in a reverse search) searched. If not, {@link RaptorConstants#TIME_NOT_SET} is
+   * returned. This should be called after the {@link #route()} is complete.
+   */
+  default int stoppedAtIterationTime() {
+    return RaptorConstants.TIME_NOT_SET;
+  }
 }
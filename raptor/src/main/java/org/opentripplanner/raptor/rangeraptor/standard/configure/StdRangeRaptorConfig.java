@@ -8,9 +8,9 @@ import java.util.Objects;
 import java.util.Set;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.rangeraptor.context.SearchContext;
+import org.opentripplanner.raptor.rangeraptor.internalapi.HeuristicStopArrivals;
 import org.opentripplanner.raptor.rangeraptor.internalapi.Heuristics;
 import org.opentripplanner.raptor.rangeraptor.internalapi.ParetoSetCost;
-import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorWorkerState;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RoutingStrategy;
 import org.opentripplanner.raptor.rangeraptor.path.DestinationArrivalPaths;
@@ -70,16 +70,16 @@ public class StdRangeRaptorConfig<T extends RaptorTripSchedule> {
     return strategy;
   }
 
-  public Heuristics createHeuristics(RaptorRouterResult<T> results) {
+  public Heuristics createHeuristics(HeuristicStopArrivals arrivals) {
     return oneOf(
       new HeuristicsAdapter(
         ctx.nStops(),
         egressPaths(),
         ctx.calculator(),
         ctx.costCalculator(),
-        results.extractBestOverallArrivals(),
-        results.extractBestTransitArrivals(),
-        results.extractBestNumberOfTransfers()
+        arrivals.bestOverallArrivals(),
+        arrivals.bestTransitArrivals(),
+        arrivals.bestNumberOfTransfers()
       ),
       Heuristics.class
     );
@@ -90,6 +90,11 @@ public class HeuristicsAdapter implements Heuristics {
     return nStops;
   }
 
+  @Override
+  public boolean isDestinationReached() {
+    return aggregatedResults.reached();
+  }
+
   @Override
   public int bestOverallJourneyTravelDuration() {
     return aggregatedResults.minJourneyTravelDuration();
@@ -7,10 +7,11 @@ import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.api.model.SearchDirection;
 import org.opentripplanner.raptor.api.request.RaptorRequest;
 import org.opentripplanner.raptor.configure.RaptorConfig;
+import org.opentripplanner.raptor.configure.ReverseHeuristicsCache;
 import org.opentripplanner.raptor.rangeraptor.RangeRaptor;
+import org.opentripplanner.raptor.rangeraptor.internalapi.HeuristicStopArrivals;
 import org.opentripplanner.raptor.rangeraptor.internalapi.Heuristics;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouter;
-import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
 import org.opentripplanner.raptor.spi.RaptorTransitDataProvider;
 import org.opentripplanner.utils.time.DurationUtils;
 import org.slf4j.Logger;
@@ -37,7 +38,10 @@ public class HeuristicSearchTask<T extends RaptorTripSchedule> {
   private RaptorRouter<T> search = null;
   private RaptorRequest<T> originalRequest;
   private RaptorRequest<T> heuristicRequest;
-  private RaptorRouterResult<T> result = null;
+  private HeuristicStopArrivals result = null;
+
+  @Nullable
+  private ReverseHeuristicsCache<T> cache = null;
 
   public HeuristicSearchTask(
     RaptorRequest<T> request,
@@ -89,6 +93,15 @@ public class HeuristicSearchTask<T extends RaptorTripSchedule> {
     return this;
   }
 
+  /**
+   * Use the given cache to share the result with other requests. The cache is only used if the
+   * request is cacheable, see {@link ReverseHeuristicsCache#isCacheable}.
+   */
+  public HeuristicSearchTask<T> withCache(@Nullable ReverseHeuristicsCache<T> cache) {
+    this.cache = cache;
+    return this;
+  }
+
   public void forceRun() {
     enable();
     run();
@@ -111,14 +124,19 @@ public class HeuristicSearchTask<T extends RaptorTripSchedule> {
 
     long start = System.currentTimeMillis();
 
-    createHeuristicSearchIfNotExist(originalRequest);
+    if (isCacheable()) {
+      runWithCache();
+    } else {
+      createHeuristicSearchIfNotExist(originalRequest);
 
-    LOG.debug("Heuristic search: {}", heuristicRequest);
-    this.result = search.route();
-    LOG.debug("Heuristic result: {}", result);
+      LOG.debug("Heuristic search: {}", heuristicRequest);
+      var searchResult = search.route();
+      LOG.debug("Heuristic result: {}", searchResult);
+      this.result = HeuristicStopArrivals.of(searchResult);
 
-    if (!result.isDestinationReached()) {
-      throw new DestinationNotReachedException();
+      if (!searchResult.isDestinationReached()) {
+        throw new DestinationNotReachedException();
+      }
     }
     if (LOG.isDebugEnabled()) {
       String time = DurationUtils.msToSecondsStr(System.currentTimeMillis() - start);
@@ -126,26 +144,65 @@ public class HeuristicSearchTask<T extends RaptorTripSchedule> {
     }
   }
 
+  /**
+   * Only the REVERSE search is cached, the result of the FORWARD search depend on the access.
+   */
+  private boolean isCacheable() {
+    return (
+      cache != null && direction.isInReverse() && cache.isCacheable(transitData, originalRequest)
+    );
+  }
+
+  /**
+   * The cached result does not depend on the access paths, so we check if the destination is
+   * reached using the heuristics created for this request.
+   */
+  private void runWithCache() {
+    heuristicRequest = createHeuristicRequest(originalRequest, true);
+    var key = cache.key(transitData, heuristicRequest);
+    this.result = cache.get(key);
+
+    if (result == null) {
+      LOG.debug("Heuristic search: {}", heuristicRequest);
+      search = config.createRangeRaptorWithHeuristicSearch(transitData, heuristicRequest);
+      var searchResult = search.route();
+      LOG.debug("Heuristic result: {}", searchResult);
+      this.result = cache.put(key, searchResult);
+    } else {
+      LOG.debug("Heuristic search result found in cache: {}", heuristicRequest);
+    }
+
+    if (!result().isDestinationReached()) {
+      throw new DestinationNotReachedException();
+    }
+  }
+
   private void createHeuristicSearchIfNotExist(RaptorRequest<T> request) {
     if (search == null) {
-      var profile = MIN_TRAVEL_DURATION;
+      heuristicRequest = createHeuristicRequest(request, false);
+      search = config.createRangeRaptorWithHeuristicSearch(transitData, heuristicRequest);
+    }
+  }
 
-      var builder = request
-        .mutate()
-        // Disable any optimization that is not valid for a heuristic search
-        .clearOptimizations()
-        .profile(profile)
-        .searchDirection(direction);
+  private RaptorRequest<T> createHeuristicRequest(RaptorRequest<T> request, boolean normalize) {
+    var profile = MIN_TRAVEL_DURATION;
 
-      builder.searchParams().searchOneIterationOnly();
+    var builder = request
+      .mutate()
+      // Disable any optimization that is not valid for a heuristic search
+      .clearOptimizations()
+      .profile(profile)
+      .searchDirection(direction);
 
-      // Add this last, it depends on generating an alias from the set values
-      builder.performanceTimers(
-        request.performanceTimers().withNamePrefix(builder.generateAlias())
-      );
+    builder.searchParams().searchOneIterationOnly();
 
-      heuristicRequest = builder.build();
-      search = config.createRangeRaptorWithHeuristicSearch(transitData, heuristicRequest);
+    if (normalize) {
+      cache.normalize(request.searchParams(), builder.searchParams());
     }
+
+    // Add this last, it depends on generating an alias from the set values
+    builder.performanceTimers(request.performanceTimers().withNamePrefix(builder.generateAlias()));
+
+    return builder.build();
   }
 }
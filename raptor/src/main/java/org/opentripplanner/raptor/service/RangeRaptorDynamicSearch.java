@@ -12,6 +12,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.opentripplanner.raptor.RaptorService;
+import org.opentripplanner.raptor.api.model.RaptorConstants;
 import org.opentripplanner.raptor.api.model.RaptorTripSchedule;
 import org.opentripplanner.raptor.api.request.RaptorRequest;
 import org.opentripplanner.raptor.api.request.SearchParams;
@@ -32,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * <p>
  * If possible the forward and reverse heuristics will be run in parallel.
  * <p>
+ * The result of the reverse heuristic search is shared between requests if the
+ * {@link org.opentripplanner.raptor.configure.ReverseHeuristicsCache} is enabled.
+ * <p>
  * Depending on which optimization is enabled and which search parameters are set a forward and/or a
  * reverse "single-iteration" raptor search is performed and heuristics are collected. This is used
  * to configure the "main" multi-iteration RangeRaptor search.
@@ -65,7 +69,9 @@ public class RangeRaptorDynamicSearch<T extends RaptorTripSchedule> {
     this.extraMcSearch = extraMcSearch;
 
     this.fwdHeuristics = new HeuristicSearchTask<>(FORWARD, "Forward", config, transitData);
-    this.revHeuristics = new HeuristicSearchTask<>(REVERSE, "Reverse", config, transitData);
+    this.revHeuristics =
+      new HeuristicSearchTask<>(REVERSE, "Reverse", config, transitData)
+        .withCache(config.reverseHeuristicsCache());
   }
 
   public RaptorResponse<T> route() {
@@ -152,13 +158,23 @@ public class RangeRaptorDynamicSearch<T extends RaptorTripSchedule> {
     // Route
     var result = raptorRouter.route();
 
+    int stoppedAtIterationTime = raptorRouter.stoppedAtIterationTime();
+    boolean searchWindowTruncated = stoppedAtIterationTime != RaptorConstants.TIME_NOT_SET;
+
+    if (searchWindowTruncated) {
+      LOG.debug("Soft deadline passed, search stopped at iteration: {}", stoppedAtIterationTime);
+    }
+
     // create and return response
     return new RaptorResponse<>(
       result.extractPaths(),
       new DefaultStopArrivals(result),
-      request,
+      searchWindowTruncated
+        ? requestWithSearchWindowTruncatedAt(request, stoppedAtIterationTime)
+        : request,
       // This method is not run unless the heuristic reached the destination
-      true
+      true,
+      searchWindowTruncated
     );
   }
 
@@ -295,6 +311,32 @@ public class RangeRaptorDynamicSearch<T extends RaptorTripSchedule> {
     return builder.build();
   }
 
+  /**
+   * Reduce the search-window to the part actually searched, when the search is stopped because the
+   * soft deadline passed. A forward search iterates backward in time from the end of the
+   * search-window, while a reverse search iterates forward in time from the start of the window.
+   */
+  private static <T extends RaptorTripSchedule> RaptorRequest<T> requestWithSearchWindowTruncatedAt(
+    RaptorRequest<T> request,
+    int lastIterationTime
+  ) {
+    var params = request.searchParams();
+    SearchParamsBuilder<T> builder = request.mutate().searchParams();
+
+    if (request.searchDirection().isForward()) {
+      int endOfSearchWindow = params.earliestDepartureTime() + params.searchWindowInSeconds();
+      builder
+        .earliestDepartureTime(lastIterationTime)
+        .searchWindowInSeconds(endOfSearchWindow - lastIterationTime);
+    } else {
+      int startOfSearchWindow = params.latestArrivalTime() - params.searchWindowInSeconds();
+      builder
+        .latestArrivalTime(lastIterationTime)
+        .searchWindowInSeconds(lastIterationTime - startOfSearchWindow);
+    }
+    return builder.build();
+  }
+
   private void calculateDynamicSearchParametersFromHeuristics(@Nullable Heuristics heuristics) {
     if (heuristics != null) {
       dynamicSearchWindowCalculator
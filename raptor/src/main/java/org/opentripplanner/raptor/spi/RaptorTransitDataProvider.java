@@ -2,6 +2,7 @@ package org.opentripplanner.raptor.spi;
 
 import java.util.Iterator;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentripplanner.raptor.api.model.RaptorStopNameResolver;
 import org.opentripplanner.raptor.api.model.RaptorTransfer;
 import org.opentripplanner.raptor.api.model.RaptorTransferConstraint;
@@ -149,4 +150,18 @@ public interface RaptorTransitDataProvider<T extends RaptorTripSchedule> {
    * REVERSE search.
    */
   RaptorConstrainedBoardingSearch<T> transferConstraintsReverseSearch(int routeIndex);
+
+  /**
+   * Return a key identifying the transit data, this is used to share heuristic search results
+   * between requests. Two instances should return equal keys only if they provide the same
+   * routes, trips, transfers and slack. The key must change when the timetables change, for
+   * example when a new real-time snapshot is published.
+   * <p>
+   * Return {@code null} if the transit data can not be identified, this disables caching. This is
+   * the default.
+   */
+  @Nullable
+  default Object cacheKey() {
+    return null;
+  }
 }
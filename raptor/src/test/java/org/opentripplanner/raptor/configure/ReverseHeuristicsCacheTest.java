@@ -0,0 +1,190 @@
+package org.opentripplanner.raptor.configure;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.raptor._data.transit.TestRoute.route;
+import static org.opentripplanner.raptor._data.transit.TestTripPattern.pattern;
+import static org.opentripplanner.raptor._data.transit.TestTripSchedule.schedule;
+
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.raptor._data.RaptorTestConstants;
+import org.opentripplanner.raptor._data.transit.TestAccessEgress;
+import org.opentripplanner.raptor._data.transit.TestTransfer;
+import org.opentripplanner.raptor._data.transit.TestTransitData;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.model.RaptorAccessEgress;
+import org.opentripplanner.raptor.api.model.RaptorTransfer;
+import org.opentripplanner.raptor.api.request.Optimization;
+import org.opentripplanner.raptor.api.request.RaptorEnvironment;
+import org.opentripplanner.raptor.api.request.RaptorProfile;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.api.request.RaptorRequestBuilder;
+import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
+import org.opentripplanner.raptor.rangeraptor.internalapi.Heuristics;
+import org.opentripplanner.raptor.service.RangeRaptorDynamicSearch;
+import org.opentripplanner.utils.time.TimeUtils;
+
+class ReverseHeuristicsCacheTest implements RaptorTestConstants {
+
+  private static final int UNREACHED = -9999;
+
+  private static final RaptorTuningParameters TUNING_PARAMETERS = new RaptorTuningParameters() {
+    @Override
+    public int reverseHeuristicsCacheMaxSize() {
+      return 10;
+    }
+  };
+
+  private final CountingTransitData data = new CountingTransitData();
+
+  private final RaptorConfig<TestTripSchedule> config = new RaptorConfig<>(
+    TUNING_PARAMETERS,
+    new RaptorEnvironment() {}
+  );
+
+  private final ReverseHeuristicsCache<TestTripSchedule> subject = config.reverseHeuristicsCache();
+
+  /**
+   * <pre>
+   * Stops: 0..4
+   *
+   *   R1:  1 - 2  00:01 - 00:03
+   *   R2:  3 - 4  00:05 - 00:08
+   *
+   * Transfers: 2 -> 3 30s
+   * </pre>
+   */
+  ReverseHeuristicsCacheTest() {
+    data.withRoute(route(pattern("R1", STOP_A, STOP_B)).withTimetable(schedule("00:01, 00:03")));
+    data.withRoute(route(pattern("R2", STOP_C, STOP_D)).withTimetable(schedule("00:05, 00:08")));
+    data.withTransfer(STOP_B, TestTransfer.transfer(STOP_C, D30s));
+  }
+
+  @Test
+  void isCacheable() {
+    var egress = TestAccessEgress.walk(STOP_D, D20s);
+    assertTrue(subject.isCacheable(data, request(STOP_A, egress, "00:00", "01:00")));
+
+    // The latest-arrival-time is not set
+    assertFalse(subject.isCacheable(data, request(STOP_A, egress, "00:00", null)));
+
+    // Egress with opening hours
+    var closedEgress = egress.openingHours("00:10", "00:20");
+    assertFalse(subject.isCacheable(data, request(STOP_A, closedEgress, "00:00", "01:00")));
+
+    // The transit data can not be identified
+    var otherData = new TestTransitData();
+    assertFalse(subject.isCacheable(otherData, request(STOP_A, egress, "00:00", "01:00")));
+  }
+
+  @Test
+  void keyIsTheSameForAllRequestsInTheSameTimeBucket() {
+    var egress = TestAccessEgress.walk(STOP_D, D20s);
+    var key = key(request(STOP_A, egress, "00:01", "00:59"));
+
+    // The access is not part of the key
+    assertEquals(key, key(request(STOP_B, egress, "00:01", "00:59")));
+    assertEquals(key, key(request(STOP_A, egress, "00:00", "01:00")));
+    assertEquals(key, key(request(STOP_A, egress, "00:14", "00:46")));
+
+    assertNotEquals(key, key(request(STOP_A, egress, "00:16", "00:59")));
+    assertNotEquals(key, key(request(STOP_A, egress, "00:01", "01:01")));
+
+    var otherEgress = TestAccessEgress.walk(STOP_D, D30s);
+    assertNotEquals(key, key(request(STOP_A, otherEgress, "00:01", "00:59")));
+  }
+
+  @Test
+  void reuseReverseHeuristicsBetweenRequests() {
+    var egress = TestAccessEgress.walk(STOP_D, D20s);
+
+    var expected = destinationHeuristics(RaptorConfig.defaultConfigForTest(), STOP_A, egress);
+
+    var first = destinationHeuristics(config, STOP_A, egress);
+    int count = data.transfersToStopCount;
+    assertTrue(count > 0);
+
+    // Same destination, but another origin - the heuristics are found in the cache
+    var second = destinationHeuristics(config, STOP_C, egress);
+    assertEquals(count, data.transfersToStopCount);
+    assertEquals(1, subject.hitCount());
+    assertEquals(1, subject.missCount());
+
+    assertArrayEquals(
+      expected.bestTravelDurationToIntArray(UNREACHED),
+      first.bestTravelDurationToIntArray(UNREACHED)
+    );
+    assertArrayEquals(
+      first.bestTravelDurationToIntArray(UNREACHED),
+      second.bestTravelDurationToIntArray(UNREACHED)
+    );
+    assertArrayEquals(
+      expected.bestNumOfTransfersToIntArray(UNREACHED),
+      second.bestNumOfTransfersToIntArray(UNREACHED)
+    );
+  }
+
+  private Heuristics destinationHeuristics(
+    RaptorConfig<TestTripSchedule> config,
+    int accessStop,
+    RaptorAccessEgress egress
+  ) {
+    var builder = new RaptorRequestBuilder<TestTripSchedule>();
+    builder
+      .searchParams()
+      .addAccessPaths(TestAccessEgress.walk(accessStop, D30s))
+      .addEgressPaths(egress)
+      .earliestDepartureTime(T00_00)
+      .timetable(true);
+    builder.profile(RaptorProfile.MULTI_CRITERIA);
+    builder.optimizations().add(Optimization.PARETO_CHECK_AGAINST_DESTINATION);
+
+    var search = new RangeRaptorDynamicSearch<>(config, data, null, builder.build());
+    search.route();
+    return search.getDestinationHeuristics();
+  }
+
+  private RaptorRequest<TestTripSchedule> request(
+    int accessStop,
+    RaptorAccessEgress egress,
+    String edt,
+    String lat
+  ) {
+    var builder = new RaptorRequestBuilder<TestTripSchedule>();
+    builder
+      .searchParams()
+      .addAccessPaths(TestAccessEgress.walk(accessStop, D30s))
+      .addEgressPaths(egress)
+      .earliestDepartureTime(TimeUtils.time(edt));
+    if (lat != null) {
+      builder.searchParams().latestArrivalTime(TimeUtils.time(lat));
+    }
+    return builder.build();
+  }
+
+  private ReverseHeuristicsCache.CacheKey key(RaptorRequest<TestTripSchedule> request) {
+    var builder = request.mutate();
+    subject.normalize(request.searchParams(), builder.searchParams());
+    return subject.key(data, builder.build());
+  }
+
+  private static class CountingTransitData extends TestTransitData {
+
+    private int transfersToStopCount = 0;
+
+    @Override
+    public Iterator<? extends RaptorTransfer> getTransfersToStop(int toStop) {
+      ++transfersToStopCount;
+      return super.getTransfersToStop(toStop);
+    }
+
+    @Override
+    public Object cacheKey() {
+      return "CountingTransitData";
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.opentripplanner.raptor.moduletests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.raptor._data.api.PathUtils.pathsToString;
+import static org.opentripplanner.raptor._data.transit.TestRoute.route;
+import static org.opentripplanner.raptor._data.transit.TestTripPattern.pattern;
+import static org.opentripplanner.raptor._data.transit.TestTripSchedule.schedule;
+
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.raptor.RaptorService;
+import org.opentripplanner.raptor._data.RaptorTestConstants;
+import org.opentripplanner.raptor._data.transit.TestAccessEgress;
+import org.opentripplanner.raptor._data.transit.TestTransitData;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.request.RaptorRequestBuilder;
+import org.opentripplanner.raptor.configure.RaptorConfig;
+import org.opentripplanner.raptor.moduletests.support.ModuleTestDebugLogging;
+
+/**
+ * FEATURE UNDER TEST
+ * <p>
+ * Raptor should stop iterating over the minutes in the search-window when the soft deadline has
+ * passed, and return the paths found in the part of the search-window searched. The search-window
+ * of the request used is reduced to the part searched, so the client can page to the rest of it.
+ */
+public class A05_SoftDeadlineTest implements RaptorTestConstants {
+
+  private final TestTransitData data = new TestTransitData();
+  private final RaptorRequestBuilder<TestTripSchedule> requestBuilder = new RaptorRequestBuilder<>();
+  private final RaptorService<TestTripSchedule> raptorService = new RaptorService<>(
+    RaptorConfig.defaultConfigForTest()
+  );
+
+  /**
+   * Stops: 0..3
+   *
+   * Stop on route (stop indexes):
+   *   R1:  1 - 2
+   *
+   * Schedule:
+   *   R1: 00:03 - 00:06
+   *   R1: 00:10 - 00:13
+   *
+   * Access (toStop & duration):
+   *   1  30s
+   *
+   * Egress (fromStop & duration):
+   *   2  20s
+   */
+  @BeforeEach
+  void setup() {
+    data.withRoute(
+      route(pattern("R1", STOP_B, STOP_C))
+        .withTimetable(schedule("00:03, 00:06"), schedule("00:10, 00:13"))
+    );
+    requestBuilder
+      .searchParams()
+      .addAccessPaths(TestAccessEgress.walk(STOP_B, D30s))
+      .addEgressPaths(TestAccessEgress.walk(STOP_C, D20s))
+      .earliestDepartureTime(T00_00)
+      .searchWindowInSeconds(D10m)
+      .timetable(true);
+
+    ModuleTestDebugLogging.setupDebugLogging(data, requestBuilder);
+  }
+
+  @Test
+  void searchTheWholeSearchWindowWithoutSoftDeadline() {
+    var response = raptorService.route(requestBuilder.build(), data);
+
+    assertEquals(
+      "Walk 30s ~ B ~ BUS R1 0:03 0:06 ~ C ~ Walk 20s [0:02:30 0:06:20 3m50s Tₓ0 C₁880]\n" +
+      "Walk 30s ~ B ~ BUS R1 0:10 0:13 ~ C ~ Walk 20s [0:09:30 0:13:20 3m50s Tₓ0 C₁880]",
+      pathsToString(response)
+    );
+    assertFalse(response.isSearchWindowTruncated());
+    assertEquals(T00_00, response.requestUsed().searchParams().earliestDepartureTime());
+    assertEquals(D10m, response.requestUsed().searchParams().searchWindowInSeconds());
+  }
+
+  @Test
+  void stopSearchWhenSoftDeadlineHasPassed() {
+    requestBuilder.softDeadline(Instant.EPOCH);
+
+    var response = raptorService.route(requestBuilder.build(), data);
+
+    // Only the first iteration, departing at 00:09, is searched
+    assertEquals(
+      "Walk 30s ~ B ~ BUS R1 0:10 0:13 ~ C ~ Walk 20s [0:09:30 0:13:20 3m50s Tₓ0 C₁880]",
+      pathsToString(response)
+    );
+    assertTrue(response.isSearchWindowTruncated());
+    assertEquals(T00_00 + 9 * D1m, response.requestUsed().searchParams().earliestDepartureTime());
+    assertEquals(D1m, response.requestUsed().searchParams().searchWindowInSeconds());
+  }
+}